@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Builds the application jar and the JMH module, runs the benchmarks with the GC profiler (which reports
+# gc.alloc.rate.norm, bytes allocated per operation) and compares the result with results/baseline.json.
+#
+# Run from the repository root, extra arguments go to JMH:
+#
+#   benchmarks/jmh/run.sh                       # everything, compared with the baseline
+#   benchmarks/jmh/run.sh MapperBenchmark -f 1  # one class, one fork
+#   UPDATE_BASELINE=1 benchmarks/jmh/run.sh     # record a new baseline after an intended change
+#
+# Baselines are only comparable when recorded on the same machine and JDK, so record it on the reference
+# machine and commit results/baseline.json together with the change that moved it.
+set -euo pipefail
+
+MODULE=benchmarks/jmh
+RESULTS="$MODULE/results"
+mkdir -p "$RESULTS"
+
+mvn -q -B -DskipTests install
+mvn -q -B -f "$MODULE/pom.xml" package
+
+java -jar "$MODULE/target/benchmarks.jar" -prof gc -rf json -rff "$RESULTS/current.json" "$@"
+
+if [ "${UPDATE_BASELINE:-0}" = 1 ] || [ ! -f "$RESULTS/baseline.json" ]; then
+    cp "$RESULTS/current.json" "$RESULTS/baseline.json"
+    echo "Baseline written to $RESULTS/baseline.json"
+else
+    java -cp "$MODULE/target/benchmarks.jar" com.hieu.dvdrental.benchmark.BaselineComparison \
+        "$RESULTS/baseline.json" "$RESULTS/current.json" "${THRESHOLD:-10}"
+fi
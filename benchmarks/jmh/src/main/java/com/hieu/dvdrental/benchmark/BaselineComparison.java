@@ -0,0 +1,78 @@
+package com.hieu.dvdrental.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark and exits with status 1 when any score or
+ * normalized allocation rate ({@code gc.alloc.rate.norm}) got worse by more than the threshold.
+ *
+ * <pre>java -cp target/benchmarks.jar com.hieu.dvdrental.benchmark.BaselineComparison baseline.json current.json [threshold-percent]</pre>
+ */
+public class BaselineComparison {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    //Allocation differences below this many bytes per operation are noise from escape analysis decisions
+    private static final double ALLOCATION_SLACK_BYTES = 16;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = byKey(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = byKey(objectMapper.readTree(new File(args[1])));
+
+        boolean regressed = false;
+        System.out.printf("%-70s %14s %14s %8s %14s %14s %8s%n", "benchmark", "baseline", "current", "change", "alloc base", "alloc now", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f%n", entry.getKey(), "new", score(after));
+                continue;
+            }
+            //Throughput is better when higher, every other JMH mode reports time per operation
+            double scoreChange = change(score(before), score(after));
+            boolean slower = "thrpt".equals(after.path("mode").asText()) ? -scoreChange > threshold : scoreChange > threshold;
+
+            double allocationBefore = allocation(before);
+            double allocationAfter = allocation(after);
+            double allocationChange = change(allocationBefore, allocationAfter);
+            boolean allocatesMore = allocationChange > threshold && allocationAfter - allocationBefore > ALLOCATION_SLACK_BYTES;
+
+            System.out.printf("%-70s %14.3f %14.3f %+7.1f%% %14.1f %14.1f %+7.1f%%%s%n", entry.getKey(), score(before), score(after), scoreChange,
+                    allocationBefore, allocationAfter, allocationChange, slower || allocatesMore ? "  REGRESSION" : "");
+            regressed |= slower || allocatesMore;
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static Map<String, JsonNode> byKey(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        results.forEach(result -> {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText().replace("com.hieu.dvdrental.benchmark.", ""));
+            result.path("params").properties().forEach(param -> key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            byKey.put(key.toString(), result);
+        });
+        return byKey;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble(Double.NaN);
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 || Double.isNaN(before) || Double.isNaN(after) ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hieu.dvdrental.benchmark;
+
+import com.hieu.dvdrental.actor.Actor;
+import com.hieu.dvdrental.category.Category;
+import com.hieu.dvdrental.city.City;
+import com.hieu.dvdrental.country.Country;
+import com.hieu.dvdrental.film.Film;
+import com.hieu.dvdrental.language.Language;
+import com.hieu.dvdrental.type.MpaaRating;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Object graphs shaped like the sample database: 109 countries, 16 categories, films with one to three
+ * categories, and actors with about 27 films each. Seeded, so every run maps the same data.
+ */
+public final class BenchmarkData {
+    public static final int PAGE_SIZE = 20;
+    public static final int FILMS_PER_ACTOR = 27;
+
+    private static final Instant LAST_UPDATE = Instant.parse("2022-02-15T09:34:33Z");
+    private static final String[] CATEGORIES = {"Action", "Animation", "Children", "Classics", "Comedy", "Documentary", "Drama", "Family",
+            "Foreign", "Games", "Horror", "Music", "New", "Sci-Fi", "Sports", "Travel"};
+    private static final String[] FEATURES = {"Trailers", "Commentaries", "Deleted Scenes", "Behind the Scenes"};
+
+    private BenchmarkData() {}
+
+    public static List<City> cities(int count) {
+        Random random = new Random(42);
+        List<Country> countries = IntStream.rangeClosed(1, 109)
+                .mapToObj(id -> new Country(id, "Country " + id, LAST_UPDATE))
+                .toList();
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> new City(id, "City " + id, countries.get(random.nextInt(countries.size())), LAST_UPDATE))
+                .toList();
+    }
+
+    public static List<Film> films(int count) {
+        Random random = new Random(42);
+        Language english = new Language(1, "English", LAST_UPDATE);
+        List<Category> categories = IntStream.range(0, CATEGORIES.length)
+                .mapToObj(i -> new Category(i + 1, CATEGORIES[i], LAST_UPDATE))
+                .toList();
+        MpaaRating[] ratings = MpaaRating.values();
+
+        List<Film> films = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            List<Category> filmCategories = new ArrayList<>();
+            int categoryCount = 1 + random.nextInt(3);
+            for (int i = 0; i < categoryCount; i++) {
+                filmCategories.add(categories.get(random.nextInt(categories.size())));
+            }
+            List<String> features = List.of(FEATURES).subList(0, 1 + random.nextInt(FEATURES.length));
+            films.add(new Film(id, "Film Title " + id,
+                    "A Thoughtful Drama of a Dentist And a Forensic Psychologist who must Outrace a Cat in The Gulf of Mexico",
+                    2006, english, (short) (3 + random.nextInt(5)), new BigDecimal("2.99"), (short) (46 + random.nextInt(140)),
+                    new BigDecimal("19.99"), LAST_UPDATE, features, ratings[random.nextInt(ratings.length)], filmCategories));
+        }
+        return films;
+    }
+
+    public static List<Actor> actors(int count, List<Film> films) {
+        Random random = new Random(42);
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    List<Film> filmography = IntStream.range(0, FILMS_PER_ACTOR)
+                            .mapToObj(i -> films.get(random.nextInt(films.size())))
+                            .toList();
+                    return new Actor(id, "Penelope" + id, "Guiness" + id, LAST_UPDATE, filmography);
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.hieu.dvdrental.benchmark;
+
+import com.hieu.dvdrental.actor.Actor;
+import com.hieu.dvdrental.actor.ActorDto;
+import com.hieu.dvdrental.actor.ActorMapper;
+import com.hieu.dvdrental.actor.ActorMapperImpl;
+import com.hieu.dvdrental.actor.ActorSummaryDto;
+import com.hieu.dvdrental.city.City;
+import com.hieu.dvdrental.city.CityDto;
+import com.hieu.dvdrental.city.CityMapper;
+import com.hieu.dvdrental.city.CityMapperImpl;
+import com.hieu.dvdrental.film.Film;
+import com.hieu.dvdrental.film.FilmMapper;
+import com.hieu.dvdrental.film.FilmMapperImpl;
+import com.hieu.dvdrental.film.FilmSummaryDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done per request: one page of actors or cities, and one actor's filmography
+ * through {@code FilmMapper.toSummaryDtoSet}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final ActorMapper actorMapper = new ActorMapperImpl();
+    private final CityMapper cityMapper = new CityMapperImpl();
+    private final FilmMapper filmMapper = new FilmMapperImpl();
+
+    private List<Actor> actors;
+    private List<City> cities;
+
+    @State(Scope.Benchmark)
+    public static class Films {
+        //One actor's filmography and the whole catalog
+        @Param({"27", "1000"})
+        int count;
+
+        List<Film> films;
+
+        @Setup
+        public void setUp() {
+            films = BenchmarkData.films(count);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        actors = BenchmarkData.actors(BenchmarkData.PAGE_SIZE, BenchmarkData.films(1000));
+        cities = BenchmarkData.cities(BenchmarkData.PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ActorDto> actorPageToDto() {
+        return actorMapper.toDtoList(actors);
+    }
+
+    @Benchmark
+    public List<ActorSummaryDto> actorPageToSummaryDto() {
+        return actorMapper.toSummaryDtoList(actors);
+    }
+
+    @Benchmark
+    public List<CityDto> cityPageToDto() {
+        return cities.stream().map(cityMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<FilmSummaryDto> filmsToSummaryDtoSet(Films films) {
+        return filmMapper.toSummaryDtoSet(films.films);
+    }
+}
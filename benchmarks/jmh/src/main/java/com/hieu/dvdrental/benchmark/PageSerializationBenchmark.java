@@ -0,0 +1,79 @@
+package com.hieu.dvdrental.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hieu.dvdrental.actor.ActorDto;
+import com.hieu.dvdrental.actor.ActorMapper;
+import com.hieu.dvdrental.actor.ActorMapperImpl;
+import com.hieu.dvdrental.city.CityDto;
+import com.hieu.dvdrental.city.CityMapper;
+import com.hieu.dvdrental.city.CityMapperImpl;
+import com.hieu.dvdrental.film.Film;
+import com.hieu.dvdrental.film.FilmMapper;
+import com.hieu.dvdrental.film.FilmMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the page bodies the list endpoints return, with an object mapper configured like
+ * Spring Boot's. {@code PagedModel} is the stable page shape Spring Data recommends, measured for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Page<CityDto> cityPage;
+    private Page<ActorDto> actorPage;
+    private PagedModel<CityDto> cityModel;
+
+    @Setup
+    public void setUp() {
+        CityMapper cityMapper = new CityMapperImpl();
+        ActorMapper actorMapper = new ActorMapperImpl();
+        FilmMapper filmMapper = new FilmMapperImpl();
+        PageRequest pageable = PageRequest.of(3, BenchmarkData.PAGE_SIZE, Sort.by("name"));
+
+        cityPage = new PageImpl<>(BenchmarkData.cities(BenchmarkData.PAGE_SIZE).stream().map(cityMapper::toDto).toList(), pageable, 600);
+        cityModel = new PagedModel<>(cityPage);
+
+        List<Film> films = BenchmarkData.films(1000);
+        actorPage = new PageImpl<>(BenchmarkData.actors(BenchmarkData.PAGE_SIZE, films).stream()
+                .map(actor -> {
+                    ActorDto dto = actorMapper.toDto(actor);
+                    dto.setFilms(filmMapper.toSummaryDtoSet(actor.getFilms()));
+                    return dto;
+                })
+                .toList(), pageable, 200);
+    }
+
+    @Benchmark
+    public byte[] cityPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cityPage);
+    }
+
+    @Benchmark
+    public byte[] cityPagedModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cityModel);
+    }
+
+    @Benchmark
+    public byte[] actorPageWithFilms() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(actorPage);
+    }
+}
@@ -0,0 +1,71 @@
+package com.hieu.dvdrental.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.city.CityDto;
+import com.hieu.dvdrental.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalExceptionHandler} turning exceptions into serialized {@link ProblemDetail} bodies. The
+ * {@code thrown} variant also pays for constructing the exception and filling in its stack trace, which every
+ * failing request does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProblemDetailBenchmark {
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+    private EntityNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("GET", "/cities/9999");
+        webRequest = new ServletWebRequest(request);
+        notFound = new EntityNotFoundException("City with ID 9999 not found");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CityDto(), "cityDto");
+        bindingResult.rejectValue("name", "NotBlank", "City name must not be blank");
+        bindingResult.rejectValue("country", "NotNull", "Country is required");
+        MethodParameter parameter = new MethodParameter(ProblemDetailBenchmark.class.getDeclaredMethod("createCity", CityDto.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleEntityNotFoundException(notFound, request));
+    }
+
+    @Benchmark
+    public byte[] notFoundThrown() throws Exception {
+        EntityNotFoundException ex = new EntityNotFoundException("City with ID 9999 not found");
+        return objectMapper.writeValueAsBytes(handler.handleEntityNotFoundException(ex, request));
+    }
+
+    @Benchmark
+    public byte[] validationFailed() throws Exception {
+        ResponseEntity<Object> response = handler.handleException(invalid, webRequest);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @SuppressWarnings("unused")
+    private void createCity(CityDto cityDto) {}
+}
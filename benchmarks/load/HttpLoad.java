@@ -0,0 +1,119 @@
+// Closed-loop HTTP load generator: each worker is a virtual thread that issues requests back to back.
+//
+//   java benchmarks/load/HttpLoad.java http://localhost:8080 200 PT30S /languages /cities /actors/1
+//
+// Arguments: base URL, concurrent workers, measured duration, then the paths to cycle through.
+// A warmup of a third of the duration runs first and is not recorded. Every request, failed or not, is in the
+// latencies; errors include the 503 rejections, which are also reported on their own.
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HttpLoad {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: HttpLoad <base-url> <workers> <duration> <path>...");
+            System.exit(2);
+        }
+        String base = args[0];
+        int workers = Integer.parseInt(args[1]);
+        Duration duration = Duration.parse(args[2]);
+        List<URI> uris = Arrays.stream(args, 3, args.length).map(path -> URI.create(base + path)).toList();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        run(client, uris, workers, duration.dividedBy(3), false);
+        Result result = run(client, uris, workers, duration, true);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("requests=%d errors=%d rejected=%d throughput=%.1f/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                latencies.length, result.errors().sum(), result.rejected().sum(), latencies.length / seconds,
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    private static Result run(HttpClient client, List<URI> uris, int workers, Duration duration, boolean record) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<long[]> samples = new ArrayList<>();
+        int[] counts = new int[workers];
+        LongAdder errors = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            long[][] buffer = {new long[1024]};
+            samples.add(null);
+            threads.add(Thread.ofVirtual().start(() -> {
+                int n = 0;
+                int next = worker;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(uris.get(next++ % uris.size()))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    //Failures and 503 rejections are errors, and their latency counts like any other response's
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            rejected.increment();
+                        }
+                        if (status >= 400) {
+                            errors.increment();
+                        }
+                    } catch (Exception ex) {
+                        errors.increment();
+                    }
+                    if (record) {
+                        if (n == buffer[0].length) {
+                            buffer[0] = Arrays.copyOf(buffer[0], n * 2);
+                        }
+                        buffer[0][n++] = System.nanoTime() - start;
+                    }
+                }
+                synchronized (samples) {
+                    samples.set(worker, buffer[0]);
+                    counts[worker] = n;
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] latencies = new long[Arrays.stream(counts).sum()];
+        int offset = 0;
+        for (int w = 0; w < workers; w++) {
+            System.arraycopy(samples.get(w), 0, latencies, offset, counts[w]);
+            offset += counts[w];
+        }
+        return new Result(latencies, errors, rejected);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private record Result(long[] latencies, LongAdder errors, LongAdder rejected) {}
+}
@@ -0,0 +1,323 @@
+// Open-loop HTTP load test with latency and throughput budgets.
+//
+//   java benchmarks/load/LoadSuite.java benchmarks/load/workload.properties [key=value ...]
+//
+// Requests are issued at a fixed arrival rate regardless of how fast responses come back, and every latency
+// is measured from the moment the request was scheduled to start, not from when it was actually sent. A
+// stalled server therefore shows up as the queueing delay users would see instead of as fewer, faster samples
+// (coordinated omission). Latencies go into log-linear histograms with about 1.6% relative precision.
+//
+// Exits with status 1 when any budget in the workload file is exceeded, 2 on bad usage.
+
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class LoadSuite {
+    private static final Pattern RANGE = Pattern.compile("\\{(\\d+)\\.\\.(\\d+)}");
+    private static final Pattern CHOICE = Pattern.compile("\\{([^{}]*\\|[^{}]*)}");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: LoadSuite <workload.properties> [key=value ...]");
+            System.exit(2);
+        }
+        Properties config = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(args[0]))) {
+            config.load(reader);
+        }
+        for (int i = 1; i < args.length; i++) {
+            String[] pair = args[i].split("=", 2);
+            config.setProperty(pair[0], pair[1]);
+        }
+
+        String baseUrl = config.getProperty("base-url", "http://localhost:8080");
+        double rate = Double.parseDouble(config.getProperty("rate", "100"));
+        Duration warmup = Duration.parse(config.getProperty("warmup", "PT30S"));
+        Duration duration = Duration.parse(config.getProperty("duration", "PT2M"));
+        Duration timeout = Duration.parse(config.getProperty("request-timeout", "PT10S"));
+        int maxInFlight = Integer.parseInt(config.getProperty("max-in-flight", "10000"));
+        List<Endpoint> endpoints = endpoints(config);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(task -> Thread.ofVirtual().start(task))
+                .build();
+
+        System.out.printf("%d endpoints at %.0f req/s, warmup %s, measuring %s against %s%n",
+                endpoints.size(), rate, warmup, duration, baseUrl);
+        run(client, baseUrl, endpoints, rate, warmup, timeout, maxInFlight, false);
+        long measuredNanos = run(client, baseUrl, endpoints, rate, duration, timeout, maxInFlight, true);
+
+        List<String> violations = report(config, endpoints, rate, measuredNanos);
+        if (!violations.isEmpty()) {
+            System.out.println();
+            violations.forEach(violation -> System.out.println("BUDGET EXCEEDED: " + violation));
+            System.exit(1);
+        }
+        System.out.println();
+        System.out.println("All budgets met");
+    }
+
+    //Returns the measured wall time, from the first scheduled request until the last response or timeout
+    private static long run(HttpClient client, String baseUrl, List<Endpoint> endpoints, double rate, Duration duration,
+                            Duration timeout, int maxInFlight, boolean record) throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long total = duration.toNanos() / interval;
+        int totalWeight = endpoints.stream().mapToInt(endpoint -> endpoint.weight).sum();
+        Random random = new Random(42);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * interval;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pick(endpoints, random.nextInt(totalWeight));
+            if (!inFlight.tryAcquire()) {
+                //The generator itself is saturated, count it against the endpoint instead of silently slowing down
+                if (record) {
+                    endpoint.dropped.increment();
+                }
+                continue;
+            }
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.expand(endpoint.path, random)))
+                    .timeout(timeout)
+                    .header("Accept", "application/json");
+            if (endpoint.body != null) {
+                builder.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(endpoint.expand(endpoint.body, random)));
+            }
+            HttpRequest request = builder.build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - intended;
+                inFlight.release();
+                if (!record) {
+                    return;
+                }
+                if (error != null || !endpoint.isExpected(response.statusCode())) {
+                    endpoint.errors.increment();
+                }
+                endpoint.latencies.record(TimeUnit.NANOSECONDS.toMicros(latency));
+            });
+        }
+        inFlight.tryAcquire(maxInFlight, timeout.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private static List<String> report(Properties config, List<Endpoint> endpoints, double rate, long measuredNanos) {
+        Duration defaultP99 = Duration.parse(config.getProperty("budget.p99", "PT0.5S"));
+        double minThroughputRatio = Double.parseDouble(config.getProperty("budget.min-throughput-ratio", "0.95"));
+        double maxErrorRate = Double.parseDouble(config.getProperty("budget.max-error-rate", "0.01"));
+        double seconds = measuredNanos / 1e9;
+
+        List<String> violations = new ArrayList<>();
+        Histogram all = new Histogram();
+        long allErrors = 0;
+        long allDropped = 0;
+
+        System.out.printf("%n%-22s %9s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 budget");
+        for (Endpoint endpoint : endpoints) {
+            Histogram latencies = endpoint.latencies;
+            long errors = endpoint.errors.sum() + endpoint.dropped.sum();
+            Duration p99Budget = config.containsKey("endpoint." + endpoint.name + ".p99")
+                    ? Duration.parse(config.getProperty("endpoint." + endpoint.name + ".p99"))
+                    : defaultP99;
+            System.out.printf("%-22s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.0f%n", endpoint.name, latencies.count(),
+                    latencies.count() / seconds, errors, millis(latencies.percentile(50)), millis(latencies.percentile(90)),
+                    millis(latencies.percentile(99)), millis(latencies.percentile(99.9)), millis(latencies.max()), millis(p99Budget.toNanos() / 1000));
+            if (latencies.count() > 0 && latencies.percentile(99) > p99Budget.toNanos() / 1000) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.2f ms > %s", endpoint.name, millis(latencies.percentile(99)), p99Budget));
+            }
+            all.add(latencies);
+            allErrors += endpoint.errors.sum();
+            allDropped += endpoint.dropped.sum();
+        }
+        double throughput = (all.count() - allErrors) / seconds;
+        System.out.printf("%-22s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", "TOTAL", all.count(), all.count() / seconds,
+                allErrors + allDropped, millis(all.percentile(50)), millis(all.percentile(90)), millis(all.percentile(99)),
+                millis(all.percentile(99.9)), millis(all.max()));
+
+        if (throughput < rate * minThroughputRatio) {
+            violations.add(String.format(Locale.ROOT, "successful throughput %.1f req/s < %.0f%% of the %.0f req/s target",
+                    throughput, minThroughputRatio * 100, rate));
+        }
+        long attempted = all.count() + allDropped;
+        if (attempted > 0 && (double) (allErrors + allDropped) / attempted > maxErrorRate) {
+            violations.add(String.format(Locale.ROOT, "error rate %.3f%% > %.3f%%", 100.0 * (allErrors + allDropped) / attempted, maxErrorRate * 100));
+        }
+        return violations;
+    }
+
+    private static List<Endpoint> endpoints(Properties config) {
+        TreeSet<String> names = new TreeSet<>();
+        config.stringPropertyNames().stream()
+                .filter(key -> key.startsWith("endpoint.") && key.endsWith(".path"))
+                .forEach(key -> names.add(key.substring("endpoint.".length(), key.length() - ".path".length())));
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String name : names) {
+            int weight = Integer.parseInt(config.getProperty("endpoint." + name + ".weight", "1"));
+            if (weight > 0) {
+                endpoints.add(new Endpoint(name, config.getProperty("endpoint." + name + ".path"), config.getProperty("endpoint." + name + ".body"),
+                        config.getProperty("endpoint." + name + ".expect"), weight));
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Workload defines no endpoint.<name>.path entries");
+        }
+        return endpoints;
+    }
+
+    private static Endpoint pick(List<Endpoint> endpoints, int ticket) {
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight;
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final String path;
+        private final String body;
+        private final Set<Integer> expected;
+        private final int weight;
+        private final Histogram latencies = new Histogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Endpoint(String name, String path, String body, String expect, int weight) {
+            this.name = name;
+            this.path = path;
+            this.body = body;
+            this.expected = expect == null ? Set.of() : Arrays.stream(expect.split(",")).map(String::strip).map(Integer::valueOf).collect(Collectors.toSet());
+            this.weight = weight;
+        }
+
+        //Without an expect list any status below 400 counts as success
+        private boolean isExpected(int status) {
+            return expected.isEmpty() ? status < 400 : expected.contains(status);
+        }
+
+        //{1..600} becomes a uniform random integer, {a|b|c} one of the alternatives
+        private String expand(String template, Random random) {
+            Matcher range = RANGE.matcher(template);
+            StringBuilder expanded = new StringBuilder();
+            while (range.find()) {
+                long from = Long.parseLong(range.group(1));
+                long to = Long.parseLong(range.group(2));
+                range.appendReplacement(expanded, Long.toString(from + (long) (random.nextDouble() * (to - from + 1))));
+            }
+            range.appendTail(expanded);
+
+            Matcher choice = CHOICE.matcher(expanded.toString());
+            StringBuilder chosen = new StringBuilder();
+            while (choice.find()) {
+                String[] options = choice.group(1).split("\\|");
+                choice.appendReplacement(chosen, Matcher.quoteReplacement(options[random.nextInt(options.length)]));
+            }
+            choice.appendTail(chosen);
+            return chosen.toString();
+        }
+    }
+
+    /**
+     * Log-linear histogram of microsecond values: exact below 128, then 64 sub-buckets per power of two.
+     * Percentiles report the upper edge of the bucket, so they never understate a latency.
+     */
+    private static final class Histogram {
+        private static final int SUB_BUCKETS = 64;
+        private final AtomicLongArray counts = new AtomicLongArray(2 * SUB_BUCKETS + 58 * SUB_BUCKETS);
+
+        void record(long value) {
+            counts.incrementAndGet(index(Math.max(0, value)));
+        }
+
+        void add(Histogram other) {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.addAndGet(i, other.counts.get(i));
+            }
+        }
+
+        long count() {
+            long count = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                count += counts.get(i);
+            }
+            return count;
+        }
+
+        long percentile(double percentile) {
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= Math.max(rank, 1)) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length() - 1);
+        }
+
+        long max() {
+            for (int i = counts.length() - 1; i >= 0; i--) {
+                if (counts.get(i) > 0) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+
+        private static int index(long value) {
+            if (value < 2 * SUB_BUCKETS) {
+                return (int) value;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+            return 2 * SUB_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+        }
+
+        private static long upperBound(int index) {
+            if (index < 2 * SUB_BUCKETS) {
+                return index;
+            }
+            int shift = (index - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+            long sub = (index - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+            return ((sub + 1) << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Throughput and p99 of the same workload with requests on Tomcat's platform pool and on virtual threads.
+#
+# Needs a PostgreSQL reachable with the settings in application.properties. Run from the repository root:
+#
+#   benchmarks/load/compare-threading.sh [workers] [duration]
+#
+# Both modes use the same Hikari pool. In virtual mode ConcurrencyLimitFilter admits at most
+# dvdrental.concurrency.max-in-flight requests, anything that waits longer than the acquire timeout gets a 503
+# and is counted as an error and as rejected, with its latency recorded like any other response.
+set -euo pipefail
+
+WORKERS=${1:-1000}
+DURATION=${2:-PT60S}
+PORT=${PORT:-8080}
+BASE="http://localhost:${PORT}"
+PATHS=(/languages /countries /cities /actors /actors/1 /films/1)
+
+mvn -q -B -DskipTests package
+JAR=$(ls target/dvdrental-*-exec.jar | head -1)
+
+for mode in platform virtual; do
+    profile=""
+    if [ "$mode" = virtual ]; then
+        profile="--spring.profiles.active=virtual"
+    fi
+    java -jar "$JAR" --server.port="$PORT" $profile > "target/load-${mode}.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "${BASE}/languages" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application failed to start, see target/load-${mode}.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    printf '%-9s ' "$mode"
+    java benchmarks/load/HttpLoad.java "$BASE" "$WORKERS" "$DURATION" "${PATHS[@]}"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
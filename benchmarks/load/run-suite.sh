@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Reproducible end-to-end load test: a throwaway PostgreSQL container, the schema plus the test seed data
+# scaled by scale-seed.sql, the application jar, then LoadSuite.java with workload.properties.
+#
+# Run from the repository root, needs Docker, psql is taken from the container:
+#
+#   benchmarks/load/run-suite.sh                        # defaults
+#   SCALE=200 PROFILE=virtual benchmarks/load/run-suite.sh rate=400 duration=PT5M
+#
+# Arguments are passed to LoadSuite as key=value overrides of the workload. The exit status is LoadSuite's,
+# so a CI job fails when a budget is exceeded.
+set -euo pipefail
+
+SCALE=${SCALE:-100}
+PROFILE=${PROFILE:-}
+DB_PORT=${DB_PORT:-55432}
+APP_PORT=${APP_PORT:-8080}
+CONTAINER=dvdrental-load-$$
+JDBC_URL="jdbc:postgresql://localhost:${DB_PORT}/dvdrental"
+
+cleanup() {
+    [ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true
+    docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker run -d --rm --name "$CONTAINER" -e POSTGRES_PASSWORD=postgres -e POSTGRES_DB=dvdrental \
+    -p "${DB_PORT}:5432" postgres:17.6 > /dev/null
+until docker exec "$CONTAINER" pg_isready -U postgres -d dvdrental > /dev/null 2>&1; do
+    sleep 1
+done
+
+mvn -q -B flyway:migrate -Dflyway.url="$JDBC_URL" \
+    -Dflyway.locations=filesystem:src/main/resources/db/migration,filesystem:src/test/resources/db/migration
+docker exec -i "$CONTAINER" psql -q -U postgres -d dvdrental -v scale="$SCALE" < benchmarks/load/scale-seed.sql
+
+mvn -q -B -DskipTests package
+JAR=$(ls target/dvdrental-*-exec.jar | head -1)
+java -jar "$JAR" --server.port="$APP_PORT" --spring.datasource.url="$JDBC_URL" --spring.flyway.enabled=false \
+    ${PROFILE:+--spring.profiles.active=$PROFILE} > target/load-suite-app.log 2>&1 &
+APP_PID=$!
+
+until curl -sf "http://localhost:${APP_PORT}/languages" > /dev/null; do
+    if ! kill -0 "$APP_PID" 2>/dev/null; then
+        echo "application failed to start, see target/load-suite-app.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+java benchmarks/load/LoadSuite.java benchmarks/load/workload.properties base-url="http://localhost:${APP_PORT}" "$@"
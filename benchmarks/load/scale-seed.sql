@@ -0,0 +1,91 @@
+-- Multiplies the test seed data from V99.1__seed_data.sql so load tests run against realistic table sizes.
+--
+-- Copy k of a row gets its id plus k times the largest seed id of that table, and child and link rows of
+-- copy k point at parents of copy k, so every copy is a full replica of the seed graph. Reference tables
+-- (language, category, country, store, staff) are left alone. Run once, on a freshly migrated database:
+--
+--   psql -h localhost -U postgres -d dvdrental -v scale=100 -f benchmarks/load/scale-seed.sql
+\set ON_ERROR_STOP on
+\timing on
+
+BEGIN;
+
+CREATE TEMP TABLE seed_max ON COMMIT DROP AS
+SELECT (SELECT MAX(actor_id) FROM actor)         AS actor,
+       (SELECT MAX(city_id) FROM city)           AS city,
+       (SELECT MAX(address_id) FROM address)     AS address,
+       (SELECT MAX(customer_id) FROM customer)   AS customer,
+       (SELECT MAX(film_id) FROM film)           AS film,
+       (SELECT MAX(inventory_id) FROM inventory) AS inventory,
+       (SELECT MAX(rental_id) FROM rental)       AS rental,
+       (SELECT MAX(payment_id) FROM payment)     AS payment;
+
+CREATE TEMP TABLE copies ON COMMIT DROP AS
+SELECT k FROM generate_series(1, :scale - 1) AS k;
+
+INSERT INTO actor (actor_id, first_name, last_name, last_update)
+SELECT a.actor_id + c.k * m.actor, a.first_name, a.last_name, a.last_update
+FROM actor a CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE a.actor_id <= m.actor;
+
+INSERT INTO city (city_id, city, country_id, last_update)
+SELECT ci.city_id + c.k * m.city, ci.city || ' ' || c.k, ci.country_id, ci.last_update
+FROM city ci CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE ci.city_id <= m.city;
+
+INSERT INTO address (address_id, address, address2, district, city_id, postal_code, phone, last_update)
+SELECT a.address_id + c.k * m.address, a.address, a.address2, a.district, a.city_id + c.k * m.city, a.postal_code, a.phone, a.last_update
+FROM address a CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE a.address_id <= m.address;
+
+INSERT INTO customer (customer_id, store_id, first_name, last_name, email, address_id, activebool, create_date, last_update, active)
+SELECT cu.customer_id + c.k * m.customer, cu.store_id, cu.first_name, cu.last_name, cu.email,
+       cu.address_id + c.k * m.address, cu.activebool, cu.create_date, cu.last_update, cu.active
+FROM customer cu CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE cu.customer_id <= m.customer;
+
+INSERT INTO film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length,
+                  replacement_cost, rating, last_update, special_features)
+SELECT f.film_id + c.k * m.film, f.title || ' ' || c.k, f.description, f.release_year, f.language_id, f.rental_duration,
+       f.rental_rate, f.length, f.replacement_cost, f.rating, f.last_update, f.special_features
+FROM film f CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE f.film_id <= m.film;
+
+INSERT INTO film_actor (actor_id, film_id, last_update)
+SELECT fa.actor_id + c.k * m.actor, fa.film_id + c.k * m.film, fa.last_update
+FROM film_actor fa CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE fa.film_id <= m.film;
+
+INSERT INTO film_category (film_id, category_id, last_update)
+SELECT fc.film_id + c.k * m.film, fc.category_id, fc.last_update
+FROM film_category fc CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE fc.film_id <= m.film;
+
+INSERT INTO inventory (inventory_id, film_id, store_id, last_update)
+SELECT i.inventory_id + c.k * m.inventory, i.film_id + c.k * m.film, i.store_id, i.last_update
+FROM inventory i CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE i.inventory_id <= m.inventory;
+
+INSERT INTO rental (rental_id, rental_date, inventory_id, customer_id, return_date, staff_id, last_update)
+SELECT r.rental_id + c.k * m.rental, r.rental_date, r.inventory_id + c.k * m.inventory, r.customer_id + c.k * m.customer,
+       r.return_date, r.staff_id, r.last_update
+FROM rental r CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE r.rental_id <= m.rental;
+
+INSERT INTO payment (payment_id, customer_id, staff_id, rental_id, amount, payment_date)
+SELECT p.payment_id + c.k * m.payment, p.customer_id + c.k * m.customer, p.staff_id, p.rental_id + c.k * m.rental, p.amount, p.payment_date
+FROM payment p CROSS JOIN copies c CROSS JOIN seed_max m
+WHERE p.payment_id <= m.payment;
+
+SELECT setval('actor_actor_id_seq', (SELECT MAX(actor_id) FROM actor) + 2, false);
+SELECT setval('city_city_id_seq', (SELECT MAX(city_id) FROM city) + 2, false);
+SELECT setval('address_address_id_seq', (SELECT MAX(address_id) FROM address) + 2, false);
+SELECT setval('customer_customer_id_seq', (SELECT MAX(customer_id) FROM customer) + 2, false);
+SELECT setval('film_film_id_seq', (SELECT MAX(film_id) FROM film) + 2, false);
+SELECT setval('inventory_inventory_id_seq', (SELECT MAX(inventory_id) FROM inventory) + 2, false);
+SELECT setval('rental_rental_id_seq', (SELECT MAX(rental_id) FROM rental) + 2, false);
+SELECT setval('payment_payment_id_seq', (SELECT MAX(payment_id) FROM payment) + 2, false);
+
+COMMIT;
+
+ANALYZE;
@@ -0,0 +1,41 @@
+-- Substring search on actor names with and without the pg_trgm indexes from V1.6.
+--
+-- Scales actor to roughly 1M rows inside a transaction that is rolled back, so it can be run
+-- against a database migrated with the test seed data:
+--
+--   psql -h localhost -U postgres -d dvdrental -f benchmarks/sql/trigram_search.sql
+--
+-- Generated names are three (first) and four (last) syllables picked by the bytes of md5(g), so the
+-- search terms below occur the way name fragments do rather than never, as they would in hex digests.
+-- Of the generated rows, 'torenla' matches 688 (223 first names, 466 last names) and 'bet' matches
+-- 362439 (175326 first names, 227314 last names).
+--
+-- Each term is planned twice: forced onto a sequential scan, then with the trigram indexes available.
+-- For the selective term the planner should switch to a Bitmap Index Scan on idx_actor_first_name_trgm
+-- and idx_actor_last_name_trgm; for the common term a sequential scan stays competitive, since over a
+-- third of the table matches.
+\timing on
+
+BEGIN;
+
+WITH syllables (s) AS (SELECT ARRAY ['ka', 'ren', 'bet', 'to', 'mi', 'la', 'san', 'dor', 'el', 'vi', 'no', 'ra', 'tes', 'gu', 'fa', 'lin'])
+INSERT INTO actor (first_name, last_name)
+SELECT initcap(s[get_byte(h, 0) % 16 + 1] || s[get_byte(h, 1) % 16 + 1] || s[get_byte(h, 2) % 16 + 1]),
+       initcap(s[get_byte(h, 3) % 16 + 1] || s[get_byte(h, 4) % 16 + 1] || s[get_byte(h, 5) % 16 + 1] || s[get_byte(h, 6) % 16 + 1])
+FROM generate_series(1, 1000000) AS g,
+     syllables,
+     LATERAL (SELECT decode(md5(g::text), 'hex') AS h) hashed;
+
+ANALYZE actor;
+
+SELECT count(*) FILTER (WHERE lower(first_name) LIKE '%torenla%' OR lower(last_name) LIKE '%torenla%') AS torenla,
+       count(*) FILTER (WHERE lower(first_name) LIKE '%bet%' OR lower(last_name) LIKE '%bet%')         AS bet
+FROM actor;
+
+\set term 'torenla'
+\ir trigram_search_plans.sql
+
+\set term 'bet'
+\ir trigram_search_plans.sql
+
+ROLLBACK;
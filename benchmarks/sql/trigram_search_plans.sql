@@ -0,0 +1,28 @@
+-- Plans the actor name search for :term, included by trigram_search.sql inside its transaction.
+SET LOCAL enable_bitmapscan = off;
+SET LOCAL enable_indexscan = off;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT actor_id, first_name, last_name, last_update
+FROM actor
+WHERE lower(first_name) LIKE '%' || lower(:'term') || '%'
+   OR lower(last_name) LIKE '%' || lower(:'term') || '%'
+ORDER BY first_name
+LIMIT 10;
+
+SET LOCAL enable_bitmapscan = on;
+SET LOCAL enable_indexscan = on;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT actor_id, first_name, last_name, last_update
+FROM actor
+WHERE lower(first_name) LIKE '%' || lower(:'term') || '%'
+   OR lower(last_name) LIKE '%' || lower(:'term') || '%'
+ORDER BY first_name
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM actor
+WHERE lower(first_name) LIKE '%' || lower(:'term') || '%'
+   OR lower(last_name) LIKE '%' || lower(:'term') || '%';
@@ -3,6 +3,8 @@ package com.hieu.dvdrental.actor;
 import com.hieu.dvdrental.film.Film;
 import jakarta.persistence.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.Instant;
 import java.util.List;
@@ -14,7 +16,7 @@ import java.util.Set;
 public class Actor {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "actor_id_gen")
-    @SequenceGenerator(name = "actor_id_gen", sequenceName = "actor_actor_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "actor_id_gen", sequenceName = "actor_actor_id_seq", allocationSize = 50)
     @Column(name = "actor_id", nullable = false)
     private Integer id;
 
@@ -25,6 +27,7 @@ public class Actor {
     private String lastName;
 
     @ColumnDefault("now()")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "last_update", nullable = false, insertable = false, updatable = false)
     private Instant lastUpdate;
 
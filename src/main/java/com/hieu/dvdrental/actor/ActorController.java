@@ -1,15 +1,25 @@
 package com.hieu.dvdrental.actor;
 
+import com.hieu.dvdrental.etag.EntityTags;
 import com.hieu.dvdrental.film.FilmRepository;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import com.hieu.dvdrental.pagination.KeysetBound;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
@@ -18,44 +28,102 @@ public class ActorController {
 
     private final ActorRepository actorRepository;
     private final FilmRepository filmRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final EntityTags entityTags;
 
-    public ActorController(ActorRepository actorRepository, FilmRepository filmRepository) {
+    public ActorController(ActorRepository actorRepository, FilmRepository filmRepository, RowCountEstimator rowCountEstimator, EntityTags entityTags) {
         this.actorRepository = actorRepository;
         this.filmRepository = filmRepository;
+        this.rowCountEstimator = rowCountEstimator;
+        this.entityTags = entityTags;
     }
 
     @GetMapping("/actors")
-    public ResponseEntity<Page<Actor>> getActors(
-            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable
+    public ResponseEntity<Slice<Actor>> getActors(
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(actorRepository.findAll(pageable));
+        String tag = entityTags.forTables("actor");
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(CountMode.from(count).fetch(
+                () -> actorRepository.findAll(pageable),
+                () -> actorRepository.findSliceBy(pageable),
+                () -> rowCountEstimator.estimateTable("actor")
+        ));
+    }
+
+    @GetMapping(value = "/actors", params = {"after", "!name", "!filmId"})
+    public ResponseEntity<CursorPage<Actor>> getActorsAfter(
+            @RequestParam String after,
+            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
+    ) {
+        String tag = entityTags.forTables("actor");
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        KeysetScrollPosition position = CursorCodec.decode(after);
+        Limit limit = Limit.of(pageable.getPageSize());
+        Window<Actor> actors = KeysetBound.lowerBound(position, pageable.getSort(), "firstName")
+                .map(firstName -> actorRepository.findByFirstNameGreaterThanEqual(firstName, position, pageable.getSort(), limit))
+                .orElseGet(() -> actorRepository.findAllBy(position, pageable.getSort(), limit));
+        return ResponseEntity.ok(CursorPage.of(actors, pageable.getPageSize()));
     }
 
     @GetMapping(value = "/actors", params = "name")
-    public ResponseEntity<Page<Actor>> getActorsByName(
+    public ResponseEntity<Slice<Actor>> getActorsByName(
             @RequestParam
             @NotBlank(message = "Search value must not be blank")
             @Size(max = 45)
             String name,
-            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        Page<Actor> actors = actorRepository.findByName(name, pageable);
+        String tag = entityTags.forTables("actor");
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        Slice<Actor> actors = CountMode.from(count).fetch(
+                () -> actorRepository.findByName(name, pageable),
+                () -> actorRepository.findSliceByName(name, pageable),
+                () -> rowCountEstimator.estimateQuery(
+                        "SELECT 1 FROM actor WHERE LOWER(first_name) LIKE LOWER(?) OR LOWER(last_name) LIKE LOWER(?)",
+                        RowCountEstimator.containing(name), RowCountEstimator.containing(name))
+        );
         return ResponseEntity.ok(actors);
     }
 
     @GetMapping("/actors/{actorId}")
-    public ResponseEntity<Actor> getActor(@PathVariable("actorId") Integer actorId) {
+    public ResponseEntity<Actor> getActor(@PathVariable("actorId") Integer actorId, WebRequest request) {
+        String tag = entityTags.forRow("SELECT last_update FROM actor WHERE actor_id = ?", actorId).orElse(null);
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
         Optional<Actor> actor = actorRepository.findById(actorId);
         return actor.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping(value = "/actors", params = "filmId")
-    public ResponseEntity<Page<Actor>> getActorsByFilm(
+    public ResponseEntity<Slice<Actor>> getActorsByFilm(
             @RequestParam Integer filmId,
-            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "firstName", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
+        String tag = entityTags.forTables("actor", "film_actor");
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
         if (filmRepository.existsById(filmId)) {
-            return ResponseEntity.ok(actorRepository.findByFilms_Id(filmId, pageable));
+            return ResponseEntity.ok(CountMode.from(count).fetch(
+                    () -> actorRepository.findByFilms_Id(filmId, pageable),
+                    () -> actorRepository.findSliceByFilms_Id(filmId, pageable),
+                    () -> rowCountEstimator.estimateQuery("SELECT 1 FROM film_actor WHERE film_id = ?", filmId)
+            ));
         }
         return ResponseEntity.notFound().build();
     }
@@ -0,0 +1,18 @@
+package com.hieu.dvdrental.actor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes an actor's {@code film_actor} rows with one statement per call, returning one change per distinct
+ * requested film id. Loaded {@code Film.actors} collections are not updated.
+ */
+public interface ActorFilmLinkRepository {
+
+    List<FilmLinkChange> linkFilms(Integer actorId, Collection<Integer> filmIds);
+
+    List<FilmLinkChange> unlinkFilms(Integer actorId, Collection<Integer> filmIds);
+
+    //Links the requested films and unlinks every other film of the actor
+    List<FilmLinkChange> replaceFilms(Integer actorId, Collection<Integer> filmIds);
+}
@@ -0,0 +1,63 @@
+package com.hieu.dvdrental.actor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collection;
+import java.util.List;
+
+public class ActorFilmLinkRepositoryImpl implements ActorFilmLinkRepository {
+    private static final String REQUESTED = "WITH requested AS (SELECT DISTINCT unnest(CAST(? AS integer[])) AS film_id), ";
+
+    private static final String INSERTED = "inserted AS (" +
+            "INSERT INTO film_actor (actor_id, film_id) " +
+            "SELECT ?, r.film_id FROM requested r JOIN film f ON f.film_id = r.film_id " +
+            "ON CONFLICT DO NOTHING RETURNING film_id) ";
+
+    private static final String LINK_SQL = REQUESTED + INSERTED +
+            "SELECT r.film_id, f.film_id IS NOT NULL AS found, i.film_id IS NOT NULL AS changed FROM requested r " +
+            "LEFT JOIN film f ON f.film_id = r.film_id LEFT JOIN inserted i ON i.film_id = r.film_id";
+
+    private static final String UNLINK_SQL = REQUESTED +
+            "deleted AS (" +
+            "DELETE FROM film_actor fa USING requested r WHERE fa.actor_id = ? AND fa.film_id = r.film_id " +
+            "RETURNING fa.film_id) " +
+            "SELECT r.film_id, f.film_id IS NOT NULL AS found, d.film_id IS NOT NULL AS changed FROM requested r " +
+            "LEFT JOIN film f ON f.film_id = r.film_id LEFT JOIN deleted d ON d.film_id = r.film_id";
+
+    private static final String REPLACE_SQL = REQUESTED + INSERTED + ", " +
+            "deleted AS (" +
+            "DELETE FROM film_actor fa WHERE fa.actor_id = ? AND NOT EXISTS (SELECT 1 FROM requested r WHERE r.film_id = fa.film_id)) " +
+            "SELECT r.film_id, f.film_id IS NOT NULL AS found, i.film_id IS NOT NULL AS changed FROM requested r " +
+            "LEFT JOIN film f ON f.film_id = r.film_id LEFT JOIN inserted i ON i.film_id = r.film_id";
+
+    private static final RowMapper<FilmLinkChange> CHANGE_MAPPER = (rs, rowNum) ->
+            new FilmLinkChange(rs.getInt("film_id"), rs.getBoolean("found"), rs.getBoolean("changed"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ActorFilmLinkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<FilmLinkChange> linkFilms(Integer actorId, Collection<Integer> filmIds) {
+        return jdbcTemplate.query(LINK_SQL, CHANGE_MAPPER, toArray(filmIds), actorId);
+    }
+
+    @Override
+    public List<FilmLinkChange> unlinkFilms(Integer actorId, Collection<Integer> filmIds) {
+        return jdbcTemplate.query(UNLINK_SQL, CHANGE_MAPPER, toArray(filmIds), actorId);
+    }
+
+    @Override
+    public List<FilmLinkChange> replaceFilms(Integer actorId, Collection<Integer> filmIds) {
+        return jdbcTemplate.query(REPLACE_SQL, CHANGE_MAPPER, toArray(filmIds), actorId, actorId);
+    }
+
+    private static Integer[] toArray(Collection<Integer> filmIds) {
+        return filmIds.toArray(Integer[]::new);
+    }
+}
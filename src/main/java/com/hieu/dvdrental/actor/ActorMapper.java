@@ -11,6 +11,7 @@ public interface ActorMapper {
 
     ActorSummaryDto toSummaryDto(Actor actor);
 
+    @Mapping(target = "films", ignore = true)
     ActorDto toDto(Actor actor);
 
     List<ActorSummaryDto> toSummaryDtoList(List<Actor> actors);
@@ -1,19 +1,38 @@
 package com.hieu.dvdrental.actor;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ActorRepository extends JpaRepository<Actor, Integer> {
+public interface ActorRepository extends JpaRepository<Actor, Integer>, ActorFilmLinkRepository {
 
     Page<Actor> findByFilms_Id(Integer filmId, Pageable pageable);
 
+    Slice<Actor> findSliceByFilms_Id(Integer filmId, Pageable pageable);
+
+    Slice<Actor> findSliceBy(Pageable pageable);
+
     @Query(value = "SELECT a FROM Actor a " +
-            "WHERE LOWER(a.firstName) LIKE CONCAT('%', LOWER(:name), '%') OR " +
-            "LOWER(a.lastName) LIKE CONCAT('%', LOWER(:name), '%')")
+            "WHERE LOWER(a.firstName) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE :#{escapeCharacter()} OR " +
+            "LOWER(a.lastName) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE :#{escapeCharacter()}")
     Page<Actor> findByName(@Param("name") String name, Pageable pageable);
 
+    @Query(value = "SELECT a FROM Actor a " +
+            "WHERE LOWER(a.firstName) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE :#{escapeCharacter()} OR " +
+            "LOWER(a.lastName) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE :#{escapeCharacter()}")
+    Slice<Actor> findSliceByName(@Param("name") String name, Pageable pageable);
+
     boolean existsActorByIdAndFilms_Id(Integer actorId, Integer filmId);
+
+    Window<Actor> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    //findAllBy plus first_name >= the cursor key, see KeysetBound
+    Window<Actor> findByFirstNameGreaterThanEqual(String firstName, ScrollPosition position, Sort sort, Limit limit);
 }
@@ -1,22 +1,29 @@
 package com.hieu.dvdrental.actor;
 
-import com.hieu.dvdrental.film.Film;
+import com.hieu.dvdrental.film.ActorFilmLink;
 import com.hieu.dvdrental.film.FilmMapper;
 import com.hieu.dvdrental.film.FilmRepository;
+import com.hieu.dvdrental.film.FilmSummaryDto;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+@Service
 public class ActorService {
     private final ActorRepository actorRepository;
     private final FilmRepository filmRepository;
     private final ActorMapper actorMapper;
     private final FilmMapper filmMapper;
 
+    @Autowired
     public ActorService(ActorRepository actorRepository, FilmRepository filmRepository, ActorMapper actorMapper, FilmMapper filmMapper) {
         this.actorRepository = actorRepository;
         this.filmRepository = filmRepository;
@@ -25,11 +32,28 @@ public class ActorService {
     }
 
     private Page<ActorDto> toPageDto(Page<Actor> actors, boolean includeFilms) {
-        return actors.map(actor -> {
-            ActorDto actorDto = actorMapper.toDto(actor);
-            if (includeFilms) actorDto.setFilms(filmMapper.toSummaryDtoSet(actor.getFilms()));
-            return actorDto;
-        });
+        Page<ActorDto> actorDtos = actors.map(actorMapper::toDto);
+        if (includeFilms) attachFilms(actorDtos.getContent());
+        return actorDtos;
+    }
+
+    //Two set-based queries for the whole page instead of one lazy films fetch per actor
+    private void attachFilms(List<ActorDto> actorDtos) {
+        if (actorDtos.isEmpty()) return;
+        List<Integer> actorIds = actorDtos.stream().map(ActorDto::getId).toList();
+        List<ActorFilmLink> links = filmRepository.findActorFilmLinks(actorIds);
+
+        Map<Integer, FilmSummaryDto> films = new HashMap<>();
+        if (!links.isEmpty()) {
+            Set<Integer> filmIds = links.stream().map(ActorFilmLink::getFilmId).collect(Collectors.toSet());
+            filmRepository.findByIdIn(filmIds).forEach(film -> films.put(film.getId(), filmMapper.toSummaryDto(film)));
+        }
+
+        Map<Integer, List<FilmSummaryDto>> filmsByActor = new HashMap<>();
+        links.forEach(link -> filmsByActor
+                .computeIfAbsent(link.getActorId(), id -> new ArrayList<>())
+                .add(films.get(link.getFilmId())));
+        actorDtos.forEach(actorDto -> actorDto.setFilms(filmsByActor.getOrDefault(actorDto.getId(), new ArrayList<>())));
     }
 
     public Page<ActorDto> getActors(Pageable pageable, boolean includeFilms) {
@@ -54,7 +78,7 @@ public class ActorService {
     public Optional<ActorDto> getActorById(Integer actorId, boolean includeFilms) {
         return actorRepository.findById(actorId).map(actor -> {
             ActorDto actorDto = actorMapper.toDto(actor);
-            if (includeFilms) actorDto.setFilms(filmMapper.toSummaryDtoSet(actor.getFilms()));
+            if (includeFilms) attachFilms(List.of(actorDto));
             return actorDto;
         });
     }
@@ -82,97 +106,85 @@ public class ActorService {
         actorRepository.deleteById(actorId);
     }
 
-    private Actor getActorById(Integer actorId) {
-        return actorRepository.findById(actorId).orElseThrow(() ->
-                new EntityNotFoundException("Actor with ID " + actorId + " not found")
-        );
-    }
-
-    //Todo: move to film service
-    private Film getFilmById(Integer filmId) {
-        return filmRepository.findById(filmId).orElseThrow(() ->
-                new EntityNotFoundException("Film with ID " + filmId + " not found")
-        );
-    }
-
-    private void validateAssociation(Integer actorId, Integer filmId) {
-        if (actorRepository.existsActorByIdAndFilms_Id(actorId, filmId)) {
-            throw new EntityExistsException("Actor with ID " + actorId + " already has Film with ID " + filmId);
+    private void requireActor(Integer actorId) {
+        if (!actorRepository.existsById(actorId)) {
+            throw new EntityNotFoundException("Actor with ID " + actorId + " not found");
         }
     }
 
-    public void addFilmToActor(Integer actorId, Integer filmId) {
-        validateAssociation(actorId, filmId);
-        Actor actor = getActorById(actorId);
-        Film film = getFilmById(filmId);
-        film.getActors().add(actor);
+    private static Set<Integer> filmIds(List<FilmLinkChange> changes, Predicate<FilmLinkChange> filter) {
+        return changes.stream().filter(filter).map(FilmLinkChange::getFilmId).collect(Collectors.toCollection(TreeSet::new));
     }
 
-    public void removeFilmFromActor(Integer actorId, Integer filmId) {
-        validateAssociation(actorId, filmId);
-        Actor actor = getActorById(actorId);
-        Film film = getFilmById(filmId);
-        film.getActors().remove(actor);
-    }
-
-    private Set<Film> getNewFilms(Actor actor, Set<Integer> filmIds, boolean ignoreAssociatedFilms) {
-        Set<Film> newFilms = new HashSet<>(filmRepository.findAllById(filmIds));
-        if (newFilms.size() <  filmIds.size()) {
-            Set<Integer> notFoundFilmIds = new HashSet<>(filmIds);
-            notFoundFilmIds.removeAll(newFilms.stream().map(Film::getId).collect(Collectors.toSet()));
+    private static void requireFilms(List<FilmLinkChange> changes) {
+        Set<Integer> notFoundFilmIds = filmIds(changes, change -> !change.isFound());
+        if (!notFoundFilmIds.isEmpty()) {
             throw new EntityNotFoundException("Film with ID " + notFoundFilmIds + " not found");
         }
+    }
 
-        if (!ignoreAssociatedFilms) {
-            Set<Film> associatedFilms = new HashSet<>(actor.getFilms());
-            associatedFilms.retainAll(newFilms);
-            if (!associatedFilms.isEmpty()) {
-                throw new EntityExistsException("Actor with ID " + actor.getId() + " already has Film with ID " + associatedFilms);
-            }
+    private static void requireNoAssociatedFilms(Integer actorId, List<FilmLinkChange> changes) {
+        Set<Integer> associatedFilmIds = filmIds(changes, change -> change.isFound() && !change.isChanged());
+        if (!associatedFilmIds.isEmpty()) {
+            throw new EntityExistsException("Actor with ID " + actorId + " already has Film with ID " + associatedFilmIds);
         }
-
-        return newFilms;
     }
 
-    private void addNewFilmsToActor(Actor actor, Set<Film> newFilms) {
-        Set<Film> filmsToAdd = new HashSet<>(newFilms);
-        filmsToAdd.removeAll(actor.getFilms());
-        filmsToAdd.forEach(newFilm -> newFilm.getActors().add(actor));
+    @Transactional
+    public void addFilmToActor(Integer actorId, Integer filmId) {
+        addFilmsToActor(actorId, Set.of(filmId), false);
     }
 
-    private void removeNewFilmsFromActor(Actor actor, Set<Film> newFilms) {
-        Set<Film> filmsToRemove = new HashSet<>(actor.getFilms());
-        filmsToRemove.removeAll(newFilms);
-        filmsToRemove.forEach(newFilm -> newFilm.getActors().remove(actor));
+    @Transactional
+    public void removeFilmFromActor(Integer actorId, Integer filmId) {
+        removeFilmsFromActor(actorId, Set.of(filmId), false);
     }
 
+    //One INSERT ... ON CONFLICT DO NOTHING; a rejected request rolls back the rows it already wrote
+    @Transactional
     public void addFilmsToActor(Integer actorId, Set<Integer> filmIds, boolean ignoreAssociatedFilms) {
-        Actor actor = getActorById(actorId);
-        Set<Film> newFilms = getNewFilms(actor, filmIds, ignoreAssociatedFilms);
-        addNewFilmsToActor(actor, newFilms);
+        requireActor(actorId);
+        List<FilmLinkChange> changes = actorRepository.linkFilms(actorId, filmIds);
+        requireFilms(changes);
+        if (!ignoreAssociatedFilms) {
+            requireNoAssociatedFilms(actorId, changes);
+        }
     }
 
+    @Transactional
     public void addFilmsToActor(Integer actorId, Set<Integer> filmIds) {
         addFilmsToActor(actorId, filmIds, true);
     }
 
+    @Transactional
     public void removeFilmsFromActor(Integer actorId, Set<Integer> filmIds, boolean ignoreAssociatedFilms) {
-        Actor actor = getActorById(actorId);
-        Set<Film> newFilms = getNewFilms(actor, filmIds, ignoreAssociatedFilms);
-        removeNewFilmsFromActor(actor, newFilms);
+        requireActor(actorId);
+        List<FilmLinkChange> changes = actorRepository.unlinkFilms(actorId, filmIds);
+        requireFilms(changes);
+        if (!ignoreAssociatedFilms) {
+            Set<Integer> unassociatedFilmIds = filmIds(changes, change -> !change.isChanged());
+            if (!unassociatedFilmIds.isEmpty()) {
+                throw new EntityNotFoundException("Actor with ID " + actorId + " does not have Film with ID " + unassociatedFilmIds);
+            }
+        }
     }
 
+    @Transactional
     public void removeFilmsFromActor(Integer actorId, Set<Integer> filmIds) {
         removeFilmsFromActor(actorId, filmIds, true);
     }
 
+    @Transactional
     public void updateFilms(Integer actorId, Set<Integer> filmIds, boolean ignoreAssociatedFilms) {
-        Actor actor = getActorById(actorId);
-        Set<Film> newFilms = getNewFilms(actor, filmIds, ignoreAssociatedFilms);
-        addNewFilmsToActor(actor, newFilms);
-        removeNewFilmsFromActor(actor, newFilms);
+        requireActor(actorId);
+        List<FilmLinkChange> changes = actorRepository.replaceFilms(actorId, filmIds);
+        requireFilms(changes);
+        if (!ignoreAssociatedFilms) {
+            requireNoAssociatedFilms(actorId, changes);
+        }
     }
 
+    @Transactional
     public void updateFilms(Integer actorId, Set<Integer> filmIds) {
         this.updateFilms(actorId, filmIds, true);
     }
@@ -18,6 +18,15 @@ public class ActorSummaryDto {
 
     private Instant lastUpdate;
 
+    public ActorSummaryDto() {}
+
+    public ActorSummaryDto(Integer id, String firstName, String lastName, Instant lastUpdate) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.lastUpdate = lastUpdate;
+    }
+
     public Integer getId() {
         return id;
     }
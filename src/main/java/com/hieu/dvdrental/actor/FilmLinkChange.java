@@ -0,0 +1,28 @@
+package com.hieu.dvdrental.actor;
+
+/**
+ * Outcome of one requested film id in a set-based {@code film_actor} write.
+ */
+public class FilmLinkChange {
+    private final Integer filmId;
+    private final boolean found;
+    private final boolean changed;
+
+    public FilmLinkChange(Integer filmId, boolean found, boolean changed) {
+        this.filmId = filmId;
+        this.found = found;
+        this.changed = changed;
+    }
+
+    public Integer getFilmId() {
+        return filmId;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+}
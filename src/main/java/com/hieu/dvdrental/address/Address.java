@@ -11,7 +11,7 @@ import java.time.Instant;
 public class Address {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_id_gen")
-    @SequenceGenerator(name = "address_id_gen", sequenceName = "address_address_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "address_id_gen", sequenceName = "address_address_id_seq", allocationSize = 50)
     @Column(name = "address_id", nullable = false)
     private Integer id;
 
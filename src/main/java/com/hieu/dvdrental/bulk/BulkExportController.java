@@ -0,0 +1,45 @@
+package com.hieu.dvdrental.bulk;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+
+@RestController
+public class BulkExportController {
+    private final BulkExportService bulkExportService;
+    private final Duration exportTimeout;
+
+    @Autowired
+    public BulkExportController(BulkExportService bulkExportService,
+                                @Value("${dvdrental.export.timeout:PT1H}") Duration exportTimeout) {
+        this.bulkExportService = bulkExportService;
+        this.exportTimeout = exportTimeout;
+    }
+
+    //Exports outlast the default async timeout, so they get their own instead of raising it for every request
+    @GetMapping("/export/{table}")
+    public WebAsyncTask<Void> export(@PathVariable String table,
+                                     @RequestParam(defaultValue = "ndjson") String format,
+                                     HttpServletResponse response) {
+        BulkTable bulkTable = BulkTable.from(table);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(bulkTable.getTableName() + "." + exportFormat.getExtension())
+                .build()
+                .toString());
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            bulkExportService.export(bulkTable, exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+}
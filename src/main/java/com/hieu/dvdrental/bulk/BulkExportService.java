@@ -0,0 +1,128 @@
+package com.hieu.dvdrental.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Streams a whole table through a server-side cursor, one fetch of {@code dvdrental.export.fetch-size} rows at
+ * a time, writing each row as soon as it is read. No entities are loaded and the connection is held only while
+ * the response is being written.
+ */
+@Service
+public class BulkExportService {
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    @Autowired
+    public BulkExportService(DataSource dataSource, ObjectMapper objectMapper, @Value("${dvdrental.export.fetch-size:1000}") int fetchSize) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(BulkTable table, ExportFormat format, OutputStream out) throws IOException {
+        List<String> columns = table.getColumns();
+        String sql = "SELECT " + String.join(", ", columns) + " FROM " + table.getTableName() +
+                " ORDER BY " + String.join(", ", table.getKeyColumns());
+
+        try (Connection connection = dataSource.getConnection()) {
+            //PgJDBC only uses a cursor when autocommit is off, otherwise it buffers the whole result
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(rs, columns, out);
+                    } else {
+                        writeNdjson(rs, columns, out);
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException ex) {
+            throw new UncategorizedSQLException("Export", sql, ex);
+        }
+    }
+
+    private static void writeCsv(ResultSet rs, List<String> columns, OutputStream out) throws SQLException, IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+        while (rs.next()) {
+            for (int i = 1; i <= columns.size(); i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                String value = rs.getString(i);
+                if (value != null) {
+                    writer.write(csvValue(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    //Unquoted empty fields are NULL to COPY, so empty strings are always quoted
+    static String csvValue(String value) {
+        if (!value.isEmpty() && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeNdjson(ResultSet rs, List<String> columns, OutputStream out) throws SQLException, IOException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rs.next()) {
+            generator.writeStartObject();
+            for (int i = 1; i <= columns.size(); i++) {
+                generator.writeFieldName(columns.get(i - 1));
+                writeJsonValue(generator, rs, i, metaData.getColumnType(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, ResultSet rs, int column, int type) throws SQLException, IOException {
+        if (rs.getObject(column) == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (type) {
+            case Types.SMALLINT, Types.INTEGER, Types.BIGINT -> generator.writeNumber(rs.getLong(column));
+            case Types.NUMERIC, Types.DECIMAL -> generator.writeNumber(rs.getBigDecimal(column));
+            case Types.BOOLEAN, Types.BIT -> generator.writeBoolean(rs.getBoolean(column));
+            case Types.TIMESTAMP -> generator.writeString(rs.getObject(column, LocalDateTime.class).toString());
+            case Types.DATE -> generator.writeString(rs.getObject(column, LocalDate.class).toString());
+            case Types.ARRAY -> {
+                Array array = rs.getArray(column);
+                generator.writeStartArray();
+                for (Object element : (Object[]) array.getArray()) {
+                    generator.writeString(element == null ? null : element.toString());
+                }
+                generator.writeEndArray();
+                array.free();
+            }
+            default -> generator.writeString(rs.getString(column));
+        }
+    }
+}
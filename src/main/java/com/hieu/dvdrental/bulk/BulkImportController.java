@@ -0,0 +1,33 @@
+package com.hieu.dvdrental.bulk;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+public class BulkImportController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BulkImportService bulkImportService;
+
+    @Autowired
+    public BulkImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    @PostMapping(value = "/import/{table}", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportResultDto> importCsv(@PathVariable String table, InputStream body) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importCsv(BulkTable.from(table), body));
+    }
+
+    @PostMapping(value = "/import/{table}", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResultDto> importNdjson(@PathVariable String table, InputStream body) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importNdjson(BulkTable.from(table), body));
+    }
+}
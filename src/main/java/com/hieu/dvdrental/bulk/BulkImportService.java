@@ -0,0 +1,201 @@
+package com.hieu.dvdrental.bulk;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a request body into an unlogged staging table with {@code COPY FROM STDIN}, then merges it into the
+ * target table with a single statement. The body is never buffered, so memory use does not depend on its size.
+ */
+@Service
+public class BulkImportService {
+    private static final int HEADER_MAX_BYTES = 8192;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache cache;
+
+    @Autowired
+    public BulkImportService(DataSource dataSource, JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Transactional
+    public ImportResultDto importCsv(BulkTable table, InputStream body) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body);
+        List<String> columns = table.resolveColumns(Arrays.stream(readHeader(in).split(",", -1))
+                .map(name -> name.strip().replace("\"", ""))
+                .toList());
+        String columnList = String.join(", ", columns);
+        String staging = stagingName(table);
+
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE " + staging + " AS SELECT " + columnList + " FROM " + table.getTableName() + " WITH NO DATA");
+        long copied = copyIn("COPY " + staging + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)", in);
+        long merged = copied == 0 ? 0 : merge(table, columns, distinctOnKey(table, columns) + columnList + " FROM " + staging);
+        jdbcTemplate.execute("DROP TABLE " + staging);
+        evictSecondLevelCache();
+
+        return new ImportResultDto(table.getTableName(), copied, merged);
+    }
+
+    @Transactional
+    public ImportResultDto importNdjson(BulkTable table, InputStream body) throws IOException {
+        String staging = stagingName(table);
+
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE " + staging + " (doc JSONB)");
+        //Quote and delimiter bytes that never occur in JSON text, so COPY passes each line through untouched
+        long copied = copyIn("COPY " + staging + " (doc) FROM STDIN WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')", body);
+        if (copied == 0) {
+            jdbcTemplate.execute("DROP TABLE " + staging);
+            return new ImportResultDto(table.getTableName(), 0, 0);
+        }
+        List<String> columns = table.resolveColumns(
+                jdbcTemplate.queryForList("SELECT DISTINCT jsonb_object_keys(doc) FROM " + staging + " WHERE doc IS NOT NULL", String.class));
+        long merged = merge(table, columns, distinctOnKey(table, columns) +
+                columns.stream().map(column -> "r." + column).collect(Collectors.joining(", ")) +
+                " FROM " + staging + " s CROSS JOIN LATERAL jsonb_populate_record(NULL::" + table.getTableName() + ", s.doc) r" +
+                " WHERE s.doc IS NOT NULL");
+        jdbcTemplate.execute("DROP TABLE " + staging);
+        evictSecondLevelCache();
+
+        return new ImportResultDto(table.getTableName(), copied, merged);
+    }
+
+    private long merge(BulkTable table, List<String> columns, String select) {
+        try {
+            if (!table.hasKey(columns)) {
+                return jdbcTemplate.update(table.insertSql(columns, select), (Object) allocateIds(table, select));
+            }
+            if (table.getSequenceName() != null) {
+                reserveImportedIds(table, select);
+            }
+            if (!table.isUniqueKey()) {
+                Long merged = jdbcTemplate.queryForObject(table.mergeSql(columns, select), Long.class);
+                return merged == null ? 0 : merged;
+            }
+            return jdbcTemplate.update(table.mergeSql(columns, select));
+        } catch (DataIntegrityViolationException ex) {
+            throw new IllegalArgumentException("Import failed: " + ex.getMostSpecificCause().getMessage());
+        }
+    }
+
+    //One nextval per block of ID_BLOCK rows, the way Hibernate and the payment intake allocate
+    private Integer[] allocateIds(BulkTable table, String select) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + select + ") s", Long.class);
+        long blocks = rows == null ? 0 : (rows + BulkTable.ID_BLOCK - 1) / BulkTable.ID_BLOCK;
+        return jdbcTemplate.queryForList("SELECT nextval('" + table.getSequenceName() + "') FROM generate_series(1, ?)", Integer.class, blocks)
+                .toArray(Integer[]::new);
+    }
+
+    /**
+     * Imported ids must not collide with ids the sequence hands out. Every block up to the one starting at the
+     * sequence's last value may still be held by the pooled optimizer of a running instance or by the payment intake,
+     * so a new id is only accepted above {@code last_value + 50}; rows that already exist can still be updated. The
+     * sequence is then moved to the highest imported id, so the next block starts past it. The sequence moves before
+     * the merge, so no instance can take a block the import is about to fill once the check has passed.
+     */
+    private void reserveImportedIds(BulkTable table, String select) {
+        String id = table.getIdColumn();
+        String sequence = table.getSequenceName();
+        Map<String, Object> state = jdbcTemplate.queryForMap("SELECT last_value, is_called FROM " + sequence);
+        long lastValue = ((Number) state.get("last_value")).longValue();
+        long firstFree = Boolean.TRUE.equals(state.get("is_called")) ? lastValue + BulkTable.ID_BLOCK + 1 : lastValue;
+        Long allocated = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + select + ") s WHERE s." + id + " < ? " +
+                "AND NOT EXISTS (SELECT 1 FROM " + table.getTableName() + " t WHERE t." + id + " = s." + id + ")",
+                Long.class, firstFree);
+        if (allocated != null && allocated > 0) {
+            throw new IllegalArgumentException("Import failed: " + allocated + " new " + id + " values are below " + firstFree +
+                    ", and " + sequence + " may already have handed those out; leave " + id + " out to have new rows numbered");
+        }
+        jdbcTemplate.queryForList("SELECT setval('" + sequence + "', m) FROM (SELECT MAX(" + id + ") AS m FROM (" + select + ") s) x " +
+                "WHERE m >= ?", firstFree);
+    }
+
+    /**
+     * The merge writes with plain SQL, which Hibernate does not see, so cached entities (city, country, language,
+     * category) and cached query results may no longer match the tables. Like Hibernate's own native bulk updates,
+     * the regions are evicted now and again after commit, so nothing read from the old rows in between stays cached.
+     */
+    private void evictSecondLevelCache() {
+        cache.evictEntityData();
+        cache.evictQueryRegions();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictEntityData();
+                    cache.evictQueryRegions();
+                }
+            });
+        }
+    }
+
+    private long copyIn(String sql, InputStream in) throws IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            return copyManager.copyIn(sql, in);
+        } catch (SQLException ex) {
+            //Class 22 (data exception) and 23 (integrity violation) mean the uploaded rows are bad
+            String state = ex.getSQLState();
+            if (state != null && (state.startsWith("22") || state.startsWith("23"))) {
+                throw new IllegalArgumentException("Import failed: " + ex.getMessage());
+            }
+            throw new UncategorizedSQLException("COPY", sql, ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static String distinctOnKey(BulkTable table, List<String> columns) {
+        return table.hasKey(columns) ? "SELECT DISTINCT ON (" + String.join(", ", table.getKeyColumns()) + ") " : "SELECT ";
+    }
+
+    private static String stagingName(BulkTable table) {
+        return "import_" + table.getTableName() + "_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static String readHeader(InputStream in) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (header.size() == HEADER_MAX_BYTES) {
+                throw new IllegalArgumentException("CSV header is too long");
+            }
+            header.write(b);
+        }
+        String line = header.toString(StandardCharsets.UTF_8).strip();
+        if (line.isEmpty()) {
+            throw new IllegalArgumentException("CSV body must start with a header row");
+        }
+        return line;
+    }
+}
@@ -0,0 +1,149 @@
+package com.hieu.dvdrental.bulk;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public enum BulkTable {
+    ACTOR("actor", "actor_actor_id_seq", List.of("actor_id"),
+            List.of("actor_id", "first_name", "last_name", "last_update")),
+    FILM("film", "film_film_id_seq", List.of("film_id"),
+            List.of("film_id", "title", "description", "release_year", "language_id", "rental_duration", "rental_rate",
+                    "length", "replacement_cost", "rating", "special_features", "last_update")),
+    FILM_ACTOR("film_actor", null, List.of("actor_id", "film_id"),
+            List.of("actor_id", "film_id", "last_update")),
+    FILM_CATEGORY("film_category", null, List.of("film_id", "category_id"),
+            List.of("film_id", "category_id", "last_update")),
+    INVENTORY("inventory", "inventory_inventory_id_seq", List.of("inventory_id"),
+            List.of("inventory_id", "film_id", "store_id", "last_update")),
+    RENTAL("rental", "rental_rental_id_seq", List.of("rental_id"),
+            List.of("rental_id", "rental_date", "inventory_id", "customer_id", "return_date", "staff_id", "last_update")),
+    //Partitioned by payment_date, so no unique index covers payment_id alone for ON CONFLICT to use
+    PAYMENT("payment", "payment_payment_id_seq", List.of("payment_id"),
+            List.of("payment_id", "customer_id", "staff_id", "rental_id", "amount", "payment_date"), false);
+
+    //Sequences hand out blocks of 50 ids (V1.8), the pooled-lo scheme Hibernate uses
+    public static final int ID_BLOCK = 50;
+
+    private final String tableName;
+    private final String sequenceName;
+    private final List<String> keyColumns;
+    private final List<String> columns;
+    private final boolean uniqueKey;
+
+    BulkTable(String tableName, String sequenceName, List<String> keyColumns, List<String> columns) {
+        this(tableName, sequenceName, keyColumns, columns, true);
+    }
+
+    BulkTable(String tableName, String sequenceName, List<String> keyColumns, List<String> columns, boolean uniqueKey) {
+        this.tableName = tableName;
+        this.sequenceName = sequenceName;
+        this.keyColumns = keyColumns;
+        this.columns = columns;
+        this.uniqueKey = uniqueKey;
+    }
+
+    public static BulkTable from(String value) {
+        return Arrays.stream(values())
+                .filter(table -> table.tableName.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Supported tables are " +
+                        Arrays.stream(values()).map(BulkTable::getTableName).collect(Collectors.joining(", "))));
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Checks the columns named by a CSV header or NDJSON keys and returns them in the order given.
+     */
+    public List<String> resolveColumns(List<String> names) {
+        List<String> resolved = names.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        List<String> unknown = resolved.stream().filter(name -> !columns.contains(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown " + tableName + " columns: " + String.join(", ", unknown));
+        }
+        if (resolved.stream().distinct().count() != resolved.size()) {
+            throw new IllegalArgumentException("Duplicate " + tableName + " columns");
+        }
+        if (!hasKey(resolved) && sequenceName == null) {
+            throw new IllegalArgumentException(tableName + " import requires columns " + String.join(", ", keyColumns));
+        }
+        return resolved;
+    }
+
+    public boolean hasKey(List<String> resolved) {
+        return resolved.containsAll(keyColumns);
+    }
+
+    //The key column the sequence fills, null for link tables
+    public String getIdColumn() {
+        return sequenceName == null ? null : keyColumns.getFirst();
+    }
+
+    //Whether mergeSql can upsert with ON CONFLICT, or has to return the merged count from a query
+    public boolean isUniqueKey() {
+        return uniqueKey;
+    }
+
+    /**
+     * Set-based upsert from the staging select on the imported key columns. Without a unique index on the key,
+     * existing rows are matched on the key and updated, the rest are inserted, and the statement is a query
+     * returning how many rows were merged.
+     */
+    public String mergeSql(List<String> resolved, String select) {
+        if (!uniqueKey) {
+            return matchingMergeSql(resolved, select);
+        }
+        String insert = "INSERT INTO " + tableName + " (" + String.join(", ", resolved) + ") " + select;
+        List<String> updated = resolved.stream().filter(column -> !keyColumns.contains(column)).toList();
+        String conflict = " ON CONFLICT (" + String.join(", ", keyColumns) + ") ";
+        if (updated.isEmpty()) {
+            return insert + conflict + "DO NOTHING";
+        }
+        return insert + conflict + "DO UPDATE SET " +
+                updated.stream().map(column -> column + " = EXCLUDED." + column).collect(Collectors.joining(", "));
+    }
+
+    //An update moving payment_date into another month moves the row to that month's partition
+    private String matchingMergeSql(List<String> resolved, String select) {
+        String columnList = String.join(", ", resolved);
+        String matches = keyColumns.stream().map(column -> "t." + column + " = s." + column).collect(Collectors.joining(" AND "));
+        List<String> updated = resolved.stream().filter(column -> !keyColumns.contains(column)).toList();
+        String matched = updated.isEmpty()
+                ? "SELECT t." + keyColumns.getFirst() + " FROM " + tableName + " t JOIN staged s ON " + matches
+                : "UPDATE " + tableName + " t SET " + updated.stream().map(column -> column + " = s." + column).collect(Collectors.joining(", ")) +
+                " FROM staged s WHERE " + matches + " RETURNING " + keyColumns.stream().map(column -> "t." + column).collect(Collectors.joining(", "));
+        return "WITH staged AS (" + select + "), " +
+                "matched AS (" + matched + "), " +
+                "inserted AS (INSERT INTO " + tableName + " (" + columnList + ") SELECT " + columnList + " FROM staged s " +
+                "WHERE NOT EXISTS (SELECT 1 FROM matched t WHERE " + matches + ") RETURNING 1) " +
+                (updated.isEmpty() ? "SELECT COUNT(*) FROM inserted" : "SELECT (SELECT COUNT(*) FROM matched) + (SELECT COUNT(*) FROM inserted)");
+    }
+
+    /**
+     * Set-based insert from the staging select when the key is not imported. Row n takes the id
+     * {@code blocks[n / 50] + n % 50} from the array of block starts bound as the only parameter, so each block of
+     * 50 rows costs one {@code nextval} instead of one per row.
+     */
+    public String insertSql(List<String> resolved, String select) {
+        String columnList = String.join(", ", resolved);
+        return "INSERT INTO " + tableName + " (" + getIdColumn() + ", " + columnList + ") " +
+                "SELECT (?::INTEGER[])[(n / " + ID_BLOCK + ")::INTEGER + 1] + n % " + ID_BLOCK + ", " + columnList +
+                " FROM (SELECT s.*, row_number() OVER () - 1 AS n FROM (" + select + ") s) numbered";
+    }
+}
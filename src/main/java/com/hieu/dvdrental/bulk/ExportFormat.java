@@ -0,0 +1,33 @@
+package com.hieu.dvdrental.bulk;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+public enum ExportFormat {
+    CSV("csv", MediaType.parseMediaType("text/csv")),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Export format must be csv or ndjson"));
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hieu.dvdrental.bulk;
+
+public class ImportResultDto {
+    private String table;
+    private long rowsCopied;
+    private long rowsMerged;
+
+    public ImportResultDto() {}
+
+    public ImportResultDto(String table, long rowsCopied, long rowsMerged) {
+        this.table = table;
+        this.rowsCopied = rowsCopied;
+        this.rowsMerged = rowsMerged;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public long getRowsCopied() {
+        return rowsCopied;
+    }
+
+    public void setRowsCopied(long rowsCopied) {
+        this.rowsCopied = rowsCopied;
+    }
+
+    public long getRowsMerged() {
+        return rowsMerged;
+    }
+
+    public void setRowsMerged(long rowsMerged) {
+        this.rowsMerged = rowsMerged;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hieu.dvdrental.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+//hits, misses and puts are only counted with hibernate.generate_statistics, and are left out without it
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CacheRegionStatisticsDto {
+    private String region;
+    private Long hits;
+    private Long misses;
+    private Long puts;
+    private long evictions;
+    private long size;
+
+    public CacheRegionStatisticsDto() {}
+
+    public CacheRegionStatisticsDto(String region, Long hits, Long misses, Long puts, long evictions, long size) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Long getHits() {
+        return hits;
+    }
+
+    public void setHits(Long hits) {
+        this.hits = hits;
+    }
+
+    public Long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(Long misses) {
+        this.misses = misses;
+    }
+
+    public Long getPuts() {
+        return puts;
+    }
+
+    public void setPuts(Long puts) {
+        this.puts = puts;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
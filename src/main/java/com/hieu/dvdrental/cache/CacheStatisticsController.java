@@ -0,0 +1,21 @@
+package com.hieu.dvdrental.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CacheStatisticsController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    public CacheStatisticsController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<CacheStatisticsDto> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+}
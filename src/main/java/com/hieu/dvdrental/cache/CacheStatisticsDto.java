@@ -0,0 +1,31 @@
+package com.hieu.dvdrental.cache;
+
+import java.util.List;
+
+public class CacheStatisticsDto {
+    private boolean statisticsEnabled;
+    private List<CacheRegionStatisticsDto> regions;
+
+    public CacheStatisticsDto() {}
+
+    public CacheStatisticsDto(boolean statisticsEnabled, List<CacheRegionStatisticsDto> regions) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.regions = regions;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public List<CacheRegionStatisticsDto> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<CacheRegionStatisticsDto> regions) {
+        this.regions = regions;
+    }
+}
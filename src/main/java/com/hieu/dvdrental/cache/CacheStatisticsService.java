@@ -0,0 +1,49 @@
+package com.hieu.dvdrental.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class CacheStatisticsService {
+    private final SessionFactoryImplementor sessionFactory;
+
+    @Autowired
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public CacheStatisticsDto getStatistics() {
+        return new CacheStatisticsDto(sessionFactory.getStatistics().isStatisticsEnabled(), getRegionStatistics());
+    }
+
+    //Hibernate only counts hits, misses and puts with hibernate.generate_statistics; evictions and size come from the storage
+    public List<CacheRegionStatisticsDto> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        boolean counted = statistics.isStatisticsEnabled();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = counted ? statistics.getCacheRegionStatistics(region) : null;
+                    Optional<LocalCacheStorage> storage = sessionFactory.getCache().getRegionFactory() instanceof LocalRegionFactory factory
+                            ? factory.getStorage(region)
+                            : Optional.empty();
+                    return new CacheRegionStatisticsDto(
+                            region,
+                            regionStatistics == null ? null : regionStatistics.getHitCount(),
+                            regionStatistics == null ? null : regionStatistics.getMissCount(),
+                            regionStatistics == null ? null : regionStatistics.getPutCount(),
+                            storage.map(LocalCacheStorage::getEvictionCount).orElse(0L),
+                            storage.map(LocalCacheStorage::size).orElse(0)
+                    );
+                })
+                .toList();
+    }
+}
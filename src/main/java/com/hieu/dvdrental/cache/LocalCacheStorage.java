@@ -0,0 +1,89 @@
+package com.hieu.dvdrental.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * One in-memory cache region: least recently used entries are evicted past {@code maxEntries}, and entries
+ * expire {@code timeToLive} after they were written. A zero time to live never expires.
+ */
+public class LocalCacheStorage implements DomainDataStorageAccess {
+    private record Entry(Object value, long writtenAt) {}
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final LongAdder evictions = new LongAdder();
+    private final Map<Object, Entry> entries;
+
+    public LocalCacheStorage(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, System::nanoTime);
+    }
+
+    LocalCacheStorage(int maxEntries, Duration timeToLive, LongSupplier nanoTime) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (timeToLiveNanos > 0 && nanoTime.getAsLong() - entry.writtenAt() >= timeToLiveNanos) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        entries.put(key, new Entry(value, nanoTime.getAsLong()));
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return getFromCache(key, null) != null;
+    }
+
+    @Override
+    public synchronized void evictData() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized void evictData(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+}
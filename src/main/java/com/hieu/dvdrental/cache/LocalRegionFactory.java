@@ -0,0 +1,64 @@
+package com.hieu.dvdrental.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache regions held in this JVM. Entity and query result regions are bounded by
+ * {@code dvdrental.cache.max-entries} and {@code dvdrental.cache.time-to-live}, passed as JPA properties.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+    public static final String MAX_ENTRIES = "dvdrental.cache.max-entries";
+    public static final String TIME_TO_LIVE = "dvdrental.cache.time-to-live";
+
+    private final Map<String, LocalCacheStorage> storages = new ConcurrentHashMap<>();
+
+    private int maxEntries;
+    private Duration timeToLive;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        maxEntries = Integer.parseInt(String.valueOf(configValues.getOrDefault(MAX_ENTRIES, "10000")));
+        timeToLive = Duration.parse(String.valueOf(configValues.getOrDefault(TIME_TO_LIVE, "PT1H")));
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(LocalCacheStorage::release);
+        storages.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return storage(regionConfig.getRegionName(), maxEntries, timeToLive);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, maxEntries, timeToLive);
+    }
+
+    //An evicted update timestamp would let stale query results look current, so this region is never bounded
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    public Optional<LocalCacheStorage> getStorage(String regionName) {
+        return Optional.ofNullable(storages.get(regionName));
+    }
+
+    private LocalCacheStorage storage(String regionName, int maxEntries, Duration timeToLive) {
+        return storages.computeIfAbsent(regionName, name -> new LocalCacheStorage(maxEntries, timeToLive));
+    }
+}
@@ -0,0 +1,45 @@
+package com.hieu.dvdrental.catalog;
+
+import java.util.Set;
+
+public class CatalogFilm {
+    private final Integer id;
+    private final String title;
+    private final String description;
+    private final String rating;
+    private final String language;
+    private final Set<String> categories;
+
+    public CatalogFilm(Integer id, String title, String description, String rating, String language, Set<String> categories) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.rating = rating;
+        this.language = language;
+        this.categories = categories;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public Set<String> getCategories() {
+        return categories;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hieu.dvdrental.catalog;
+
+import java.util.List;
+import java.util.Map;
+
+public class CatalogSearchDto {
+    private List<Integer> ids;
+    private int total;
+    private Map<String, Map<String, Integer>> facets;
+
+    public CatalogSearchDto() {}
+
+    public CatalogSearchDto(List<Integer> ids, int total, Map<String, Map<String, Integer>> facets) {
+        this.ids = ids;
+        this.total = total;
+        this.facets = facets;
+    }
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,134 @@
+package com.hieu.dvdrental.catalog;
+
+import java.util.*;
+
+/**
+ * Inverted index over films: one {@link IntBitmap} of film ids per title/description word, rating,
+ * category and language. Not thread-safe; {@link FilmCatalogIndex} guards it.
+ */
+public class FilmCatalog {
+    private final IntBitmap all = new IntBitmap();
+    private final Map<String, IntBitmap> words = new HashMap<>();
+    private final Map<String, IntBitmap> ratings = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, IntBitmap> categories = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, IntBitmap> languages = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<Integer, CatalogFilm> films = new HashMap<>();
+    private long filmIds;
+    private long links;
+    private long linkFilmIds;
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public void put(CatalogFilm film) {
+        remove(film.getId());
+        int id = film.getId();
+        all.add(id);
+        tokenize(text(film)).forEach(word -> postings(words, word).add(id));
+        if (film.getRating() != null) {
+            postings(ratings, film.getRating()).add(id);
+        }
+        postings(languages, film.getLanguage()).add(id);
+        film.getCategories().forEach(category -> postings(categories, category).add(id));
+        films.put(id, film);
+        filmIds += id;
+        links += film.getCategories().size();
+        linkFilmIds += (long) id * film.getCategories().size();
+    }
+
+    public void remove(Integer id) {
+        CatalogFilm film = films.remove(id);
+        if (film == null) {
+            return;
+        }
+        all.remove(id);
+        tokenize(text(film)).forEach(word -> unpost(words, word, id));
+        if (film.getRating() != null) {
+            unpost(ratings, film.getRating(), id);
+        }
+        unpost(languages, film.getLanguage(), id);
+        film.getCategories().forEach(category -> unpost(categories, category, id));
+        filmIds -= id;
+        links -= film.getCategories().size();
+        linkFilmIds -= (long) id * film.getCategories().size();
+    }
+
+    public int size() {
+        return films.size();
+    }
+
+    public Set<Integer> ids() {
+        return films.keySet();
+    }
+
+    public Totals totals() {
+        return new Totals(films.size(), filmIds, links, linkFilmIds);
+    }
+
+    public CatalogSearchDto search(String text, String rating, String category, String language, int offset, int limit) {
+        IntBitmap matches = all;
+        for (String word : tokenize(text)) {
+            matches = matches.and(words.getOrDefault(word, new IntBitmap()));
+        }
+        matches = filter(matches, ratings, rating);
+        matches = filter(matches, categories, category);
+        matches = filter(matches, languages, language);
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put("rating", facet(matches, ratings));
+        facets.put("category", facet(matches, categories));
+        facets.put("language", facet(matches, languages));
+
+        List<Integer> ids = Arrays.stream(matches.toArray(offset, limit)).boxed().toList();
+        return new CatalogSearchDto(ids, matches.cardinality(), facets);
+    }
+
+    /**
+     * Film count and id sum, and the same over (film, category name) links. A delete leaves no row to poll, but
+     * changes these unless it is offset by an insert of the same id.
+     */
+    public record Totals(long films, long filmIds, long links, long linkFilmIds) {}
+
+    private static String text(CatalogFilm film) {
+        return Objects.toString(film.getTitle(), "") + " " + Objects.toString(film.getDescription(), "");
+    }
+
+    private static IntBitmap filter(IntBitmap matches, Map<String, IntBitmap> field, String value) {
+        if (value == null || value.isBlank()) {
+            return matches;
+        }
+        return matches.and(field.getOrDefault(value.trim(), new IntBitmap()));
+    }
+
+    private static Map<String, Integer> facet(IntBitmap matches, Map<String, IntBitmap> field) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        field.forEach((value, postings) -> {
+            int count = matches.andCardinality(postings);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private static IntBitmap postings(Map<String, IntBitmap> field, String value) {
+        return field.computeIfAbsent(value, key -> new IntBitmap());
+    }
+
+    private static void unpost(Map<String, IntBitmap> field, String value, int id) {
+        IntBitmap postings = field.get(value);
+        if (postings != null) {
+            postings.remove(id);
+            if (postings.isEmpty()) {
+                field.remove(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hieu.dvdrental.catalog;
+
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class FilmCatalogController {
+    private final FilmCatalogService filmCatalogService;
+
+    @Autowired
+    public FilmCatalogController(FilmCatalogService filmCatalogService) {
+        this.filmCatalogService = filmCatalogService;
+    }
+
+    @GetMapping("/catalog/films")
+    public ResponseEntity<CatalogSearchDto> searchFilms(
+            @RequestParam(required = false)
+            @Size(max = 200, message = "Search query must not have more than 200 characters") String q,
+            @RequestParam(required = false) String rating,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String language,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(filmCatalogService.searchFilms(q, rating, category, language, pageable));
+    }
+}
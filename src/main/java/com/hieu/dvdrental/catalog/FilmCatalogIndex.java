@@ -0,0 +1,161 @@
+package com.hieu.dvdrental.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps a {@link FilmCatalog} in sync with the film tables by polling {@code last_update}. Searches
+ * are refused once the last successful poll is older than {@code dvdrental.catalog.max-staleness}.
+ * <p>
+ * Polling relies on the {@code last_updated} triggers (V1.9) stamping every updated film and film_category row with
+ * its transaction's start time; without them only inserts, through the column default, would be seen. Deletes leave
+ * no row behind, so each poll also compares the film and film_category totals with the catalog's and reloads
+ * everything on a mismatch. Renaming a category or language does not touch the film rows, so it only shows up at
+ * the next full reload.
+ */
+@Component
+public class FilmCatalogIndex {
+    private static final Logger log = LoggerFactory.getLogger(FilmCatalogIndex.class);
+
+    //Every transaction that has not committed yet started at or after this time, so its rows will carry a last_update
+    //at or after it; polling from here misses nothing however long the writer runs. Sessions of other roles only show
+    //their start time to roles with pg_read_all_stats.
+    private static final String HORIZON_SQL = "SELECT LEAST(LOCALTIMESTAMP, CAST(MIN(xact_start) AS TIMESTAMP)) FROM pg_stat_activity " +
+            "WHERE pid <> pg_backend_pid() AND backend_type = 'client backend'";
+
+    private static final String FILMS_SQL = "SELECT f.film_id, f.title, f.description, CAST(f.rating AS TEXT) AS rating, TRIM(l.name) AS language, " +
+            "ARRAY(SELECT c.name FROM film_category fc JOIN category c ON c.category_id = fc.category_id WHERE fc.film_id = f.film_id) AS categories " +
+            "FROM film f JOIN language l ON l.language_id = f.language_id";
+
+    //One statement, so the totals and the changed rows come from the same snapshot
+    private static final String CHANGES_SQL = "SELECT totals.*, changed.* FROM " +
+            "(SELECT films.count AS film_count, films.sum AS film_ids, links.count AS link_count, links.sum AS link_film_ids " +
+            "FROM (SELECT COUNT(*), COALESCE(SUM(film_id), 0) AS sum FROM film) films, " +
+            "(SELECT COUNT(*), COALESCE(SUM(film_id), 0) AS sum FROM (SELECT DISTINCT fc.film_id, c.name FROM film_category fc " +
+            "JOIN category c ON c.category_id = fc.category_id) named) links) totals " +
+            "LEFT JOIN (" + FILMS_SQL +
+            " WHERE f.last_update >= ? OR EXISTS (SELECT 1 FROM film_category fc WHERE fc.film_id = f.film_id AND fc.last_update >= ?)) changed ON TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration maxStaleness;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FilmCatalog catalog = new FilmCatalog();
+    private LocalDateTime watermark;
+    private volatile Instant refreshedAt;
+
+    @Autowired
+    public FilmCatalogIndex(JdbcTemplate jdbcTemplate, @Value("${dvdrental.catalog.max-staleness:PT1M}") Duration maxStaleness) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxStaleness = maxStaleness;
+    }
+
+    @Scheduled(fixedDelayString = "${dvdrental.catalog.refresh-interval:PT10S}")
+    public void refresh() {
+        try {
+            if (watermark == null) {
+                rebuild();
+            } else {
+                update();
+            }
+            refreshedAt = Instant.now();
+        } catch (DataAccessException ex) {
+            log.warn("Film catalog refresh failed, searches fall back to the database until it succeeds", ex);
+        }
+    }
+
+    public boolean isFresh() {
+        Instant refreshed = refreshedAt;
+        return refreshed != null && !refreshed.plus(maxStaleness).isBefore(Instant.now());
+    }
+
+    public Optional<CatalogSearchDto> search(String text, String rating, String category, String language, int offset, int limit) {
+        if (!isFresh()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(catalog.search(text, rating, category, language, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime horizon = jdbcTemplate.queryForObject(HORIZON_SQL, LocalDateTime.class);
+        List<CatalogFilm> films = jdbcTemplate.query(FILMS_SQL, filmRowMapper());
+        FilmCatalog rebuilt = new FilmCatalog();
+        films.forEach(rebuilt::put);
+
+        lock.writeLock().lock();
+        try {
+            catalog = rebuilt;
+            watermark = horizon;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Film catalog loaded with {} films", films.size());
+    }
+
+    private void update() {
+        LocalDateTime horizon = jdbcTemplate.queryForObject(HORIZON_SQL, LocalDateTime.class);
+        List<CatalogFilm> changed = new ArrayList<>();
+        RowMapper<CatalogFilm> filmRowMapper = filmRowMapper();
+        FilmCatalog.Totals totals = jdbcTemplate.query(CHANGES_SQL, rs -> {
+            FilmCatalog.Totals current = null;
+            while (rs.next()) {
+                current = new FilmCatalog.Totals(rs.getLong("film_count"), rs.getLong("film_ids"), rs.getLong("link_count"), rs.getLong("link_film_ids"));
+                if (rs.getObject("film_id") != null) {
+                    changed.add(filmRowMapper.mapRow(rs, rs.getRow()));
+                }
+            }
+            return current;
+        }, watermark, watermark);
+
+        boolean consistent;
+        lock.writeLock().lock();
+        try {
+            changed.forEach(catalog::put);
+            watermark = horizon;
+            consistent = catalog.totals().equals(totals);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        //Changed rows are re-read whole, so any remaining difference is a delete, or an insert that kept an older last_update
+        if (!consistent) {
+            rebuild();
+        }
+    }
+
+    private static RowMapper<CatalogFilm> filmRowMapper() {
+        return (rs, rowNum) -> {
+            Array categories = rs.getArray("categories");
+            Set<String> categoryNames = new HashSet<>(Arrays.asList((String[]) categories.getArray()));
+            categories.free();
+            return new CatalogFilm(
+                    rs.getInt("film_id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getString("rating"),
+                    rs.getString("language"),
+                    categoryNames
+            );
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.hieu.dvdrental.catalog;
+
+import com.hieu.dvdrental.film.FilmCatalogFacet;
+import com.hieu.dvdrental.film.FilmRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class FilmCatalogService {
+    private final FilmCatalogIndex filmCatalogIndex;
+    private final FilmRepository filmRepository;
+
+    @Autowired
+    public FilmCatalogService(FilmCatalogIndex filmCatalogIndex, FilmRepository filmRepository) {
+        this.filmCatalogIndex = filmCatalogIndex;
+        this.filmRepository = filmRepository;
+    }
+
+    public CatalogSearchDto searchFilms(String text, String rating, String category, String language, Pageable pageable) {
+        int offset = (int) pageable.getOffset();
+        int limit = pageable.getPageSize();
+        return filmCatalogIndex.search(text, rating, category, language, offset, limit)
+                .orElseGet(() -> searchDatabase(text, rating, category, language, offset, limit));
+    }
+
+    //Filters, counts and paging all run in the database, so a stale index does not pull every film into memory
+    private CatalogSearchDto searchDatabase(String text, String rating, String category, String language, int offset, int limit) {
+        text = blankToNull(text);
+        rating = blankToNull(rating);
+        category = blankToNull(category);
+        language = blankToNull(language);
+
+        List<Integer> ids = filmRepository.findCatalogPage(text, rating, category, language, limit, offset);
+        //A short, non-empty page (or a short first page) already tells the total
+        long total = ids.size() < limit && (offset == 0 || !ids.isEmpty())
+                ? offset + ids.size()
+                : filmRepository.countCatalogMatches(text, rating, category, language);
+
+        //Values in the same case-insensitive order as the index returns them
+        Map<String, Map<String, Integer>> sorted = new LinkedHashMap<>();
+        for (String facet : List.of("rating", "category", "language")) {
+            sorted.put(facet, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        }
+        for (FilmCatalogFacet facet : filmRepository.findCatalogFacets(text, rating, category, language)) {
+            sorted.get(facet.getFacet()).put(facet.getValue(), facet.getCount().intValue());
+        }
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        sorted.forEach((facet, counts) -> facets.put(facet, new LinkedHashMap<>(counts)));
+        return new CatalogSearchDto(ids, (int) total, facets);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
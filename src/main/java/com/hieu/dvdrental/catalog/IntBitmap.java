@@ -0,0 +1,478 @@
+package com.hieu.dvdrental.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints in the roaring layout: values are split by their high 16 bits,
+ * and each chunk is a sorted {@code char[]} while sparse or a 65536-bit bitmap once it holds more
+ * than 4096 values.
+ */
+public final class IntBitmap {
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public static IntBitmap of(int... values) {
+        IntBitmap bitmap = new IntBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insert(i, key, new ArrayContainer());
+        }
+        containers[i] = containers[i].add((char) value);
+    }
+
+    public void remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        Container container = containers[i].remove((char) value);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+        } else {
+            containers[i] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public IntBitmap and(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] == other.keys[j]) {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(keys[i], container);
+                }
+                i++;
+                j++;
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public int andCardinality(IntBitmap other) {
+        int cardinality = 0;
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] == other.keys[j]) {
+                cardinality += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    public IntBitmap or(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0, j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || other.keys[j] < keys[i]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public IntBitmap copy() {
+        IntBitmap result = new IntBitmap();
+        for (int i = 0; i < size; i++) {
+            result.append(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    public int[] toArray(int offset, int limit) {
+        int[] values = new int[Math.max(0, Math.min(limit, cardinality() - offset))];
+        int skipped = 0, filled = 0;
+        for (int i = 0; i < size && filled < values.length; i++) {
+            int cardinality = containers[i].cardinality();
+            if (skipped + cardinality <= offset) {
+                skipped += cardinality;
+                continue;
+            }
+            int high = keys[i] << 16;
+            for (char low : containers[i].toArray()) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                values[filled++] = high | low;
+                if (filled == values.length) {
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int i, char key, Container container) {
+        ensureCapacity();
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = key;
+        containers[i] = container;
+        size++;
+    }
+
+    private void append(char key, Container container) {
+        ensureCapacity();
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+    }
+
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract char[] toArray();
+
+        void forEach(int high, IntConsumer consumer) {
+            for (char low : toArray()) {
+                consumer.accept(high | low);
+            }
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, values.length * 2)));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0, j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] == array.values[j]) {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    } else if (values[i] < array.values[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0, j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] == array.values[j]) {
+                        count++;
+                        i++;
+                        j++;
+                    } else if (values[i] < array.values[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] result = new char[cardinality + array.cardinality];
+            int count = 0, i = 0, j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || array.values[j] < values[i]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(result, count);
+            return count > ARRAY_MAX ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+        }
+
+        @Override
+        char[] toArray() {
+            return Arrays.copyOf(values, cardinality);
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArrayContainer() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            long[] result = new long[words.length];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer intersection = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? intersection.toArrayContainer() : intersection;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & bitmap.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result.add(array.values[i]);
+                }
+                return result;
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                result.words[i] |= bitmap.words[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        char[] toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return values;
+        }
+
+        private ArrayContainer toArrayContainer() {
+            return new ArrayContainer(toArray(), cardinality);
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.hieu.dvdrental.category;
 
 import com.hieu.dvdrental.film.Film;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.Instant;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "category")
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_id_gen")
-    @SequenceGenerator(name = "category_id_gen", sequenceName = "category_category_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "category_id_gen", sequenceName = "category_category_id_seq", allocationSize = 50)
     @Column(name = "category_id", nullable = false)
     private Integer id;
 
@@ -20,6 +26,7 @@ public class Category {
     private String name;
 
     @ColumnDefault("now()")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "last_update", nullable = false, insertable = false, updatable = false)
     private Instant lastUpdate;
 
@@ -7,6 +7,14 @@ public class CategorySummaryDto {
     private String name;
     private Instant lastUpdate;
 
+    public CategorySummaryDto() {}
+
+    public CategorySummaryDto(Integer id, String name, Instant lastUpdate) {
+        this.id = id;
+        this.name = name;
+        this.lastUpdate = lastUpdate;
+    }
+
     public CategorySummaryDto(Category category) {
         this.id = category.getId();
         this.name = category.getName();
@@ -2,16 +2,22 @@ package com.hieu.dvdrental.city;
 
 import com.hieu.dvdrental.country.Country;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "city")
 public class City {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "city_id_gen")
-    @SequenceGenerator(name = "city_id_gen", sequenceName = "city_city_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "city_id_gen", sequenceName = "city_city_id_seq", allocationSize = 50)
     @Column(name = "city_id", nullable = false)
     private Integer id;
 
@@ -23,6 +29,7 @@ public class City {
     private Country country;
 
     @ColumnDefault("now()")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "last_update", nullable = false, insertable = false, updatable = false)
     private Instant lastUpdate;
 
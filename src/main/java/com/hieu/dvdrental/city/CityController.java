@@ -1,5 +1,7 @@
 package com.hieu.dvdrental.city;
 
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorPage;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
@@ -7,13 +9,14 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -29,40 +32,76 @@ public class CityController {
     }
 
     @GetMapping("/cities")
-    public ResponseEntity<Page<CityDto>> getCities(
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+    public ResponseEntity<Slice<CityDto>> getCities(
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(cityService.getAllCities(pageable));
+        String tag = cityService.getCitiesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(cityService.getAllCities(pageable, CountMode.from(count)));
+    }
+
+    @GetMapping(value = "/cities", params = {"after", "!name", "!countryId"})
+    public ResponseEntity<CursorPage<CityDto>> getCitiesAfter(
+            @RequestParam String after,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
+    ) {
+        String tag = cityService.getCitiesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(cityService.getAllCities(after, pageable));
     }
 
     @GetMapping("/cities/{cityId}")
     public ResponseEntity<CityDto> getCityById(
             @PathVariable
             @Positive(message = "Invalid ID")
-            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer cityId
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer cityId,
+            WebRequest request
     ) {
+        String tag = cityService.getCityTag(cityId).orElse(null);
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
         return ResponseEntity.ok(cityService.getCityById(cityId));
     }
 
     @GetMapping(value = "/cities", params = "name")
-    public ResponseEntity<Page<CityDto>> getCitiesByName(
+    public ResponseEntity<Slice<CityDto>> getCitiesByName(
             @RequestParam
             @NotBlank(message = "City name must not be blank")
             @Size(max = 50, message = "City name must not have more than 50 characters") String name,
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(cityService.getCitiesByName(name.trim(), pageable));
+        String tag = cityService.getCitiesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(cityService.getCitiesByName(name.trim(), pageable, CountMode.from(count)));
     }
 
     @GetMapping(value = "/cities", params = "countryId")
-    public ResponseEntity<Page<CityDto>> getCitiesByCountry(
+    public ResponseEntity<Slice<CityDto>> getCitiesByCountry(
             @RequestParam
             @Positive(message = "Invalid country ID")
             @Max(value = Integer.MAX_VALUE - 1, message = "Invalid country ID")
             Integer countryId,
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(cityService.getCitiesByCountry(countryId, pageable));
+        String tag = cityService.getCitiesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(cityService.getCitiesByCountry(countryId, pageable, CountMode.from(count)));
     }
 
     @PostMapping("/cities")
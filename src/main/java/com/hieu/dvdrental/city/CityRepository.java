@@ -1,11 +1,29 @@
 package com.hieu.dvdrental.city;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CityRepository extends JpaRepository<City, Integer> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsById(Integer id);
     boolean existsByCountryId(Integer id);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<City> findByNameContainingIgnoreCase(String name, Pageable pageable);
     Page<City> findByCountryId(Integer id, Pageable pageable);
+    Slice<City> findSliceBy(Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Slice<City> findSliceByNameContainingIgnoreCase(String name, Pageable pageable);
+    Slice<City> findSliceByCountryId(Integer id, Pageable pageable);
+    Window<City> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    Window<City> findByNameGreaterThanEqual(String name, ScrollPosition position, Sort sort, Limit limit);
 }
\ No newline at end of file
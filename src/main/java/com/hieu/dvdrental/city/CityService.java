@@ -2,25 +2,40 @@ package com.hieu.dvdrental.city;
 
 import com.hieu.dvdrental.address.AddressRepository;
 import com.hieu.dvdrental.country.CountryRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import com.hieu.dvdrental.pagination.KeysetBound;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class CityService {
     private final CityRepository cityRepository;
     private final CityMapper cityMapper;
     private final AddressRepository addressRepository;
     private final CountryRepository countryRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final EntityTags entityTags;
 
     @Autowired
-    public CityService(CityRepository cityRepository, CityMapper cityMapper, AddressRepository addressRepository, CountryRepository countryRepository) {
+    public CityService(CityRepository cityRepository, CityMapper cityMapper, AddressRepository addressRepository, CountryRepository countryRepository, RowCountEstimator rowCountEstimator, EntityTags entityTags) {
         this.cityRepository = cityRepository;
         this.cityMapper = cityMapper;
         this.addressRepository = addressRepository;
         this.countryRepository = countryRepository;
+        this.rowCountEstimator = rowCountEstimator;
+        this.entityTags = entityTags;
     }
 
     public CityDto getCityById(int id) {
@@ -29,16 +44,37 @@ public class CityService {
                 .orElseThrow(() -> new EntityNotFoundException("City with id " + id + " not found"));
     }
 
-    public Page<CityDto> getAllCities(Pageable pageable) {
-        return cityRepository.findAll(pageable).map(cityMapper::toDto);
+    public Slice<CityDto> getAllCities(Pageable pageable, CountMode count) {
+        return count.<City>fetch(
+                () -> cityRepository.findAll(pageable),
+                () -> cityRepository.findSliceBy(pageable),
+                () -> rowCountEstimator.estimateTable("city")
+        ).map(cityMapper::toDto);
+    }
+
+    public CursorPage<CityDto> getAllCities(String after, Pageable pageable) {
+        KeysetScrollPosition position = CursorCodec.decode(after);
+        Limit limit = Limit.of(pageable.getPageSize());
+        Window<City> cities = KeysetBound.lowerBound(position, pageable.getSort(), "name")
+                .map(name -> cityRepository.findByNameGreaterThanEqual(name, position, pageable.getSort(), limit))
+                .orElseGet(() -> cityRepository.findAllBy(position, pageable.getSort(), limit));
+        return CursorPage.of(cities.map(cityMapper::toDto), pageable.getPageSize());
     }
 
-    public Page<CityDto> getCitiesByName(String name, Pageable pageable) {
-        return cityRepository.findByNameContainingIgnoreCase(name, pageable).map(cityMapper::toDto);
+    public Slice<CityDto> getCitiesByName(String name, Pageable pageable, CountMode count) {
+        return count.<City>fetch(
+                () -> cityRepository.findByNameContainingIgnoreCase(name, pageable),
+                () -> cityRepository.findSliceByNameContainingIgnoreCase(name, pageable),
+                () -> rowCountEstimator.estimateQuery("SELECT 1 FROM city WHERE UPPER(city) LIKE UPPER(?)", RowCountEstimator.containing(name))
+        ).map(cityMapper::toDto);
     }
 
-    public Page<CityDto> getCitiesByCountry(Integer countryId, Pageable pageable) {
-        return cityRepository.findByCountryId(countryId, pageable).map(cityMapper::toDto);
+    public Slice<CityDto> getCitiesByCountry(Integer countryId, Pageable pageable, CountMode count) {
+        return count.<City>fetch(
+                () -> cityRepository.findByCountryId(countryId, pageable),
+                () -> cityRepository.findSliceByCountryId(countryId, pageable),
+                () -> rowCountEstimator.estimateQuery("SELECT 1 FROM city WHERE country_id = ?", countryId)
+        ).map(cityMapper::toDto);
     }
 
     public Integer addCity(CityDto cityDto) {
@@ -70,5 +106,12 @@ public class CityService {
         }
         cityRepository.deleteById(id);
     }
-}
 
+    public String getCitiesTag() {
+        return entityTags.forTables("city", "country");
+    }
+
+    public Optional<String> getCityTag(int id) {
+        return entityTags.forRow("SELECT GREATEST(ci.last_update, co.last_update) FROM city ci JOIN country co ON co.country_id = ci.country_id WHERE ci.city_id = ?", id);
+    }
+}
@@ -1,16 +1,22 @@
 package com.hieu.dvdrental.country;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "country")
 public class Country {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "country_id_gen")
-    @SequenceGenerator(name = "country_id_gen", sequenceName = "country_country_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "country_id_gen", sequenceName = "country_country_id_seq", allocationSize = 50)
     @Column(name = "country_id", nullable = false, updatable = false)
     private Integer id;
 
@@ -18,6 +24,7 @@ public class Country {
     private String name;
 
     @ColumnDefault("now()")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "last_update", nullable = false, insertable = false, updatable = false)
     private Instant lastUpdate;
 
@@ -1,17 +1,20 @@
 package com.hieu.dvdrental.country;
 
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorPage;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -27,29 +30,59 @@ public class CountryController {
     }
 
     @GetMapping("/countries")
-    public ResponseEntity<Page<CountryDto>> getCountries(
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+    public ResponseEntity<Slice<CountryDto>> getCountries(
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(countryService.getAllCountries(pageable));
+        String tag = countryService.getCountriesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(countryService.getAllCountries(pageable, CountMode.from(count)));
+    }
+
+    @GetMapping(value = "/countries", params = {"after", "!name"})
+    public ResponseEntity<CursorPage<CountryDto>> getCountriesAfter(
+            @RequestParam String after,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
+    ) {
+        String tag = countryService.getCountriesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(countryService.getAllCountries(after, pageable));
     }
 
     @GetMapping("/countries/{countryId}")
     public ResponseEntity<CountryDto> getCountryById(
             @PathVariable
             @Positive(message = "Invalid ID")
-            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer countryId
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer countryId,
+            WebRequest request
     ) {
+        String tag = countryService.getCountryTag(countryId).orElse(null);
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
         return ResponseEntity.ok(countryService.getCountryById(countryId));
     }
 
     @GetMapping(value = "/countries", params = "name")
-    public ResponseEntity<Page<CountryDto>> getCountriesByName(
+    public ResponseEntity<Slice<CountryDto>> getCountriesByName(
             @RequestParam
             @NotBlank(message = "Country name must not be blank")
             @Size(max = 50, message = "Country name must not have more than 50 characters") String name,
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(countryService.getCountriesByName(name.trim(), pageable));
+        String tag = countryService.getCountriesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(countryService.getCountriesByName(name.trim(), pageable, CountMode.from(count)));
     }
 
     @PostMapping("/countries")
@@ -1,23 +1,38 @@
 package com.hieu.dvdrental.country;
 
 import com.hieu.dvdrental.city.CityRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import com.hieu.dvdrental.pagination.KeysetBound;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class CountryService {
     private final CountryRepository countryRepository;
     private final CountryMapper countryMapper;
     private final CityRepository cityRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final EntityTags entityTags;
 
     @Autowired
-    public CountryService(CountryRepository countryRepository, CountryMapper countryMapper, CityRepository cityRepository) {
+    public CountryService(CountryRepository countryRepository, CountryMapper countryMapper, CityRepository cityRepository, RowCountEstimator rowCountEstimator, EntityTags entityTags) {
         this.countryRepository = countryRepository;
         this.countryMapper = countryMapper;
         this.cityRepository = cityRepository;
+        this.rowCountEstimator = rowCountEstimator;
+        this.entityTags = entityTags;
     }
 
     public CountryDto getCountryById(int id) {
@@ -26,12 +41,29 @@ public class CountryService {
                 .orElseThrow(() -> new EntityNotFoundException("Country with id " + id + " not found"));
     }
 
-    public Page<CountryDto> getAllCountries(Pageable pageable) {
-        return countryRepository.findAll(pageable).map(countryMapper::toDto);
+    public Slice<CountryDto> getAllCountries(Pageable pageable, CountMode count) {
+        return count.<Country>fetch(
+                () -> countryRepository.findAll(pageable),
+                () -> countryRepository.findSliceBy(pageable),
+                () -> rowCountEstimator.estimateTable("country")
+        ).map(countryMapper::toDto);
+    }
+
+    public CursorPage<CountryDto> getAllCountries(String after, Pageable pageable) {
+        KeysetScrollPosition position = CursorCodec.decode(after);
+        Limit limit = Limit.of(pageable.getPageSize());
+        Window<Country> countries = KeysetBound.lowerBound(position, pageable.getSort(), "name")
+                .map(name -> countryRepository.findByNameGreaterThanEqual(name, position, pageable.getSort(), limit))
+                .orElseGet(() -> countryRepository.findAllBy(position, pageable.getSort(), limit));
+        return CursorPage.of(countries.map(countryMapper::toDto), pageable.getPageSize());
     }
 
-    public Page<CountryDto> getCountriesByName(String name, Pageable pageable) {
-        return countryRepository.findByNameContainingIgnoreCase(name, pageable).map(countryMapper::toDto);
+    public Slice<CountryDto> getCountriesByName(String name, Pageable pageable, CountMode count) {
+        return count.<Country>fetch(
+                () -> countryRepository.findByNameContainingIgnoreCase(name, pageable),
+                () -> countryRepository.findSliceByNameContainingIgnoreCase(name, pageable),
+                () -> rowCountEstimator.estimateQuery("SELECT 1 FROM country WHERE UPPER(country) LIKE UPPER(?)", RowCountEstimator.containing(name))
+        ).map(countryMapper::toDto);
     }
 
     public Integer addCountry(CountryDto countryDto) {
@@ -56,4 +88,12 @@ public class CountryService {
         }
         countryRepository.deleteById(id);
     }
+
+    public String getCountriesTag() {
+        return entityTags.forTables("country");
+    }
+
+    public Optional<String> getCountryTag(int id) {
+        return entityTags.forRow("SELECT last_update FROM country WHERE country_id = ?", id);
+    }
 }
@@ -0,0 +1,95 @@
+package com.hieu.dvdrental.datagen;
+
+/**
+ * How much synthetic data to generate. Every row is derived from {@code seed} and its own id, so the same plan
+ * produces the same database regardless of {@code parallelism}.
+ */
+public class DataGenPlan {
+    private final long seed;
+    private final int countries;
+    private final int cities;
+    private final int actors;
+    private final int films;
+    private final int stores;
+    private final int customers;
+    private final long rentals;
+    private final int parallelism;
+    private final boolean replaceExisting;
+
+    public DataGenPlan(long seed, int countries, int cities, int actors, int films, int stores, int customers, long rentals,
+                       int parallelism, boolean replaceExisting) {
+        require(countries > 0 && countries <= SyntheticDataset.maxCountries(), "Countries must be between 1 and " + SyntheticDataset.maxCountries());
+        require(cities > 0, "Cities must be positive");
+        require(actors >= 10, "Actors must be at least 10");
+        require(films > 0, "Films must be positive");
+        require(stores > 0, "Stores must be positive");
+        require(customers > 0, "Customers must be positive");
+        require(rentals >= 0 && rentals < Integer.MAX_VALUE, "Rentals must be between 0 and " + (Integer.MAX_VALUE - 1));
+        require(parallelism > 0, "Parallelism must be positive");
+        this.seed = seed;
+        this.countries = countries;
+        this.cities = cities;
+        this.actors = actors;
+        this.films = films;
+        this.stores = stores;
+        this.customers = customers;
+        this.rentals = rentals;
+        this.parallelism = parallelism;
+        this.replaceExisting = replaceExisting;
+    }
+
+    //A few thousand rows, quick enough for test fixtures
+    public static DataGenPlan small(long seed) {
+        return new DataGenPlan(seed, 20, 100, 50, 200, 2, 500, 5_000, 2, true);
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCountries() {
+        return countries;
+    }
+
+    public int getCities() {
+        return cities;
+    }
+
+    public int getActors() {
+        return actors;
+    }
+
+    public int getFilms() {
+        return films;
+    }
+
+    public int getStores() {
+        return stores;
+    }
+
+    public int getStaff() {
+        return stores * 2;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public long getRentals() {
+        return rentals;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isReplaceExisting() {
+        return replaceExisting;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hieu.dvdrental.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Command line entry point, active with the {@code datagen} profile. Flyway migrates the schema on startup,
+ * then this generates the configured plan and exits:
+ *
+ * <pre>java -jar dvdrental-exec.jar --spring.profiles.active=datagen --dvdrental.datagen.rentals=1000000</pre>
+ */
+@Component
+@ConditionalOnProperty(name = "dvdrental.datagen.enabled", havingValue = "true")
+public class DataGenRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(DataGenRunner.class);
+    private static final String PREFIX = "dvdrental.datagen.";
+
+    private final SyntheticDataGenerator generator;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+
+    @Autowired
+    public DataGenRunner(SyntheticDataGenerator generator, Environment environment, ConfigurableApplicationContext context) {
+        this.generator = generator;
+        this.environment = environment;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DataGenPlan plan = new DataGenPlan(
+                environment.getProperty(PREFIX + "seed", Long.class, 42L),
+                environment.getProperty(PREFIX + "countries", Integer.class, 109),
+                environment.getProperty(PREFIX + "cities", Integer.class, 600),
+                environment.getProperty(PREFIX + "actors", Integer.class, 20_000),
+                environment.getProperty(PREFIX + "films", Integer.class, 100_000),
+                environment.getProperty(PREFIX + "stores", Integer.class, 2),
+                environment.getProperty(PREFIX + "customers", Integer.class, 1_000_000),
+                environment.getProperty(PREFIX + "rentals", Long.class, 50_000_000L),
+                environment.getProperty(PREFIX + "parallelism", Integer.class, Runtime.getRuntime().availableProcessors()),
+                environment.getProperty(PREFIX + "replace-existing", Boolean.class, false)
+        );
+        Map<GeneratedTable, Long> rows = generator.generate(plan);
+        log.info("Rows generated: {}", rows);
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,57 @@
+package com.hieu.dvdrental.datagen;
+
+/**
+ * Tables the generator fills, with the columns it writes and its load phase. A phase only references tables
+ * of earlier phases, so every phase can be loaded in parallel once the previous one has committed.
+ */
+public enum GeneratedTable {
+    LANGUAGE("language", "language_id, name", "language_language_id_seq", 1),
+    CATEGORY("category", "category_id, name", "category_category_id_seq", 1),
+    COUNTRY("country", "country_id, country", "country_country_id_seq", 1),
+    ACTOR("actor", "actor_id, first_name, last_name", "actor_actor_id_seq", 1),
+    CITY("city", "city_id, city, country_id", "city_city_id_seq", 2),
+    FILM("film", "film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, special_features",
+            "film_film_id_seq", 2),
+    ADDRESS("address", "address_id, address, district, city_id, postal_code, phone", "address_address_id_seq", 3),
+    FILM_ACTOR("film_actor", "actor_id, film_id", null, 3),
+    FILM_CATEGORY("film_category", "film_id, category_id", null, 3),
+    STAFF("staff", "staff_id, first_name, last_name, address_id, email, store_id, active, username", "staff_staff_id_seq", 4),
+    CUSTOMER("customer", "customer_id, store_id, first_name, last_name, email, address_id, activebool, create_date, active",
+            "customer_customer_id_seq", 4),
+    INVENTORY("inventory", "inventory_id, film_id, store_id", "inventory_inventory_id_seq", 4),
+    STORE("store", "store_id, manager_staff_id, address_id", "store_store_id_seq", 5),
+    RENTAL("rental", "rental_id, rental_date, inventory_id, customer_id, return_date, staff_id", "rental_rental_id_seq", 6),
+    PAYMENT("payment", "payment_id, customer_id, staff_id, rental_id, amount, payment_date", "payment_payment_id_seq", 7);
+
+    private final String tableName;
+    private final String columns;
+    private final String sequenceName;
+    private final int phase;
+
+    GeneratedTable(String tableName, String columns, String sequenceName, int phase) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.sequenceName = sequenceName;
+        this.phase = phase;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public String getIdColumn() {
+        return columns.substring(0, columns.indexOf(','));
+    }
+}
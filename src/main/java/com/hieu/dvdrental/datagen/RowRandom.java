@@ -0,0 +1,47 @@
+package com.hieu.dvdrental.datagen;
+
+/**
+ * SplitMix64 stream keyed by seed, table and row id. Reset per row so a row never depends on the rows
+ * generated before it, which is what makes chunked, parallel generation deterministic.
+ */
+final class RowRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    RowRandom reset(long seed, int stream, long id) {
+        state = mix(seed ^ mix(stream * GOLDEN_GAMMA + id));
+        return this;
+    }
+
+    long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    int nextInt(int bound) {
+        return (int) ((nextLong() >>> 1) % bound);
+    }
+
+    int nextInt(int from, int to) {
+        return from + nextInt(to - from + 1);
+    }
+
+    double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    <T> T pick(T[] values) {
+        return values[nextInt(values.length)];
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
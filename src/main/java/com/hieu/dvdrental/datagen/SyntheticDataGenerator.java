@@ -0,0 +1,138 @@
+package com.hieu.dvdrental.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Loads a {@link SyntheticDataset} with {@code COPY FROM STDIN}. Tables of one phase load concurrently, and
+ * tables above {@value #CHUNK_ROWS} rows are split into id ranges that load concurrently too, each on its own
+ * connection and transaction. Usable from fixtures and benchmarks as {@code new SyntheticDataGenerator(dataSource)}.
+ */
+@Service
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final long CHUNK_ROWS = 1_000_000;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Map<GeneratedTable, Long> generate(DataGenPlan plan) {
+        long started = System.nanoTime();
+        SyntheticDataset dataset = new SyntheticDataset(plan);
+        prepare(plan);
+
+        Map<GeneratedTable, Long> rows = new EnumMap<>(GeneratedTable.class);
+        SortedMap<Integer, List<GeneratedTable>> phases = Arrays.stream(GeneratedTable.values())
+                .collect(Collectors.groupingBy(GeneratedTable::getPhase, TreeMap::new, Collectors.toList()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(plan.getParallelism())) {
+            for (List<GeneratedTable> tables : phases.values()) {
+                Map<GeneratedTable, List<Future<Long>>> chunks = new EnumMap<>(GeneratedTable.class);
+                for (GeneratedTable table : tables) {
+                    long keys = dataset.keyCount(table);
+                    long chunkCount = Math.clamp((keys + CHUNK_ROWS - 1) / CHUNK_ROWS, 1, plan.getParallelism());
+                    long chunkSize = (keys + chunkCount - 1) / chunkCount;
+                    for (long from = 1; from <= keys; from += chunkSize) {
+                        long start = from;
+                        long end = Math.min(keys + 1, from + chunkSize);
+                        chunks.computeIfAbsent(table, key -> new ArrayList<>()).add(executor.submit(() -> copy(dataset, table, start, end)));
+                    }
+                }
+                chunks.forEach((table, futures) -> rows.put(table, futures.stream().mapToLong(SyntheticDataGenerator::await).sum()));
+                log.info("Generated {}", tables.stream().map(table -> table.getTableName() + "=" + rows.getOrDefault(table, 0L)).toList());
+            }
+        }
+
+        finish();
+        log.info("Synthetic data generated in {} s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        return rows;
+    }
+
+    private void prepare(DataGenPlan plan) {
+        List<GeneratedTable> tables = Arrays.asList(GeneratedTable.values());
+        if (plan.isReplaceExisting()) {
+            jdbcTemplate.execute("TRUNCATE " + tables.stream().map(GeneratedTable::getTableName).collect(Collectors.joining(", ")) +
+                    " RESTART IDENTITY CASCADE");
+        } else {
+            for (GeneratedTable table : tables) {
+                if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + table.getTableName() + ")", Boolean.class))) {
+                    throw new IllegalStateException("Table " + table.getTableName() + " already contains rows, generate into an empty database or replace existing data");
+                }
+            }
+        }
+        //Payments are dated on return, at most a month after the last rental; without partitions they would all land in payment_default
+        jdbcTemplate.queryForObject("SELECT create_payment_partitions(?, ?)", Integer.class,
+                SyntheticDataset.RENTALS_FROM.toLocalDate(), SyntheticDataset.RENTALS_TO.plusMonths(1).toLocalDate());
+    }
+
+    private long copy(SyntheticDataset dataset, GeneratedTable table, long from, long to) {
+        String sql = "COPY " + table.getTableName() + " (" + table.getColumns() + ") FROM STDIN";
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                //Nothing is lost if the server crashes mid-load, the generator is simply run again
+                statement.execute("SET LOCAL synchronous_commit = off");
+            }
+            long rows;
+            try (PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), BUFFER_SIZE);
+                dataset.write(table, from, to, writer);
+                writer.flush();
+                rows = copy.endCopy();
+            }
+            connection.commit();
+            return rows;
+        } catch (SQLException ex) {
+            throw new UncategorizedSQLException("COPY", sql, ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void finish() {
+        for (GeneratedTable table : GeneratedTable.values()) {
+            if (table.getSequenceName() != null) {
+                jdbcTemplate.queryForList("SELECT setval('" + table.getSequenceName() + "', COALESCE(MAX(" + table.getIdColumn() + "), 0) + 1, false) FROM " +
+                        table.getTableName());
+            }
+            //Sets the visibility map as well, so index-only scans work right away
+            jdbcTemplate.execute("VACUUM (ANALYZE) " + table.getTableName());
+        }
+    }
+
+    private static long await(Future<Long> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating data", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.hieu.dvdrental.datagen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Produces the rows of a {@link DataGenPlan} in {@code COPY} text format. Popularity is Zipfian: a few films
+ * get most of the rentals and hold the most inventory, a few actors appear in many films, a few customers
+ * rent far more than the rest and a few cities hold most addresses.
+ *
+ * <p>Rental ids are chronological between {@link #RENTALS_FROM} and {@link #RENTALS_TO}. Every rental has one
+ * payment with the same id. Copies are drawn independently per rental, so only the last rental of a copy can be
+ * open: it is when it would be returned after {@link #RENTALS_TO}, and is paid at checkout at the film's rate.
+ */
+public class SyntheticDataset {
+    public static final LocalDateTime RENTALS_FROM = LocalDateTime.of(2022, 1, 1, 0, 0);
+    public static final LocalDateTime RENTALS_TO = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    //COPY text format's null
+    private static final String NULL = "\\N";
+
+    private static final String[] COUNTRY_CODES = Locale.getISOCountries();
+    private static final String[] LANGUAGES = {"English", "Italian", "Japanese", "Mandarin", "French", "German"};
+    private static final String[] CATEGORIES = {"Action", "Animation", "Children", "Classics", "Comedy", "Documentary", "Drama", "Family",
+            "Foreign", "Games", "Horror", "Music", "New", "Sci-Fi", "Sports", "Travel"};
+    private static final int[] RENTAL_RATE_CENTS = {99, 299, 499};
+    private static final String[] RATINGS = {"G", "PG", "PG_13", "R", "NC_17"};
+    private static final String[] FEATURES = {"Trailers", "Commentaries", "Deleted Scenes", "Behind the Scenes"};
+    private static final String[] FIRST_NAMES = {"Mary", "Patricia", "Linda", "Barbara", "Elizabeth", "Jennifer", "Maria", "Susan", "Margaret",
+            "Dorothy", "Lisa", "Nancy", "Karen", "Betty", "Helen", "Sandra", "James", "John", "Robert", "Michael", "William", "David",
+            "Richard", "Charles", "Joseph", "Thomas", "Christopher", "Daniel", "Paul", "Mark", "Donald", "George", "Kenneth", "Steven",
+            "Edward", "Brian", "Ronald", "Anthony", "Kevin", "Jason", "Penelope", "Nick", "Ed", "Johnny", "Bette", "Grace"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Jones", "Brown", "Davis", "Miller", "Wilson", "Moore",
+            "Taylor", "Anderson", "Thomas", "Jackson", "White", "Harris", "Martin", "Thompson", "Garcia", "Martinez", "Robinson", "Clark",
+            "Rodriguez", "Lewis", "Lee", "Walker", "Hall", "Allen", "Young", "Hernandez", "King", "Wright", "Lopez", "Hill", "Scott",
+            "Green", "Adams", "Baker", "Gonzalez", "Nelson", "Carter", "Guiness", "Wahlberg", "Chase", "Lollobrigida", "Nicholson"};
+    private static final String[] ADJECTIVES = {"Academy", "Ace", "Adaptation", "Affair", "African", "Agent", "Airplane", "Alabama", "Aladdin",
+            "Alamo", "Alaska", "Ali", "Alien", "Alley", "Alone", "Amadeus", "Amelie", "American", "Amistad", "Anaconda", "Angels", "Annie",
+            "Anonymous", "Anthem", "Antitrust", "Apache", "Apocalypse", "Arabia", "Arachnophobia", "Arizona", "Arsenic", "Artist",
+            "Attacks", "Attraction", "Bang", "Barefoot", "Beauty", "Bed", "Beverly", "Bilko", "Birds", "Blade", "Blanket", "Blues"};
+    private static final String[] NOUNS = {"Dinosaur", "Goldfinger", "Holes", "Prejudice", "Egg", "Truman", "Tomorrow", "Jericho", "Calendar",
+            "Champion", "Antarctica", "Trojan", "Revolution", "Armageddon", "Trip", "Mockingbird", "Trouble", "Grail", "Islands", "Outbreak",
+            "Graffiti", "Reincarnation", "Mob", "Maker", "Giant", "Kill", "Racer", "Divine", "Lifeboat", "Kwai", "Lust", "Blanket",
+            "Heaven", "Hall", "Ladies", "Fury", "Dragon", "Brotherhood", "Sensibility", "Crossing", "Rocky", "Hunger", "Dream"};
+    private static final String[] ROLES = {"Dentist", "Forensic Psychologist", "Cat", "Moose", "Boat", "Database Administrator", "Lumberjack",
+            "Woman", "Man", "Monkey", "Mad Scientist", "Student", "Composer", "Frisbee", "Astronaut", "Pastry Chef", "Crocodile", "Feminist",
+            "Technical Writer", "Squirrel", "Robot", "Teacher", "Butler", "Shark", "Explorer", "Boy", "Girl", "Car", "Secret Agent", "Hunter"};
+    private static final String[] ADJECTIVES_DESCRIPTION = {"Epic", "Thoughtful", "Astounding", "Fanciful", "Boring", "Action-Packed",
+            "Insightful", "Brilliant", "Touching", "Emotional", "Intrepid", "Unbelieveable", "Stunning", "Beautiful", "Awe-Inspiring",
+            "Fast-Paced", "Lacklusture", "Taut", "Amazing", "Exciting"};
+    private static final String[] GENRES = {"Drama", "Documentary", "Story", "Saga", "Yarn", "Tale", "Panorama", "Reflection", "Character Study",
+            "Display", "Epistle", "Drama", "Documentary"};
+    private static final String[] VERBS = {"Outrace", "Battle", "Find", "Chase", "Kill", "Build", "Conquer", "Defeat", "Discover",
+            "Face", "Fight", "Meet", "Outgun", "Overcome", "Pursue", "Redeem", "Reach", "Sink", "Succumb", "Vanquish"};
+    private static final String[] PLACES = {"The Gulf of Mexico", "A Jet Boat", "The Canadian Rockies", "An Abandoned Fun House", "A Shark Tank",
+            "A MySQL Convention", "Ancient China", "A Baloon", "Soviet Georgia", "The Outback", "A U-Boat", "Berlin", "Nigeria",
+            "The First Manned Space Station", "An Abandoned Mine Shaft", "A Monastery", "Ancient India", "A Manhattan Penthouse"};
+    private static final String[] STREETS = {"MySakila", "Lethbridge", "Workhaven", "Hanoi", "Bhopal", "Santa Rosa", "Zhengzhou", "Osmaniye",
+            "Pangkal Pinang", "Baybay", "Mosul", "Kabul", "Amroha", "Tama", "Salala", "Alberta", "Varanasi", "Kermanshah", "Bandar Seri"};
+    private static final String[] STREET_SUFFIXES = {"Street", "Avenue", "Drive", "Lane", "Way", "Parkway", "Boulevard", "Loop", "Manor", "Place"};
+    private static final String[] SYLLABLES = {"ka", "lo", "ma", "ri", "san", "to", "ven", "bar", "ne", "shi", "ya", "do", "qu", "el",
+            "gra", "mon", "ta", "li", "ur", "zen", "po", "ha", "vi", "ro"};
+
+    private final DataGenPlan plan;
+    private final ZipfDistribution countryPopularity;
+    private final ZipfDistribution cityPopularity;
+    private final ZipfDistribution actorPopularity;
+    private final ZipfDistribution filmPopularity;
+    private final ZipfDistribution customerActivity;
+    private final byte[] filmRentalDuration;
+    private final short[] filmRentalRateCents;
+    private final int[] filmInventoryStart;
+    private final long rentalStepMicros;
+    //Highest rental id per inventory id, computed on first use since only rental and payment rows need it
+    private volatile int[] lastRentalOfInventory;
+
+    public SyntheticDataset(DataGenPlan plan) {
+        this.plan = plan;
+        long seed = plan.getSeed();
+        countryPopularity = new ZipfDistribution(plan.getCountries(), 1.0, seed + 1);
+        cityPopularity = new ZipfDistribution(plan.getCities(), 0.9, seed + 2);
+        actorPopularity = new ZipfDistribution(plan.getActors(), 0.8, seed + 3);
+        filmPopularity = new ZipfDistribution(plan.getFilms(), 1.0, seed + 4);
+        customerActivity = new ZipfDistribution(plan.getCustomers(), 0.6, seed + 5);
+
+        int films = plan.getFilms();
+        filmRentalDuration = new byte[films + 1];
+        filmRentalRateCents = new short[films + 1];
+        RowRandom random = new RowRandom();
+        for (int filmId = 1; filmId <= films; filmId++) {
+            random.reset(seed, GeneratedTable.FILM.ordinal(), filmId);
+            filmRentalDuration[filmId] = (byte) random.nextInt(3, 7);
+            filmRentalRateCents[filmId] = (short) RENTAL_RATE_CENTS[random.nextInt(RENTAL_RATE_CENTS.length)];
+        }
+
+        //Popular films stock more copies: 8 for the top 1%, 5 for the top 10%, 3 for the top half, otherwise 1 or 2
+        int[] rankByFilm = new int[films + 1];
+        int[] idsByRank = filmPopularity.idsByRank();
+        for (int rank = 0; rank < idsByRank.length; rank++) {
+            rankByFilm[idsByRank[rank]] = rank;
+        }
+        filmInventoryStart = new int[films + 2];
+        filmInventoryStart[1] = 1;
+        for (int filmId = 1; filmId <= films; filmId++) {
+            double percentile = (double) rankByFilm[filmId] / films;
+            int copies = percentile < 0.01 ? 8 : percentile < 0.1 ? 5 : percentile < 0.5 ? 3 : 1 + (filmId & 1);
+            filmInventoryStart[filmId + 1] = filmInventoryStart[filmId] + copies;
+        }
+
+        long spanMicros = ChronoUnit.MICROS.between(RENTALS_FROM, RENTALS_TO);
+        rentalStepMicros = Math.max(1, spanMicros / Math.max(1, plan.getRentals()));
+    }
+
+    public static int maxCountries() {
+        return COUNTRY_CODES.length;
+    }
+
+    //Rows are keyed by id, except film_actor and film_category which are keyed by film id
+    public long keyCount(GeneratedTable table) {
+        return switch (table) {
+            case LANGUAGE -> LANGUAGES.length;
+            case CATEGORY -> CATEGORIES.length;
+            case COUNTRY -> plan.getCountries();
+            case CITY -> plan.getCities();
+            case ACTOR -> plan.getActors();
+            case FILM, FILM_ACTOR, FILM_CATEGORY -> plan.getFilms();
+            case ADDRESS -> (long) plan.getCustomers() + plan.getStaff() + plan.getStores();
+            case STAFF -> plan.getStaff();
+            case STORE -> plan.getStores();
+            case CUSTOMER -> plan.getCustomers();
+            case INVENTORY -> filmInventoryStart[plan.getFilms() + 1] - 1L;
+            case RENTAL, PAYMENT -> plan.getRentals();
+        };
+    }
+
+    //Writes the rows with keys from (inclusive) to (exclusive)
+    public void write(GeneratedTable table, long from, long to, Writer out) throws IOException {
+        RowRandom random = new RowRandom();
+        StringBuilder row = new StringBuilder(256);
+        Rental rental = new Rental();
+        for (long key = from; key < to; key++) {
+            random.reset(plan.getSeed(), table.ordinal(), key);
+            row.setLength(0);
+            int id = (int) key;
+            switch (table) {
+                case LANGUAGE -> row(row, id, LANGUAGES[id - 1]);
+                case CATEGORY -> row(row, id, CATEGORIES[id - 1]);
+                case COUNTRY -> row(row, id, Locale.of("", COUNTRY_CODES[id - 1]).getDisplayCountry(Locale.ENGLISH));
+                case CITY -> row(row, id, cityName(random), countryPopularity.sample(random));
+                case ACTOR -> row(row, id, random.pick(FIRST_NAMES), random.pick(LAST_NAMES));
+                case FILM -> film(row, id, random);
+                case ADDRESS -> row(row, id, random.nextInt(1, 1999) + " " + random.pick(STREETS) + " " + random.pick(STREET_SUFFIXES),
+                        random.pick(STREETS), cityPopularity.sample(random), String.format("%05d", random.nextInt(100000)),
+                        Long.toString(100000000000L + (random.nextLong() >>> 1) % 900000000000L));
+                case FILM_ACTOR -> filmActors(row, id, random);
+                case FILM_CATEGORY -> filmCategories(row, id, random);
+                case STAFF -> staff(row, id, random);
+                case CUSTOMER -> customer(row, id, random);
+                case INVENTORY -> row(row, id, filmOfInventory(id), storeOfInventory(id));
+                case STORE -> row(row, id, (id - 1) * 2 + 1, plan.getCustomers() + plan.getStaff() + id);
+                case RENTAL -> {
+                    rental(id, rental);
+                    row(row, id, rental.date, rental.inventoryId, rental.customerId, rental.open ? NULL : rental.returnDate, rental.staffId);
+                }
+                case PAYMENT -> {
+                    rental(id, rental);
+                    row(row, id, rental.customerId, rental.staffId, id, cents(rental.amountCents), rental.open ? rental.date : rental.returnDate);
+                }
+            }
+            out.append(row);
+        }
+    }
+
+    private void film(StringBuilder row, int id, RowRandom random) {
+        //Same draws as the constructor, so duration and rate match the precomputed arrays
+        random.nextLong();
+        random.nextLong();
+        int combinations = ADJECTIVES.length * NOUNS.length;
+        int index = (id - 1) % combinations;
+        String title = ADJECTIVES[index / NOUNS.length] + " " + NOUNS[index % NOUNS.length] + (id > combinations ? " " + (id - 1) / combinations : "");
+        String description = "A " + random.pick(ADJECTIVES_DESCRIPTION) + " " + random.pick(GENRES) + " of a " + random.pick(ROLES) +
+                " And a " + random.pick(ROLES) + " who must " + random.pick(VERBS) + " a " + random.pick(ROLES) + " in " + random.pick(PLACES);
+        int languageId = random.chance(0.9) ? 1 : random.nextInt(2, LANGUAGES.length);
+        StringBuilder features = new StringBuilder("{");
+        for (String feature : FEATURES) {
+            if (random.chance(0.5)) {
+                features.append(features.length() > 1 ? "," : "").append('"').append(feature).append('"');
+            }
+        }
+        features.append('}');
+        row(row, id, title, description, random.nextInt(1990, 2024), languageId, filmRentalDuration[id], cents(filmRentalRateCents[id]),
+                random.nextInt(46, 185), cents(random.nextInt(9, 29) * 100 + 99), random.pick(RATINGS), features);
+    }
+
+    private void filmActors(StringBuilder row, int filmId, RowRandom random) {
+        int count = Math.min(random.nextInt(3, 10), plan.getActors());
+        int[] chosen = new int[count];
+        for (int i = 0; i < count; i++) {
+            int actorId;
+            do {
+                actorId = actorPopularity.sample(random);
+            } while (contains(chosen, i, actorId));
+            chosen[i] = actorId;
+            row(row, actorId, filmId);
+        }
+    }
+
+    private void filmCategories(StringBuilder row, int filmId, RowRandom random) {
+        int first = random.nextInt(1, CATEGORIES.length);
+        row(row, filmId, first);
+        if (random.chance(0.2)) {
+            int second = random.nextInt(1, CATEGORIES.length);
+            if (second != first) {
+                row(row, filmId, second);
+            }
+        }
+    }
+
+    private void staff(StringBuilder row, int id, RowRandom random) {
+        String firstName = random.pick(FIRST_NAMES);
+        String lastName = random.pick(LAST_NAMES);
+        row(row, id, firstName, lastName, plan.getCustomers() + id, (firstName + "." + lastName + id).toLowerCase(Locale.ROOT) + "@example.com",
+                (id - 1) / 2 + 1, "t", "staff" + id);
+    }
+
+    private void customer(StringBuilder row, int id, RowRandom random) {
+        String firstName = random.pick(FIRST_NAMES);
+        String lastName = random.pick(LAST_NAMES);
+        boolean active = random.chance(0.97);
+        row(row, id, random.nextInt(1, plan.getStores()), firstName, lastName,
+                (firstName + "." + lastName + "." + id).toLowerCase(Locale.ROOT) + "@example.org", id,
+                active ? "t" : "f", LocalDate.of(2021, 1, 1).plusDays(random.nextInt(365)), active ? 1 : 0);
+    }
+
+    //Derived from the rental id alone, so the payment loader can rebuild the rental it pays for
+    private void rental(int rentalId, Rental rental) {
+        RowRandom random = rental.random.reset(plan.getSeed(), GeneratedTable.RENTAL.ordinal(), rentalId);
+        int filmId = filmPopularity.sample(random);
+        int copies = filmInventoryStart[filmId + 1] - filmInventoryStart[filmId];
+        rental.inventoryId = filmInventoryStart[filmId] + random.nextInt(copies);
+        rental.customerId = customerActivity.sample(random);
+        rental.staffId = (storeOfInventory(rental.inventoryId) - 1) * 2 + 1 + random.nextInt(2);
+        rental.date = RENTALS_FROM.plus((rentalId - 1) * rentalStepMicros + (random.nextLong() >>> 1) % rentalStepMicros, ChronoUnit.MICROS);
+
+        int duration = filmRentalDuration[filmId];
+        int days = random.nextInt(1, duration + 4);
+        rental.returnDate = rental.date.plusDays(days).plusHours(random.nextInt(24));
+        rental.open = rental.returnDate.isAfter(RENTALS_TO) && lastRentalOfInventory()[rental.inventoryId] == rentalId;
+        rental.amountCents = filmRentalRateCents[filmId] + (rental.open ? 0 : Math.max(0, days - duration) * 100);
+    }
+
+    private int[] lastRentalOfInventory() {
+        int[] last = lastRentalOfInventory;
+        if (last == null) {
+            synchronized (this) {
+                last = lastRentalOfInventory;
+                if (last == null) {
+                    last = new int[filmInventoryStart[plan.getFilms() + 1]];
+                    RowRandom random = new RowRandom();
+                    for (int rentalId = 1; rentalId <= plan.getRentals(); rentalId++) {
+                        //Same draws as rental(), so each rental lands on the same copy
+                        random.reset(plan.getSeed(), GeneratedTable.RENTAL.ordinal(), rentalId);
+                        int filmId = filmPopularity.sample(random);
+                        int copies = filmInventoryStart[filmId + 1] - filmInventoryStart[filmId];
+                        last[filmInventoryStart[filmId] + random.nextInt(copies)] = rentalId;
+                    }
+                    lastRentalOfInventory = last;
+                }
+            }
+        }
+        return last;
+    }
+
+    private int filmOfInventory(int inventoryId) {
+        int index = Arrays.binarySearch(filmInventoryStart, 1, filmInventoryStart.length, inventoryId);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int storeOfInventory(int inventoryId) {
+        return 1 + (inventoryId - 1) % plan.getStores();
+    }
+
+    private String cityName(RowRandom random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = random.nextInt(2, 4);
+        for (int i = 0; i < syllables; i++) {
+            name.append(random.pick(SYLLABLES));
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String cents(int cents) {
+        return cents / 100 + "." + (cents % 100 < 10 ? "0" : "") + cents % 100;
+    }
+
+    private static void row(StringBuilder row, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append('\t');
+            }
+            row.append(values[i]);
+        }
+        row.append('\n');
+    }
+
+    private static final class Rental {
+        private final RowRandom random = new RowRandom();
+        private int inventoryId;
+        private int customerId;
+        private int staffId;
+        private LocalDateTime date;
+        private LocalDateTime returnDate;
+        private boolean open;
+        private int amountCents;
+    }
+}
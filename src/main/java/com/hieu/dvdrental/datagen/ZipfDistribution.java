@@ -0,0 +1,48 @@
+package com.hieu.dvdrental.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over ids 1..n. Popularity ranks are assigned to ids through a seeded permutation, so the
+ * most popular ids are spread over the table instead of being the lowest ones.
+ */
+final class ZipfDistribution {
+    private final double[] cumulative;
+    private final int[] idByRank;
+
+    ZipfDistribution(int n, double exponent, long seed) {
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+
+        idByRank = new int[n];
+        Arrays.setAll(idByRank, rank -> rank + 1);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = idByRank[i];
+            idByRank[i] = idByRank[j];
+            idByRank[j] = swap;
+        }
+    }
+
+    int sample(RowRandom random) {
+        return idByRank[rank(random.nextDouble())];
+    }
+
+    int[] idsByRank() {
+        return idByRank.clone();
+    }
+
+    private int rank(double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+}
@@ -13,7 +13,7 @@ import java.time.Instant;
 public class Inventory {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_id_gen")
-    @SequenceGenerator(name = "inventory_id_gen", sequenceName = "inventory_inventory_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "inventory_id_gen", sequenceName = "inventory_inventory_id_seq", allocationSize = 50)
     @Column(name = "inventory_id", nullable = false)
     private Integer id;
 
@@ -10,9 +10,10 @@ import java.time.Instant;
 @Entity
 @Table(name = "payment")
 public class Payment {
+    //The table key is (payment_id, payment_date) as the table is partitioned by date, payment_id alone is unique through its sequence
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_id_gen")
-    @SequenceGenerator(name = "payment_id_gen", sequenceName = "payment_payment_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "payment_id_gen", sequenceName = "payment_payment_id_seq", allocationSize = 50)
     @Column(name = "payment_id", nullable = false)
     private Integer id;
 
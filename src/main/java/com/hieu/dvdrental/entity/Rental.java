@@ -12,7 +12,7 @@ import java.time.Instant;
 public class Rental {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rental_id_gen")
-    @SequenceGenerator(name = "rental_id_gen", sequenceName = "rental_rental_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "rental_id_gen", sequenceName = "rental_rental_id_seq", allocationSize = 50)
     @Column(name = "rental_id", nullable = false)
     private Integer id;
 
@@ -13,7 +13,7 @@ import java.time.Instant;
 public class Staff {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "staff_id_gen")
-    @SequenceGenerator(name = "staff_id_gen", sequenceName = "staff_staff_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "staff_id_gen", sequenceName = "staff_staff_id_seq", allocationSize = 50)
     @Column(name = "staff_id", nullable = false)
     private Integer id;
 
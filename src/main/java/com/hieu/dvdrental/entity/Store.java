@@ -13,7 +13,7 @@ import java.time.Instant;
 public class Store {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_id_gen")
-    @SequenceGenerator(name = "store_id_gen", sequenceName = "store_store_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "store_id_gen", sequenceName = "store_store_id_seq", allocationSize = 50)
     @Column(name = "store_id", nullable = false)
     private Integer id;
 
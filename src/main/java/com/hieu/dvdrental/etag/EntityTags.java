@@ -0,0 +1,67 @@
+package com.hieu.dvdrental.etag;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Weak entity tags. Row tags are read from {@code last_update}, which the {@code last_updated} triggers keep current;
+ * list tags are read from the {@code table_version} counters (V1.9). Either way computing a tag is a primary key
+ * lookup, never a scan of the entities themselves.
+ */
+@Component
+public class EntityTags {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EntityTags(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    //versionSql selects the last_update of the row, and of anything embedded in its representation, by id
+    public Optional<String> forRow(String versionSql, Object id) {
+        return jdbcTemplate.queryForList(versionSql, LocalDateTime.class, id).stream()
+                .findFirst()
+                .map(version -> weak(id + "-" + micros(version)));
+    }
+
+    //Any insert, update, delete or truncate bumps the table's counter, so the tag is the counters in argument order
+    public String forTables(String... tables) {
+        String sql = "SELECT table_name, version FROM table_version WHERE table_name IN (" +
+                Arrays.stream(tables).map(table -> "?").collect(Collectors.joining(", ")) + ")";
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            versions.put(rs.getString("table_name"), rs.getLong("version"));
+        }, (Object[]) tables);
+        List<String> tag = Arrays.stream(tables)
+                .map(table -> {
+                    Long version = versions.get(table);
+                    if (version == null) {
+                        throw new IllegalArgumentException("No version is kept for table " + table);
+                    }
+                    return version.toString();
+                })
+                .toList();
+        return weak(String.join(".", tag));
+    }
+
+    private static long micros(LocalDateTime version) {
+        return version == null ? 0 : ChronoUnit.MICROS.between(EPOCH, version);
+    }
+
+    private static String weak(String value) {
+        return "W/\"" + value + "\"";
+    }
+}
@@ -0,0 +1,8 @@
+package com.hieu.dvdrental.exception;
+
+//The request is valid but cannot be applied to the current state, e.g. a film with no copy on the shelf
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.hieu.dvdrental.film;
+
+public interface ActorFilmLink {
+    Integer getActorId();
+
+    Integer getFilmId();
+}
@@ -21,7 +21,7 @@ import java.util.Set;
 public class Film {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "film_id_gen")
-    @SequenceGenerator(name = "film_id_gen", sequenceName = "film_film_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "film_id_gen", sequenceName = "film_film_id_seq", allocationSize = 50)
     @Column(name = "film_id", nullable = false)
     private Integer id;
 
@@ -0,0 +1,9 @@
+package com.hieu.dvdrental.film;
+
+public interface FilmCatalogFacet {
+    String getFacet();
+
+    String getValue();
+
+    Long getCount();
+}
@@ -0,0 +1,13 @@
+package com.hieu.dvdrental.film;
+
+import java.time.Instant;
+
+public interface FilmCategoryLink {
+    Integer getFilmId();
+
+    Integer getCategoryId();
+
+    String getName();
+
+    Instant getLastUpdate();
+}
@@ -0,0 +1,53 @@
+package com.hieu.dvdrental.film;
+
+import com.hieu.dvdrental.pagination.CountMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+public class FilmController {
+    private final FilmService filmService;
+
+    @Autowired
+    public FilmController(FilmService filmService) {
+        this.filmService = filmService;
+    }
+
+    @GetMapping("/films")
+    public ResponseEntity<Slice<FilmSummaryDto>> getFilms(
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "title", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(filmService.getFilms(pageable, CountMode.from(count)));
+    }
+
+    @GetMapping("/films/{filmId}")
+    public ResponseEntity<FilmDto> getFilmById(
+            @PathVariable
+            @Positive(message = "Invalid ID")
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer filmId
+    ) {
+        return ResponseEntity.ok(filmService.getFilmById(filmId));
+    }
+
+    @GetMapping("/films/search")
+    public ResponseEntity<Slice<FilmSearchDto>> searchFilms(
+            @RequestParam
+            @NotBlank(message = "Search query must not be blank")
+            @Size(max = 200, message = "Search query must not have more than 200 characters") String q,
+            @RequestParam(defaultValue = "false") boolean highlight,
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault Pageable pageable
+    ) {
+        return ResponseEntity.ok(filmService.searchFilms(q.trim(), highlight, pageable, CountMode.from(count)));
+    }
+}
@@ -1,11 +1,21 @@
 package com.hieu.dvdrental.film;
 
 import com.hieu.dvdrental.actor.ActorSummaryDto;
+import com.hieu.dvdrental.type.MpaaRating;
+
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 public class FilmDto extends FilmSummaryDto {
     private List<ActorSummaryDto> actors;
 
+    public FilmDto() {}
+
+    public FilmDto(Integer id, String title, String description, Integer releaseYear, Short rentalDuration, BigDecimal rentalRate, Short length, BigDecimal replacementCost, Instant lastUpdate, List<String> specialFeatures, MpaaRating rating, Integer languageId, String languageName, Instant languageLastUpdate) {
+        super(id, title, description, releaseYear, rentalDuration, rentalRate, length, replacementCost, lastUpdate, specialFeatures, rating, languageId, languageName, languageLastUpdate);
+    }
+
     public List<ActorSummaryDto> getActors() {
         return actors;
     }
@@ -0,0 +1,7 @@
+package com.hieu.dvdrental.film;
+
+public interface FilmHeadline {
+    Integer getId();
+
+    String getHeadline();
+}
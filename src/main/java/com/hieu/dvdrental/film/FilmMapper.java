@@ -5,6 +5,7 @@ import com.hieu.dvdrental.category.CategorySummaryDto;
 import com.hieu.dvdrental.language.Language;
 import com.hieu.dvdrental.language.LanguageDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -13,6 +14,9 @@ public interface FilmMapper {
     FilmSummaryDto toSummaryDto(Film film);
     List<FilmSummaryDto> toSummaryDtoSet(List<Film> film);
 
+    @Mapping(target = "headline", ignore = true)
+    FilmSearchDto toSearchDto(FilmSearchResult result);
+
     LanguageDto toLanguageDto(Language language);
     Language toLanguageEntity(LanguageDto languageDto);
 
@@ -1,12 +1,19 @@
 package com.hieu.dvdrental.film;
 
+import com.hieu.dvdrental.actor.ActorSummaryDto;
 import com.hieu.dvdrental.type.MpaaRating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface FilmRepository extends JpaRepository<Film, Integer> {
 
     Page<Film> findByCategories_Id(Integer categoryId, Pageable pageable);
@@ -14,8 +21,84 @@ public interface FilmRepository extends JpaRepository<Film, Integer> {
 
     Page<Film> findByRating(MpaaRating rating, Pageable pageable);
 
-    @Query(nativeQuery = true, value = "SELECT * FROM film WHERE fulltext @@ TO_TSQUERY(:query);")
-    Page<Film> findByFullText(@Param("query") String query, Pageable pageable);
+    @Query(nativeQuery = true,
+            value = "SELECT f.film_id AS id, f.title AS title, f.description AS description, " +
+                    "f.release_year AS releaseYear, CAST(f.rating AS TEXT) AS rating, ts_rank_cd(f.fulltext, q.tsq) AS rank " +
+                    "FROM film f, websearch_to_tsquery('pg_catalog.english', :query) AS q(tsq) " +
+                    "WHERE f.fulltext @@ q.tsq " +
+                    "ORDER BY rank DESC, f.film_id",
+            countQuery = "SELECT COUNT(*) FROM film f WHERE f.fulltext @@ websearch_to_tsquery('pg_catalog.english', :query)")
+    Page<FilmSearchResult> searchByFullText(@Param("query") String query, Pageable pageable);
+
+    @Query(nativeQuery = true,
+            value = "SELECT f.film_id AS id, f.title AS title, f.description AS description, " +
+                    "f.release_year AS releaseYear, CAST(f.rating AS TEXT) AS rating, ts_rank_cd(f.fulltext, q.tsq) AS rank " +
+                    "FROM film f, websearch_to_tsquery('pg_catalog.english', :query) AS q(tsq) " +
+                    "WHERE f.fulltext @@ q.tsq " +
+                    "ORDER BY rank DESC, f.film_id")
+    Slice<FilmSearchResult> searchSliceByFullText(@Param("query") String query, Pageable pageable);
+
+    @Query(nativeQuery = true,
+            value = "SELECT f.film_id AS id, " +
+                    "ts_headline('pg_catalog.english', CONCAT_WS('. ', f.title, f.description), websearch_to_tsquery('pg_catalog.english', :query)) AS headline " +
+                    "FROM film f WHERE f.film_id IN (:ids)")
+    List<FilmHeadline> findHeadlines(@Param("query") String query, @Param("ids") Collection<Integer> ids);
+
+    String SUMMARY_COLUMNS = "f.id, f.title, f.description, f.releaseYear, f.rentalDuration, f.rentalRate, f.length, " +
+            "f.replacementCost, f.lastUpdate, f.specialFeatures, f.rating, l.id, l.name, l.lastUpdate";
+
+    @Query(value = "SELECT new com.hieu.dvdrental.film.FilmSummaryDto(" + SUMMARY_COLUMNS + ") FROM Film f JOIN f.language l",
+            countQuery = "SELECT COUNT(f) FROM Film f")
+    Page<FilmSummaryDto> findSummaries(Pageable pageable);
+
+    @Query("SELECT new com.hieu.dvdrental.film.FilmSummaryDto(" + SUMMARY_COLUMNS + ") FROM Film f JOIN f.language l")
+    Slice<FilmSummaryDto> findSummarySlice(Pageable pageable);
+
+    @Query("SELECT new com.hieu.dvdrental.film.FilmDto(" + SUMMARY_COLUMNS + ") FROM Film f JOIN f.language l WHERE f.id = :id")
+    Optional<FilmDto> findDetailById(@Param("id") Integer id);
+
+    @Query("SELECT f.id AS filmId, c.id AS categoryId, c.name AS name, c.lastUpdate AS lastUpdate " +
+            "FROM Film f JOIN f.categories c WHERE f.id IN :filmIds ORDER BY c.name")
+    List<FilmCategoryLink> findCategoryLinks(@Param("filmIds") Collection<Integer> filmIds);
+
+    @Query("SELECT new com.hieu.dvdrental.actor.ActorSummaryDto(a.id, a.firstName, a.lastName, a.lastUpdate) " +
+            "FROM Film f JOIN f.actors a WHERE f.id = :filmId ORDER BY a.firstName, a.lastName")
+    List<ActorSummaryDto> findActorSummaries(@Param("filmId") Integer filmId);
+
+    @Query("SELECT a.id AS actorId, f.id AS filmId FROM Film f JOIN f.actors a WHERE a.id IN :actorIds ORDER BY f.title")
+    List<ActorFilmLink> findActorFilmLinks(@Param("actorIds") Collection<Integer> actorIds);
+
+    @EntityGraph(attributePaths = {"language", "categories"})
+    List<Film> findByIdIn(Collection<Integer> ids);
+
+    //Films matching the catalog search, each filter is skipped when its parameter is null
+    String CATALOG_MATCHES = "WITH matches AS (" +
+            "SELECT f.film_id, CAST(f.rating AS TEXT) AS rating, TRIM(l.name) AS language " +
+            "FROM film f JOIN language l ON l.language_id = f.language_id " +
+            "WHERE (CAST(:text AS TEXT) IS NULL " +
+            "OR to_tsvector('simple', CONCAT_WS(' ', f.title, f.description)) @@ plainto_tsquery('simple', CAST(:text AS TEXT))) " +
+            "AND (CAST(:rating AS TEXT) IS NULL OR LOWER(CAST(f.rating AS TEXT)) = LOWER(CAST(:rating AS TEXT))) " +
+            "AND (CAST(:language AS TEXT) IS NULL OR LOWER(TRIM(l.name)) = LOWER(CAST(:language AS TEXT))) " +
+            "AND (CAST(:category AS TEXT) IS NULL OR EXISTS (SELECT 1 FROM film_category fc JOIN category c ON c.category_id = fc.category_id " +
+            "WHERE fc.film_id = f.film_id AND LOWER(c.name) = LOWER(CAST(:category AS TEXT))))) ";
+
+    @Query(nativeQuery = true,
+            value = CATALOG_MATCHES + "SELECT film_id FROM matches ORDER BY film_id LIMIT :limit OFFSET :offset")
+    List<Integer> findCatalogPage(@Param("text") String text, @Param("rating") String rating, @Param("category") String category,
+                                  @Param("language") String language, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(nativeQuery = true, value = CATALOG_MATCHES + "SELECT COUNT(*) FROM matches")
+    long countCatalogMatches(@Param("text") String text, @Param("rating") String rating, @Param("category") String category,
+                             @Param("language") String language);
+
+    @Query(nativeQuery = true,
+            value = CATALOG_MATCHES +
+                    "SELECT 'rating' AS facet, rating AS value, COUNT(*) AS count FROM matches WHERE rating IS NOT NULL GROUP BY rating " +
+                    "UNION ALL SELECT 'category', c.name, COUNT(*) FROM matches m " +
+                    "JOIN film_category fc ON fc.film_id = m.film_id JOIN category c ON c.category_id = fc.category_id GROUP BY c.name " +
+                    "UNION ALL SELECT 'language', language, COUNT(*) FROM matches GROUP BY language")
+    List<FilmCatalogFacet> findCatalogFacets(@Param("text") String text, @Param("rating") String rating, @Param("category") String category,
+                                             @Param("language") String language);
 
     //For checking language_id foreign key before deleting
     boolean existsFilmByLanguageId(Integer languageId);
@@ -0,0 +1,80 @@
+package com.hieu.dvdrental.film;
+
+import com.hieu.dvdrental.type.MpaaRating;
+
+public class FilmSearchDto {
+    private Integer id;
+    private String title;
+    private String description;
+    private Integer releaseYear;
+    private MpaaRating rating;
+    private Float rank;
+    private String headline;
+
+    public FilmSearchDto() {}
+
+    public FilmSearchDto(Integer id, String title, String description, Integer releaseYear, MpaaRating rating, Float rank) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.releaseYear = releaseYear;
+        this.rating = rating;
+        this.rank = rank;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getReleaseYear() {
+        return releaseYear;
+    }
+
+    public void setReleaseYear(Integer releaseYear) {
+        this.releaseYear = releaseYear;
+    }
+
+    public MpaaRating getRating() {
+        return rating;
+    }
+
+    public void setRating(MpaaRating rating) {
+        this.rating = rating;
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+
+    public void setRank(Float rank) {
+        this.rank = rank;
+    }
+
+    public String getHeadline() {
+        return headline;
+    }
+
+    public void setHeadline(String headline) {
+        this.headline = headline;
+    }
+}
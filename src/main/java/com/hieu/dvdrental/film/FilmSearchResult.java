@@ -0,0 +1,15 @@
+package com.hieu.dvdrental.film;
+
+public interface FilmSearchResult {
+    Integer getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Integer getReleaseYear();
+
+    String getRating();
+
+    Float getRank();
+}
@@ -1,19 +1,85 @@
 package com.hieu.dvdrental.film;
 
+import com.hieu.dvdrental.category.CategorySummaryDto;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 public class FilmService {
 
     private final FilmRepository filmRepository;
+    private final FilmMapper filmMapper;
+    private final RowCountEstimator rowCountEstimator;
 
     @Autowired
-    public FilmService(FilmRepository filmRepository) {
+    public FilmService(FilmRepository filmRepository, FilmMapper filmMapper, RowCountEstimator rowCountEstimator) {
         this.filmRepository = filmRepository;
+        this.filmMapper = filmMapper;
+        this.rowCountEstimator = rowCountEstimator;
     }
 
     public boolean existsFilmByLanguageId(Integer languageId) {
         return filmRepository.existsFilmByLanguageId(languageId);
     }
+
+    public Slice<FilmSummaryDto> getFilms(Pageable pageable, CountMode count) {
+        Slice<FilmSummaryDto> films = count.fetch(
+                () -> filmRepository.findSummaries(pageable),
+                () -> filmRepository.findSummarySlice(pageable),
+                () -> rowCountEstimator.estimateTable("film")
+        );
+        attachCategories(films.getContent());
+        return films;
+    }
+
+    public FilmDto getFilmById(int id) {
+        FilmDto film = filmRepository.findDetailById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Film with id " + id + " not found"));
+        attachCategories(List.of(film));
+        film.setActors(filmRepository.findActorSummaries(id));
+        return film;
+    }
+
+    public Slice<FilmSearchDto> searchFilms(String query, boolean highlight, Pageable pageable, CountMode count) {
+        //Results are always ordered by rank, so the requested sort is dropped
+        Pageable byRank = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Slice<FilmSearchDto> films = count.<FilmSearchResult>fetch(
+                () -> filmRepository.searchByFullText(query, byRank),
+                () -> filmRepository.searchSliceByFullText(query, byRank),
+                () -> rowCountEstimator.estimateQuery("SELECT 1 FROM film WHERE fulltext @@ websearch_to_tsquery('pg_catalog.english', ?)", query)
+        ).map(filmMapper::toSearchDto);
+
+        if (highlight && films.hasContent()) {
+            Map<Integer, String> headlines = filmRepository
+                    .findHeadlines(query, films.map(FilmSearchDto::getId).getContent())
+                    .stream()
+                    .collect(Collectors.toMap(FilmHeadline::getId, FilmHeadline::getHeadline));
+            films.forEach(film -> film.setHeadline(headlines.get(film.getId())));
+        }
+        return films;
+    }
+
+    private void attachCategories(List<? extends FilmSummaryDto> films) {
+        if (films.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<CategorySummaryDto>> categoriesByFilm = new HashMap<>();
+        filmRepository.findCategoryLinks(films.stream().map(FilmSummaryDto::getId).toList())
+                .forEach(link -> categoriesByFilm
+                        .computeIfAbsent(link.getFilmId(), filmId -> new ArrayList<>())
+                        .add(new CategorySummaryDto(link.getCategoryId(), link.getName(), link.getLastUpdate())));
+        films.forEach(film -> film.setCategories(categoriesByFilm.getOrDefault(film.getId(), List.of())));
+    }
 }
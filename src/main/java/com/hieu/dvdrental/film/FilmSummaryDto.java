@@ -1,7 +1,7 @@
 package com.hieu.dvdrental.film;
 
-import com.hieu.dvdrental.category.Category;
-import com.hieu.dvdrental.language.Language;
+import com.hieu.dvdrental.category.CategorySummaryDto;
+import com.hieu.dvdrental.language.LanguageDto;
 import com.hieu.dvdrental.type.MpaaRating;
 
 import java.math.BigDecimal;
@@ -13,7 +13,7 @@ public class FilmSummaryDto {
     private String title;
     private String description;
     private Integer releaseYear;
-    private Language language;
+    private LanguageDto language;
     private Short rentalDuration;
     private BigDecimal rentalRate;
     private Short length;
@@ -21,7 +21,24 @@ public class FilmSummaryDto {
     private Instant lastUpdate;
     private List<String> specialFeatures;
     private MpaaRating rating;
-    private List<Category> categories;
+    private List<CategorySummaryDto> categories;
+
+    public FilmSummaryDto() {}
+
+    public FilmSummaryDto(Integer id, String title, String description, Integer releaseYear, Short rentalDuration, BigDecimal rentalRate, Short length, BigDecimal replacementCost, Instant lastUpdate, List<String> specialFeatures, MpaaRating rating, Integer languageId, String languageName, Instant languageLastUpdate) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.releaseYear = releaseYear;
+        this.rentalDuration = rentalDuration;
+        this.rentalRate = rentalRate;
+        this.length = length;
+        this.replacementCost = replacementCost;
+        this.lastUpdate = lastUpdate;
+        this.specialFeatures = specialFeatures;
+        this.rating = rating;
+        this.language = new LanguageDto(languageId, languageName, languageLastUpdate);
+    }
 
     public Integer getId() {
         return id;
@@ -111,19 +128,19 @@ public class FilmSummaryDto {
         this.rating = rating;
     }
 
-    public Language getLanguage() {
+    public LanguageDto getLanguage() {
         return language;
     }
 
-    public void setLanguage(Language language) {
+    public void setLanguage(LanguageDto language) {
         this.language = language;
     }
 
-    public List<Category> getCategories() {
+    public List<CategorySummaryDto> getCategories() {
         return categories;
     }
 
-    public void setCategories(List<Category> categories) {
+    public void setCategories(List<CategorySummaryDto> categories) {
         this.categories = categories;
     }
 }
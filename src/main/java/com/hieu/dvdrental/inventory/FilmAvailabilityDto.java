@@ -0,0 +1,41 @@
+package com.hieu.dvdrental.inventory;
+
+import java.util.List;
+
+public class FilmAvailabilityDto {
+    private Integer filmId;
+    private boolean inStock;
+    private List<StoreAvailabilityDto> stores;
+
+    public FilmAvailabilityDto() {}
+
+    public FilmAvailabilityDto(Integer filmId, List<StoreAvailabilityDto> stores) {
+        this.filmId = filmId;
+        this.inStock = !stores.isEmpty();
+        this.stores = stores;
+    }
+
+    public Integer getFilmId() {
+        return filmId;
+    }
+
+    public void setFilmId(Integer filmId) {
+        this.filmId = filmId;
+    }
+
+    public boolean isInStock() {
+        return inStock;
+    }
+
+    public void setInStock(boolean inStock) {
+        this.inStock = inStock;
+    }
+
+    public List<StoreAvailabilityDto> getStores() {
+        return stores;
+    }
+
+    public void setStores(List<StoreAvailabilityDto> stores) {
+        this.stores = stores;
+    }
+}
@@ -0,0 +1,235 @@
+package com.hieu.dvdrental.inventory;
+
+import com.hieu.dvdrental.catalog.IntBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Checked-in inventory ids as one {@link IntBitmap} per store and one per film, so "is film X in stock at store Y"
+ * is a bitmap intersection. Loaded with a single query and reconciled against the database periodically;
+ * checkouts and returns update it when their transaction commits.
+ */
+@Component
+public class InventoryAvailability {
+    private static final Logger log = LoggerFactory.getLogger(InventoryAvailability.class);
+
+    private static final String INVENTORY_SQL = "SELECT i.inventory_id, i.film_id, i.store_id, " +
+            "NOT EXISTS (SELECT 1 FROM rental r WHERE r.inventory_id = i.inventory_id AND r.return_date IS NULL) AS available " +
+            "FROM inventory i";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot;
+    //Changes applied while a reconcile query runs, replayed onto its result so none are lost
+    private List<Change> pending;
+
+    @Autowired
+    public InventoryAvailability(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${dvdrental.inventory.reconcile-interval:PT5M}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot loaded = new Snapshot();
+        try {
+            jdbcTemplate.query(INVENTORY_SQL, rs -> {
+                loaded.put(rs.getInt("inventory_id"), rs.getInt("film_id"), rs.getInt("store_id"), rs.getBoolean("available"));
+            });
+        } catch (DataAccessException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("Inventory availability reconcile failed, checks fall back to the database until it succeeds", ex);
+            return;
+        }
+
+        int drift;
+        lock.writeLock().lock();
+        try {
+            pending.forEach(loaded::apply);
+            pending = null;
+            drift = snapshot == null ? 0 : snapshot.difference(loaded);
+            snapshot = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (drift > 0) {
+            log.warn("Inventory availability drifted from the database by {} items", drift);
+        }
+        log.debug("Inventory availability loaded with {} items", loaded.size);
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return snapshot != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //Available inventory ids of a film by store, only stores holding at least one copy on the shelf
+    public Optional<Map<Integer, int[]>> availableByStore(int filmId, Integer storeId) {
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            Map<Integer, int[]> available = new TreeMap<>();
+            IntBitmap film = snapshot.availableByFilm.get(filmId);
+            if (film != null) {
+                snapshot.availableByStore.forEach((id, store) -> {
+                    if (storeId == null || storeId.equals(id)) {
+                        IntBitmap copies = film.and(store);
+                        if (!copies.isEmpty()) {
+                            available.put(id, copies.toArray(0, copies.cardinality()));
+                        }
+                    }
+                });
+            }
+            return Optional.of(available);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isAvailable(int inventoryId) {
+        lock.readLock().lock();
+        try {
+            return snapshot != null && snapshot.isAvailable(inventoryId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void checkedOut(int inventoryId) {
+        afterCommit(new Change(inventoryId, false));
+    }
+
+    public void checkedIn(int inventoryId) {
+        afterCommit(new Change(inventoryId, true));
+    }
+
+    public void added(int inventoryId, int filmId, int storeId) {
+        afterCommit(new Change(inventoryId, filmId, storeId, true));
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (snapshot != null) {
+                snapshot.apply(change);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //filmId and storeId are 0 for checkouts and returns, which only move an item the snapshot already knows
+    private record Change(int inventoryId, int filmId, int storeId, boolean available) {
+        Change(int inventoryId, boolean available) {
+            this(inventoryId, 0, 0, available);
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Integer, IntBitmap> availableByFilm = new HashMap<>();
+        private final Map<Integer, IntBitmap> availableByStore = new HashMap<>();
+        private int[] filmOf = new int[1024];
+        private int[] storeOf = new int[1024];
+        private int size;
+
+        void put(int inventoryId, int filmId, int storeId, boolean available) {
+            if (inventoryId >= filmOf.length) {
+                int capacity = Math.max(inventoryId + 1, filmOf.length * 2);
+                filmOf = Arrays.copyOf(filmOf, capacity);
+                storeOf = Arrays.copyOf(storeOf, capacity);
+            }
+            if (filmOf[inventoryId] == 0) {
+                size++;
+            }
+            filmOf[inventoryId] = filmId;
+            storeOf[inventoryId] = storeId;
+            set(inventoryId, available);
+        }
+
+        void apply(Change change) {
+            if (change.filmId() != 0) {
+                put(change.inventoryId(), change.filmId(), change.storeId(), change.available());
+            } else if (change.inventoryId() < filmOf.length && filmOf[change.inventoryId()] != 0) {
+                set(change.inventoryId(), change.available());
+            }
+        }
+
+        boolean isAvailable(int inventoryId) {
+            if (inventoryId >= filmOf.length || filmOf[inventoryId] == 0) {
+                return false;
+            }
+            IntBitmap store = availableByStore.get(storeOf[inventoryId]);
+            return store != null && store.contains(inventoryId);
+        }
+
+        //Items whose availability differs, counted over stores since every item belongs to exactly one
+        int difference(Snapshot other) {
+            int difference = 0;
+            Set<Integer> stores = new HashSet<>(availableByStore.keySet());
+            stores.addAll(other.availableByStore.keySet());
+            for (Integer storeId : stores) {
+                IntBitmap mine = availableByStore.getOrDefault(storeId, new IntBitmap());
+                IntBitmap theirs = other.availableByStore.getOrDefault(storeId, new IntBitmap());
+                difference += mine.cardinality() + theirs.cardinality() - 2 * mine.andCardinality(theirs);
+            }
+            return difference;
+        }
+
+        private void set(int inventoryId, boolean available) {
+            IntBitmap film = availableByFilm.computeIfAbsent(filmOf[inventoryId], key -> new IntBitmap());
+            IntBitmap store = availableByStore.computeIfAbsent(storeOf[inventoryId], key -> new IntBitmap());
+            if (available) {
+                film.add(inventoryId);
+                store.add(inventoryId);
+            } else {
+                film.remove(inventoryId);
+                store.remove(inventoryId);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hieu.dvdrental.inventory;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class InventoryAvailabilityController {
+    private final InventoryAvailabilityService inventoryAvailabilityService;
+
+    @Autowired
+    public InventoryAvailabilityController(InventoryAvailabilityService inventoryAvailabilityService) {
+        this.inventoryAvailabilityService = inventoryAvailabilityService;
+    }
+
+    @GetMapping("/films/{filmId}/availability")
+    public ResponseEntity<FilmAvailabilityDto> getFilmAvailability(
+            @PathVariable
+            @Positive(message = "Invalid ID")
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer filmId,
+            @RequestParam(required = false)
+            @Positive(message = "Invalid store ID")
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid store ID") Integer storeId
+    ) {
+        return ResponseEntity.ok(inventoryAvailabilityService.getFilmAvailability(filmId, storeId));
+    }
+}
@@ -0,0 +1,37 @@
+package com.hieu.dvdrental.inventory;
+
+import com.hieu.dvdrental.repository.InventoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class InventoryAvailabilityService {
+    private final InventoryAvailability inventoryAvailability;
+    private final InventoryRepository inventoryRepository;
+
+    @Autowired
+    public InventoryAvailabilityService(InventoryAvailability inventoryAvailability, InventoryRepository inventoryRepository) {
+        this.inventoryAvailability = inventoryAvailability;
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    public FilmAvailabilityDto getFilmAvailability(int filmId, Integer storeId) {
+        List<StoreAvailabilityDto> stores = inventoryAvailability.availableByStore(filmId, storeId)
+                .map(available -> available.entrySet().stream()
+                        .map(entry -> new StoreAvailabilityDto(entry.getKey(), Arrays.stream(entry.getValue()).boxed().toList()))
+                        .toList())
+                .orElseGet(() -> searchDatabase(filmId, storeId));
+        return new FilmAvailabilityDto(filmId, stores);
+    }
+
+    private List<StoreAvailabilityDto> searchDatabase(int filmId, Integer storeId) {
+        Map<Integer, List<Integer>> inventoryIdsByStore = new TreeMap<>();
+        inventoryRepository.findAvailableStock(filmId, storeId)
+                .forEach(row -> inventoryIdsByStore.computeIfAbsent(row.getStoreId(), id -> new ArrayList<>()).add(row.getInventoryId()));
+        return inventoryIdsByStore.entrySet().stream()
+                .map(entry -> new StoreAvailabilityDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.hieu.dvdrental.inventory;
+
+public interface InventoryStockRow {
+    Integer getStoreId();
+
+    Integer getInventoryId();
+}
@@ -0,0 +1,41 @@
+package com.hieu.dvdrental.inventory;
+
+import java.util.List;
+
+public class StoreAvailabilityDto {
+    private Integer storeId;
+    private int availableCopies;
+    private List<Integer> inventoryIds;
+
+    public StoreAvailabilityDto() {}
+
+    public StoreAvailabilityDto(Integer storeId, List<Integer> inventoryIds) {
+        this.storeId = storeId;
+        this.availableCopies = inventoryIds.size();
+        this.inventoryIds = inventoryIds;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public int getAvailableCopies() {
+        return availableCopies;
+    }
+
+    public void setAvailableCopies(int availableCopies) {
+        this.availableCopies = availableCopies;
+    }
+
+    public List<Integer> getInventoryIds() {
+        return inventoryIds;
+    }
+
+    public void setInventoryIds(List<Integer> inventoryIds) {
+        this.inventoryIds = inventoryIds;
+    }
+}
@@ -1,18 +1,24 @@
 package com.hieu.dvdrental.language;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.generator.EventType;
 
 import java.sql.Types;
 import java.time.Instant;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "language")
 public class Language {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "language_id_gen")
-    @SequenceGenerator(name = "language_id_gen", sequenceName = "language_language_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "language_id_gen", sequenceName = "language_language_id_seq", allocationSize = 50)
     @Column(name = "language_id", nullable = false, updatable = false)
     private Integer id;
 
@@ -21,6 +27,7 @@ public class Language {
     private String name;
 
     @ColumnDefault("now()")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "last_update", nullable = false, insertable = false, updatable = false)
     private Instant lastUpdate;
 
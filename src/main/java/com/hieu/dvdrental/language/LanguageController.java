@@ -1,14 +1,17 @@
 package com.hieu.dvdrental.language;
 
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorPage;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -25,10 +28,29 @@ public class LanguageController {
     }
 
     @GetMapping("/languages")
-    public ResponseEntity<Page<LanguageDto>> getLanguages(
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+    public ResponseEntity<Slice<LanguageDto>> getLanguages(
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(languageService.getAllLanguages(pageable));
+        String tag = languageService.getLanguagesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(languageService.getAllLanguages(pageable, CountMode.from(count)));
+    }
+
+    @GetMapping(value = "/languages", params = {"after", "!name"})
+    public ResponseEntity<CursorPage<LanguageDto>> getLanguagesAfter(
+            @RequestParam String after,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
+    ) {
+        String tag = languageService.getLanguagesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(languageService.getAllLanguages(after, pageable));
     }
 
     @GetMapping("/languages/{languageId}")
@@ -36,19 +58,30 @@ public class LanguageController {
             @PathVariable
             @Positive(message = "Invalid ID")
             @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID")
-            Integer languageId
+            Integer languageId,
+            WebRequest request
     ) {
+        String tag = languageService.getLanguageTag(languageId).orElse(null);
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
         return ResponseEntity.ok(languageService.getLanguageById(languageId));
     }
 
     @GetMapping(value = "/languages", params = "name")
-    public ResponseEntity<Page<LanguageDto>> getLanguagesByName(
+    public ResponseEntity<Slice<LanguageDto>> getLanguagesByName(
             @RequestParam
             @NotBlank(message = "Language name must not be blank")
             @Size(max = 20, message = "Language name must not have more than 20 characters") String name,
-            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable
+            @RequestParam(defaultValue = "${dvdrental.pagination.count:exact}") String count,
+            @PageableDefault(sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(languageService.getLanguagesByName(name.trim(), pageable));
+        String tag = languageService.getLanguagesTag();
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok(languageService.getLanguagesByName(name.trim(), pageable, CountMode.from(count)));
     }
 
     @PostMapping("/languages")
@@ -1,9 +1,26 @@
 package com.hieu.dvdrental.language;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface LanguageRepository extends JpaRepository<Language, Integer> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsById(Integer id);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Language> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    Slice<Language> findSliceBy(Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Slice<Language> findSliceByNameContainingIgnoreCase(String name, Pageable pageable);
+    Window<Language> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    Window<Language> findByNameGreaterThanEqual(String name, ScrollPosition position, Sort sort, Limit limit);
 }
\ No newline at end of file
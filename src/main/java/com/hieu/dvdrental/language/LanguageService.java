@@ -1,38 +1,72 @@
 package com.hieu.dvdrental.language;
 
 import com.hieu.dvdrental.film.FilmRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import com.hieu.dvdrental.pagination.KeysetBound;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class LanguageService {
     private final LanguageRepository languageRepository;
     private final LanguageMapper languageMapper;
     private final FilmRepository filmRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final EntityTags entityTags;
 
     public LanguageService(
             LanguageRepository languageRepository,
             LanguageMapper languageMapper,
-            FilmRepository filmRepository) {
+            FilmRepository filmRepository,
+            RowCountEstimator rowCountEstimator,
+            EntityTags entityTags) {
         this.languageRepository = languageRepository;
         this.languageMapper = languageMapper;
         this.filmRepository = filmRepository;
+        this.rowCountEstimator = rowCountEstimator;
+        this.entityTags = entityTags;
     }
 
-    public Page<LanguageDto> getAllLanguages(Pageable pageable) {
-        Page<Language> languages = languageRepository.findAll(pageable);
+    public Slice<LanguageDto> getAllLanguages(Pageable pageable, CountMode count) {
+        Slice<Language> languages = count.fetch(
+                () -> languageRepository.findAll(pageable),
+                () -> languageRepository.findSliceBy(pageable),
+                () -> rowCountEstimator.estimateTable("language")
+        );
         return languages.map(languageMapper::toDto);
     }
 
+    public CursorPage<LanguageDto> getAllLanguages(String after, Pageable pageable) {
+        KeysetScrollPosition position = CursorCodec.decode(after);
+        Limit limit = Limit.of(pageable.getPageSize());
+        Window<Language> languages = KeysetBound.lowerBound(position, pageable.getSort(), "name")
+                .map(name -> languageRepository.findByNameGreaterThanEqual(name, position, pageable.getSort(), limit))
+                .orElseGet(() -> languageRepository.findAllBy(position, pageable.getSort(), limit));
+        return CursorPage.of(languages.map(languageMapper::toDto), pageable.getPageSize());
+    }
+
     public LanguageDto getLanguageById(Integer id) {
         Language language = languageRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Language with id " + id + " not found"));
         return languageMapper.toDto(language);
     }
 
-    public Page<LanguageDto> getLanguagesByName(String name, Pageable pageable) {
-        Page<Language> languages = languageRepository.findByNameContainingIgnoreCase(name, pageable);
+    public Slice<LanguageDto> getLanguagesByName(String name, Pageable pageable, CountMode count) {
+        Slice<Language> languages = count.fetch(
+                () -> languageRepository.findByNameContainingIgnoreCase(name, pageable),
+                () -> languageRepository.findSliceByNameContainingIgnoreCase(name, pageable),
+                () -> rowCountEstimator.estimateQuery("SELECT 1 FROM language WHERE UPPER(name) LIKE UPPER(?)", RowCountEstimator.containing(name))
+        );
         return languages.map(languageMapper::toDto);
     }
 
@@ -60,4 +94,12 @@ public class LanguageService {
         }
         languageRepository.deleteById(id);
     }
+
+    public String getLanguagesTag() {
+        return entityTags.forTables("language");
+    }
+
+    public Optional<String> getLanguageTag(Integer id) {
+        return entityTags.forRow("SELECT last_update FROM language WHERE language_id = ?", id);
+    }
 }
@@ -0,0 +1,49 @@
+package com.hieu.dvdrental.listing;
+
+public class ActorInfoDto {
+    private Integer actorId;
+    private String firstName;
+    private String lastName;
+    private String filmInfo;
+
+    public ActorInfoDto() {}
+
+    public ActorInfoDto(Integer actorId, String firstName, String lastName, String filmInfo) {
+        this.actorId = actorId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.filmInfo = filmInfo;
+    }
+
+    public Integer getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Integer actorId) {
+        this.actorId = actorId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getFilmInfo() {
+        return filmInfo;
+    }
+
+    public void setFilmInfo(String filmInfo) {
+        this.filmInfo = filmInfo;
+    }
+}
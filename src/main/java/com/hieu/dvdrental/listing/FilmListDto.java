@@ -0,0 +1,91 @@
+package com.hieu.dvdrental.listing;
+
+import java.math.BigDecimal;
+
+public class FilmListDto {
+    private Integer fid;
+    private String title;
+    private String description;
+    private String category;
+    private BigDecimal price;
+    private Integer length;
+    private String rating;
+    private String actors;
+
+    public FilmListDto() {}
+
+    public FilmListDto(Integer fid, String title, String description, String category, BigDecimal price, Integer length, String rating, String actors) {
+        this.fid = fid;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.price = price;
+        this.length = length;
+        this.rating = rating;
+        this.actors = actors;
+    }
+
+    public Integer getFid() {
+        return fid;
+    }
+
+    public void setFid(Integer fid) {
+        this.fid = fid;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getLength() {
+        return length;
+    }
+
+    public void setLength(Integer length) {
+        this.length = length;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public void setRating(String rating) {
+        this.rating = rating;
+    }
+
+    public String getActors() {
+        return actors;
+    }
+
+    public void setActors(String actors) {
+        this.actors = actors;
+    }
+}
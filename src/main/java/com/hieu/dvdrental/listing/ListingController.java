@@ -0,0 +1,36 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.pagination.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ListingController {
+    private final ListingService listingService;
+
+    @Autowired
+    public ListingController(ListingService listingService) {
+        this.listingService = listingService;
+    }
+
+    @GetMapping("/films/list")
+    public ResponseEntity<CursorPage<FilmListDto>> getFilmList(
+            @RequestParam(required = false) String after,
+            @PageableDefault Pageable pageable
+    ) {
+        return ResponseEntity.ok(listingService.getFilmList(after, pageable.getPageSize()));
+    }
+
+    @GetMapping("/actors/info")
+    public ResponseEntity<CursorPage<ActorInfoDto>> getActorInfo(
+            @RequestParam(required = false) String after,
+            @PageableDefault Pageable pageable
+    ) {
+        return ResponseEntity.ok(listingService.getActorInfo(after, pageable.getPageSize()));
+    }
+}
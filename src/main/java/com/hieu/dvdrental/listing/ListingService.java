@@ -0,0 +1,91 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset pages of the {@code film_list} and {@code actor_info} views. Both views aggregate per film or actor, so
+ * a page only aggregates its own rows, however deep the cursor.
+ */
+@Service
+public class ListingService {
+    private static final String FILM_LIST_COLUMNS = "SELECT fid, title, description, category, price, length, rating::text AS rating, actors FROM film_list ";
+    private static final String ACTOR_INFO_COLUMNS = "SELECT actor_id, first_name, last_name, film_info FROM actor_info ";
+
+    private static final RowMapper<FilmListDto> FILM_LIST_ROW = (rs, rowNum) -> new FilmListDto(
+            rs.getInt("fid"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getString("category"),
+            rs.getBigDecimal("price"),
+            rs.getObject("length", Integer.class),
+            rs.getString("rating"),
+            rs.getString("actors"));
+
+    private static final RowMapper<ActorInfoDto> ACTOR_INFO_ROW = (rs, rowNum) -> new ActorInfoDto(
+            rs.getInt("actor_id"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("film_info"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ListingService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    //A film has one row per category, so the cursor holds both
+    public CursorPage<FilmListDto> getFilmList(String after, int size) {
+        Map<String, Object> keys = CursorCodec.decode(after).getKeys();
+        List<FilmListDto> rows;
+        if (keys.isEmpty()) {
+            rows = jdbcTemplate.query(FILM_LIST_COLUMNS + "ORDER BY fid, category LIMIT ?", FILM_LIST_ROW, size + 1);
+        } else if (keys.get("fid") instanceof Integer fid && keys.get("category") instanceof String category) {
+            //fid >= ? is redundant with the row comparison but lets the planner start from the film primary key
+            rows = jdbcTemplate.query(FILM_LIST_COLUMNS + "WHERE fid >= ? AND (fid, category) > (?, ?) ORDER BY fid, category LIMIT ?",
+                    FILM_LIST_ROW, fid, fid, category, size + 1);
+        } else {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return page(rows, size, last -> {
+            Map<String, Object> next = new LinkedHashMap<>();
+            next.put("fid", last.getFid());
+            next.put("category", last.getCategory());
+            return next;
+        });
+    }
+
+    public CursorPage<ActorInfoDto> getActorInfo(String after, int size) {
+        Map<String, Object> keys = CursorCodec.decode(after).getKeys();
+        List<ActorInfoDto> rows;
+        if (keys.isEmpty()) {
+            rows = jdbcTemplate.query(ACTOR_INFO_COLUMNS + "ORDER BY actor_id LIMIT ?", ACTOR_INFO_ROW, size + 1);
+        } else if (keys.get("actorId") instanceof Integer actorId) {
+            rows = jdbcTemplate.query(ACTOR_INFO_COLUMNS + "WHERE actor_id > ? ORDER BY actor_id LIMIT ?", ACTOR_INFO_ROW, actorId, size + 1);
+        } else {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return page(rows, size, last -> Map.of("actorId", last.getActorId()));
+    }
+
+    //Rows are read one past the page size to tell whether another page follows
+    private static <T> CursorPage<T> page(List<T> rows, int size, Function<T, Map<String, Object>> keysOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, false, null);
+        }
+        List<T> content = rows.subList(0, size);
+        String nextCursor = CursorCodec.encode(ScrollPosition.forward(keysOf.apply(content.getLast())));
+        return new CursorPage<>(List.copyOf(content), size, true, nextCursor);
+    }
+}
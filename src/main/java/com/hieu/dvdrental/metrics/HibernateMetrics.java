@@ -0,0 +1,38 @@
+package com.hieu.dvdrental.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes Hibernate's session factory statistics as counters. Hibernate only counts with
+ * {@code hibernate.generate_statistics}, which the {@code statistics} profile enables; without it the series are
+ * not registered rather than reported as constant zeros.
+ */
+@Component
+public class HibernateMetrics {
+    private static final Logger log = LoggerFactory.getLogger(HibernateMetrics.class);
+
+    @Autowired
+    public HibernateMetrics(EntityManagerFactory entityManagerFactory, MetricsRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            log.info("Hibernate statistics are disabled, hibernate_* metrics are not exported");
+            return;
+        }
+        registry.counter("hibernate_statements_prepared_total", "JDBC statements prepared", statistics::getPrepareStatementCount);
+        registry.counter("hibernate_queries_executed_total", "HQL and native queries executed", statistics::getQueryExecutionCount);
+        registry.counter("hibernate_entity_loads_total", "Entities loaded from the database", statistics::getEntityLoadCount);
+        registry.counter("hibernate_entity_fetches_total", "Entities fetched lazily or by id", statistics::getEntityFetchCount);
+        registry.counter("hibernate_collection_loads_total", "Collections loaded", statistics::getCollectionLoadCount);
+        registry.counter("hibernate_collection_fetches_total", "Collections fetched lazily", statistics::getCollectionFetchCount);
+        registry.counter("hibernate_second_level_cache_hits_total", "Second-level cache hits", statistics::getSecondLevelCacheHitCount);
+        registry.counter("hibernate_second_level_cache_misses_total", "Second-level cache misses", statistics::getSecondLevelCacheMissCount);
+        registry.counter("hibernate_sessions_opened_total", "Sessions opened", statistics::getSessionOpenCount);
+        registry.counter("hibernate_transactions_total", "Transactions completed", statistics::getTransactionCount);
+    }
+}
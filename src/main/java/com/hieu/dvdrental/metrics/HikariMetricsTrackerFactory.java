@@ -0,0 +1,62 @@
+package com.hieu.dvdrental.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Publishes Hikari's connection wait, usage and creation times plus pool occupancy. Wait time is how long a
+ * caller blocked in {@code getConnection()}, the number to watch when the pool is undersized.
+ */
+public class HikariMetricsTrackerFactory implements MetricsTrackerFactory {
+    private final Supplier<MetricsRegistry> registry;
+
+    public HikariMetricsTrackerFactory(Supplier<MetricsRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MetricsRegistry metrics = registry.get();
+        metrics.gauge("hikaricp_connections_active", "Connections in use", poolStats::getActiveConnections, "pool", poolName);
+        metrics.gauge("hikaricp_connections_idle", "Idle connections", poolStats::getIdleConnections, "pool", poolName);
+        metrics.gauge("hikaricp_connections", "Open connections", poolStats::getTotalConnections, "pool", poolName);
+        metrics.gauge("hikaricp_connections_pending", "Threads waiting for a connection", poolStats::getPendingThreads, "pool", poolName);
+        metrics.gauge("hikaricp_connections_max", "Maximum pool size", poolStats::getMaxConnections, "pool", poolName);
+        metrics.gauge("hikaricp_connections_utilization", "Share of the maximum pool size in use", () -> {
+            int max = poolStats.getMaxConnections();
+            return max == 0 ? 0 : (double) poolStats.getActiveConnections() / max;
+        }, "pool", poolName);
+
+        Histogram acquire = metrics.histogram("hikaricp_connections_acquire_seconds", "Time spent waiting for a connection", Histogram.SECONDS, "pool", poolName);
+        Histogram usage = metrics.histogram("hikaricp_connections_usage_seconds", "Time a connection was held before being returned", Histogram.SECONDS, "pool", poolName);
+        Histogram creation = metrics.histogram("hikaricp_connections_creation_seconds", "Time to open a physical connection", Histogram.SECONDS, "pool", poolName);
+        LongAdder timeouts = metrics.counter("hikaricp_connections_timeout_total", "Connection requests that timed out", "pool", poolName);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.observeNanos(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.observeNanos(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creation.observeNanos(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.hieu.dvdrental.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram in the Prometheus sense: every observation lands in the first bucket whose upper
+ * bound is not below it. Buckets are kept non-cumulative and summed when scraped.
+ */
+public class Histogram {
+    public static final double[] SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    public static final double[] STATEMENTS = {0, 1, 2, 3, 5, 10, 20, 50, 100, 200, 500};
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    public Histogram(double[] bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        Arrays.setAll(buckets, i -> new LongAdder());
+    }
+
+    public void observe(double value) {
+        int index = Arrays.binarySearch(bounds, value);
+        buckets[index < 0 ? -index - 1 : index].increment();
+        sum.add(value);
+    }
+
+    public void observeNanos(long nanos) {
+        observe(nanos / 1e9);
+    }
+
+    public double[] getBounds() {
+        return bounds.clone();
+    }
+
+    //Cumulative counts per bound, the last element is the +Inf bucket and therefore the total count
+    public long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            counts[i] = running;
+        }
+        return counts;
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+}
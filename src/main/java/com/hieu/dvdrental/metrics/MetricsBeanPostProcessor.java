@@ -0,0 +1,32 @@
+package com.hieu.dvdrental.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Attaches metrics to Spring Data repositories and the Hikari pool before they are initialized, which is the
+ * last point either accepts a listener. The registry is resolved lazily so it still gets every post-processor.
+ */
+public class MetricsBeanPostProcessor implements BeanPostProcessor {
+    private final Supplier<MetricsRegistry> registry;
+
+    public MetricsBeanPostProcessor(ObjectProvider<MetricsRegistry> registry) {
+        this.registry = SingletonSupplier.of(registry::getObject);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(new RepositoryMetricsListener(registry)));
+        }
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(new HikariMetricsTrackerFactory(registry));
+        }
+        return bean;
+    }
+}
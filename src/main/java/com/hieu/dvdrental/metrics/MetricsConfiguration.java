@@ -0,0 +1,31 @@
+package com.hieu.dvdrental.metrics;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration {
+
+    @Bean
+    public static MetricsBeanPostProcessor metricsBeanPostProcessor(ObjectProvider<MetricsRegistry> registry) {
+        return new MetricsBeanPostProcessor(registry);
+    }
+
+    @Bean
+    public RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    //Outermost, so requests turned away by later filters are still timed
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MetricsRegistry registry, RequestStatementCounter statementCounter) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(new RequestMetricsFilter(registry, statementCounter));
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
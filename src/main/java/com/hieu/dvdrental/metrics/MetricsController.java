@@ -0,0 +1,23 @@
+package com.hieu.dvdrental.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+    public static final String PROMETHEUS_TEXT = "text/plain;version=0.0.4;charset=utf-8";
+
+    private final MetricsRegistry metricsRegistry;
+
+    @Autowired
+    public MetricsController(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @GetMapping(value = "/metrics", produces = PROMETHEUS_TEXT)
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok(metricsRegistry.scrape());
+    }
+}
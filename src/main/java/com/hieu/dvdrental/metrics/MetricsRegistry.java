@@ -0,0 +1,122 @@
+package com.hieu.dvdrental.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Holds the application's counters, gauges and histograms and renders them in the Prometheus text exposition
+ * format. Series are keyed by metric name plus label pairs, given as alternating names and values.
+ */
+@Component
+public class MetricsRegistry {
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public LongAdder counter(String name, String help, String... labels) {
+        return (LongAdder) family(name, help, "counter").series.computeIfAbsent(labelText(labels), key -> new LongAdder());
+    }
+
+    public void counter(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, "counter").series.put(labelText(labels), value);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, "gauge").series.put(labelText(labels), value);
+    }
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labels) {
+        return (Histogram) family(name, help, "histogram").series.computeIfAbsent(labelText(labels), key -> new Histogram(buckets));
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        families.values().forEach(family -> family.render(out));
+        return out.toString();
+    }
+
+    private Family family(String name, String help, String type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    private static String labelText(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name and value pairs");
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!text.isEmpty()) {
+                text.append(',');
+            }
+            text.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return text.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final Map<String, Object> series = new ConcurrentSkipListMap<>();
+
+        private Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        private void render(StringBuilder out) {
+            out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            series.forEach((labels, metric) -> {
+                switch (metric) {
+                    case LongAdder counter -> sample(out, name, labels, number(counter.sum()));
+                    case DoubleSupplier supplier -> sample(out, name, labels, number(supplier.getAsDouble()));
+                    case Histogram histogram -> renderHistogram(out, labels, histogram);
+                    default -> throw new IllegalStateException("Unknown metric type " + metric.getClass());
+                }
+            });
+        }
+
+        private void renderHistogram(StringBuilder out, String labels, Histogram histogram) {
+            double[] bounds = histogram.getBounds();
+            long[] counts = histogram.cumulativeCounts();
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            for (int i = 0; i < bounds.length; i++) {
+                sample(out, name + "_bucket", prefix + "le=\"" + number(bounds[i]) + "\"", Long.toString(counts[i]));
+            }
+            long count = counts[bounds.length];
+            sample(out, name + "_bucket", prefix + "le=\"+Inf\"", Long.toString(count));
+            sample(out, name + "_sum", labels, number(histogram.getSum()));
+            sample(out, name + "_count", labels, Long.toString(count));
+        }
+
+        private static void sample(StringBuilder out, String name, String labels, String value) {
+            out.append(name);
+            if (!labels.isEmpty()) {
+                out.append('{').append(labels).append('}');
+            }
+            out.append(' ').append(value).append('\n');
+        }
+    }
+}
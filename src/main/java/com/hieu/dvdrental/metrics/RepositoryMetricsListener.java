@@ -0,0 +1,24 @@
+package com.hieu.dvdrental.metrics;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class RepositoryMetricsListener implements RepositoryMethodInvocationListener {
+    private final Supplier<MetricsRegistry> registry;
+
+    public RepositoryMetricsListener(Supplier<MetricsRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        registry.get().histogram("repository_invocations_seconds", "Spring Data repository method duration", Histogram.SECONDS,
+                        "repository", invocation.getRepositoryInterface().getSimpleName(),
+                        "method", invocation.getMethod().getName(),
+                        "state", invocation.getResult().getState().name().toLowerCase(Locale.ROOT))
+                .observeNanos(invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,72 @@
+package com.hieu.dvdrental.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records latency and Hibernate statement count per endpoint, labelled with the matched route pattern rather
+ * than the raw path so ids do not create a series each. Async requests are recorded when their last dispatch ends.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final String START_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".start";
+    private static final String STATEMENTS_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".statements";
+
+    private final MetricsRegistry registry;
+    private final RequestStatementCounter statementCounter;
+
+    public RequestMetricsFilter(MetricsRegistry registry, RequestStatementCounter statementCounter) {
+        this.registry = registry;
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            start = System.nanoTime();
+            request.setAttribute(START_ATTRIBUTE, start);
+        }
+        boolean failed = true;
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            Integer previous = (Integer) request.getAttribute(STATEMENTS_ATTRIBUTE);
+            int statements = statementCounter.end() + (previous == null ? 0 : previous);
+            if (request.isAsyncStarted()) {
+                request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            } else {
+                record(request, response, System.nanoTime() - start, statements, failed);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long nanos, int statements, boolean failed) {
+        int status = failed && response.getStatus() < 400 ? 500 : response.getStatus();
+        String uri = uri(request, status);
+        registry.histogram("http_server_requests_seconds", "Request latency by route", Histogram.SECONDS,
+                "method", request.getMethod(), "uri", uri, "status", Integer.toString(status)).observeNanos(nanos);
+        registry.histogram("http_server_request_statements", "Hibernate statements prepared per request", Histogram.STATEMENTS,
+                "method", request.getMethod(), "uri", uri).observe(statements);
+    }
+
+    private static String uri(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return status == 404 ? "NOT_FOUND" : "UNKNOWN";
+    }
+}
@@ -0,0 +1,39 @@
+package com.hieu.dvdrental.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #begin()} and {@link #end()},
+ * which {@link RequestMetricsFilter} wraps around each request.
+ */
+public class RequestStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    public void begin() {
+        current.set(new int[1]);
+    }
+
+    public int end() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+}
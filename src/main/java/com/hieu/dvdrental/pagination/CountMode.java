@@ -0,0 +1,43 @@
+package com.hieu.dvdrental.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * How the total of a paged response is produced. {@code EXACT} runs the count query, {@code ESTIMATE}
+ * asks the planner and {@code NONE} returns a {@link Slice} that only knows whether a next page exists.
+ */
+public enum CountMode {
+    NONE, ESTIMATE, EXACT;
+
+    public static CountMode from(String value) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Count must be one of none, estimate or exact");
+    }
+
+    public <T> Slice<T> fetch(Supplier<Page<T>> exact, Supplier<Slice<T>> slice, LongSupplier estimate) {
+        return switch (this) {
+            case EXACT -> exact.get();
+            case NONE -> slice.get();
+            case ESTIMATE -> withEstimatedTotal(slice.get(), estimate);
+        };
+    }
+
+    private static <T> Page<T> withEstimatedTotal(Slice<T> slice, LongSupplier estimate) {
+        Pageable pageable = slice.getPageable();
+        long seen = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(estimate.getAsLong(), seen + 1));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hieu.dvdrental.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursors. Key values are tagged with their
+ * type so that they come back as the same Java type the entity attribute expects.
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> KEYS_TYPE = new TypeReference<>() {};
+
+    private CursorCodec() {}
+
+    public static String encode(KeysetScrollPosition position) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        position.getKeys().forEach((key, value) -> keys.put(key, tag(value)));
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(keys);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.trim());
+            Map<String, String> tagged = MAPPER.readValue(new String(json, StandardCharsets.UTF_8), KEYS_TYPE);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            tagged.forEach((key, value) -> keys.put(key, untag(value)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | JsonProcessingException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String tag(Object value) {
+        return switch (value) {
+            case null -> "n:";
+            case Integer i -> "i:" + i;
+            case Long l -> "l:" + l;
+            case Short s -> "h:" + s;
+            case Instant instant -> "t:" + instant;
+            case String s -> "s:" + s;
+            default -> throw new IllegalArgumentException("Unsupported cursor key type " + value.getClass().getSimpleName());
+        };
+    }
+
+    private static Object untag(String value) {
+        if (value == null || value.length() < 2 || value.charAt(1) != ':') {
+            throw new IllegalArgumentException("Invalid cursor key");
+        }
+        String raw = value.substring(2);
+        return switch (value.charAt(0)) {
+            case 'n' -> null;
+            case 'i' -> Integer.valueOf(raw);
+            case 'l' -> Long.valueOf(raw);
+            case 'h' -> Short.valueOf(raw);
+            case 't' -> Instant.parse(raw);
+            case 's' -> raw;
+            default -> throw new IllegalArgumentException("Invalid cursor key");
+        };
+    }
+}
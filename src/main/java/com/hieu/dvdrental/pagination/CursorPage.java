@@ -0,0 +1,44 @@
+package com.hieu.dvdrental.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorPage<T> of(Window<T> window, int size) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = CursorCodec.encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+        return new CursorPage<>(window.getContent(), size, window.hasNext(), nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
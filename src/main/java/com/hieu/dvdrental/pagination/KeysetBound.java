@@ -0,0 +1,28 @@
+package com.hieu.dvdrental.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.Optional;
+
+/**
+ * Spring Data renders a keyset condition OR-expanded, as {@code name > ? OR (name = ? AND id > ?)}, which PostgreSQL
+ * cannot use as a range bound on a {@code (name, id)} index. Repositories repeat the leading key as a redundant
+ * {@code name >= ?} bound next to it; this picks that bound out of a scroll position.
+ */
+public final class KeysetBound {
+
+    private KeysetBound() {}
+
+    //Only an ascending, case-sensitive leading order on the property can be bounded from below by its key
+    public static Optional<String> lowerBound(KeysetScrollPosition position, Sort sort, String property) {
+        Sort.Order leading = sort.stream().findFirst().orElse(null);
+        if (leading == null || !leading.getProperty().equals(property) || !leading.isAscending() || leading.isIgnoreCase()
+                || !position.scrollsForward()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(position.getKeys().get(property))
+                .filter(String.class::isInstance)
+                .map(String.class::cast);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hieu.dvdrental.payment;
+
+/**
+ * When a posted payment is acknowledged. {@code ACCEPTED} answers as soon as the payment is queued, so it is lost
+ * if the process dies before its batch commits; {@code COMMITTED} answers once its batch has committed.
+ */
+public enum AckMode {
+    ACCEPTED, COMMITTED;
+
+    public static AckMode from(String value) {
+        for (AckMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Ack must be one of accepted or committed");
+    }
+}
@@ -0,0 +1,16 @@
+package com.hieu.dvdrental.payment;
+
+import java.time.Duration;
+
+public class PaymentBacklogFullException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PaymentBacklogFullException(int capacity, Duration retryAfter) {
+        super("Payment intake is full with " + capacity + " payments waiting to be written, retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hieu.dvdrental.payment;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+public class PaymentController {
+    private final PaymentService paymentService;
+
+    @Autowired
+    public PaymentController(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    //202 once queued, 201 once committed; the request thread is released while a committed ack waits for its batch
+    @PostMapping("/payments")
+    public CompletableFuture<ResponseEntity<PaymentDto>> postPayment(
+            @RequestParam(defaultValue = "${dvdrental.payments.default-ack:committed}") String ack,
+            @Valid @RequestBody PaymentIntakeDto paymentIntakeDto
+    ) {
+        AckMode mode = AckMode.from(ack);
+        HttpStatus status = mode == AckMode.COMMITTED ? HttpStatus.CREATED : HttpStatus.ACCEPTED;
+        return paymentService.postPayment(paymentIntakeDto, mode)
+                .thenApply(payment -> ResponseEntity.status(status).body(payment));
+    }
+}
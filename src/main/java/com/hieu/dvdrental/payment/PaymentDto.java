@@ -0,0 +1,72 @@
+package com.hieu.dvdrental.payment;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class PaymentDto {
+    private Integer id;
+    private Integer customerId;
+    private Integer staffId;
+    private Integer rentalId;
+    private BigDecimal amount;
+    private Instant paymentDate;
+
+    public PaymentDto() {}
+
+    public PaymentDto(Integer id, Integer customerId, Integer staffId, Integer rentalId, BigDecimal amount, Instant paymentDate) {
+        this.id = id;
+        this.customerId = customerId;
+        this.staffId = staffId;
+        this.rentalId = rentalId;
+        this.amount = amount;
+        this.paymentDate = paymentDate;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Integer getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(Integer staffId) {
+        this.staffId = staffId;
+    }
+
+    public Integer getRentalId() {
+        return rentalId;
+    }
+
+    public void setRentalId(Integer rentalId) {
+        this.rentalId = rentalId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Instant getPaymentDate() {
+        return paymentDate;
+    }
+
+    public void setPaymentDate(Instant paymentDate) {
+        this.paymentDate = paymentDate;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hieu.dvdrental.payment;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+public class PaymentIntakeDto {
+    @NotNull(message = "Customer is required")
+    @Positive(message = "Invalid customer ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid customer ID")
+    private Integer customerId;
+    @NotNull(message = "Staff is required")
+    @Positive(message = "Invalid staff ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid staff ID")
+    private Integer staffId;
+    @NotNull(message = "Rental is required")
+    @Positive(message = "Invalid rental ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid rental ID")
+    private Integer rentalId;
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.00", message = "Amount must not be negative")
+    @Digits(integer = 3, fraction = 2, message = "Amount must have at most 3 integer and 2 fraction digits")
+    private BigDecimal amount;
+
+    public PaymentIntakeDto() {}
+
+    public PaymentIntakeDto(Integer customerId, Integer staffId, Integer rentalId, BigDecimal amount) {
+        this.customerId = customerId;
+        this.staffId = staffId;
+        this.rentalId = rentalId;
+        this.amount = amount;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Integer getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(Integer staffId) {
+        this.staffId = staffId;
+    }
+
+    public Integer getRentalId() {
+        return rentalId;
+    }
+
+    public void setRentalId(Integer rentalId) {
+        this.rentalId = rentalId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,69 @@
+package com.hieu.dvdrental.payment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Keeps monthly {@code payment} partitions ahead of the calendar, so new payments never land in
+ * {@code payment_default}. With {@code dvdrental.payments.partition-retention} set, months older than the
+ * retention are detached into standalone tables for archival.
+ */
+@Component
+public class PaymentPartitionMaintainer {
+    private static final Logger log = LoggerFactory.getLogger(PaymentPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final Period retention;
+
+    @Autowired
+    public PaymentPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${dvdrental.payments.partition-months-ahead:3}") int monthsAhead,
+            @Value("${dvdrental.payments.partition-retention:}") Period retention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${dvdrental.payments.partition-check-interval:PT6H}")
+    public void maintain() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        try {
+            int created = createPartitions(month, month.plusMonths(monthsAhead));
+            if (created > 0) {
+                log.info("Created {} payment partitions up to {}", created, month.plusMonths(monthsAhead));
+            }
+            if (retention != null) {
+                List<String> detached = detachBefore(month.minus(retention));
+                if (!detached.isEmpty()) {
+                    log.info("Detached payment partitions {}", detached);
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Payment partition maintenance failed, payments past the last partition go to payment_default", ex);
+        }
+    }
+
+    //Months holding from through until, rows of those months already in payment_default are moved into them
+    public int createPartitions(LocalDate from, LocalDate until) {
+        Integer created = jdbcTemplate.queryForObject("SELECT create_payment_partitions(?, ?)", Integer.class, from, until);
+        return created == null ? 0 : created;
+    }
+
+    //Monthly partitions ending on or before the given date; the detached tables keep their rows and names
+    public List<String> detachBefore(LocalDate before) {
+        return jdbcTemplate.queryForList("SELECT detach_payment_partitions(?)", String.class, before);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hieu.dvdrental.payment;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class PaymentService {
+    private final PaymentWriteBehind paymentWriteBehind;
+
+    @Autowired
+    public PaymentService(PaymentWriteBehind paymentWriteBehind) {
+        this.paymentWriteBehind = paymentWriteBehind;
+    }
+
+    //The payment is dated when it is accepted, not when its batch happens to be written
+    public CompletableFuture<PaymentDto> postPayment(PaymentIntakeDto intake, AckMode ack) {
+        PaymentDto payment = new PaymentDto(null, intake.getCustomerId(), intake.getStaffId(), intake.getRentalId(), intake.getAmount(), Instant.now());
+        CompletableFuture<PaymentDto> committed = paymentWriteBehind.submit(payment);
+        return switch (ack) {
+            case ACCEPTED -> CompletableFuture.completedFuture(new PaymentDto(null, payment.getCustomerId(), payment.getStaffId(),
+                    payment.getRentalId(), payment.getAmount(), payment.getPaymentDate()));
+            case COMMITTED -> committed;
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.hieu.dvdrental.payment;
+
+import com.hieu.dvdrental.metrics.Histogram;
+import com.hieu.dvdrental.metrics.MetricsRegistry;
+import com.hieu.dvdrental.report.RevenueCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queues posted payments in a bounded buffer and writes them in batches: one id allocation, one multi-row insert
+ * and one commit per batch. A batch is flushed once it reaches {@code dvdrental.payments.batch-size} or its first
+ * payment has waited {@code dvdrental.payments.max-delay}. A full buffer refuses new payments instead of growing.
+ */
+@Component
+public class PaymentWriteBehind implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(PaymentWriteBehind.class);
+
+    //payment_payment_id_seq hands out blocks of 50 (V1.8), the same pooled-lo scheme Hibernate uses
+    private static final int ID_BLOCK = 50;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final double[] BATCH_SIZES = {1, 10, 50, 100, 200, 500, 1000, 5000};
+
+    private static final String INSERT_SQL = "INSERT INTO payment (payment_id, customer_id, staff_id, rental_id, amount, payment_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RevenueCounters revenueCounters;
+    private final BlockingQueue<PendingPayment> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int writers;
+
+    private final LongAdder written;
+    private final LongAdder rejected;
+    private final LongAdder failed;
+    private final Histogram batchRows;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Autowired
+    public PaymentWriteBehind(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, RevenueCounters revenueCounters,
+                              MetricsRegistry metricsRegistry,
+                              @Value("${dvdrental.payments.queue-capacity:10000}") int capacity,
+                              @Value("${dvdrental.payments.batch-size:200}") int batchSize,
+                              @Value("${dvdrental.payments.max-delay:PT0.01S}") Duration maxDelay,
+                              @Value("${dvdrental.payments.writers:2}") int writers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.revenueCounters = revenueCounters;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.writers = writers;
+
+        metricsRegistry.gauge("payment_intake_queued", "Payments waiting to be written", queue::size);
+        this.written = metricsRegistry.counter("payment_intake_written_total", "Payments committed by the write-behind intake");
+        this.rejected = metricsRegistry.counter("payment_intake_rejected_total", "Payments refused because the intake was full");
+        this.failed = metricsRegistry.counter("payment_intake_failed_total", "Payments the database refused");
+        this.batchRows = metricsRegistry.histogram("payment_intake_batch_rows", "Payments per committed batch", BATCH_SIZES);
+    }
+
+    /**
+     * Queues a payment whose id is still null. The future completes with the id set once its batch commits, or
+     * with an {@link IllegalArgumentException} if the database refused that payment.
+     */
+    public CompletableFuture<PaymentDto> submit(PaymentDto payment) {
+        PendingPayment pending = new PendingPayment(payment, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            throw new PaymentBacklogFullException(capacity, Duration.ofSeconds(1));
+        }
+        return pending.result;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < writers; i++) {
+            Thread thread = Thread.ofPlatform().name("payment-writer-" + i).daemon().start(this::drain);
+            threads.add(thread);
+        }
+    }
+
+    //Writers keep draining after running is cleared, so everything accepted before shutdown is written
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    //Starts before and stops after the web server, so no request can queue a payment that is never written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<PendingPayment> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingPayment first = queue.poll(POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() == batchSize || wait <= 0) {
+                        break;
+                    }
+                    PendingPayment next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<PendingPayment> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (DataIntegrityViolationException ex) {
+            if (batch.size() > 1) {
+                //One bad payment must not sink the others, so the batch is retried a payment at a time
+                batch.forEach(pending -> flush(List.of(pending)));
+            } else {
+                failed.increment();
+                log.warn("Payment for rental {} rejected: {}", batch.getFirst().payment.getRentalId(), ex.getMostSpecificCause().getMessage());
+                batch.getFirst().result.completeExceptionally(new IllegalArgumentException("Payment rejected: " + ex.getMostSpecificCause().getMessage()));
+            }
+            return;
+        } catch (DataAccessException ex) {
+            log.error("Writing {} payments failed", batch.size(), ex);
+            failed.add(batch.size());
+            batch.forEach(pending -> pending.result.completeExceptionally(ex));
+            return;
+        }
+        written.add(batch.size());
+        batchRows.observe(batch.size());
+        batch.forEach(pending -> pending.result.complete(pending.payment));
+    }
+
+    private void insert(List<PendingPayment> batch) {
+        List<Integer> blocks = jdbcTemplate.queryForList("SELECT nextval('payment_payment_id_seq') FROM generate_series(1, ?)",
+                Integer.class, (batch.size() + ID_BLOCK - 1) / ID_BLOCK);
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).payment.setId(blocks.get(i / ID_BLOCK) + i % ID_BLOCK);
+        }
+        //reWriteBatchedInserts turns the batch into multi-row INSERT statements
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+            PaymentDto payment = pending.payment;
+            ps.setInt(1, payment.getId());
+            ps.setInt(2, payment.getCustomerId());
+            ps.setInt(3, payment.getStaffId());
+            ps.setInt(4, payment.getRentalId());
+            ps.setBigDecimal(5, payment.getAmount());
+            //payment_date has no time zone: written in the JVM zone, the way Hibernate writes Payment.paymentDate
+            ps.setTimestamp(6, Timestamp.from(payment.getPaymentDate()));
+        });
+        revenueCounters.paid(batch.stream().map(PendingPayment::payment).toList());
+    }
+
+    private record PendingPayment(PaymentDto payment, CompletableFuture<PaymentDto> result) {}
+}
@@ -0,0 +1,65 @@
+package com.hieu.dvdrental.rental;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class CheckoutDto {
+    @NotNull(message = "Film is required")
+    @Positive(message = "Invalid film ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid film ID")
+    private Integer filmId;
+    @NotNull(message = "Store is required")
+    @Positive(message = "Invalid store ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid store ID")
+    private Integer storeId;
+    @NotNull(message = "Customer is required")
+    @Positive(message = "Invalid customer ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid customer ID")
+    private Integer customerId;
+    @NotNull(message = "Staff is required")
+    @Positive(message = "Invalid staff ID")
+    @Max(value = Integer.MAX_VALUE - 1, message = "Invalid staff ID")
+    private Integer staffId;
+
+    public CheckoutDto() {}
+
+    public CheckoutDto(Integer filmId, Integer storeId, Integer customerId, Integer staffId) {
+        this.filmId = filmId;
+        this.storeId = storeId;
+        this.customerId = customerId;
+        this.staffId = staffId;
+    }
+
+    public Integer getFilmId() {
+        return filmId;
+    }
+
+    public void setFilmId(Integer filmId) {
+        this.filmId = filmId;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Integer getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(Integer staffId) {
+        this.staffId = staffId;
+    }
+}
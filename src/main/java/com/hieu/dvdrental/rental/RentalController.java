@@ -0,0 +1,52 @@
+package com.hieu.dvdrental.rental;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+public class RentalController {
+    private final RentalService rentalService;
+
+    @Autowired
+    public RentalController(RentalService rentalService) {
+        this.rentalService = rentalService;
+    }
+
+    @GetMapping("/rentals/{rentalId}")
+    public ResponseEntity<RentalDto> getRentalById(
+            @PathVariable
+            @Positive(message = "Invalid ID")
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer rentalId
+    ) {
+        return ResponseEntity.ok(rentalService.getRentalById(rentalId));
+    }
+
+    @PostMapping("/rentals")
+    public ResponseEntity<RentalDto> checkout(@Valid @RequestBody CheckoutDto checkoutDto) {
+        RentalDto rental = rentalService.checkout(checkoutDto);
+
+        URI uri = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{rentalId}")
+                .buildAndExpand(rental.getId())
+                .toUri();
+
+        return ResponseEntity.created(uri).body(rental);
+    }
+
+    @PostMapping("/rentals/{rentalId}/return")
+    public ResponseEntity<RentalDto> returnRental(
+            @PathVariable
+            @Positive(message = "Invalid ID")
+            @Max(value = Integer.MAX_VALUE - 1, message = "Invalid ID") Integer rentalId
+    ) {
+        return ResponseEntity.ok(rentalService.returnRental(rentalId));
+    }
+}
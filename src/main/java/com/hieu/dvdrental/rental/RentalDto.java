@@ -0,0 +1,71 @@
+package com.hieu.dvdrental.rental;
+
+import java.time.Instant;
+
+public class RentalDto {
+    private Integer id;
+    private Integer inventoryId;
+    private Integer customerId;
+    private Integer staffId;
+    private Instant rentalDate;
+    private Instant returnDate;
+
+    public RentalDto() {}
+
+    public RentalDto(Integer id, Integer inventoryId, Integer customerId, Integer staffId, Instant rentalDate, Instant returnDate) {
+        this.id = id;
+        this.inventoryId = inventoryId;
+        this.customerId = customerId;
+        this.staffId = staffId;
+        this.rentalDate = rentalDate;
+        this.returnDate = returnDate;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getInventoryId() {
+        return inventoryId;
+    }
+
+    public void setInventoryId(Integer inventoryId) {
+        this.inventoryId = inventoryId;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Integer getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(Integer staffId) {
+        this.staffId = staffId;
+    }
+
+    public Instant getRentalDate() {
+        return rentalDate;
+    }
+
+    public void setRentalDate(Instant rentalDate) {
+        this.rentalDate = rentalDate;
+    }
+
+    public Instant getReturnDate() {
+        return returnDate;
+    }
+
+    public void setReturnDate(Instant returnDate) {
+        this.returnDate = returnDate;
+    }
+}
@@ -0,0 +1,14 @@
+package com.hieu.dvdrental.rental;
+
+import com.hieu.dvdrental.entity.Rental;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RentalMapper {
+    //Reading the id of a lazy reference does not load it
+    @Mapping(target = "inventoryId", source = "inventory.id")
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "staffId", source = "staff.id")
+    RentalDto toDto(Rental rental);
+}
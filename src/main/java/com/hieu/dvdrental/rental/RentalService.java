@@ -0,0 +1,134 @@
+package com.hieu.dvdrental.rental;
+
+import com.hieu.dvdrental.entity.Rental;
+import com.hieu.dvdrental.exception.ConflictException;
+import com.hieu.dvdrental.inventory.InventoryAvailability;
+import com.hieu.dvdrental.repository.CustomerRepository;
+import com.hieu.dvdrental.repository.InventoryRepository;
+import com.hieu.dvdrental.repository.RentalRepository;
+import com.hieu.dvdrental.repository.StaffRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Checkouts take a random copy the availability index has on the shelf, or lock a free copy with {@code SKIP LOCKED}
+ * when it has none, so a burst of requests for one film spreads over its copies instead of queueing on the first one.
+ * The index is never trusted to turn a checkout away. The open rental unique index is the final guard: a checkout
+ * whose copy was already taken fails on it and retries by locking a copy with a fresh snapshot, and answers with a
+ * conflict once it has lost {@code MAX_ATTEMPTS} races.
+ */
+@Service
+public class RentalService {
+    static final String OPEN_RENTAL_INDEX = "idx_unq_rental_inventory_id_open";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RentalRepository rentalRepository;
+    private final InventoryRepository inventoryRepository;
+    private final CustomerRepository customerRepository;
+    private final StaffRepository staffRepository;
+    private final InventoryAvailability inventoryAvailability;
+    private final RentalMapper rentalMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public RentalService(RentalRepository rentalRepository, InventoryRepository inventoryRepository, CustomerRepository customerRepository,
+                         StaffRepository staffRepository, InventoryAvailability inventoryAvailability, RentalMapper rentalMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.rentalRepository = rentalRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.customerRepository = customerRepository;
+        this.staffRepository = staffRepository;
+        this.inventoryAvailability = inventoryAvailability;
+        this.rentalMapper = rentalMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public RentalDto getRentalById(int id) {
+        return rentalRepository.findById(id)
+                .map(rentalMapper::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Rental with id " + id + " not found"));
+    }
+
+    public RentalDto checkout(CheckoutDto checkoutDto) {
+        if (!customerRepository.existsById(checkoutDto.getCustomerId())) {
+            throw new EntityNotFoundException("Customer with id " + checkoutDto.getCustomerId() + " not found");
+        }
+        if (!staffRepository.existsById(checkoutDto.getStaffId())) {
+            throw new EntityNotFoundException("Staff with id " + checkoutDto.getStaffId() + " not found");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            //A copy picked from the index may be stale, so retries always lock one in the database
+            boolean fromIndex = attempt == 1;
+            try {
+                return transactionTemplate.execute(status -> checkoutOnce(checkoutDto, fromIndex));
+            } catch (DataIntegrityViolationException ex) {
+                if (!violates(ex, OPEN_RENTAL_INDEX)) {
+                    throw ex;
+                }
+                //Losing every race for a hot title is expected under a burst, the client can try again
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new ConflictException("Every copy of film with id " + checkoutDto.getFilmId() + " tried at store " +
+                            checkoutDto.getStoreId() + " was taken by a concurrent checkout");
+                }
+            }
+        }
+    }
+
+    public RentalDto returnRental(int id) {
+        return transactionTemplate.execute(status -> {
+            Rental rental = rentalRepository.findForUpdateById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Rental with id " + id + " not found"));
+            if (rental.getReturnDate() != null) {
+                throw new ConflictException("Rental with id " + id + " was already returned");
+            }
+            rental.setReturnDate(Instant.now());
+            inventoryAvailability.checkedIn(rental.getInventory().getId());
+            return rentalMapper.toDto(rental);
+        });
+    }
+
+    private RentalDto checkoutOnce(CheckoutDto checkoutDto, boolean fromIndex) {
+        Integer inventoryId = (fromIndex ? shelvedCopy(checkoutDto) : Optional.<Integer>empty())
+                .or(() -> rentalRepository.lockAvailableInventoryId(checkoutDto.getFilmId(), checkoutDto.getStoreId()))
+                .orElseThrow(() -> soldOut(checkoutDto));
+
+        Rental rental = new Rental();
+        rental.setRentalDate(Instant.now());
+        rental.setInventory(inventoryRepository.getReferenceById(inventoryId));
+        rental.setCustomer(customerRepository.getReferenceById(checkoutDto.getCustomerId()));
+        rental.setStaff(staffRepository.getReferenceById(checkoutDto.getStaffId()));
+        Rental saved = rentalRepository.saveAndFlush(rental);
+
+        inventoryAvailability.checkedOut(inventoryId);
+        return rentalMapper.toDto(saved);
+    }
+
+    private Optional<Integer> shelvedCopy(CheckoutDto checkoutDto) {
+        return inventoryAvailability.availableByStore(checkoutDto.getFilmId(), checkoutDto.getStoreId())
+                .map(stores -> stores.get(checkoutDto.getStoreId()))
+                .map(copies -> copies[ThreadLocalRandom.current().nextInt(copies.length)]);
+    }
+
+    private static ConflictException soldOut(CheckoutDto checkoutDto) {
+        return new ConflictException("No copy of film with id " + checkoutDto.getFilmId() + " is available at store " + checkoutDto.getStoreId());
+    }
+
+    private static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraint.equals(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+}
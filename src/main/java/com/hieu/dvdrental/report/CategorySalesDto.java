@@ -0,0 +1,41 @@
+package com.hieu.dvdrental.report;
+
+import java.math.BigDecimal;
+
+public class CategorySalesDto {
+    private Integer categoryId;
+    private String category;
+    private BigDecimal totalSales;
+
+    public CategorySalesDto() {}
+
+    public CategorySalesDto(Integer categoryId, String category, BigDecimal totalSales) {
+        this.categoryId = categoryId;
+        this.category = category;
+        this.totalSales = totalSales;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getTotalSales() {
+        return totalSales;
+    }
+
+    public void setTotalSales(BigDecimal totalSales) {
+        this.totalSales = totalSales;
+    }
+}
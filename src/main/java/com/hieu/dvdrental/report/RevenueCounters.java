@@ -0,0 +1,143 @@
+package com.hieu.dvdrental.report;
+
+import com.hieu.dvdrental.payment.PaymentDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Revenue in cents per store, film category and staff member, kept in {@link LongAdder}s so concurrent payment
+ * writers never contend on one counter. Seeded from {@code payment} at startup, before the payment writers start,
+ * then advanced by every committed intake batch. Payments written by other means, such as bulk imports or other
+ * application instances, are counted at the next start.
+ */
+@Component
+public class RevenueCounters implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(RevenueCounters.class);
+
+    //One pass over payment: a category total is the sum of its films' totals, so films with several categories
+    //do not inflate the store and staff totals
+    private static final String SEED_SQL = "WITH totals AS (" +
+            "SELECT i.store_id, p.staff_id, i.film_id, GROUPING(i.store_id, p.staff_id, i.film_id) AS grouping_set, " +
+            "SUM(p.amount * 100)::BIGINT AS cents " +
+            "FROM payment p JOIN rental r ON r.rental_id = p.rental_id JOIN inventory i ON i.inventory_id = r.inventory_id " +
+            "GROUP BY GROUPING SETS ((i.store_id), (p.staff_id), (i.film_id))) " +
+            "SELECT 'store' AS dimension, store_id AS id, cents FROM totals WHERE grouping_set = 3 " +
+            "UNION ALL SELECT 'staff', staff_id, cents FROM totals WHERE grouping_set = 5 " +
+            "UNION ALL SELECT 'category', fc.category_id, SUM(t.cents)::BIGINT FROM totals t " +
+            "JOIN film_category fc ON fc.film_id = t.film_id WHERE t.grouping_set = 6 GROUP BY fc.category_id";
+
+    private static final String ATTRIBUTION_SQL = "SELECT r.rental_id, i.store_id, " +
+            "ARRAY(SELECT fc.category_id FROM film_category fc WHERE fc.film_id = i.film_id) AS category_ids " +
+            "FROM rental r JOIN inventory i ON i.inventory_id = r.inventory_id WHERE r.rental_id = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentMap<Integer, LongAdder> stores = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, LongAdder> categories = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, LongAdder> staff = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    @Autowired
+    public RevenueCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void start() {
+        jdbcTemplate.query(SEED_SQL, rs -> {
+            ConcurrentMap<Integer, LongAdder> counters = switch (rs.getString("dimension")) {
+                case "store" -> stores;
+                case "category" -> categories;
+                default -> staff;
+            };
+            add(counters, rs.getInt("id"), rs.getLong("cents"));
+        });
+        running = true;
+        log.info("Revenue counters seeded for {} stores, {} categories and {} staff", stores.size(), categories.size(), staff.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    //Seeded before the payment writers start, so no committed batch is counted twice or missed
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    /**
+     * Attributes written payments to their store and categories with one query, inside the writing transaction,
+     * and counts them once it commits.
+     */
+    public void paid(List<PaymentDto> payments) {
+        Integer[] rentalIds = payments.stream().map(PaymentDto::getRentalId).distinct().toArray(Integer[]::new);
+        Map<Integer, Attribution> attributions = new HashMap<>();
+        jdbcTemplate.query(ATTRIBUTION_SQL, rs -> {
+            Array categoryIds = rs.getArray("category_ids");
+            attributions.put(rs.getInt("rental_id"), new Attribution(rs.getInt("store_id"), (Integer[]) categoryIds.getArray()));
+            categoryIds.free();
+        }, (Object) rentalIds);
+
+        List<Revenue> revenue = payments.stream()
+                .map(payment -> new Revenue(payment.getStaffId(), attributions.get(payment.getRentalId()),
+                        payment.getAmount().movePointRight(2).longValueExact()))
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revenue.forEach(RevenueCounters.this::apply);
+                }
+            });
+        } else {
+            revenue.forEach(this::apply);
+        }
+    }
+
+    public RevenueDto totals() {
+        return new RevenueDto(0, sums(stores), sums(categories), sums(staff));
+    }
+
+    private void apply(Revenue revenue) {
+        add(staff, revenue.staffId(), revenue.cents());
+        if (revenue.attribution() != null) {
+            add(stores, revenue.attribution().storeId(), revenue.cents());
+            for (Integer categoryId : revenue.attribution().categoryIds()) {
+                add(categories, categoryId, revenue.cents());
+            }
+        }
+    }
+
+    private static void add(ConcurrentMap<Integer, LongAdder> counters, int id, long cents) {
+        counters.computeIfAbsent(id, key -> new LongAdder()).add(cents);
+    }
+
+    private static Map<Integer, Long> sums(ConcurrentMap<Integer, LongAdder> counters) {
+        Map<Integer, Long> sums = new TreeMap<>();
+        counters.forEach((id, counter) -> sums.put(id, counter.sum()));
+        return sums;
+    }
+
+    private record Attribution(int storeId, Integer[] categoryIds) {}
+
+    private record Revenue(int staffId, Attribution attribution, long cents) {}
+}
@@ -0,0 +1,52 @@
+package com.hieu.dvdrental.report;
+
+import java.util.Map;
+
+//Cents by store, category and staff id: totals in a snapshot event, changes since the previous event in a delta
+public class RevenueDto {
+    private long sequence;
+    private Map<Integer, Long> stores;
+    private Map<Integer, Long> categories;
+    private Map<Integer, Long> staff;
+
+    public RevenueDto() {}
+
+    public RevenueDto(long sequence, Map<Integer, Long> stores, Map<Integer, Long> categories, Map<Integer, Long> staff) {
+        this.sequence = sequence;
+        this.stores = stores;
+        this.categories = categories;
+        this.staff = staff;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Map<Integer, Long> getStores() {
+        return stores;
+    }
+
+    public void setStores(Map<Integer, Long> stores) {
+        this.stores = stores;
+    }
+
+    public Map<Integer, Long> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<Integer, Long> categories) {
+        this.categories = categories;
+    }
+
+    public Map<Integer, Long> getStaff() {
+        return staff;
+    }
+
+    public void setStaff(Map<Integer, Long> staff) {
+        this.staff = staff;
+    }
+}
@@ -0,0 +1,191 @@
+package com.hieu.dvdrental.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes {@link RevenueCounters} to Server-Sent Events subscribers. A subscriber first gets a {@code snapshot} event
+ * with the totals last published, then a {@code delta} event per {@code dvdrental.reports.revenue-stream-interval}
+ * in which revenue changed. Each delta is computed and serialized once whatever the number of subscribers, and
+ * never touches the database. Events are queued per subscriber and written from virtual threads, so a slow client
+ * never holds up publishing; one that falls {@code dvdrental.reports.revenue-stream-backlog} events behind is
+ * disconnected and can resubscribe for a fresh snapshot.
+ */
+@Component
+public class RevenueStream {
+    private final RevenueCounters revenueCounters;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int backlog;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    //Sockets are only written from here, one virtual thread per subscriber at a time, never under the lock below
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("revenue-stream-", 0).factory());
+
+    private RevenueDto published = new RevenueDto(0, Map.of(), Map.of(), Map.of());
+
+    @Autowired
+    public RevenueStream(RevenueCounters revenueCounters, ObjectMapper objectMapper, MetricsRegistry metricsRegistry,
+                         @Value("${dvdrental.reports.revenue-stream-timeout:PT30M}") Duration timeout,
+                         @Value("${dvdrental.reports.revenue-stream-backlog:16}") int backlog) {
+        this.revenueCounters = revenueCounters;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.backlog = backlog;
+        metricsRegistry.gauge("revenue_stream_subscribers", "Clients subscribed to the revenue stream", subscribers::size);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, backlog);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        //Queued under the lock, so the snapshot is followed by exactly the deltas published after it
+        synchronized (this) {
+            subscriber.offer(new Event("snapshot", published.getSequence(), json(published)));
+            subscribers.add(subscriber);
+        }
+        flush(subscriber);
+        return emitter;
+    }
+
+    @Scheduled(fixedRateString = "${dvdrental.reports.revenue-stream-interval:PT1S}")
+    public void publish() {
+        List<Subscriber> recipients;
+        synchronized (this) {
+            RevenueDto totals = revenueCounters.totals();
+            RevenueDto delta = new RevenueDto(published.getSequence() + 1,
+                    changes(published.getStores(), totals.getStores()),
+                    changes(published.getCategories(), totals.getCategories()),
+                    changes(published.getStaff(), totals.getStaff()));
+            if (delta.getStores().isEmpty() && delta.getCategories().isEmpty() && delta.getStaff().isEmpty()) {
+                return;
+            }
+            totals.setSequence(delta.getSequence());
+            published = totals;
+
+            Event event = new Event("delta", delta.getSequence(), json(delta));
+            recipients = List.copyOf(subscribers);
+            recipients.forEach(subscriber -> subscriber.offer(event));
+        }
+        recipients.forEach(this::flush);
+    }
+
+    private void flush(Subscriber subscriber) {
+        if (subscriber.overflowed()) {
+            //Fell behind by a whole backlog of deltas, so it could only ever catch up with a fresh snapshot
+            subscribers.remove(subscriber);
+            senders.execute(subscriber.emitter()::complete);
+        } else if (subscriber.claim()) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Event event;
+        while ((event = subscriber.pending().poll()) != null) {
+            if (!send(subscriber, event)) {
+                return;
+            }
+        }
+        subscriber.release();
+        //An event queued between the last poll and the release would otherwise wait for the next publish
+        if (!subscriber.pending().isEmpty()) {
+            flush(subscriber);
+        }
+    }
+
+    private boolean send(Subscriber subscriber, Event event) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .id(Long.toString(event.sequence()))
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            //The client went away, or the emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(ex);
+            return false;
+        }
+    }
+
+    private String json(RevenueDto revenue) {
+        try {
+            return objectMapper.writeValueAsString(revenue);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize revenue", ex);
+        }
+    }
+
+    private static Map<Integer, Long> changes(Map<Integer, Long> previous, Map<Integer, Long> current) {
+        Map<Integer, Long> changes = new TreeMap<>();
+        current.forEach((id, cents) -> {
+            long change = cents - previous.getOrDefault(id, 0L);
+            if (change != 0) {
+                changes.put(id, change);
+            }
+        });
+        return changes;
+    }
+
+    private record Event(String name, long sequence, String data) {}
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> pending;
+        private final AtomicBoolean overflow = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int backlog) {
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(backlog);
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<Event> pending() {
+            return pending;
+        }
+
+        void offer(Event event) {
+            if (!pending.offer(event)) {
+                overflow.set(true);
+            }
+        }
+
+        boolean overflowed() {
+            return overflow.get();
+        }
+
+        //Only one sender drains a subscriber at a time, so its events go out in order
+        boolean claim() {
+            return sending.compareAndSet(false, true);
+        }
+
+        void release() {
+            sending.set(false);
+        }
+    }
+}
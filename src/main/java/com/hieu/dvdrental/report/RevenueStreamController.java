@@ -0,0 +1,22 @@
+package com.hieu.dvdrental.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class RevenueStreamController {
+    private final RevenueStream revenueStream;
+
+    @Autowired
+    public RevenueStreamController(RevenueStream revenueStream) {
+        this.revenueStream = revenueStream;
+    }
+
+    @GetMapping(value = "/reports/revenue/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRevenue() {
+        return revenueStream.subscribe();
+    }
+}
@@ -0,0 +1,16 @@
+package com.hieu.dvdrental.report;
+
+public enum SalesReport {
+    BY_CATEGORY("sales_by_film_category"),
+    BY_STORE("sales_by_store");
+
+    private final String viewName;
+
+    SalesReport(String viewName) {
+        this.viewName = viewName;
+    }
+
+    public String getViewName() {
+        return viewName;
+    }
+}
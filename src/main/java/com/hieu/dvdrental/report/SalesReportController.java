@@ -0,0 +1,38 @@
+package com.hieu.dvdrental.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+@RestController
+public class SalesReportController {
+    private final SalesReportService salesReportService;
+
+    @Autowired
+    public SalesReportController(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    //Last-Modified is the refresh time, so dashboards polling with If-Modified-Since get 304 between refreshes without reading the rows
+    @GetMapping("/reports/sales/by-category")
+    public ResponseEntity<SalesReportDto<CategorySalesDto>> getSalesByCategory(WebRequest request) {
+        Instant refreshedAt = salesReportService.getRefreshedAt(SalesReport.BY_CATEGORY);
+        if (request.checkNotModified(refreshedAt.toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok(salesReportService.getSalesByCategory(refreshedAt));
+    }
+
+    @GetMapping("/reports/sales/by-store")
+    public ResponseEntity<SalesReportDto<StoreSalesDto>> getSalesByStore(WebRequest request) {
+        Instant refreshedAt = salesReportService.getRefreshedAt(SalesReport.BY_STORE);
+        if (request.checkNotModified(refreshedAt.toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok(salesReportService.getSalesByStore(refreshedAt));
+    }
+}
@@ -0,0 +1,32 @@
+package com.hieu.dvdrental.report;
+
+import java.time.Instant;
+import java.util.List;
+
+public class SalesReportDto<T> {
+    private Instant refreshedAt;
+    private List<T> rows;
+
+    public SalesReportDto() {}
+
+    public SalesReportDto(Instant refreshedAt, List<T> rows) {
+        this.refreshedAt = refreshedAt;
+        this.rows = rows;
+    }
+
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(Instant refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<T> rows) {
+        this.rows = rows;
+    }
+}
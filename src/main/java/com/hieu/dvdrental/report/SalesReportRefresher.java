@@ -0,0 +1,48 @@
+package com.hieu.dvdrental.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Refreshes the materialized sales reports with {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, so readers keep
+ * seeing the previous contents while a refresh runs. The refresh and its {@code report_refresh} timestamp commit
+ * together, and the timestamp is taken when the transaction starts, so it never claims data newer than it is.
+ */
+@Component
+public class SalesReportRefresher {
+    private static final Logger log = LoggerFactory.getLogger(SalesReportRefresher.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SalesReportRefresher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${dvdrental.reports.refresh-interval:PT5M}")
+    public void refreshAll() {
+        for (SalesReport report : SalesReport.values()) {
+            try {
+                refresh(report);
+            } catch (DataAccessException ex) {
+                log.warn("Refreshing {} failed, it keeps serving the previous refresh", report.getViewName(), ex);
+            }
+        }
+    }
+
+    public void refresh(SalesReport report) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + report.getViewName());
+            jdbcTemplate.update("UPDATE report_refresh SET refreshed_at = now() WHERE report_name = ?", report.getViewName());
+        });
+    }
+}
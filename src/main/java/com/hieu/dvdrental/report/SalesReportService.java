@@ -0,0 +1,47 @@
+package com.hieu.dvdrental.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+public class SalesReportService {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SalesReportService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SalesReportDto<CategorySalesDto> getSalesByCategory() {
+        return getSalesByCategory(getRefreshedAt(SalesReport.BY_CATEGORY));
+    }
+
+    //refreshedAt must be read before the rows: a refresh committing in between makes the report look older than it is, never newer
+    public SalesReportDto<CategorySalesDto> getSalesByCategory(Instant refreshedAt) {
+        List<CategorySalesDto> rows = jdbcTemplate.query(
+                "SELECT category_id, category, total_sales FROM sales_by_film_category ORDER BY total_sales DESC, category_id",
+                (rs, rowNum) -> new CategorySalesDto(rs.getInt("category_id"), rs.getString("category"), rs.getBigDecimal("total_sales")));
+        return new SalesReportDto<>(refreshedAt, rows);
+    }
+
+    public SalesReportDto<StoreSalesDto> getSalesByStore() {
+        return getSalesByStore(getRefreshedAt(SalesReport.BY_STORE));
+    }
+
+    public SalesReportDto<StoreSalesDto> getSalesByStore(Instant refreshedAt) {
+        List<StoreSalesDto> rows = jdbcTemplate.query(
+                "SELECT store_id, store, manager, total_sales FROM sales_by_store ORDER BY store, store_id",
+                (rs, rowNum) -> new StoreSalesDto(rs.getInt("store_id"), rs.getString("store"), rs.getString("manager"), rs.getBigDecimal("total_sales")));
+        return new SalesReportDto<>(refreshedAt, rows);
+    }
+
+    public Instant getRefreshedAt(SalesReport report) {
+        return jdbcTemplate.queryForObject("SELECT refreshed_at FROM report_refresh WHERE report_name = ?", OffsetDateTime.class, report.getViewName())
+                .toInstant();
+    }
+}
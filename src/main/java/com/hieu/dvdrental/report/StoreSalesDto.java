@@ -0,0 +1,51 @@
+package com.hieu.dvdrental.report;
+
+import java.math.BigDecimal;
+
+public class StoreSalesDto {
+    private Integer storeId;
+    private String store;
+    private String manager;
+    private BigDecimal totalSales;
+
+    public StoreSalesDto() {}
+
+    public StoreSalesDto(Integer storeId, String store, String manager, BigDecimal totalSales) {
+        this.storeId = storeId;
+        this.store = store;
+        this.manager = manager;
+        this.totalSales = totalSales;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getManager() {
+        return manager;
+    }
+
+    public void setManager(String manager) {
+        this.manager = manager;
+    }
+
+    public BigDecimal getTotalSales() {
+        return totalSales;
+    }
+
+    public void setTotalSales(BigDecimal totalSales) {
+        this.totalSales = totalSales;
+    }
+}
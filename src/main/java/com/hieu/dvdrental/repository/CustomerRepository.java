@@ -4,4 +4,7 @@ import com.hieu.dvdrental.entity.Customer;
 import org.springframework.data.repository.Repository;
 
 public interface CustomerRepository extends Repository<Customer, Integer> {
-}
\ No newline at end of file
+    boolean existsById(Integer id);
+
+    Customer getReferenceById(Integer id);
+}
@@ -1,7 +1,21 @@
 package com.hieu.dvdrental.repository;
 
 import com.hieu.dvdrental.entity.Inventory;
+import com.hieu.dvdrental.inventory.InventoryStockRow;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface InventoryRepository extends Repository<Inventory, Integer> {
-}
\ No newline at end of file
+    Inventory getReferenceById(Integer id);
+
+    //Checked-in copies of a film, the database fallback while the availability index is not loaded
+    @Query(nativeQuery = true,
+            value = "SELECT i.store_id AS storeId, i.inventory_id AS inventoryId FROM inventory i " +
+                    "WHERE i.film_id = :filmId AND (CAST(:storeId AS INTEGER) IS NULL OR i.store_id = :storeId) " +
+                    "AND NOT EXISTS (SELECT 1 FROM rental r WHERE r.inventory_id = i.inventory_id AND r.return_date IS NULL) " +
+                    "ORDER BY i.store_id, i.inventory_id")
+    List<InventoryStockRow> findAvailableStock(@Param("filmId") Integer filmId, @Param("storeId") Integer storeId);
+}
@@ -1,7 +1,25 @@
 package com.hieu.dvdrental.repository;
 
 import com.hieu.dvdrental.entity.Payment;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PaymentRepository extends Repository<Payment, Integer> {
-}
\ No newline at end of file
+    //Half-open bounds on the partition key, so the planner only scans the monthly partitions they overlap
+    String REVENUE_BETWEEN_SQL = "SELECT COALESCE(SUM(p.amount), 0) FROM payment p WHERE p.payment_date >= :from AND p.payment_date < :to";
+
+    String CUSTOMER_PAYMENTS_BETWEEN_SQL = "SELECT p.* FROM payment p " +
+            "WHERE p.customer_id = :customerId AND p.payment_date >= :from AND p.payment_date < :to " +
+            "ORDER BY p.payment_date, p.payment_id";
+
+    @Query(nativeQuery = true, value = REVENUE_BETWEEN_SQL)
+    BigDecimal sumAmountBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(nativeQuery = true, value = CUSTOMER_PAYMENTS_BETWEEN_SQL)
+    List<Payment> findByCustomerBetween(@Param("customerId") Integer customerId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
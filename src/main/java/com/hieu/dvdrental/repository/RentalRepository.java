@@ -1,7 +1,29 @@
 package com.hieu.dvdrental.repository;
 
 import com.hieu.dvdrental.entity.Rental;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface RentalRepository extends Repository<Rental, Integer> {
-}
\ No newline at end of file
+    Optional<Rental> findById(Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rental r WHERE r.id = :id")
+    Optional<Rental> findForUpdateById(@Param("id") Integer id);
+
+    Rental saveAndFlush(Rental rental);
+
+    //Concurrent checkouts skip each other's copies instead of queueing behind the first lock
+    @Query(nativeQuery = true,
+            value = "SELECT i.inventory_id FROM inventory i " +
+                    "WHERE i.film_id = :filmId AND i.store_id = :storeId " +
+                    "AND NOT EXISTS (SELECT 1 FROM rental r WHERE r.inventory_id = i.inventory_id AND r.return_date IS NULL) " +
+                    "ORDER BY i.inventory_id LIMIT 1 " +
+                    "FOR NO KEY UPDATE OF i SKIP LOCKED")
+    Optional<Integer> lockAvailableInventoryId(@Param("filmId") Integer filmId, @Param("storeId") Integer storeId);
+}
@@ -4,4 +4,7 @@ import com.hieu.dvdrental.entity.Staff;
 import org.springframework.data.repository.Repository;
 
 public interface StaffRepository extends Repository<Staff, Integer> {
-}
\ No newline at end of file
+    boolean existsById(Integer id);
+
+    Staff getReferenceById(Integer id);
+}
@@ -0,0 +1,2 @@
+-- Open rentals are a small, hot slice of the table: availability checks and checkouts only look for these
+CREATE INDEX idx_rental_inventory_id_open ON rental (inventory_id) WHERE return_date IS NULL;
@@ -0,0 +1,3 @@
+-- A copy can only be out once: concurrent checkouts that both pick the same copy cannot both commit
+DROP INDEX idx_rental_inventory_id_open;
+CREATE UNIQUE INDEX idx_unq_rental_inventory_id_open ON rental (inventory_id) WHERE return_date IS NULL;
@@ -0,0 +1,147 @@
+-- Monthly range partitions on payment_date: date-bounded queries only scan the months they ask for, and old months
+-- can be detached into standalone tables. A primary key has to include the partition key, so payment_id stays
+-- unique through its sequence rather than through a constraint of its own.
+DROP VIEW sales_by_film_category;
+DROP VIEW sales_by_store;
+
+ALTER TABLE payment RENAME TO payment_unpartitioned;
+
+CREATE TABLE payment
+(
+    payment_id   INTEGER DEFAULT nextval('payment_payment_id_seq') NOT NULL,
+    customer_id  INTEGER                                           NOT NULL,
+    staff_id     INTEGER                                           NOT NULL,
+    rental_id    INTEGER                                           NOT NULL,
+    amount       numeric(5, 2)                                     NOT NULL,
+    payment_date TIMESTAMP WITHOUT TIME ZONE                       NOT NULL
+) PARTITION BY RANGE (payment_date);
+
+-- Catches rows outside every monthly partition, such as history older than the first month kept
+CREATE TABLE payment_default PARTITION OF payment DEFAULT;
+
+-- Creates the partition payment_pYYYY_MM holding the month of the given date, and returns its name, or NULL when it
+-- already exists. Rows of that month already sitting in payment_default are moved into it.
+CREATE OR REPLACE FUNCTION create_payment_partition(month_date DATE) RETURNS TEXT
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    lower_bound    DATE := date_trunc('month', month_date);
+    upper_bound    DATE := date_trunc('month', month_date) + INTERVAL '1 month';
+    partition_name TEXT := 'payment_p' || to_char(month_date, 'YYYY_MM');
+BEGIN
+    -- Serializes concurrent callers, so two application instances never race on the same month
+    PERFORM pg_advisory_xact_lock('payment'::regclass::oid::BIGINT);
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE payment INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM payment_default WHERE payment_date >= %L AND payment_date < %L RETURNING *) ' ||
+                   'INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE payment ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', partition_name, lower_bound, upper_bound);
+    RETURN partition_name;
+END
+$$;
+
+-- Creates the partitions of every month from from_date to until_date inclusive, and returns how many were new
+CREATE OR REPLACE FUNCTION create_payment_partitions(from_date DATE, until_date DATE) RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    month_date DATE;
+    created    INTEGER := 0;
+BEGIN
+    FOR month_date IN SELECT generate_series(date_trunc('month', from_date), date_trunc('month', until_date), INTERVAL '1 month')::DATE
+        LOOP
+            IF create_payment_partition(month_date) IS NOT NULL THEN
+                created := created + 1;
+            END IF;
+        END LOOP;
+    RETURN created;
+END
+$$;
+
+-- Detaches the monthly partitions that end on or before the given date and returns their names. A detached
+-- partition keeps its rows as a standalone table, ready to be dumped and dropped.
+CREATE OR REPLACE FUNCTION detach_payment_partitions(before_date DATE) RETURNS SETOF TEXT
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'payment'::regclass
+          AND c.relname ~ '^payment_p[0-9]{4}_[0-9]{2}$'
+          AND to_date(substr(c.relname, 10), 'YYYY_MM') + INTERVAL '1 month' <= before_date
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE payment DETACH PARTITION %I', partition_name);
+            RETURN NEXT partition_name;
+        END LOOP;
+END
+$$;
+
+-- Partitions for every month that has payments, and for the current month and the three after it
+SELECT create_payment_partition(month_date)
+FROM (SELECT DISTINCT date_trunc('month', payment_date)::DATE AS month_date
+      FROM payment_unpartitioned
+      UNION
+      SELECT generate_series(date_trunc('month', now()), date_trunc('month', now()) + INTERVAL '3 months', INTERVAL '1 month')::DATE) months;
+
+INSERT INTO payment (payment_id, customer_id, staff_id, rental_id, amount, payment_date)
+SELECT payment_id, customer_id, staff_id, rental_id, amount, payment_date
+FROM payment_unpartitioned;
+
+DROP TABLE payment_unpartitioned;
+
+-- Indexes and foreign keys are added once the rows are in, and cascade to every partition, present and future
+ALTER TABLE payment
+    ADD CONSTRAINT payment_pkey PRIMARY KEY (payment_id, payment_date);
+
+ALTER TABLE payment
+    ADD CONSTRAINT payment_customer_id_fkey FOREIGN KEY (customer_id) REFERENCES customer (customer_id) ON DELETE RESTRICT;
+
+CREATE INDEX idx_fk_customer_id ON payment (customer_id);
+
+ALTER TABLE payment
+    ADD CONSTRAINT payment_rental_id_fkey FOREIGN KEY (rental_id) REFERENCES rental (rental_id) ON DELETE SET NULL;
+
+CREATE INDEX idx_fk_rental_id ON payment (rental_id);
+
+ALTER TABLE payment
+    ADD CONSTRAINT payment_staff_id_fkey FOREIGN KEY (staff_id) REFERENCES staff (staff_id) ON DELETE RESTRICT;
+
+CREATE INDEX idx_fk_staff_id ON payment (staff_id);
+
+CREATE VIEW sales_by_film_category AS
+SELECT c.name        AS category,
+       sum(p.amount) AS total_sales
+FROM payment p
+         JOIN rental r ON p.rental_id = r.rental_id
+         JOIN inventory i ON r.inventory_id = i.inventory_id
+         JOIN film f ON i.film_id = f.film_id
+         JOIN film_category fc ON f.film_id = fc.film_id
+         JOIN category c ON fc.category_id = c.category_id
+GROUP BY c.name
+ORDER BY (sum(p.amount)) DESC;
+
+CREATE VIEW sales_by_store AS
+SELECT (c.city::text || ','::text) || cy.country::text        AS store,
+       (m.first_name::text || ' '::text) || m.last_name::text AS manager,
+       sum(p.amount)                                          AS total_sales
+FROM payment p
+         JOIN rental r ON p.rental_id = r.rental_id
+         JOIN inventory i ON r.inventory_id = i.inventory_id
+         JOIN store s ON i.store_id = s.store_id
+         JOIN address a ON s.address_id = a.address_id
+         JOIN city c ON a.city_id = c.city_id
+         JOIN country cy ON c.country_id = cy.country_id
+         JOIN staff m ON s.manager_staff_id = m.staff_id
+GROUP BY cy.country, c.city, s.store_id, m.first_name, m.last_name
+ORDER BY cy.country, c.city;
@@ -0,0 +1,47 @@
+-- The sales views aggregate every payment on each read; as materialized views a read is a scan of a few rows, and
+-- REFRESH ... CONCURRENTLY, which needs the unique indexes, rebuilds them without blocking readers
+DROP VIEW sales_by_film_category;
+DROP VIEW sales_by_store;
+
+CREATE MATERIALIZED VIEW sales_by_film_category AS
+SELECT c.category_id,
+       c.name        AS category,
+       sum(p.amount) AS total_sales
+FROM payment p
+         JOIN rental r ON p.rental_id = r.rental_id
+         JOIN inventory i ON r.inventory_id = i.inventory_id
+         JOIN film f ON i.film_id = f.film_id
+         JOIN film_category fc ON f.film_id = fc.film_id
+         JOIN category c ON fc.category_id = c.category_id
+GROUP BY c.category_id, c.name;
+
+CREATE UNIQUE INDEX idx_unq_sales_by_film_category_category_id ON sales_by_film_category (category_id);
+
+CREATE MATERIALIZED VIEW sales_by_store AS
+SELECT s.store_id,
+       (c.city::text || ','::text) || cy.country::text        AS store,
+       (m.first_name::text || ' '::text) || m.last_name::text AS manager,
+       sum(p.amount)                                          AS total_sales
+FROM payment p
+         JOIN rental r ON p.rental_id = r.rental_id
+         JOIN inventory i ON r.inventory_id = i.inventory_id
+         JOIN store s ON i.store_id = s.store_id
+         JOIN address a ON s.address_id = a.address_id
+         JOIN city c ON a.city_id = c.city_id
+         JOIN country cy ON c.country_id = cy.country_id
+         JOIN staff m ON s.manager_staff_id = m.staff_id
+GROUP BY cy.country, c.city, s.store_id, m.first_name, m.last_name;
+
+CREATE UNIQUE INDEX idx_unq_sales_by_store_store_id ON sales_by_store (store_id);
+
+-- When each materialized view was last refreshed, updated in the refresh transaction
+CREATE TABLE report_refresh
+(
+    report_name  TEXT                     NOT NULL,
+    refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT report_refresh_pkey PRIMARY KEY (report_name)
+);
+
+INSERT INTO report_refresh (report_name, refreshed_at)
+VALUES ('sales_by_film_category', now()),
+       ('sales_by_store', now());
@@ -0,0 +1,64 @@
+-- group_concat re-concatenates the whole string for every row and is PARALLEL UNSAFE, which keeps every query using
+-- these views off parallel plans. The views now aggregate with string_agg, once per film or actor in a LATERAL
+-- subquery, so reading one page of fids or actor_ids only aggregates the rows of that page. Output columns and
+-- rows are unchanged; the order inside the lists stays unspecified, as it was.
+DROP VIEW actor_info;
+DROP VIEW film_list;
+DROP VIEW nicer_but_slower_film_list;
+
+CREATE VIEW film_list AS
+SELECT film.film_id        AS fid,
+       film.title,
+       film.description,
+       category.name       AS category,
+       film.rental_rate    AS price,
+       film.length,
+       film.rating,
+       film_actors.actors
+FROM film
+         JOIN film_category ON film_category.film_id = film.film_id
+         JOIN category ON category.category_id = film_category.category_id
+         JOIN LATERAL (SELECT string_agg((actor.first_name::text || ' '::text) || actor.last_name::text, ', ') AS actors
+                       FROM film_actor
+                                JOIN actor ON actor.actor_id = film_actor.actor_id
+                       WHERE film_actor.film_id = film.film_id) film_actors ON film_actors.actors IS NOT NULL;
+
+CREATE VIEW nicer_but_slower_film_list AS
+SELECT film.film_id        AS fid,
+       film.title,
+       film.description,
+       category.name       AS category,
+       film.rental_rate    AS price,
+       film.length,
+       film.rating,
+       film_actors.actors
+FROM film
+         JOIN film_category ON film_category.film_id = film.film_id
+         JOIN category ON category.category_id = film_category.category_id
+         JOIN LATERAL (SELECT string_agg(
+                                      ((upper("substring"(actor.first_name::text, 1, 1)) || lower("substring"(actor.first_name::text, 2))) ||
+                                       upper("substring"(actor.last_name::text, 1, 1))) ||
+                                      lower("substring"(actor.last_name::text, 2)), ', ') AS actors
+                       FROM film_actor
+                                JOIN actor ON actor.actor_id = film_actor.actor_id
+                       WHERE film_actor.film_id = film.film_id) film_actors ON film_actors.actors IS NOT NULL;
+
+-- One grouped pass over the actor's films replaces the subquery per category; categories stay in name order, as
+-- the DISTINCT of the old definition left them
+CREATE VIEW actor_info AS
+SELECT a.actor_id,
+       a.first_name,
+       a.last_name,
+       actor_films.film_info
+FROM actor a
+         LEFT JOIN LATERAL (SELECT string_agg((categories.name::text || ': '::text) || categories.titles, ', ' ORDER BY categories.name) AS film_info
+                            FROM (SELECT c.name, string_agg(f.title::text, ', ') AS titles
+                                  FROM film_actor fa
+                                           JOIN film f ON f.film_id = fa.film_id
+                                           JOIN film_category fc ON fc.film_id = f.film_id
+                                           JOIN category c ON c.category_id = fc.category_id
+                                  WHERE fa.actor_id = a.actor_id
+                                  GROUP BY c.category_id, c.name) categories) actor_films ON TRUE;
+
+DROP AGGREGATE group_concat(text);
+DROP FUNCTION _group_concat(text, text);
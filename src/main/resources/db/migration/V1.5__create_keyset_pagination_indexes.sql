@@ -0,0 +1,7 @@
+CREATE INDEX idx_actor_first_name_actor_id ON actor (first_name, actor_id);
+
+CREATE INDEX idx_city_city_city_id ON city (city, city_id);
+
+CREATE INDEX idx_country_country_country_id ON country (country, country_id);
+
+CREATE INDEX idx_language_name_language_id ON language (name, language_id);
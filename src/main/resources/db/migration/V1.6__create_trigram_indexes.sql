@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_actor_first_name_trgm ON actor USING gin (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX idx_actor_last_name_trgm ON actor USING gin (lower(last_name) gin_trgm_ops);
+
+CREATE INDEX idx_city_city_trgm ON city USING gin (upper(city) gin_trgm_ops);
+
+CREATE INDEX idx_country_country_trgm ON country USING gin (upper(country) gin_trgm_ops);
+
+CREATE INDEX idx_language_name_trgm ON language USING gin (upper(name) gin_trgm_ops);
@@ -0,0 +1,11 @@
+DROP INDEX IF EXISTS film_fulltext_idx;
+
+ALTER TABLE film DROP COLUMN fulltext;
+
+ALTER TABLE film
+    ADD COLUMN fulltext TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('pg_catalog.english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('pg_catalog.english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX film_fulltext_idx ON film USING gin (fulltext);
@@ -0,0 +1,25 @@
+ALTER SEQUENCE actor_actor_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE address_address_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE category_category_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE city_city_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE country_country_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE customer_customer_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE film_film_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE inventory_inventory_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE language_language_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE payment_payment_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE rental_rental_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE staff_staff_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE store_store_id_seq INCREMENT BY 50;
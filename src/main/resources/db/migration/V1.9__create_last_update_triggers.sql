@@ -0,0 +1,60 @@
+CREATE OR REPLACE FUNCTION last_updated() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    NEW.last_update = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END
+$$;
+
+DO
+$$
+    DECLARE
+        target TEXT;
+    BEGIN
+        FOR target IN
+            SELECT c.table_name
+            FROM information_schema.columns c
+                     JOIN information_schema.tables t ON t.table_schema = c.table_schema AND t.table_name = c.table_name
+            WHERE c.table_schema = 'public'
+              AND c.column_name = 'last_update'
+              AND t.table_type = 'BASE TABLE'
+            LOOP
+                EXECUTE format('CREATE OR REPLACE TRIGGER last_updated BEFORE UPDATE ON %I FOR EACH ROW EXECUTE FUNCTION last_updated()', target);
+            END LOOP;
+    END
+$$;
+
+-- List tags read one row per table instead of aggregating last_update over the whole table. The counter is bumped by
+-- a statement trigger, so it also changes on deletes, and readers only see the new value once the write commits.
+-- Every write to a versioned table updates its counter row, which serializes writers to that table; only the
+-- reference tables behind tagged list endpoints are versioned.
+CREATE TABLE table_version
+(
+    table_name TEXT PRIMARY KEY,
+    version    BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE OR REPLACE FUNCTION table_version_bumped() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    UPDATE table_version SET version = version + 1 WHERE table_name = TG_TABLE_NAME;
+    RETURN NULL;
+END
+$$;
+
+DO
+$$
+    DECLARE
+        target TEXT;
+    BEGIN
+        FOREACH target IN ARRAY ARRAY ['actor', 'film_actor', 'city', 'country', 'language']
+            LOOP
+                INSERT INTO table_version (table_name) VALUES (target);
+                EXECUTE format('CREATE TRIGGER table_version_bumped AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON %I FOR EACH STATEMENT EXECUTE FUNCTION table_version_bumped()', target);
+            END LOOP;
+    END
+$$;
@@ -2,7 +2,9 @@ package com.hieu.dvdrental.actor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.etag.EntityTags;
 import com.hieu.dvdrental.film.FilmRepository;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -39,6 +41,10 @@ public class ActorControllerSliceTest implements ActorControllerTestSuite {
     ActorRepository actorRepository;
     @MockitoBean
     FilmRepository filmRepository;
+    @MockitoBean
+    RowCountEstimator rowCountEstimator;
+    @MockitoBean
+    EntityTags entityTags;
 
     private final Pageable pageable = PageRequest.of(1, 5, Sort.by("lastUpdate").descending());
     private final Pageable defaultPageable = PageRequest.of(0, 10, Sort.by("firstName").ascending());
@@ -323,4 +329,31 @@ public class ActorControllerSliceTest implements ActorControllerTestSuite {
 
         verify(actorRepository).existsById(any(Integer.class));
     }
+
+    @Test
+    public void shouldReturnNotModifiedWithoutLoadingActor() throws Exception {
+        given(entityTags.forRow("SELECT last_update FROM actor WHERE actor_id = ?", 1)).willReturn(Optional.of("W/\"1-42\""));
+
+        mockMvc.perform(get("/actors/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-42\""))
+                .andExpect(content().string(""));
+
+        verify(actorRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldTagActorPages() throws Exception {
+        given(entityTags.forTables("actor")).willReturn("W/\"200-42\"");
+        given(actorRepository.findAll(defaultPageable)).willReturn(new PageImpl<>(actors, defaultPageable, actors.size()));
+
+        mockMvc.perform(get("/actors"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"200-42\""));
+
+        mockMvc.perform(get("/actors").header(HttpHeaders.IF_NONE_MATCH, "W/\"200-42\""))
+                .andExpect(status().isNotModified());
+
+        verify(actorRepository, times(1)).findAll(defaultPageable);
+    }
 }
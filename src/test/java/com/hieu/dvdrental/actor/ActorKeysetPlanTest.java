@@ -0,0 +1,74 @@
+package com.hieu.dvdrental.actor;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.hieu.dvdrental.actor.ActorKeysetPlanTest$RecordingStatementInspector")
+@Import(TestContainersConfig.class)
+public class ActorKeysetPlanTest {
+    private static final Sort SORT = Sort.by("firstName").ascending();
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        //Enough rows that a full scan and sort is clearly more expensive than a range scan of the index
+        jdbcTemplate.update("INSERT INTO actor (first_name, last_name) SELECT 'KEYSET' || LPAD(CAST(g AS TEXT), 5, '0'), 'PLAN' FROM generate_series(1, 20000) g");
+        jdbcTemplate.execute("ANALYZE actor");
+    }
+
+    @Test
+    public void shouldStartDeepWindowsFromAnIndexRange() {
+        Integer id = jdbcTemplate.queryForObject("SELECT actor_id FROM actor WHERE first_name = 'KEYSET15000'", Integer.class);
+        RecordingStatementInspector.statements.clear();
+
+        Window<Actor> window = actorRepository.findByFirstNameGreaterThanEqual("KEYSET15000",
+                ScrollPosition.forward(Map.of("firstName", "KEYSET15000", "id", id)), SORT, Limit.of(10));
+
+        assertThat(window.getContent().getFirst().getFirstName()).isEqualTo("KEYSET15001");
+        String plan = explain(RecordingStatementInspector.statements.getLast(), id, "'KEYSET15000'");
+        assertThat(plan)
+                .contains("Index Scan using idx_actor_first_name_actor_id")
+                .contains("Index Cond: ((first_name)::text >= 'KEYSET15000'::text)")
+                .doesNotContain("Sort");
+    }
+
+    //Binds the recorded statement's parameters by position in the SQL, so the test does not depend on their order
+    private String explain(String sql, Integer id, String firstName) {
+        String bound = sql
+                .replaceAll("(?i)(fetch\\s+first|limit)\\s+\\?", "$1 11")
+                .replaceAll("actor_id\\s*>\\s*\\?", "actor_id>" + id)
+                .replace("?", firstName);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bound, String.class));
+    }
+}
@@ -12,6 +12,9 @@ import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -74,6 +77,12 @@ public class ActorRepositoryTest {
         assertEquals(Instant.parse("2013-05-26T14:47:57.62Z"), actorList.get(3).getLastUpdate());
     }
 
+    @Test
+    public void findByNameTreatsWildcardsLiterally() {
+        assertEquals(0, actorRepository.findByName("b_", this.pageable).getTotalElements());
+        assertEquals(0, actorRepository.findByName("%", this.pageable).getTotalElements());
+    }
+
     @Test
     public void existsActorByIdAndFilms_Id() {
         boolean has118 = actorRepository.existsActorByIdAndFilms_Id(11, 118);
@@ -82,4 +91,38 @@ public class ActorRepositoryTest {
         assertTrue(has118);
         assertFalse(has119);
     }
+
+    @Test
+    public void linkFilmsReportsEachRequestedFilm() {
+        List<FilmLinkChange> changes = actorRepository.linkFilms(1, Set.of(1, 2, 999999));
+        Map<Integer, FilmLinkChange> byFilm = changes.stream().collect(Collectors.toMap(FilmLinkChange::getFilmId, change -> change));
+
+        assertEquals(3, changes.size());
+        assertTrue(byFilm.get(1).isFound());
+        assertFalse(byFilm.get(1).isChanged());
+        assertTrue(byFilm.get(2).isFound());
+        assertTrue(byFilm.get(2).isChanged());
+        assertFalse(byFilm.get(999999).isFound());
+        assertTrue(actorRepository.existsActorByIdAndFilms_Id(1, 2));
+    }
+
+    @Test
+    public void unlinkFilmsDeletesOnlyRequestedLinks() {
+        List<FilmLinkChange> changes = actorRepository.unlinkFilms(1, List.of(1, 2));
+        Map<Integer, FilmLinkChange> byFilm = changes.stream().collect(Collectors.toMap(FilmLinkChange::getFilmId, change -> change));
+
+        assertTrue(byFilm.get(1).isChanged());
+        assertFalse(byFilm.get(2).isChanged());
+        assertFalse(actorRepository.existsActorByIdAndFilms_Id(1, 1));
+        assertTrue(actorRepository.existsActorByIdAndFilms_Id(1, 23));
+    }
+
+    @Test
+    public void replaceFilmsKeepsOnlyRequestedLinks() {
+        actorRepository.replaceFilms(1, List.of(1, 2));
+
+        assertTrue(actorRepository.existsActorByIdAndFilms_Id(1, 1));
+        assertTrue(actorRepository.existsActorByIdAndFilms_Id(1, 2));
+        assertFalse(actorRepository.existsActorByIdAndFilms_Id(1, 23));
+    }
 }
@@ -0,0 +1,78 @@
+package com.hieu.dvdrental.actor;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.film.Film;
+import com.hieu.dvdrental.film.FilmMapper;
+import com.hieu.dvdrental.film.FilmRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestContainersConfig.class)
+public class ActorServiceStatementCountTest {
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private FilmRepository filmRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ActorService actorService;
+
+    @BeforeEach
+    public void setUp() {
+        actorService = new ActorService(
+                actorRepository,
+                filmRepository,
+                Mappers.getMapper(ActorMapper.class),
+                Mappers.getMapper(FilmMapper.class)
+        );
+
+        List<Film> films = filmRepository.findAll(PageRequest.of(0, 5, Sort.by("id"))).getContent();
+        for (int i = 0; i < 30; i++) {
+            Actor actor = entityManager.persist(new Actor(null, "Extra" + i, "Actor" + i, null));
+            films.forEach(film -> film.getActors().add(actor));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void shouldLoadActorsWithFilmsInConstantNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ActorDto> actorPage = actorService.getActors(PageRequest.of(0, 50, Sort.by("firstName")), true);
+
+        assertThat(actorPage.getNumberOfElements()).isEqualTo(50);
+        assertThat(actorPage.getContent()).allSatisfy(actor -> assertThat(actor.getFilms()).isNotNull());
+        assertThat(actorPage.getContent().stream().filter(actor -> actor.getFirstName().startsWith("Extra")))
+                .allSatisfy(actor -> assertThat(actor.getFilms()).hasSize(5));
+
+        // page, count, actor/film links, films with language and categories
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
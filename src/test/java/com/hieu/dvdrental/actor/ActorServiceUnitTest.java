@@ -1,16 +1,19 @@
 package com.hieu.dvdrental.actor;
 
 import com.hieu.dvdrental.category.Category;
+import com.hieu.dvdrental.film.ActorFilmLink;
 import com.hieu.dvdrental.film.Film;
 import com.hieu.dvdrental.film.FilmMapper;
 import com.hieu.dvdrental.film.FilmRepository;
 import com.hieu.dvdrental.film.FilmSummaryDto;
 import com.hieu.dvdrental.language.Language;
 import com.hieu.dvdrental.type.MpaaRating;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
@@ -18,9 +21,15 @@ import org.springframework.data.domain.*;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,12 +40,11 @@ public class ActorServiceUnitTest {
     @Mock
     private FilmRepository filmRepository;
 
-    @InjectMocks
-    private ActorService actorService;
-
     private final ActorMapper actorMapper = Mappers.getMapper(ActorMapper.class);
     private final FilmMapper filmMapper = Mappers.getMapper(FilmMapper.class);
 
+    private ActorService actorService;
+
     private final Instant updated = Instant.now();
     private final List<Actor> actors = List.of(
             new Actor(1, "Christian", "Gable", updated),
@@ -98,6 +106,13 @@ public class ActorServiceUnitTest {
 //    private final Page<ActorDto> expectedActorPage = new PageImpl<>(actorDtoList, pageable, actorDtoList.size());
 //    private final Page<ActorDto> expectedActorWithFilmsListPage = new PageImpl<>(actorDtoWithFilmsList, pageable, actorDtoWithFilmsList.size());
 
+    @BeforeEach
+    void setUp() {
+        actorService = new ActorService(actorRepository, filmRepository, actorMapper, filmMapper);
+    }
+
+    private record Link(Integer getActorId, Integer getFilmId) implements ActorFilmLink {}
+
     @Test
     void getActors() {
         when(actorRepository.findAll(pageable)).thenReturn(actorPage);
@@ -131,7 +146,12 @@ public class ActorServiceUnitTest {
 
     @Test
     void getActorsWithFilms() {
+        List<ActorFilmLink> links = actorsWithFilms.stream()
+                .flatMap(actor -> films.stream().map(film -> (ActorFilmLink) new Link(actor.getId(), film.getId())))
+                .toList();
         when(actorRepository.findAll(pageable)).thenReturn(actorWithFilmsPage);
+        when(filmRepository.findActorFilmLinks(List.of(1, 2, 3, 4, 5, 6, 7))).thenReturn(links);
+        when(filmRepository.findByIdIn(Set.of(1, 2))).thenReturn(films);
         Page<ActorDto> actorDtoPage = actorService.getActors(pageable, true);
         List<ActorDto> actorDtoList = actorDtoPage.getContent();
 
@@ -173,5 +193,70 @@ public class ActorServiceUnitTest {
         assertEquals("Guiness",  actorDtoList.get(2).getLastName());
         assertEquals(updated,  actorDtoList.get(2).getLastUpdate());
         assertNotNull(actorDtoList.getFirst().getFilms());
+
+        verify(filmRepository, times(1)).findActorFilmLinks(List.of(1, 2, 3, 4, 5, 6, 7));
+        verify(filmRepository, times(1)).findByIdIn(Set.of(1, 2));
+    }
+
+    @Test
+    void addFilmsToActorWritesOnce() {
+        when(actorRepository.existsById(1)).thenReturn(true);
+        when(actorRepository.linkFilms(1, Set.of(1, 2))).thenReturn(List.of(
+                new FilmLinkChange(1, true, false),
+                new FilmLinkChange(2, true, true)));
+
+        actorService.addFilmsToActor(1, Set.of(1, 2));
+
+        verify(actorRepository, times(1)).linkFilms(1, Set.of(1, 2));
+        verifyNoInteractions(filmRepository);
+    }
+
+    @Test
+    void addFilmsToActorReportsMissingAndAssociatedFilms() {
+        when(actorRepository.existsById(1)).thenReturn(true);
+        when(actorRepository.linkFilms(1, Set.of(1, 2, 999))).thenReturn(List.of(
+                new FilmLinkChange(1, true, false),
+                new FilmLinkChange(2, true, true),
+                new FilmLinkChange(999, false, false)));
+        when(actorRepository.linkFilms(1, Set.of(1, 2))).thenReturn(List.of(
+                new FilmLinkChange(1, true, false),
+                new FilmLinkChange(2, true, true)));
+
+        EntityNotFoundException notFound = assertThrows(EntityNotFoundException.class,
+                () -> actorService.addFilmsToActor(1, Set.of(1, 2, 999)));
+        assertEquals("Film with ID [999] not found", notFound.getMessage());
+
+        EntityExistsException exists = assertThrows(EntityExistsException.class,
+                () -> actorService.addFilmsToActor(1, Set.of(1, 2), false));
+        assertEquals("Actor with ID 1 already has Film with ID [1]", exists.getMessage());
+    }
+
+    @Test
+    void addFilmsToMissingActor() {
+        when(actorRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> actorService.addFilmsToActor(99, Set.of(1)));
+        verify(actorRepository, never()).linkFilms(any(), any());
+    }
+
+    @Test
+    void removeFilmFromActorRequiresAssociation() {
+        when(actorRepository.existsById(1)).thenReturn(true);
+        when(actorRepository.unlinkFilms(1, Set.of(2))).thenReturn(List.of(new FilmLinkChange(2, true, false)));
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> actorService.removeFilmFromActor(1, 2));
+        assertEquals("Actor with ID 1 does not have Film with ID [2]", exception.getMessage());
+    }
+
+    @Test
+    void updateFilmsReplacesInOneStatement() {
+        when(actorRepository.existsById(1)).thenReturn(true);
+        when(actorRepository.replaceFilms(1, Set.of(3))).thenReturn(List.of(new FilmLinkChange(3, true, true)));
+
+        actorService.updateFilms(1, Set.of(3));
+
+        verify(actorRepository, times(1)).replaceFilms(1, Set.of(3));
+        verify(actorRepository, never()).findById(any());
     }
 }
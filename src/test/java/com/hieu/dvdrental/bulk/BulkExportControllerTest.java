@@ -0,0 +1,87 @@
+package com.hieu.dvdrental.bulk;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = BulkExportController.class)
+public class BulkExportControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    BulkExportService bulkExportService;
+
+    @Test
+    public void shouldStreamNdjsonByDefault() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("{\"rental_id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(bulkExportService).export(eq(BulkTable.RENTAL), eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/export/rental"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"rental.ndjson\""))
+                .andExpect(content().string("{\"rental_id\":1}\n"));
+    }
+
+    @Test
+    public void shouldGiveTheExportItsOwnTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/rental"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofHours(1).toMillis());
+    }
+
+    @Test
+    public void shouldStreamCsv() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("payment_id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(bulkExportService).export(eq(BulkTable.PAYMENT), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/export/payment").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string("payment_id\r\n1\r\n"));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedTableOrFormat() throws Exception {
+        mockMvc.perform(get("/export/staff"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+        mockMvc.perform(get("/export/rental").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Export format must be csv or ndjson"));
+
+        verifyNoInteractions(bulkExportService);
+    }
+}
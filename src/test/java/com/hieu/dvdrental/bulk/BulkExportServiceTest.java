@@ -0,0 +1,75 @@
+package com.hieu.dvdrental.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestContainersConfig.class, BulkExportService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "dvdrental.export.fetch-size=7")
+public class BulkExportServiceTest {
+    @Autowired
+    private BulkExportService bulkExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<String> export(BulkTable table, ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bulkExportService.export(table, format, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    public void shouldExportEveryRowAcrossFetchesAsNdjson() throws Exception {
+        List<String> lines = export(BulkTable.ACTOR, ExportFormat.NDJSON);
+
+        assertThat(lines).hasSize(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actor", Integer.class));
+        JsonNode first = objectMapper.readTree(lines.getFirst());
+        assertThat(first.get("actor_id").asInt()).isEqualTo(1);
+        assertThat(first.get("first_name").asText()).isEqualTo("Penelope");
+        assertThat(first.get("last_update").asText()).contains("T");
+    }
+
+    @Test
+    public void shouldWriteArraysAndNumbersAsJson() throws Exception {
+        JsonNode film = objectMapper.readTree(export(BulkTable.FILM, ExportFormat.NDJSON).getFirst());
+
+        assertThat(film.get("special_features").isArray()).isTrue();
+        assertThat(film.get("rental_rate").isNumber()).isTrue();
+    }
+
+    @Test
+    public void shouldExportCsvWithHeader() throws Exception {
+        List<String> lines = export(BulkTable.FILM_ACTOR, ExportFormat.CSV);
+
+        assertThat(lines.getFirst()).isEqualTo("actor_id,film_id,last_update");
+        assertThat(lines).hasSize(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM film_actor", Integer.class) + 1);
+    }
+
+    @Test
+    public void shouldQuoteCsvValuesThatCopyWouldMisread() {
+        assertThat(BulkExportService.csvValue("plain")).isEqualTo("plain");
+        assertThat(BulkExportService.csvValue("")).isEqualTo("\"\"");
+        assertThat(BulkExportService.csvValue("a,\"b\"")).isEqualTo("\"a,\"\"b\"\"\"");
+        assertThat(BulkExportService.csvValue("{Trailers,\"Deleted Scenes\"}")).isEqualTo("\"{Trailers,\"\"Deleted Scenes\"\"}\"");
+    }
+}
@@ -0,0 +1,71 @@
+package com.hieu.dvdrental.bulk;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = BulkImportController.class)
+public class BulkImportControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    BulkImportService bulkImportService;
+
+    @Test
+    public void shouldImportCsv() throws Exception {
+        given(bulkImportService.importCsv(eq(BulkTable.ACTOR), any(InputStream.class)))
+                .willReturn(new ImportResultDto("actor", 2, 2));
+
+        mockMvc.perform(post("/import/actor")
+                        .contentType("text/csv")
+                        .content("first_name,last_name\nAda,Lovelace\nAlan,Turing\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.table").value("actor"))
+                .andExpect(jsonPath("$.rowsCopied").value(2))
+                .andExpect(jsonPath("$.rowsMerged").value(2));
+    }
+
+    @Test
+    public void shouldImportNdjson() throws Exception {
+        given(bulkImportService.importNdjson(eq(BulkTable.FILM_ACTOR), any(InputStream.class)))
+                .willReturn(new ImportResultDto("film_actor", 1, 0));
+
+        mockMvc.perform(post("/import/film_actor")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"actor_id\":1,\"film_id\":1}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsMerged").value(0));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedTable() throws Exception {
+        mockMvc.perform(post("/import/staff")
+                        .contentType("text/csv")
+                        .content("staff_id\n1\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        verifyNoInteractions(bulkImportService);
+    }
+
+    @Test
+    public void shouldRejectUnsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/import/actor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
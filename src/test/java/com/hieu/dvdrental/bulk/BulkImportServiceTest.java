@@ -0,0 +1,153 @@
+package com.hieu.dvdrental.bulk;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.language.Language;
+import com.hieu.dvdrental.language.LanguageRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({TestContainersConfig.class, BulkImportService.class})
+public class BulkImportServiceTest {
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldUpsertActorsFromCsv() throws Exception {
+        ImportResultDto result = bulkImportService.importCsv(BulkTable.ACTOR, body(
+                "actor_id,first_name,last_name\r\n" +
+                "1,Penny,Guiness\r\n" +
+                "5000,\"Ada, Countess\",Lovelace\r\n"));
+
+        assertThat(result.getRowsCopied()).isEqualTo(2);
+        assertThat(result.getRowsMerged()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT first_name FROM actor WHERE actor_id = 1", String.class)).isEqualTo("Penny");
+        assertThat(jdbcTemplate.queryForObject("SELECT first_name FROM actor WHERE actor_id = 5000", String.class)).isEqualTo("Ada, Countess");
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM actor_actor_id_seq", Long.class)).isGreaterThanOrEqualTo(5000L);
+    }
+
+    @Test
+    public void shouldTakeIdsFromTheSequenceWithoutKeyColumn() throws Exception {
+        Integer before = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actor", Integer.class);
+
+        ImportResultDto result = bulkImportService.importCsv(BulkTable.ACTOR, body("first_name,last_name\nAlan,Turing\nGrace,Hopper\n"));
+
+        assertThat(result.getRowsMerged()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actor", Integer.class)).isEqualTo(before + 2);
+    }
+
+    @Test
+    public void shouldAllocateOneSequenceValuePerBlockOfRows() throws Exception {
+        StringBuilder csv = new StringBuilder("first_name,last_name\n");
+        for (int i = 0; i < 60; i++) {
+            csv.append("Imported,Actor").append(i).append('\n');
+        }
+        Long first = jdbcTemplate.queryForObject("SELECT nextval('actor_actor_id_seq')", Long.class);
+
+        bulkImportService.importCsv(BulkTable.ACTOR, body(csv.toString()));
+
+        //Two blocks for 60 rows, the first 50 ids of the first block and 10 of the second, which follows it
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM actor_actor_id_seq", Long.class)).isEqualTo(first + 100);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(actor_id) FROM actor WHERE first_name = 'Imported'", Long.class)).isEqualTo(first + 50);
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(actor_id) FROM actor WHERE first_name = 'Imported'", Long.class)).isEqualTo(first + 109);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT actor_id) FROM actor WHERE first_name = 'Imported'", Long.class)).isEqualTo(60);
+    }
+
+    @Test
+    public void shouldRefuseNewIdsInsideTheBlockLastHandedOut() throws Exception {
+        //An application instance allocating the block [handedOut, handedOut + 49]
+        Long handedOut = jdbcTemplate.queryForObject("SELECT nextval('actor_actor_id_seq')", Long.class);
+
+        assertThatThrownBy(() -> bulkImportService.importCsv(BulkTable.ACTOR, body("actor_id,first_name,last_name\n" + (handedOut + 10) + ",Ada,Lovelace\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("may already have handed those out");
+
+        bulkImportService.importCsv(BulkTable.ACTOR, body("actor_id,first_name,last_name\n" + (handedOut + 200) + ",Ada,Lovelace\n"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('actor_actor_id_seq')", Long.class)).isEqualTo(handedOut + 250);
+    }
+
+    @Test
+    public void shouldRefuseNewIdsInOlderBlocksStillHeldByAllocators() throws Exception {
+        //One instance holds an older block while another has since taken the next one
+        Long older = jdbcTemplate.queryForObject("SELECT nextval('actor_actor_id_seq')", Long.class);
+        Long latest = jdbcTemplate.queryForObject("SELECT nextval('actor_actor_id_seq')", Long.class);
+
+        for (long id : new long[]{older + 10, latest + BulkTable.ID_BLOCK}) {
+            assertThatThrownBy(() -> bulkImportService.importCsv(BulkTable.ACTOR, body("actor_id,first_name,last_name\n" + id + ",Ada,Lovelace\n")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Import failed: 1 new actor_id values are below " + (latest + BulkTable.ID_BLOCK + 1) +
+                            ", and actor_actor_id_seq may already have handed those out; leave actor_id out to have new rows numbered");
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actor WHERE first_name = 'Ada'", Integer.class)).isZero();
+    }
+
+    @Test
+    public void shouldImportLinksFromNdjsonAndSkipExistingOnes() throws Exception {
+        ImportResultDto result = bulkImportService.importNdjson(BulkTable.FILM_ACTOR, body(
+                "{\"actor_id\": 1, \"film_id\": 1}\n" +
+                "{\"actor_id\": 2, \"film_id\": 1}\n" +
+                "\n"));
+
+        assertThat(result.getRowsCopied()).isEqualTo(3);
+        assertThat(result.getRowsMerged()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM film_actor WHERE actor_id = 2 AND film_id = 1", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldUpdateAPaymentWhoseDateWasCorrected() throws Exception {
+        Map<String, Object> payment = jdbcTemplate.queryForMap("SELECT customer_id, staff_id, rental_id, amount FROM payment WHERE payment_id = 29194");
+
+        ImportResultDto result = bulkImportService.importCsv(BulkTable.PAYMENT, body(
+                "payment_id,customer_id,staff_id,rental_id,amount,payment_date\n" +
+                "29194," + payment.get("customer_id") + "," + payment.get("staff_id") + "," + payment.get("rental_id") + "," +
+                payment.get("amount") + ",2007-03-15 10:00:00\n"));
+
+        assertThat(result.getRowsMerged()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT payment_date FROM payment WHERE payment_id = 29194", LocalDateTime.class))
+                .containsExactly(LocalDateTime.of(2007, 3, 15, 10, 0));
+    }
+
+    @Test
+    public void shouldEvictTheSecondLevelCacheAfterImport() throws Exception {
+        languageRepository.findById(1);
+        assertThat(entityManagerFactory.getCache().contains(Language.class, 1)).isTrue();
+
+        bulkImportService.importCsv(BulkTable.ACTOR, body("first_name,last_name\nAlan,Turing\n"));
+
+        assertThat(entityManagerFactory.getCache().contains(Language.class, 1)).isFalse();
+    }
+
+    @Test
+    public void shouldRejectRowsThatBreakConstraints() {
+        assertThatThrownBy(() -> bulkImportService.importCsv(BulkTable.INVENTORY, body("inventory_id,film_id,store_id\n90000,99999,1\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Import failed");
+    }
+}
@@ -0,0 +1,70 @@
+package com.hieu.dvdrental.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkTableTest {
+
+    @Test
+    public void shouldResolveTableCaseInsensitively() {
+        assertThat(BulkTable.from("FILM_ACTOR")).isEqualTo(BulkTable.FILM_ACTOR);
+        assertThatThrownBy(() -> BulkTable.from("staff"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Supported tables are actor, film, film_actor, film_category, inventory, rental, payment");
+    }
+
+    @Test
+    public void shouldRejectUnknownAndMissingKeyColumns() {
+        assertThatThrownBy(() -> BulkTable.ACTOR.resolveColumns(List.of("actor_id", "nickname")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown actor columns: nickname");
+        assertThatThrownBy(() -> BulkTable.FILM_ACTOR.resolveColumns(List.of("actor_id")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("film_actor import requires columns actor_id, film_id");
+        assertThatThrownBy(() -> BulkTable.ACTOR.resolveColumns(List.of("first_name", "FIRST_NAME")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate actor columns");
+    }
+
+    @Test
+    public void shouldUpsertWhenKeyIsImported() {
+        List<String> columns = BulkTable.ACTOR.resolveColumns(List.of(" Actor_Id", "first_name", "last_name"));
+
+        assertThat(BulkTable.ACTOR.mergeSql(columns, "SELECT * FROM staging"))
+                .isEqualTo("INSERT INTO actor (actor_id, first_name, last_name) SELECT * FROM staging " +
+                        "ON CONFLICT (actor_id) DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name");
+    }
+
+    @Test
+    public void shouldIgnoreExistingLinks() {
+        assertThat(BulkTable.FILM_ACTOR.mergeSql(List.of("actor_id", "film_id"), "SELECT * FROM staging"))
+                .isEqualTo("INSERT INTO film_actor (actor_id, film_id) SELECT * FROM staging ON CONFLICT (actor_id, film_id) DO NOTHING");
+    }
+
+    @Test
+    public void shouldDeriveIdsFromBlockStartsWithoutKey() {
+        assertThat(BulkTable.RENTAL.insertSql(List.of("rental_date", "inventory_id"), "SELECT rental_date, inventory_id FROM staging"))
+                .isEqualTo("INSERT INTO rental (rental_id, rental_date, inventory_id) " +
+                        "SELECT (?::INTEGER[])[(n / 50)::INTEGER + 1] + n % 50, rental_date, inventory_id " +
+                        "FROM (SELECT s.*, row_number() OVER () - 1 AS n FROM (SELECT rental_date, inventory_id FROM staging) s) numbered");
+        assertThat(BulkTable.FILM_ACTOR.getIdColumn()).isNull();
+    }
+
+    @Test
+    public void shouldMatchPaymentsOnPaymentIdAlone() {
+        List<String> columns = BulkTable.PAYMENT.resolveColumns(List.of("payment_id", "amount", "payment_date"));
+
+        assertThat(BulkTable.PAYMENT.isUniqueKey()).isFalse();
+        assertThat(BulkTable.PAYMENT.mergeSql(columns, "SELECT * FROM staging"))
+                .isEqualTo("WITH staged AS (SELECT * FROM staging), " +
+                        "matched AS (UPDATE payment t SET amount = s.amount, payment_date = s.payment_date FROM staged s " +
+                        "WHERE t.payment_id = s.payment_id RETURNING t.payment_id), " +
+                        "inserted AS (INSERT INTO payment (payment_id, amount, payment_date) SELECT payment_id, amount, payment_date FROM staged s " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM matched t WHERE t.payment_id = s.payment_id) RETURNING 1) " +
+                        "SELECT (SELECT COUNT(*) FROM matched) + (SELECT COUNT(*) FROM inserted)");
+    }
+}
@@ -0,0 +1,54 @@
+package com.hieu.dvdrental.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CacheStatisticsController.class)
+public class CacheStatisticsControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    CacheStatisticsService cacheStatisticsService;
+
+    @Test
+    public void shouldReturnRegionStatistics() throws Exception {
+        given(cacheStatisticsService.getStatistics()).willReturn(new CacheStatisticsDto(true, List.of(
+                new CacheRegionStatisticsDto("com.hieu.dvdrental.language.Language", 10L, 2L, 2L, 0, 2))));
+
+        mockMvc.perform(get("/cache/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.regions[0].region").value("com.hieu.dvdrental.language.Language"))
+                .andExpect(jsonPath("$.regions[0].hits").value(10))
+                .andExpect(jsonPath("$.regions[0].misses").value(2))
+                .andExpect(jsonPath("$.regions[0].puts").value(2))
+                .andExpect(jsonPath("$.regions[0].evictions").value(0))
+                .andExpect(jsonPath("$.regions[0].size").value(2));
+    }
+
+    @Test
+    public void shouldLeaveOutUncountedStatistics() throws Exception {
+        given(cacheStatisticsService.getStatistics()).willReturn(new CacheStatisticsDto(false, List.of(
+                new CacheRegionStatisticsDto("com.hieu.dvdrental.language.Language", null, null, null, 1, 2))));
+
+        mockMvc.perform(get("/cache/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(false))
+                .andExpect(jsonPath("$.regions[0].hits").doesNotExist())
+                .andExpect(jsonPath("$.regions[0].misses").doesNotExist())
+                .andExpect(jsonPath("$.regions[0].puts").doesNotExist())
+                .andExpect(jsonPath("$.regions[0].evictions").value(1))
+                .andExpect(jsonPath("$.regions[0].size").value(2));
+    }
+}
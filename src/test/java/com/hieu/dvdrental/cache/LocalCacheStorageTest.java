@@ -0,0 +1,54 @@
+package com.hieu.dvdrental.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalCacheStorageTest {
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntryPastMaxEntries() {
+        LocalCacheStorage storage = new LocalCacheStorage(2, Duration.ZERO);
+        storage.putIntoCache(1, "one", null);
+        storage.putIntoCache(2, "two", null);
+        storage.getFromCache(1, null);
+        storage.putIntoCache(3, "three", null);
+
+        assertThat(storage.getFromCache(1, null)).isEqualTo("one");
+        assertThat(storage.getFromCache(2, null)).isNull();
+        assertThat(storage.getFromCache(3, null)).isEqualTo("three");
+        assertThat(storage.size()).isEqualTo(2);
+        assertThat(storage.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldExpireEntriesAfterTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        LocalCacheStorage storage = new LocalCacheStorage(10, Duration.ofSeconds(60), now::get);
+        storage.putIntoCache("language", "English", null);
+
+        now.set(Duration.ofSeconds(59).toNanos());
+        assertThat(storage.contains("language")).isTrue();
+
+        now.set(Duration.ofSeconds(60).toNanos());
+        assertThat(storage.getFromCache("language", null)).isNull();
+        assertThat(storage.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCountExplicitEvictions() {
+        LocalCacheStorage storage = new LocalCacheStorage(10, Duration.ZERO);
+        storage.putIntoCache(1, "one", null);
+        storage.putIntoCache(2, "two", null);
+
+        storage.evictData(1);
+        assertThat(storage.contains(1)).isFalse();
+        storage.evictData();
+
+        assertThat(storage.size()).isZero();
+        assertThat(storage.getEvictionCount()).isZero();
+    }
+}
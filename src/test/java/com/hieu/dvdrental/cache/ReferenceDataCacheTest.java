@@ -0,0 +1,102 @@
+package com.hieu.dvdrental.cache;
+
+import com.hieu.dvdrental.city.CityRepository;
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.country.CountryRepository;
+import com.hieu.dvdrental.language.Language;
+import com.hieu.dvdrental.language.LanguageRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestContainersConfig.class, CacheStatisticsService.class})
+public class ReferenceDataCacheTest {
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void shouldServeFindByIdFromSecondLevelCache() {
+        languageRepository.findById(1);
+        entityManager.clear();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(languageRepository.findById(1)).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldServeExistsByIdAndNameSearchFromQueryCache() {
+        countryRepository.existsById(1);
+        cityRepository.findByNameContainingIgnoreCase("a", PageRequest.of(0, 10));
+        entityManager.clear();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(countryRepository.existsById(1)).isTrue();
+        assertThat(cityRepository.findByNameContainingIgnoreCase("a", PageRequest.of(0, 10))).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldInvalidateCachedQueriesOnWrite() {
+        languageRepository.findByNameContainingIgnoreCase("Klingon", PageRequest.of(0, 10));
+        languageRepository.saveAndFlush(new Language(null, "Klingon", Instant.now()));
+        entityManager.clear();
+
+        assertThat(languageRepository.findByNameContainingIgnoreCase("Klingon", PageRequest.of(0, 10))).hasSize(1);
+    }
+
+    @Test
+    public void shouldReportRegionStatistics() {
+        languageRepository.findById(1);
+        entityManager.clear();
+        languageRepository.findById(1);
+
+        assertThat(cacheStatisticsService.getStatistics().isStatisticsEnabled()).isTrue();
+        assertThat(cacheStatisticsService.getStatistics().getRegions())
+                .filteredOn(region -> region.getRegion().equals(Language.class.getName()))
+                .singleElement()
+                .satisfies(region -> {
+                    assertThat(region.getHits()).isEqualTo(1L);
+                    assertThat(region.getPuts()).isEqualTo(1L);
+                    assertThat(region.getSize()).isEqualTo(1);
+                });
+    }
+}
@@ -0,0 +1,59 @@
+package com.hieu.dvdrental.catalog;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestContainersConfig.class)
+public class FilmCatalogIndexTest {
+    private static final String INSERT_FILM = "INSERT INTO film (title, language_id, last_update) VALUES (?, 1, CAST(? AS TIMESTAMP)) RETURNING film_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private FilmCatalogIndex filmCatalogIndex;
+
+    @BeforeEach
+    void setUp() {
+        filmCatalogIndex = new FilmCatalogIndex(jdbcTemplate, Duration.ofMinutes(1));
+        filmCatalogIndex.refresh();
+    }
+
+    @Test
+    public void shouldDropRemovedCategoryLink() {
+        assertThat(search(null, "Documentary").getIds()).contains(1);
+
+        jdbcTemplate.update("DELETE FROM film_category WHERE film_id = 1");
+        filmCatalogIndex.refresh();
+
+        CatalogSearchDto documentaries = search(null, "Documentary");
+        assertThat(documentaries.getIds()).doesNotContain(1);
+        assertThat(documentaries.getFacets().get("category")).containsEntry("Documentary", documentaries.getTotal());
+    }
+
+    @Test
+    public void shouldEvictFilmDeletedInTheSamePollAsAnInsert() {
+        Integer deleted = jdbcTemplate.queryForObject(INSERT_FILM, Integer.class, "Catalog Probe", "2000-01-01");
+        filmCatalogIndex.refresh();
+        assertThat(search("probe", null).getIds()).containsExactly(deleted);
+
+        jdbcTemplate.update("DELETE FROM film WHERE film_id = ?", deleted);
+        Integer inserted = jdbcTemplate.queryForObject(INSERT_FILM, Integer.class, "Catalog Probe", "2000-01-01");
+        filmCatalogIndex.refresh();
+
+        assertThat(search("probe", null).getIds()).containsExactly(inserted);
+    }
+
+    private CatalogSearchDto search(String text, String category) {
+        return filmCatalogIndex.search(text, null, category, null, 0, 2000).orElseThrow();
+    }
+}
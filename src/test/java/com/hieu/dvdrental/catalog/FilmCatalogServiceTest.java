@@ -0,0 +1,83 @@
+package com.hieu.dvdrental.catalog;
+
+import com.hieu.dvdrental.film.FilmCatalogFacet;
+import com.hieu.dvdrental.film.FilmRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FilmCatalogServiceTest {
+
+    @Mock
+    private FilmCatalogIndex filmCatalogIndex;
+    @Mock
+    private FilmRepository filmRepository;
+
+    private FilmCatalogService filmCatalogService;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    private record Facet(String getFacet, String getValue, Long getCount) implements FilmCatalogFacet {}
+
+    @BeforeEach
+    void setUp() {
+        this.filmCatalogService = new FilmCatalogService(filmCatalogIndex, filmRepository);
+    }
+
+    @Test
+    public void shouldAnswerFromTheIndexWhenFresh() {
+        CatalogSearchDto indexed = new CatalogSearchDto(List.of(1), 1, Map.of());
+        when(filmCatalogIndex.search("shark", "R", null, null, 0, 10)).thenReturn(Optional.of(indexed));
+
+        assertThat(filmCatalogService.searchFilms("shark", "R", null, null, pageable)).isSameAs(indexed);
+        verifyNoInteractions(filmRepository);
+    }
+
+    @Test
+    public void shouldFallBackToTheRepositoryWhenStale() {
+        when(filmCatalogIndex.search("shark", null, "drama", null, 0, 10)).thenReturn(Optional.empty());
+        when(filmRepository.findCatalogPage("shark", null, "drama", null, 10, 0)).thenReturn(List.of(27, 177));
+        when(filmRepository.findCatalogFacets("shark", null, "drama", null)).thenReturn(List.of(
+                new Facet("rating", "R", 1L),
+                new Facet("rating", "NC_17", 1L),
+                new Facet("category", "Drama", 2L),
+                new Facet("category", "Action", 1L),
+                new Facet("language", "English", 1L),
+                new Facet("language", "Italian", 1L)
+        ));
+
+        CatalogSearchDto result = filmCatalogService.searchFilms("shark", null, "drama", null, pageable);
+
+        assertThat(result.getIds()).containsExactly(27, 177);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacets().get("category")).containsExactly(Map.entry("Action", 1), Map.entry("Drama", 2));
+        assertThat(result.getFacets().get("rating")).isEqualTo(Map.of("NC_17", 1, "R", 1));
+        assertThat(result.getFacets().get("language").keySet()).isEqualTo(Set.of("English", "Italian"));
+        verify(filmRepository, never()).countCatalogMatches(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldCountInTheDatabaseWhenThePageIsFull() {
+        when(filmCatalogIndex.search(null, "R", null, " ", 10, 10)).thenReturn(Optional.empty());
+        when(filmRepository.findCatalogPage(null, "R", null, null, 10, 10)).thenReturn(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        when(filmRepository.countCatalogMatches(null, "R", null, null)).thenReturn(195L);
+
+        CatalogSearchDto result = filmCatalogService.searchFilms(null, "R", null, " ", PageRequest.of(1, 10));
+
+        assertThat(result.getTotal()).isEqualTo(195);
+        assertThat(result.getFacets()).containsOnlyKeys("rating", "category", "language");
+    }
+}
@@ -0,0 +1,62 @@
+package com.hieu.dvdrental.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilmCatalogTest {
+
+    private FilmCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new FilmCatalog();
+        catalog.put(new CatalogFilm(1, "Academy Dinosaur", "A Epic Drama of a Feminist And a Mad Scientist", "PG", "English", Set.of("Documentary")));
+        catalog.put(new CatalogFilm(27, "Anonymous Human", "A Amazing Reflection of a Database Administrator in A Shark Tank", "NC_17", "English", Set.of("Action", "Drama")));
+        catalog.put(new CatalogFilm(177, "Connecticut Tramp", "A Unbelieveable Drama of a Crocodile in A Shark Tank", "R", "Italian", Set.of("Drama")));
+    }
+
+    @Test
+    public void shouldMatchAllWordsAndCountFacets() {
+        CatalogSearchDto result = catalog.search("shark TANK", null, null, null, 0, 10);
+
+        assertThat(result.getIds()).containsExactly(27, 177);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacets().get("rating")).isEqualTo(Map.of("NC_17", 1, "R", 1));
+        assertThat(result.getFacets().get("category")).containsExactly(Map.entry("Action", 1), Map.entry("Drama", 2));
+        assertThat(result.getFacets().get("language")).containsExactly(Map.entry("English", 1), Map.entry("Italian", 1));
+    }
+
+    @Test
+    public void shouldCombineFiltersCaseInsensitively() {
+        CatalogSearchDto result = catalog.search("shark", null, "drama", "english", 0, 10);
+
+        assertThat(result.getIds()).containsExactly(27);
+        assertThat(result.getFacets().get("rating")).isEqualTo(Map.of("NC_17", 1));
+    }
+
+    @Test
+    public void shouldReplacePostingsWhenAFilmChanges() {
+        catalog.put(new CatalogFilm(177, "Connecticut Tramp", "A Quiet Story", "G", "Italian", Set.of("Family")));
+
+        assertThat(catalog.search("shark", null, null, null, 0, 10).getIds()).containsExactly(27);
+        assertThat(catalog.search(null, "G", "family", null, 0, 10).getIds()).containsExactly(177);
+
+        catalog.remove(177);
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(catalog.search(null, null, null, "Italian", 0, 10).getTotal()).isZero();
+        assertThat(catalog.search(null, null, null, null, 0, 10).getFacets().get("category")).doesNotContainKey("Family");
+    }
+
+    @Test
+    public void shouldReturnAllFilmsWithoutCriteria() {
+        CatalogSearchDto result = catalog.search(null, null, null, null, 1, 1);
+
+        assertThat(result.getIds()).containsExactly(27);
+        assertThat(result.getTotal()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hieu.dvdrental.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntBitmapTest {
+
+    private static int[] toArray(Collection<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<Integer> toList(IntBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    @Test
+    public void shouldMatchASortedSetAcrossArrayAndBitmapChunks() {
+        Random random = new Random(42);
+        TreeSet<Integer> left = new TreeSet<>();
+        TreeSet<Integer> right = new TreeSet<>();
+        IntBitmap leftBitmap = new IntBitmap();
+        IntBitmap rightBitmap = new IntBitmap();
+        for (int i = 0; i < 20_000; i++) {
+            int a = random.nextInt(200_000);
+            int b = random.nextInt(200_000);
+            left.add(a);
+            leftBitmap.add(a);
+            right.add(b);
+            rightBitmap.add(b);
+        }
+
+        TreeSet<Integer> and = new TreeSet<>(left);
+        and.retainAll(right);
+        TreeSet<Integer> or = new TreeSet<>(left);
+        or.addAll(right);
+
+        assertThat(toList(leftBitmap)).containsExactlyElementsOf(left);
+        assertThat(toList(leftBitmap.and(rightBitmap))).containsExactlyElementsOf(and);
+        assertThat(leftBitmap.andCardinality(rightBitmap)).isEqualTo(and.size());
+        assertThat(toList(leftBitmap.or(rightBitmap))).containsExactlyElementsOf(or);
+        assertThat(leftBitmap.or(rightBitmap).cardinality()).isEqualTo(or.size());
+    }
+
+    @Test
+    public void shouldConvertDenseChunksBackToArraysOnRemove() {
+        IntBitmap bitmap = new IntBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            bitmap.remove(i);
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(5_000);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+
+        for (int i = 1; i < 10_000; i += 2) {
+            bitmap.remove(i);
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldPageThroughValuesInOrder() {
+        List<Integer> values = List.of(3, 70_000, 5, 140_000, 1);
+        IntBitmap bitmap = IntBitmap.of(toArray(values));
+
+        assertThat(bitmap.toArray(0, 2)).containsExactly(1, 3);
+        assertThat(bitmap.toArray(2, 2)).containsExactly(5, 70_000);
+        assertThat(bitmap.toArray(4, 2)).containsExactly(140_000);
+        assertThat(bitmap.toArray(5, 2)).isEmpty();
+    }
+}
@@ -5,6 +5,8 @@ import com.hieu.dvdrental.config.JacksonConfiguration;
 import com.hieu.dvdrental.country.CountryController;
 import com.hieu.dvdrental.country.CountryDto;
 import com.hieu.dvdrental.country.CountryService;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorPage;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -85,7 +87,7 @@ public class CityControllerTest {
     @Test
     public void shouldReturnAPageOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getAllCities(pageable)).willReturn(dtoPage);
+        given(cityService.getAllCities(pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/cities")
                         .param("page", "0")
@@ -98,13 +100,53 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(cityService).getAllCities(pageable);
+        verify(cityService).getAllCities(pageable, CountMode.EXACT);
+    }
+
+    @Test
+    public void shouldReturnASliceOnGetAllWithCountNone() throws Exception {
+        Slice<CityDto> dtoSlice = new SliceImpl<>(cityDtoList, defaultPageable, true);
+        given(cityService.getAllCities(defaultPageable, CountMode.NONE)).willReturn(dtoSlice);
+
+        mockMvc.perform(get("/cities").param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(cityService).getAllCities(defaultPageable, CountMode.NONE);
+    }
+
+    @Test
+    public void shouldRejectUnknownCountMode() throws Exception {
+        mockMvc.perform(get("/cities").param("count", "sometimes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Count must be one of none, estimate or exact"));
+    }
+
+    @Test
+    public void shouldReturnACursorPageOnGetAfter() throws Exception {
+        String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
+        CursorPage<CityDto> cursorPage = new CursorPage<>(cityDtoList, 10, true, "next");
+        given(cityService.getAllCities("abc", defaultPageable)).willReturn(cursorPage);
+
+        mockMvc.perform(get("/cities").param("after", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(expectedJson))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(cityService).getAllCities("abc", defaultPageable);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getAllCities(defaultPageable)).willReturn(dtoPageDefault);
+        given(cityService.getAllCities(defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/cities"))
                 .andExpect(status().isOk())
@@ -114,13 +156,13 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(cityService).getAllCities(defaultPageable);
+        verify(cityService).getAllCities(defaultPageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getCitiesByName("an", pageable)).willReturn(dtoPage);
+        given(cityService.getCitiesByName("an", pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/cities")
                         .param("name", "   an   ")
@@ -134,13 +176,13 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(cityService).getCitiesByName("an", pageable);
+        verify(cityService).getCitiesByName("an", pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getCitiesByName("an", defaultPageable)).willReturn(dtoPageDefault);
+        given(cityService.getCitiesByName("an", defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/cities").param("name", "   an    "))
                 .andExpect(status().isOk())
@@ -150,7 +192,7 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(cityService).getCitiesByName("an", defaultPageable);
+        verify(cityService).getCitiesByName("an", defaultPageable, CountMode.EXACT);
     }
 
     @ParameterizedTest
@@ -168,7 +210,7 @@ public class CityControllerTest {
     @Test
     public void shouldReturnAPageOnGetByCountry() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getCitiesByCountry(1, pageable)).willReturn(dtoPage);
+        given(cityService.getCitiesByCountry(1, pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/cities")
                         .param("countryId", "1")
@@ -182,13 +224,13 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(cityService).getCitiesByCountry(1, pageable);
+        verify(cityService).getCitiesByCountry(1, pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetByCountry() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", cityDtoList));
-        given(cityService.getCitiesByCountry(1, defaultPageable)).willReturn(dtoPageDefault);
+        given(cityService.getCitiesByCountry(1, defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/cities")
                         .param("countryId", "1"))
@@ -199,7 +241,7 @@ public class CityControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(cityService).getCitiesByCountry(1, defaultPageable);
+        verify(cityService).getCitiesByCountry(1, defaultPageable, CountMode.EXACT);
     }
 
     @ParameterizedTest
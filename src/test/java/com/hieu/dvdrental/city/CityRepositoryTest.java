@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.Instant;
 import java.util.List;
@@ -75,6 +78,21 @@ public class CityRepositoryTest {
         assertThat(cities.get(4).getCountry().getLastUpdate()).isEqualTo(Instant.parse("2006-02-15T09:44:00Z"));
     }
 
+    @Test
+    public void findAllByScrollPosition() {
+        Window<City> firstWindow = cityRepository.findAllBy(ScrollPosition.keyset(), Sort.by("name").ascending(), Limit.of(5));
+
+        assertThat(firstWindow.size()).isEqualTo(5);
+        assertThat(firstWindow.hasNext()).isTrue();
+        assertThat(firstWindow.getContent().stream().map(City::getId).toList()).containsExactly(1, 17, 27, 31, 38);
+
+        Window<City> secondWindow = cityRepository.findAllBy(firstWindow.positionAt(4), Sort.by("name").ascending(), Limit.of(5));
+        Page<City> secondPage = cityRepository.findAll(PageRequest.of(1, 5, Sort.by("name").ascending()));
+
+        assertThat(secondWindow.getContent().stream().map(City::getId).toList())
+                .isEqualTo(secondPage.getContent().stream().map(City::getId).toList());
+    }
+
     @Test
     public void existsByCountryId(){
         boolean exists = cityRepository.existsByCountryId(6);
@@ -2,6 +2,11 @@ package com.hieu.dvdrental.city;
 
 import com.hieu.dvdrental.address.AddressRepository;
 import com.hieu.dvdrental.country.CountryRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.CursorPage;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +18,7 @@ import org.springframework.data.domain.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.hieu.dvdrental.country.CountryServiceTest.countryDtoList;
@@ -21,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +43,11 @@ public class CityServiceTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private EntityTags entityTags;
+
     private final CityMapper cityMapper = Mappers.getMapper(CityMapper.class);
 
     private CityService cityService;
@@ -64,16 +76,16 @@ public class CityServiceTest {
 
     @BeforeEach
     public void setUp() {
-        this.cityService = new CityService(cityRepository, cityMapper, addressRepository, countryRepository);
+        this.cityService = new CityService(cityRepository, cityMapper, addressRepository, countryRepository, rowCountEstimator, entityTags);
     }
 
     @Test
     public void shouldReturnACityPage() {
         when(cityRepository.findAll(pageable)).thenReturn(entityPage);
 
-        Page<CityDto> cityPage = cityService.getAllCities(pageable);
+        Slice<CityDto> cityPage = cityService.getAllCities(pageable, CountMode.EXACT);
 
-        assertThat(cityPage).isNotNull();
+        assertThat(cityPage).isInstanceOf(Page.class);
         assertThat(cityPage.getContent()).isNotNull();
         assertThat(cityPage.getContent().getFirst().getClass()).isEqualTo(CityDto.class);
 
@@ -84,6 +96,83 @@ public class CityServiceTest {
         verify(cityRepository).findAll(pageable);
     }
 
+    @Test
+    public void shouldReturnASliceWithoutCountingOnCountNone() {
+        when(cityRepository.findSliceByNameContainingIgnoreCase("name", pageable))
+                .thenReturn(new SliceImpl<>(cityEntityList, pageable, true));
+
+        Slice<CityDto> citySlice = cityService.getCitiesByName("name", pageable, CountMode.NONE);
+
+        assertThat(citySlice).isNotInstanceOf(Page.class);
+        assertThat(citySlice.hasNext()).isTrue();
+        assertThat(citySlice.getContent())
+                .usingRecursiveComparison()
+                .isEqualTo(cityDtoList);
+
+        verify(cityRepository).findSliceByNameContainingIgnoreCase("name", pageable);
+        verify(cityRepository, never()).findByNameContainingIgnoreCase("name", pageable);
+    }
+
+    @Test
+    public void shouldReturnAPageWithEstimatedTotalOnCountEstimate() {
+        when(cityRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(cityEntityList, pageable, true));
+        when(rowCountEstimator.estimateTable("city")).thenReturn(600L);
+
+        Slice<CityDto> citySlice = cityService.getAllCities(pageable, CountMode.ESTIMATE);
+
+        assertThat(citySlice).isInstanceOf(Page.class);
+        assertThat(((Page<CityDto>) citySlice).getTotalElements()).isEqualTo(600L);
+        assertThat(((Page<CityDto>) citySlice).getTotalPages()).isEqualTo(120);
+
+        verify(cityRepository, never()).findAll(pageable);
+    }
+
+    @Test
+    public void shouldUseExactTotalOnLastSliceOnCountEstimate() {
+        when(cityRepository.findSliceByCountryId(50, pageable)).thenReturn(new SliceImpl<>(cityEntityList, pageable, false));
+
+        Slice<CityDto> citySlice = cityService.getCitiesByCountry(50, pageable, CountMode.ESTIMATE);
+
+        assertThat(((Page<CityDto>) citySlice).getTotalElements()).isEqualTo(5L);
+
+        verify(rowCountEstimator, never()).estimateQuery(any(), any());
+    }
+
+    @Test
+    public void shouldReturnACursorPage() {
+        Window<City> window = Window.from(cityEntityList,
+                index -> ScrollPosition.forward(Map.of("name", cityEntityList.get(index).getName(), "id", cityEntityList.get(index).getId())),
+                true);
+        when(cityRepository.findAllBy(ScrollPosition.keyset(), pageable.getSort(), Limit.of(5))).thenReturn(window);
+
+        CursorPage<CityDto> cityPage = cityService.getAllCities("", pageable);
+
+        assertThat(cityPage.getSize()).isEqualTo(5);
+        assertThat(cityPage.isHasNext()).isTrue();
+        assertThat(cityPage.getContent())
+                .usingRecursiveComparison()
+                .isEqualTo(cityDtoList);
+        assertThat(CursorCodec.decode(cityPage.getNextCursor()).getKeys())
+                .containsEntry("name", "Iran")
+                .containsEntry("id", 5);
+
+        verify(cityRepository).findAllBy(ScrollPosition.keyset(), pageable.getSort(), Limit.of(5));
+    }
+
+    @Test
+    public void shouldBoundLaterCursorPagesByTheLeadingKey() {
+        ScrollPosition position = ScrollPosition.forward(Map.of("name", "Iran", "id", 5));
+        when(cityRepository.findByNameGreaterThanEqual("Iran", position, pageable.getSort(), Limit.of(5)))
+                .thenReturn(Window.from(List.of(), index -> position, false));
+
+        CursorPage<CityDto> cityPage = cityService.getAllCities(CursorCodec.encode((KeysetScrollPosition) position), pageable);
+
+        assertThat(cityPage.getContent()).isEmpty();
+        assertThat(cityPage.isHasNext()).isFalse();
+
+        verify(cityRepository, never()).findAllBy(any(), any(), any());
+    }
+
     @Test
     public void shouldReturnCityById() {
         when(cityRepository.findById(1)).thenReturn(Optional.of(cityEntityList.getFirst()));
@@ -114,9 +203,9 @@ public class CityServiceTest {
     public void shouldReturnACityPageByName() {
         when(cityRepository.findByNameContainingIgnoreCase("name", pageable)).thenReturn(entityPage);
 
-        Page<CityDto> cityPage = cityService.getCitiesByName("name", pageable);
+        Slice<CityDto> cityPage = cityService.getCitiesByName("name", pageable, CountMode.EXACT);
 
-        assertThat(cityPage).isNotNull();
+        assertThat(cityPage).isInstanceOf(Page.class);
         assertThat(cityPage.getContent()).isNotNull();
         assertThat(cityPage.getContent().getFirst().getClass()).isEqualTo(CityDto.class);
 
@@ -131,9 +220,9 @@ public class CityServiceTest {
     public void shouldReturnACityPageByCountryId() {
         when(cityRepository.findByCountryId(50, pageable)).thenReturn(entityPage);
 
-        Page<CityDto> cityPage = cityService.getCitiesByCountry(50, pageable);
+        Slice<CityDto> cityPage = cityService.getCitiesByCountry(50, pageable, CountMode.EXACT);
 
-        assertThat(cityPage).isNotNull();
+        assertThat(cityPage).isInstanceOf(Page.class);
         assertThat(cityPage.getContent()).isNotNull();
         assertThat(cityPage.getContent().getFirst().getClass()).isEqualTo(CityDto.class);
 
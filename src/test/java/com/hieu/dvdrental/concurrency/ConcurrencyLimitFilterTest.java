@@ -0,0 +1,79 @@
+package com.hieu.dvdrental.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrencyLimitFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldReleasePermitAfterRequest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(50), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/languages"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReleasePermitWhenRequestFails() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), objectMapper);
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/languages"), new MockHttpServletResponse(), failing);
+        } catch (Exception ignored) {
+        }
+
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectWith503WhenSaturated() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), objectMapper);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/cities"), new MockHttpServletResponse(), blocking);
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/languages"), rejected, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentType()).isEqualTo("application/problem+json");
+        assertThat(rejected.getContentAsString()).contains("\"title\":\"Server Busy\"", "\"instance\":\"/languages\"");
+
+        release.countDown();
+        holder.join();
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+}
@@ -2,6 +2,7 @@ package com.hieu.dvdrental.country;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.pagination.CountMode;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -81,7 +82,7 @@ public class CountryControllerTest {
     @Test
     public void shouldReturnAPageOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", countryDtoList));
-        given(countryService.getAllCountries(pageable)).willReturn(dtoPage);
+        given(countryService.getAllCountries(pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/countries")
                         .param("page", "0")
@@ -94,13 +95,13 @@ public class CountryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(countryService).getAllCountries(pageable);
+        verify(countryService).getAllCountries(pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", countryDtoList));
-        given(countryService.getAllCountries(defaultPageable)).willReturn(dtoPageDefault);
+        given(countryService.getAllCountries(defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/countries"))
                 .andExpect(status().isOk())
@@ -110,13 +111,13 @@ public class CountryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(countryService).getAllCountries(defaultPageable);
+        verify(countryService).getAllCountries(defaultPageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", countryDtoList));
-        given(countryService.getCountriesByName("an", pageable)).willReturn(dtoPage);
+        given(countryService.getCountriesByName("an", pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/countries")
                         .param("name", "   an   ")
@@ -130,13 +131,13 @@ public class CountryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(countryService).getCountriesByName("an", pageable);
+        verify(countryService).getCountriesByName("an", pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", countryDtoList));
-        given(countryService.getCountriesByName("an", defaultPageable)).willReturn(dtoPageDefault);
+        given(countryService.getCountriesByName("an", defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/countries").param("name", "   an    "))
                 .andExpect(status().isOk())
@@ -146,7 +147,7 @@ public class CountryControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(countryService).getCountriesByName("an", defaultPageable);
+        verify(countryService).getCountriesByName("an", defaultPageable, CountMode.EXACT);
     }
 
     @ParameterizedTest
@@ -1,6 +1,9 @@
 package com.hieu.dvdrental.country;
 
 import com.hieu.dvdrental.city.CityRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,10 @@ public class CountryServiceTest {
     private CountryRepository countryRepository;
     @Mock
     private CityRepository cityRepository;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private EntityTags entityTags;
     private final CountryMapper countryMapper = Mappers.getMapper(CountryMapper.class);
 
     private CountryService countryService;
@@ -55,16 +62,16 @@ public class CountryServiceTest {
 
     @BeforeEach
     void setUp() {
-        this.countryService = new CountryService(countryRepository, countryMapper, cityRepository);
+        this.countryService = new CountryService(countryRepository, countryMapper, cityRepository, rowCountEstimator, entityTags);
     }
 
     @Test
     public void shouldReturnACountryPage() {
         when(countryRepository.findAll(pageable)).thenReturn(entityPage);
 
-        Page<CountryDto> countryPage = countryService.getAllCountries(pageable);
+        Slice<CountryDto> countryPage = countryService.getAllCountries(pageable, CountMode.EXACT);
 
-        assertThat(countryPage).isNotNull();
+        assertThat(countryPage).isInstanceOf(Page.class);
         assertThat(countryPage.getContent()).isNotNull();
         assertThat(countryPage.getContent().getFirst().getClass()).isEqualTo(CountryDto.class);
 
@@ -105,9 +112,9 @@ public class CountryServiceTest {
     public void shouldReturnACountryPageByName() {
         when(countryRepository.findByNameContainingIgnoreCase("name", pageable)).thenReturn(entityPage);
 
-        Page<CountryDto> countryPage = countryService.getCountriesByName("name", pageable);
+        Slice<CountryDto> countryPage = countryService.getCountriesByName("name", pageable, CountMode.EXACT);
 
-        assertThat(countryPage).isNotNull();
+        assertThat(countryPage).isInstanceOf(Page.class);
         assertThat(countryPage.getContent()).isNotNull();
         assertThat(countryPage.getContent().getFirst().getClass()).isEqualTo(CountryDto.class);
 
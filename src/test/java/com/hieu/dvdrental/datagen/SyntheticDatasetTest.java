@@ -0,0 +1,152 @@
+package com.hieu.dvdrental.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SyntheticDatasetTest {
+    private final DataGenPlan plan = DataGenPlan.small(42);
+    private final SyntheticDataset dataset = new SyntheticDataset(plan);
+
+    @Test
+    public void shouldGenerateTheSameRowsForTheSameSeed() throws IOException {
+        SyntheticDataset again = new SyntheticDataset(DataGenPlan.small(42));
+        SyntheticDataset other = new SyntheticDataset(DataGenPlan.small(43));
+
+        for (GeneratedTable table : GeneratedTable.values()) {
+            assertThat(write(again, table)).as(table.getTableName()).isEqualTo(write(dataset, table));
+        }
+        assertThat(write(other, GeneratedTable.RENTAL)).isNotEqualTo(write(dataset, GeneratedTable.RENTAL));
+    }
+
+    @Test
+    public void shouldGenerateTheSameRowsWhenSplitIntoChunks() throws IOException {
+        for (GeneratedTable table : GeneratedTable.values()) {
+            long keys = dataset.keyCount(table);
+            StringWriter chunked = new StringWriter();
+            long middle = keys / 3 + 1;
+            dataset.write(table, 1, middle, chunked);
+            dataset.write(table, middle, keys + 1, chunked);
+
+            assertThat(chunked.toString()).as(table.getTableName()).isEqualTo(write(dataset, table));
+        }
+    }
+
+    @Test
+    public void shouldOnlyReferenceGeneratedRows() throws IOException {
+        Set<Integer> films = ids(GeneratedTable.FILM);
+        Set<Integer> actors = ids(GeneratedTable.ACTOR);
+        Set<Integer> cities = ids(GeneratedTable.CITY);
+        Set<Integer> addresses = ids(GeneratedTable.ADDRESS);
+        Set<Integer> customers = ids(GeneratedTable.CUSTOMER);
+        Set<Integer> staff = ids(GeneratedTable.STAFF);
+        Set<Integer> inventory = ids(GeneratedTable.INVENTORY);
+        Set<Integer> rentals = ids(GeneratedTable.RENTAL);
+
+        assertThat(column(GeneratedTable.CITY, 2)).allMatch(ids(GeneratedTable.COUNTRY)::contains);
+        assertThat(column(GeneratedTable.ADDRESS, 3)).allMatch(cities::contains);
+        assertThat(column(GeneratedTable.FILM_ACTOR, 0)).allMatch(actors::contains);
+        assertThat(column(GeneratedTable.FILM_ACTOR, 1)).allMatch(films::contains);
+        assertThat(column(GeneratedTable.FILM_CATEGORY, 1)).allMatch(ids(GeneratedTable.CATEGORY)::contains);
+        assertThat(column(GeneratedTable.CUSTOMER, 5)).allMatch(addresses::contains);
+        assertThat(column(GeneratedTable.STAFF, 3)).allMatch(addresses::contains);
+        assertThat(column(GeneratedTable.STORE, 1)).allMatch(staff::contains);
+        assertThat(column(GeneratedTable.STORE, 2)).allMatch(addresses::contains);
+        assertThat(column(GeneratedTable.INVENTORY, 1)).allMatch(films::contains);
+        assertThat(column(GeneratedTable.RENTAL, 2)).allMatch(inventory::contains);
+        assertThat(column(GeneratedTable.RENTAL, 3)).allMatch(customers::contains);
+        assertThat(column(GeneratedTable.RENTAL, 5)).allMatch(staff::contains);
+        assertThat(column(GeneratedTable.PAYMENT, 3)).allMatch(rentals::contains);
+        assertThat(rentals).hasSize((int) plan.getRentals());
+    }
+
+    @Test
+    public void shouldPayEachRentalByItsCustomerAndStaff() throws IOException {
+        List<String[]> rentals = rows(GeneratedTable.RENTAL);
+        List<String[]> payments = rows(GeneratedTable.PAYMENT);
+
+        assertThat(payments).hasSameSizeAs(rentals);
+        for (int i = 0; i < rentals.size(); i++) {
+            String[] rental = rentals.get(i);
+            String[] payment = payments.get(i);
+            assertThat(payment[3]).isEqualTo(rental[0]);
+            assertThat(payment[1]).isEqualTo(rental[3]);
+            assertThat(payment[2]).isEqualTo(rental[5]);
+        }
+    }
+
+    @Test
+    public void shouldOnlyLeaveTheLastRentalOfACopyOpen() throws IOException {
+        List<String[]> rentals = rows(GeneratedTable.RENTAL);
+        List<String[]> payments = rows(GeneratedTable.PAYMENT);
+        Map<String, Integer> lastRentalOfCopy = rentals.stream()
+                .collect(Collectors.toMap(row -> row[2], row -> Integer.valueOf(row[0]), Math::max));
+
+        List<String[]> open = rentals.stream().filter(row -> row[4].equals("\\N")).toList();
+
+        assertThat(open).isNotEmpty();
+        assertThat(open).allMatch(row -> lastRentalOfCopy.get(row[2]).equals(Integer.valueOf(row[0])));
+        assertThat(open).allMatch(row -> payments.get(Integer.parseInt(row[0]) - 1)[5].equals(row[1]));
+        assertThat(rentals).filteredOn(row -> !row[4].equals("\\N"))
+                .allMatch(row -> LocalDateTime.parse(row[4]).isAfter(LocalDateTime.parse(row[1])));
+    }
+
+    @Test
+    public void shouldSpreadRentalsChronologicallyOverTheRentalWindow() throws IOException {
+        List<LocalDateTime> dates = rows(GeneratedTable.RENTAL).stream()
+                .map(row -> LocalDateTime.parse(row[1]))
+                .toList();
+
+        assertThat(dates).isSorted();
+        assertThat(dates.getFirst()).isAfterOrEqualTo(SyntheticDataset.RENTALS_FROM);
+        assertThat(dates.getLast()).isBefore(SyntheticDataset.RENTALS_TO);
+    }
+
+    @Test
+    public void shouldConcentrateRentalsOnPopularFilms() throws IOException {
+        Map<String, String> filmOfInventory = rows(GeneratedTable.INVENTORY).stream()
+                .collect(Collectors.toMap(row -> row[0], row -> row[1]));
+        Map<String, Long> rentalsPerFilm = rows(GeneratedTable.RENTAL).stream()
+                .collect(Collectors.groupingBy(row -> filmOfInventory.get(row[2]), Collectors.counting()));
+        long topOnePercent = rentalsPerFilm.values().stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(plan.getFilms() / 100)
+                .mapToLong(Long::longValue)
+                .sum();
+
+        assertThat(topOnePercent).isGreaterThan(plan.getRentals() / 5);
+    }
+
+    @Test
+    public void shouldRejectInvalidPlans() {
+        assertThatThrownBy(() -> new DataGenPlan(1, 0, 10, 10, 10, 1, 10, 10, 1, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DataGenPlan(1, 10, 10, 10, 10, 1, 10, 10, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Set<Integer> ids(GeneratedTable table) throws IOException {
+        return new HashSet<>(column(table, 0));
+    }
+
+    private List<Integer> column(GeneratedTable table, int index) throws IOException {
+        return rows(table).stream().map(row -> Integer.valueOf(row[index])).toList();
+    }
+
+    private List<String[]> rows(GeneratedTable table) throws IOException {
+        return write(dataset, table).lines().map(line -> line.split("\t", -1)).toList();
+    }
+
+    private static String write(SyntheticDataset dataset, GeneratedTable table) throws IOException {
+        StringWriter out = new StringWriter();
+        dataset.write(table, 1, dataset.keyCount(table) + 1, out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.hieu.dvdrental.entity;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts rentals the way Hibernate did with {@code allocationSize = 1} and no batching (a {@code nextval} and an
+ * {@code INSERT} round trip per row) and the way it does now (pooled-lo ids, batches of 50). Statement counts are
+ * asserted; rows per second are logged. Runs with {@code -Pbenchmark}, add {@code -Dbenchmark.rentals=100000} for
+ * the full comparison.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestContainersConfig.class)
+public class RentalInsertBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(RentalInsertBenchmarkTest.class);
+    private static final int RENTALS = Integer.getInteger("benchmark.rentals", 5_000);
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant start = Instant.parse("2030-01-01T00:00:00Z");
+
+    private double insertRowByRow() {
+        long begin = System.nanoTime();
+        for (int i = 0; i < RENTALS; i++) {
+            Integer id = jdbcTemplate.queryForObject("SELECT nextval('rental_rental_id_seq')", Integer.class);
+            Instant rentalDate = start.plus(i, ChronoUnit.SECONDS);
+            jdbcTemplate.update("INSERT INTO rental (rental_id, rental_date, inventory_id, customer_id, return_date, staff_id) VALUES (?, ?, ?, ?, ?, ?)",
+                    id, Timestamp.from(rentalDate), 1, 1, Timestamp.from(rentalDate.plusSeconds(1)), 1);
+        }
+        return RENTALS / ((System.nanoTime() - begin) / 1e9);
+    }
+
+    private double insertPooledAndBatched() {
+        Inventory inventory = entityManager.getReference(Inventory.class, 1);
+        Customer customer = entityManager.getReference(Customer.class, 1);
+        Staff staff = entityManager.getReference(Staff.class, 1);
+        Instant offset = start.plus(RENTALS, ChronoUnit.SECONDS);
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < RENTALS; i++) {
+            Rental rental = new Rental();
+            rental.setRentalDate(offset.plus(i, ChronoUnit.SECONDS));
+            //Every rental reuses inventory 1, so they have to be returned to pass the open rental index
+            rental.setReturnDate(rental.getRentalDate().plusSeconds(1));
+            rental.setInventory(inventory);
+            rental.setCustomer(customer);
+            rental.setStaff(staff);
+            entityManager.persist(rental);
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                inventory = entityManager.getReference(Inventory.class, 1);
+                customer = entityManager.getReference(Customer.class, 1);
+                staff = entityManager.getReference(Staff.class, 1);
+            }
+        }
+        entityManager.flush();
+        return RENTALS / ((System.nanoTime() - begin) / 1e9);
+    }
+
+    @Test
+    public void pooledIdsAndBatchingShouldInsertInFewerRoundTrips() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        double before = insertRowByRow();
+
+        statistics.clear();
+        double after = insertPooledAndBatched();
+
+        int batches = (RENTALS + BATCH_SIZE - 1) / BATCH_SIZE;
+        // one nextval and one batched INSERT per 50 rentals
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * batches);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(RENTALS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rental WHERE rental_date >= ?", Integer.class, Timestamp.from(start)))
+                .isEqualTo(2 * RENTALS);
+
+        log.info("{} rentals: row by row {} rows/s, pooled and batched {} rows/s", RENTALS, Math.round(before), Math.round(after));
+    }
+}
@@ -0,0 +1,74 @@
+package com.hieu.dvdrental.etag;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({TestContainersConfig.class, EntityTags.class})
+public class EntityTagsTest {
+    private static final String LANGUAGE_VERSION = "SELECT last_update FROM language WHERE language_id = ?";
+
+    @Autowired
+    private EntityTags entityTags;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldStampLastUpdateOnUpdate() {
+        jdbcTemplate.update("UPDATE language SET last_update = '2000-01-01' WHERE language_id = 1");
+        jdbcTemplate.update("UPDATE language SET name = 'Englisch' WHERE language_id = 1");
+
+        LocalDateTime lastUpdate = jdbcTemplate.queryForObject(LANGUAGE_VERSION, LocalDateTime.class, 1);
+        assertThat(lastUpdate).isAfter(LocalDateTime.of(2000, 1, 2, 0, 0));
+    }
+
+    @Test
+    public void shouldChangeRowTagWhenRowChanges() {
+        jdbcTemplate.update("UPDATE language SET last_update = '2000-01-01' WHERE language_id = 1");
+        String before = entityTags.forRow(LANGUAGE_VERSION, 1).orElseThrow();
+
+        jdbcTemplate.update("UPDATE language SET name = 'Englisch' WHERE language_id = 1");
+
+        assertThat(before).startsWith("W/\"1-");
+        assertThat(entityTags.forRow(LANGUAGE_VERSION, 1)).hasValueSatisfying(tag -> assertThat(tag).isNotEqualTo(before));
+        assertThat(entityTags.forRow(LANGUAGE_VERSION, 999999)).isEmpty();
+    }
+
+    @Test
+    public void shouldChangeTableTagOnDelete() {
+        jdbcTemplate.update("INSERT INTO language (name) VALUES ('Klingon')");
+        String before = entityTags.forTables("language");
+
+        jdbcTemplate.update("DELETE FROM language WHERE name = 'Klingon'");
+
+        assertThat(entityTags.forTables("language")).isNotEqualTo(before);
+        assertThat(entityTags.forTables("city", "country")).matches("W/\"\\d+\\.\\d+\"");
+    }
+
+    @Test
+    public void shouldKeepTableTagWhenOnlyReading() {
+        String before = entityTags.forTables("actor", "film_actor");
+
+        jdbcTemplate.queryForList("SELECT * FROM actor");
+        jdbcTemplate.update("UPDATE language SET name = 'Englisch' WHERE language_id = 1");
+
+        assertThat(entityTags.forTables("actor", "film_actor")).isEqualTo(before);
+    }
+
+    @Test
+    public void shouldRejectTableWithoutVersion() {
+        assertThatThrownBy(() -> entityTags.forTables("rental"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No version is kept for table rental");
+    }
+}
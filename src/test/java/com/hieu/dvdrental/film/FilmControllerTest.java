@@ -0,0 +1,142 @@
+package com.hieu.dvdrental.film;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.type.MpaaRating;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.*;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = FilmController.class)
+@Import(JacksonConfiguration.class)
+public class FilmControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    FilmService filmService;
+
+    private final Pageable defaultPageable = PageRequest.of(0, 10);
+
+    private final List<FilmSearchDto> filmDtoList = List.of(
+            new FilmSearchDto(27, "Anonymous Human", "A Amazing Reflection of a Database Administrator And a Astronaut who must Outrace a Database Administrator in A Shark Tank", 2006, MpaaRating.NC_17, 0.2f),
+            new FilmSearchDto(177, "Connecticut Tramp", "A Unbelieveable Drama of a Crocodile And a Mad Cow who must Reach a Dentist in A Shark Tank", 2006, MpaaRating.R, 0.2f)
+    );
+
+    static Stream<Arguments> invalidQueryProvider() {
+        return Stream.of(
+                Arguments.of("", "Search query must not be blank"),
+                Arguments.of("   ", "Search query must not be blank"),
+                Arguments.of("a".repeat(201), "Search query must not have more than 200 characters")
+        );
+    }
+
+    @Test
+    public void shouldReturnFilmSummariesOnGetAll() throws Exception {
+        Pageable byTitle = PageRequest.of(0, 10, Sort.by("title").ascending());
+        FilmSummaryDto summary = new FilmSummaryDto(1, "Academy Dinosaur", null, 2006, (short) 6, null, (short) 86, null, null, List.of(), MpaaRating.PG, 1, "English", null);
+        given(filmService.getFilms(byTitle, CountMode.EXACT)).willReturn(new PageImpl<>(List.of(summary), byTitle, 1));
+
+        mockMvc.perform(get("/films"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Academy Dinosaur"))
+                .andExpect(jsonPath("$.content[0].language.name").value("English"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(filmService).getFilms(byTitle, CountMode.EXACT);
+    }
+
+    @Test
+    public void shouldReturnFilmOnGetById() throws Exception {
+        FilmDto film = new FilmDto(1, "Academy Dinosaur", null, 2006, (short) 6, null, (short) 86, null, null, List.of(), MpaaRating.PG, 1, "English", null);
+        given(filmService.getFilmById(1)).willReturn(film);
+
+        mockMvc.perform(get("/films/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.rating").value("PG"));
+    }
+
+    @Test
+    public void shouldReturnNotFoundOnGetByIdWhenMissing() throws Exception {
+        given(filmService.getFilmById(999)).willThrow(new EntityNotFoundException("Film with id 999 not found"));
+
+        mockMvc.perform(get("/films/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value("Film with id 999 not found"));
+    }
+
+    @Test
+    public void shouldRejectInvalidIdOnGetById() throws Exception {
+        mockMvc.perform(get("/films/0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(filmService);
+    }
+
+    @Test
+    public void shouldReturnRankedFilmsOnSearch() throws Exception {
+        String expectedJson = objectMapper.writeValueAsString(Map.of("content", filmDtoList));
+        given(filmService.searchFilms("shark tank", false, defaultPageable, CountMode.EXACT))
+                .willReturn(new PageImpl<>(filmDtoList, defaultPageable, filmDtoList.size()));
+
+        mockMvc.perform(get("/films/search").param("q", "  shark tank  "))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(expectedJson))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        verify(filmService).searchFilms("shark tank", false, defaultPageable, CountMode.EXACT);
+    }
+
+    @Test
+    public void shouldPassHighlightAndCountModeOnSearch() throws Exception {
+        given(filmService.searchFilms("shark", true, defaultPageable, CountMode.NONE))
+                .willReturn(new SliceImpl<>(filmDtoList, defaultPageable, true));
+
+        mockMvc.perform(get("/films/search")
+                        .param("q", "shark")
+                        .param("highlight", "true")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(filmService).searchFilms("shark", true, defaultPageable, CountMode.NONE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidQueryProvider")
+    public void shouldRejectWhenQueryIsNotValidOnSearch(String query, String message) throws Exception {
+        mockMvc.perform(get("/films/search").param("q", query))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Validation Failed"))
+                .andExpect(jsonPath("$.instance").value("/films/search"))
+                .andExpect(jsonPath("$.properties.requestParam.q").value(message));
+
+        verifyNoInteractions(filmService);
+    }
+}
@@ -0,0 +1,98 @@
+package com.hieu.dvdrental.film;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Times the entity-plus-MapStruct read path against the projection path used by {@code /films}, logging both
+ * for comparison. Run with {@code -Pbenchmark}; FilmRepositoryTest asserts the statement and entity counts.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestContainersConfig.class)
+public class FilmReadPathBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(FilmReadPathBenchmarkTest.class);
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private FilmRepository filmRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final FilmMapper filmMapper = Mappers.getMapper(FilmMapper.class);
+
+    private final Pageable pageable = PageRequest.of(0, 50, Sort.by("title"));
+
+    private FilmService filmService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        filmService = new FilmService(filmRepository, filmMapper, mock(RowCountEstimator.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private List<FilmSummaryDto> readEntities() {
+        entityManager.clear();
+        return filmMapper.toSummaryDtoSet(filmRepository.findAll(pageable).getContent());
+    }
+
+    private List<FilmSummaryDto> readProjections() {
+        entityManager.clear();
+        return filmService.getFilms(pageable, CountMode.EXACT).getContent();
+    }
+
+    private double averageMicros(Supplier<List<FilmSummaryDto>> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            read.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.get();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    @Test
+    public void compareEntityAndProjectionReadPaths() {
+        statistics.clear();
+        readEntities();
+        long entityStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        readProjections();
+        long projectionStatements = statistics.getPrepareStatementCount();
+
+        double entityMicros = averageMicros(this::readEntities);
+        double projectionMicros = averageMicros(this::readProjections);
+        log.info("Film page of {}: entity+MapStruct {} us ({} statements), projection {} us ({} statements)",
+                pageable.getPageSize(), String.format("%.1f", entityMicros), entityStatements, String.format("%.1f", projectionMicros), projectionStatements);
+    }
+}
@@ -1,10 +1,17 @@
 package com.hieu.dvdrental.film;
 
 import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import com.hieu.dvdrental.type.MpaaRating;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,13 +23,21 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Import(TestContainersConfig.class)
 public class FilmRepositoryTest {
     @Autowired
     private FilmRepository filmRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private final Pageable pageable = PageRequest.of(0, 10, Sort.by("title").ascending());
 
     @Test
@@ -46,6 +61,21 @@ public class FilmRepositoryTest {
         assertEquals(List.of("Commentaries", "Deleted Scenes"), filmList.getFirst().getSpecialFeatures());
     }
 
+    @Test
+    public void findCatalogPageFiltersCountsAndPagesInTheDatabase() {
+        long children = filmRepository.findByCategories_Id(3, this.pageable).getTotalElements();
+
+        List<Integer> ids = filmRepository.findCatalogPage(null, null, "children", null, 100, 0);
+        List<FilmCatalogFacet> facets = filmRepository.findCatalogFacets(null, null, "children", null);
+
+        assertEquals(children, ids.size());
+        assertEquals(children, filmRepository.countCatalogMatches(null, null, "CHILDREN", null));
+        assertEquals(ids.subList(1, 2), filmRepository.findCatalogPage(null, null, "children", null, 1, 1));
+        assertTrue(facets.stream().anyMatch(facet -> facet.getFacet().equals("category") && facet.getValue().equals("Children")
+                && facet.getCount() == children));
+        assertEquals(0, filmRepository.countCatalogMatches(null, "no such rating", null, null));
+    }
+
     @Test
     public void findByRating() {
         Page<Film> films = filmRepository.findByRating(MpaaRating.PG_13, this.pageable);
@@ -53,4 +83,84 @@ public class FilmRepositoryTest {
 
         assertEquals(10, filmList.size());
     }
+
+    @Test
+    public void searchByFullText() {
+        Page<FilmSearchResult> films = filmRepository.searchByFullText("shark tank", PageRequest.of(0, 10));
+        List<FilmSearchResult> filmList = films.getContent();
+
+        assertEquals(2, films.getTotalElements());
+        assertEquals(List.of(27, 177), filmList.stream().map(FilmSearchResult::getId).sorted().toList());
+    }
+
+    @Test
+    public void searchByFullTextSupportsWebSearchSyntax() {
+        Page<FilmSearchResult> films = filmRepository.searchByFullText("shark -tank", PageRequest.of(0, 10));
+
+        assertEquals(5, films.getTotalElements());
+    }
+
+    @Test
+    public void searchByFullTextRanksTitleMatchesFirst() {
+        Page<FilmSearchResult> films = filmRepository.searchByFullText("cat", PageRequest.of(0, 10));
+
+        assertEquals(127, films.getContent().getFirst().getId());
+        assertEquals(MpaaRating.G.name(), films.getContent().getFirst().getRating());
+    }
+
+    @Test
+    public void findHeadlines() {
+        List<FilmHeadline> headlines = filmRepository.findHeadlines("dinosaur", List.of(1));
+
+        assertEquals(1, headlines.size());
+        assertTrue(headlines.getFirst().getHeadline().contains("<b>Dinosaur</b>"));
+    }
+
+    @Test
+    public void findSummaries() {
+        Page<FilmSummaryDto> films = filmRepository.findSummaries(this.pageable);
+        FilmSummaryDto first = films.getContent().getFirst();
+
+        assertEquals(74, films.getTotalElements());
+        assertEquals(1, first.getId());
+        assertEquals("Academy Dinosaur", first.getTitle());
+        assertEquals(MpaaRating.PG, first.getRating());
+        assertEquals(1, first.getLanguage().getId());
+        assertEquals(List.of("Deleted Scenes", "Behind the Scenes"), first.getSpecialFeatures());
+    }
+
+    @Test
+    public void findDetailByIdWithCategoriesAndActors() {
+        FilmDto film = filmRepository.findDetailById(1).orElseThrow();
+        List<FilmCategoryLink> categories = filmRepository.findCategoryLinks(List.of(1));
+
+        assertEquals("Academy Dinosaur", film.getTitle());
+        assertEquals(1, categories.size());
+        assertEquals(1, categories.getFirst().getFilmId());
+        assertEquals("Penelope", filmRepository.findActorSummaries(1).stream()
+                .filter(actor -> actor.getId() == 1).findFirst().orElseThrow().getFirstName());
+    }
+
+    @Test
+    public void filmPageFromProjectionsDoesNotHydrateEntities() {
+        FilmMapper filmMapper = Mappers.getMapper(FilmMapper.class);
+        FilmService filmService = new FilmService(filmRepository, filmMapper, mock(RowCountEstimator.class));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        entityManager.clear();
+        statistics.clear();
+        List<FilmSummaryDto> entities = filmMapper.toSummaryDtoSet(filmRepository.findAll(this.pageable).getContent());
+        long entityLoads = statistics.getEntityLoadCount();
+
+        entityManager.clear();
+        statistics.clear();
+        List<FilmSummaryDto> projections = filmService.getFilms(this.pageable, CountMode.EXACT).getContent();
+
+        assertEquals(entities.stream().map(FilmSummaryDto::getTitle).toList(), projections.stream().map(FilmSummaryDto::getTitle).toList());
+        assertTrue(entityLoads >= entities.size());
+        // page, count, categories
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
 }
@@ -0,0 +1,145 @@
+package com.hieu.dvdrental.film;
+
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
+import com.hieu.dvdrental.type.MpaaRating;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.*;
+
+import com.hieu.dvdrental.actor.ActorSummaryDto;
+import jakarta.persistence.EntityNotFoundException;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FilmServiceTest {
+
+    @Mock
+    private FilmRepository filmRepository;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    private final FilmMapper filmMapper = Mappers.getMapper(FilmMapper.class);
+
+    private FilmService filmService;
+
+    private final Pageable byRank = PageRequest.of(0, 2);
+
+    private record Result(Integer getId, String getTitle, String getDescription, Integer getReleaseYear, String getRating, Float getRank) implements FilmSearchResult {}
+
+    private record CategoryLink(Integer getFilmId, Integer getCategoryId, String getName, Instant getLastUpdate) implements FilmCategoryLink {}
+
+    private record Headline(Integer getId, String getHeadline) implements FilmHeadline {}
+
+    private final List<FilmSearchResult> results = List.of(
+            new Result(127, "Cat Coneheads", "A Fast-Paced Panorama of a Girl And a A Shark who must Confront a Boy in Ancient India", 2006, "G", 1.0f),
+            new Result(53, "Bang Kwai", "A Epic Drama of a Madman And a Cat who must Face a A Shark in An Abandoned Amusement Park", 2006, "NC_17", 0.4f)
+    );
+
+    @BeforeEach
+    void setUp() {
+        this.filmService = new FilmService(filmRepository, filmMapper, rowCountEstimator);
+    }
+
+    @Test
+    public void shouldSearchByRankIgnoringRequestedSort() {
+        when(filmRepository.searchByFullText("cat", byRank)).thenReturn(new PageImpl<>(results, byRank, 2));
+
+        Slice<FilmSearchDto> films = filmService.searchFilms("cat", false, PageRequest.of(0, 2, Sort.by("title")), CountMode.EXACT);
+
+        assertThat(films.getContent())
+                .extracting(FilmSearchDto::getId, FilmSearchDto::getRating, FilmSearchDto::getHeadline)
+                .containsExactly(
+                        tuple(127, MpaaRating.G, null),
+                        tuple(53, MpaaRating.NC_17, null)
+                );
+        verify(filmRepository, never()).findHeadlines(anyString(), any());
+    }
+
+    @Test
+    public void shouldAttachHeadlinesForThePageOnly() {
+        when(filmRepository.searchSliceByFullText("cat", byRank)).thenReturn(new SliceImpl<>(results, byRank, true));
+        when(filmRepository.findHeadlines("cat", List.of(127, 53))).thenReturn(List.of(
+                new Headline(127, "<b>Cat</b> Coneheads"),
+                new Headline(53, "a <b>Cat</b> who must Face")
+        ));
+
+        Slice<FilmSearchDto> films = filmService.searchFilms("cat", true, byRank, CountMode.NONE);
+
+        assertThat(films).isNotInstanceOf(Page.class);
+        assertThat(films.getContent())
+                .extracting(FilmSearchDto::getHeadline)
+                .containsExactly("<b>Cat</b> Coneheads", "a <b>Cat</b> who must Face");
+        verify(filmRepository).findHeadlines(eq("cat"), any(Collection.class));
+    }
+
+    @Test
+    public void shouldEstimateTotalFromThePlanOnCountEstimate() {
+        when(filmRepository.searchSliceByFullText("cat", byRank)).thenReturn(new SliceImpl<>(results, byRank, true));
+        when(rowCountEstimator.estimateQuery(anyString(), eq("cat"))).thenReturn(40L);
+
+        Slice<FilmSearchDto> films = filmService.searchFilms("cat", false, byRank, CountMode.ESTIMATE);
+
+        assertThat(((Page<FilmSearchDto>) films).getTotalElements()).isEqualTo(40L);
+    }
+
+    @Test
+    public void shouldReturnSummariesWithCategoriesInTwoQueries() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("title"));
+        Instant updated = Instant.now();
+        List<FilmSummaryDto> summaries = List.of(
+                new FilmSummaryDto(1, "Academy Dinosaur", null, 2006, (short) 6, null, (short) 86, null, updated, List.of(), MpaaRating.PG, 1, "English", updated),
+                new FilmSummaryDto(2, "Ace Goldfinger", null, 2006, (short) 3, null, (short) 48, null, updated, List.of(), MpaaRating.G, 1, "English", updated)
+        );
+        when(filmRepository.findSummaries(pageable)).thenReturn(new PageImpl<>(summaries, pageable, 74));
+        when(filmRepository.findCategoryLinks(List.of(1, 2))).thenReturn(List.of(
+                new CategoryLink(1, 6, "Documentary", updated),
+                new CategoryLink(2, 11, "Horror", updated)
+        ));
+
+        Slice<FilmSummaryDto> films = filmService.getFilms(pageable, CountMode.EXACT);
+
+        assertThat(((Page<FilmSummaryDto>) films).getTotalElements()).isEqualTo(74);
+        assertThat(films.getContent())
+                .extracting(film -> film.getCategories().getFirst().getName(), film -> film.getLanguage().getName())
+                .containsExactly(tuple("Documentary", "English"), tuple("Horror", "English"));
+        verify(filmRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    public void shouldReturnFilmWithActorsAndCategories() {
+        Instant updated = Instant.now();
+        FilmDto detail = new FilmDto(1, "Academy Dinosaur", null, 2006, (short) 6, null, (short) 86, null, updated, List.of(), MpaaRating.PG, 1, "English", updated);
+        when(filmRepository.findDetailById(1)).thenReturn(Optional.of(detail));
+        when(filmRepository.findCategoryLinks(List.of(1))).thenReturn(List.of());
+        when(filmRepository.findActorSummaries(1)).thenReturn(List.of(new ActorSummaryDto(1, "Penelope", "Guiness", updated)));
+
+        FilmDto film = filmService.getFilmById(1);
+
+        assertThat(film.getCategories()).isEmpty();
+        assertThat(film.getActors()).extracting(ActorSummaryDto::getLastName).containsExactly("Guiness");
+    }
+
+    @Test
+    public void shouldThrowWhenFilmIsNotFound() {
+        when(filmRepository.findDetailById(999)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> filmService.getFilmById(999))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Film with id 999 not found");
+    }
+}
@@ -0,0 +1,69 @@
+package com.hieu.dvdrental.inventory;
+
+import com.hieu.dvdrental.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryAvailabilityServiceTest {
+
+    @Mock
+    private InventoryAvailability inventoryAvailability;
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private InventoryAvailabilityService inventoryAvailabilityService;
+
+    private record Row(Integer getStoreId, Integer getInventoryId) implements InventoryStockRow {}
+
+    @BeforeEach
+    void setUp() {
+        this.inventoryAvailabilityService = new InventoryAvailabilityService(inventoryAvailability, inventoryRepository);
+    }
+
+    @Test
+    public void shouldAnswerFromTheIndexWhenLoaded() {
+        when(inventoryAvailability.availableByStore(10, null)).thenReturn(Optional.of(Map.of(2, new int[]{7, 8})));
+
+        FilmAvailabilityDto result = inventoryAvailabilityService.getFilmAvailability(10, null);
+
+        assertThat(result.isInStock()).isTrue();
+        assertThat(result.getStores()).singleElement().satisfies(store -> {
+            assertThat(store.getStoreId()).isEqualTo(2);
+            assertThat(store.getAvailableCopies()).isEqualTo(2);
+            assertThat(store.getInventoryIds()).containsExactly(7, 8);
+        });
+        verifyNoInteractions(inventoryRepository);
+    }
+
+    @Test
+    public void shouldFallBackToTheRepositoryBeforeTheIndexIsLoaded() {
+        when(inventoryAvailability.availableByStore(10, null)).thenReturn(Optional.empty());
+        when(inventoryRepository.findAvailableStock(10, null)).thenReturn(List.of(new Row(1, 3), new Row(1, 4), new Row(2, 9)));
+
+        FilmAvailabilityDto result = inventoryAvailabilityService.getFilmAvailability(10, null);
+
+        assertThat(result.getStores()).extracting(StoreAvailabilityDto::getStoreId).containsExactly(1, 2);
+        assertThat(result.getStores().getFirst().getInventoryIds()).containsExactly(3, 4);
+    }
+
+    @Test
+    public void shouldReportOutOfStock() {
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.of(Map.of()));
+
+        FilmAvailabilityDto result = inventoryAvailabilityService.getFilmAvailability(10, 1);
+
+        assertThat(result.isInStock()).isFalse();
+        assertThat(result.getStores()).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.hieu.dvdrental.inventory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class InventoryAvailabilityTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private InventoryAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        availability = new InventoryAvailability(jdbcTemplate);
+    }
+
+    @Test
+    public void shouldNotAnswerBeforeTheFirstLoad() {
+        assertThat(availability.isLoaded()).isFalse();
+        assertThat(availability.availableByStore(1, null)).isEmpty();
+    }
+
+    @Test
+    public void shouldAnswerFromTheLoadedInventory() throws SQLException {
+        load(new int[][]{{1, 10, 1, 1}, {2, 10, 1, 0}, {3, 10, 2, 1}, {4, 10, 2, 1}, {5, 11, 1, 1}});
+
+        assertThat(availability.availableByStore(10, null).orElseThrow())
+                .containsOnlyKeys(1, 2)
+                .hasEntrySatisfying(1, ids -> assertThat(ids).containsExactly(1))
+                .hasEntrySatisfying(2, ids -> assertThat(ids).containsExactly(3, 4));
+        assertThat(availability.availableByStore(10, 2).orElseThrow()).containsOnlyKeys(2);
+        assertThat(availability.availableByStore(99, null).orElseThrow()).isEmpty();
+        assertThat(availability.isAvailable(2)).isFalse();
+    }
+
+    @Test
+    public void shouldTrackCheckoutsAndReturns() throws SQLException {
+        load(new int[][]{{1, 10, 1, 1}, {2, 10, 1, 1}});
+
+        availability.checkedOut(1);
+        assertThat(availability.availableByStore(10, 1).orElseThrow().get(1)).containsExactly(2);
+
+        availability.checkedOut(2);
+        assertThat(availability.availableByStore(10, 1).orElseThrow()).isEmpty();
+
+        availability.checkedIn(1);
+        availability.added(3, 10, 1);
+        assertThat(availability.availableByStore(10, 1).orElseThrow().get(1)).containsExactly(1, 3);
+    }
+
+    @Test
+    public void shouldReplayChangesMadeWhileReconciling() throws SQLException {
+        load(new int[][]{{1, 10, 1, 1}, {2, 10, 1, 1}});
+
+        //The reconcile query reads item 1 as available, but it is checked out before the result is swapped in
+        doAnswer(invocation -> {
+            availability.checkedOut(1);
+            feed(invocation.getArgument(1), new int[][]{{1, 10, 1, 1}, {2, 10, 1, 1}});
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        availability.reconcile();
+
+        Map<Integer, int[]> available = availability.availableByStore(10, null).orElseThrow();
+        assertThat(available.get(1)).containsExactly(2);
+    }
+
+    private void load(int[][] rows) throws SQLException {
+        doAnswer(invocation -> {
+            feed(invocation.getArgument(1), rows);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        availability.reconcile();
+    }
+
+    //Each row is inventory_id, film_id, store_id, available
+    private static void feed(RowCallbackHandler handler, int[][] rows) throws SQLException {
+        for (int[] row : rows) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getInt("inventory_id")).thenReturn(row[0]);
+            when(rs.getInt("film_id")).thenReturn(row[1]);
+            when(rs.getInt("store_id")).thenReturn(row[2]);
+            when(rs.getBoolean("available")).thenReturn(row[3] == 1);
+            handler.processRow(rs);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.hieu.dvdrental.language;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.pagination.CountMode;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.mockito.BDDMockito.*;
@@ -81,7 +83,7 @@ public class LanguageControllerTest {
     @Test
     public void shouldReturnAPageOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", languageDtoList));
-        given(languageService.getAllLanguages(pageable)).willReturn(dtoPage);
+        given(languageService.getAllLanguages(pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/languages")
                         .param("page", "0")
@@ -94,13 +96,13 @@ public class LanguageControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(languageService).getAllLanguages(pageable);
+        verify(languageService).getAllLanguages(pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetAll() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", languageDtoList));
-        given(languageService.getAllLanguages(defaultPageable)).willReturn(dtoPageDefault);
+        given(languageService.getAllLanguages(defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/languages"))
                 .andExpect(status().isOk())
@@ -110,13 +112,13 @@ public class LanguageControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(languageService).getAllLanguages(defaultPageable);
+        verify(languageService).getAllLanguages(defaultPageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", languageDtoList));
-        given(languageService.getLanguagesByName("an", pageable)).willReturn(dtoPage);
+        given(languageService.getLanguagesByName("an", pageable, CountMode.EXACT)).willReturn(dtoPage);
 
         mockMvc.perform(get("/languages")
                         .param("name", "   an   ")
@@ -130,13 +132,13 @@ public class LanguageControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPage.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPage.getNumber()));
 
-        verify(languageService).getLanguagesByName("an", pageable);
+        verify(languageService).getLanguagesByName("an", pageable, CountMode.EXACT);
     }
 
     @Test
     public void shouldReturnAPageWithDefaultPaginationOnGetByName() throws Exception {
         String expectedJson = objectMapper.writeValueAsString(Map.of("content", languageDtoList));
-        given(languageService.getLanguagesByName("an", defaultPageable)).willReturn(dtoPageDefault);
+        given(languageService.getLanguagesByName("an", defaultPageable, CountMode.EXACT)).willReturn(dtoPageDefault);
 
         mockMvc.perform(get("/languages").param("name", "  an  "))
                 .andExpect(status().isOk())
@@ -146,7 +148,7 @@ public class LanguageControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(dtoPageDefault.getTotalElements()))
                 .andExpect(jsonPath("$.number").value(dtoPageDefault.getNumber()));
 
-        verify(languageService).getLanguagesByName("an", defaultPageable);
+        verify(languageService).getLanguagesByName("an", defaultPageable, CountMode.EXACT);
     }
 
     @ParameterizedTest
@@ -348,4 +350,28 @@ public class LanguageControllerTest {
                 .andExpect(jsonPath("$.detail").value("One or more films are associated with the language with id 1"))
                 .andExpect(jsonPath("$.instance").value("/languages/1"));
     }
+
+    @Test
+    public void shouldTagLanguageOnGetById() throws Exception {
+        given(languageService.getLanguageTag(1)).willReturn(Optional.of("W/\"1-42\""));
+        given(languageService.getLanguageById(1)).willReturn(languageDtoList.getFirst());
+
+        mockMvc.perform(get("/languages/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-42\""));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedWhenLanguageTagMatches() throws Exception {
+        given(languageService.getLanguageTag(1)).willReturn(Optional.of("W/\"1-42\""));
+        given(languageService.getLanguagesTag()).willReturn("W/\"5-42\"");
+
+        mockMvc.perform(get("/languages/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-42\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/languages").header(HttpHeaders.IF_NONE_MATCH, "W/\"4-42\", W/\"5-42\""))
+                .andExpect(status().isNotModified());
+
+        verify(languageService, never()).getLanguageById(any());
+        verify(languageService, never()).getAllLanguages(any(Pageable.class), any(CountMode.class));
+    }
 }
@@ -1,6 +1,9 @@
 package com.hieu.dvdrental.language;
 
 import com.hieu.dvdrental.film.FilmRepository;
+import com.hieu.dvdrental.etag.EntityTags;
+import com.hieu.dvdrental.pagination.CountMode;
+import com.hieu.dvdrental.pagination.RowCountEstimator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,10 @@ public class LanguageServiceTest {
     private LanguageRepository languageRepository;
     @Mock
     private FilmRepository filmRepository;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private EntityTags entityTags;
     private final LanguageMapper languageMapper = Mappers.getMapper(LanguageMapper.class);
 
     private LanguageService languageService;
@@ -55,16 +62,16 @@ public class LanguageServiceTest {
 
     @BeforeEach
     void setUp() {
-        this.languageService = new LanguageService(languageRepository, languageMapper, filmRepository);
+        this.languageService = new LanguageService(languageRepository, languageMapper, filmRepository, rowCountEstimator, entityTags);
     }
 
     @Test
     public void shouldReturnALanguagePage() {
         when(languageRepository.findAll(pageable)).thenReturn(entityPage);
 
-        Page<LanguageDto> languagePage = languageService.getAllLanguages(pageable);
+        Slice<LanguageDto> languagePage = languageService.getAllLanguages(pageable, CountMode.EXACT);
 
-        assertThat(languagePage).isNotNull();
+        assertThat(languagePage).isInstanceOf(Page.class);
         assertThat(languagePage.getContent()).isNotNull();
         assertThat(languagePage.getContent().getFirst().getClass()).isEqualTo(LanguageDto.class);
 
@@ -105,9 +112,9 @@ public class LanguageServiceTest {
     public void shouldReturnALanguagePageByName() {
         when(languageRepository.findByNameContainingIgnoreCase("name", pageable)).thenReturn(entityPage);
 
-        Page<LanguageDto> languagePage = languageService.getLanguagesByName("name", pageable);
+        Slice<LanguageDto> languagePage = languageService.getLanguagesByName("name", pageable, CountMode.EXACT);
 
-        assertThat(languagePage).isNotNull();
+        assertThat(languagePage).isInstanceOf(Page.class);
         assertThat(languagePage.getContent()).isNotNull();
         assertThat(languagePage.getContent().getFirst().getClass()).isEqualTo(LanguageDto.class);
 
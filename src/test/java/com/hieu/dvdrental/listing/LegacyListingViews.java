@@ -0,0 +1,74 @@
+package com.hieu.dvdrental.listing;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The group_concat definitions of film_list and actor_info as they were before V1.14, recreated as
+ * {@code legacy_*} inside the test transaction, and a way to scale the seed films up under them.
+ */
+final class LegacyListingViews {
+    private static final String DEFINITIONS = """
+            CREATE FUNCTION legacy_group_concat_state(text, text) RETURNS text LANGUAGE sql IMMUTABLE PARALLEL UNSAFE AS
+            'SELECT CASE WHEN $2 IS NULL THEN $1 WHEN $1 IS NULL THEN $2 ELSE $1 || '', '' || $2 END';
+            CREATE AGGREGATE legacy_group_concat(text) (SFUNC = legacy_group_concat_state, STYPE = text);
+            CREATE VIEW legacy_film_list AS
+            SELECT film.film_id AS fid, film.title, film.description, category.name AS category, film.rental_rate AS price,
+                   film.length, film.rating, legacy_group_concat((actor.first_name::text || ' ') || actor.last_name::text) AS actors
+            FROM category
+                     LEFT JOIN film_category ON category.category_id = film_category.category_id
+                     LEFT JOIN film ON film_category.film_id = film.film_id
+                     JOIN film_actor ON film.film_id = film_actor.film_id
+                     JOIN actor ON film_actor.actor_id = actor.actor_id
+            GROUP BY film.film_id, film.title, film.description, category.name, film.rental_rate, film.length, film.rating;
+            CREATE VIEW legacy_actor_info AS
+            SELECT a.actor_id, a.first_name, a.last_name,
+                   legacy_group_concat(DISTINCT (c.name::text || ': ') || ((SELECT legacy_group_concat(f.title::text)
+                                                                         FROM film f
+                                                                                  JOIN film_category fc_1 ON f.film_id = fc_1.film_id
+                                                                                  JOIN film_actor fa_1 ON f.film_id = fa_1.film_id
+                                                                         WHERE fc_1.category_id = c.category_id
+                                                                           AND fa_1.actor_id = a.actor_id
+                                                                         GROUP BY fa_1.actor_id))) AS film_info
+            FROM actor a
+                     LEFT JOIN film_actor fa ON a.actor_id = fa.actor_id
+                     LEFT JOIN film_category fc ON fa.film_id = fc.film_id
+                     LEFT JOIN category c ON fc.category_id = c.category_id
+            GROUP BY a.actor_id, a.first_name, a.last_name
+            """;
+
+    private LegacyListingViews() {}
+
+    static void create(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute(DEFINITIONS);
+    }
+
+    static void copyFilms(JdbcTemplate jdbcTemplate, int copies) {
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE scaled_film ON COMMIT DROP AS " +
+                "SELECT f.film_id AS source_id, n, nextval('film_film_id_seq')::INTEGER AS film_id FROM film f, generate_series(1, " + copies + ") n");
+        jdbcTemplate.update("INSERT INTO film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, " +
+                "replacement_cost, rating, special_features) " +
+                "SELECT s.film_id, f.title || ' ' || s.n, f.description, f.release_year, f.language_id, f.rental_duration, f.rental_rate, " +
+                "f.length, f.replacement_cost, f.rating, f.special_features FROM scaled_film s JOIN film f ON f.film_id = s.source_id");
+        jdbcTemplate.update("INSERT INTO film_category (film_id, category_id) " +
+                "SELECT s.film_id, fc.category_id FROM scaled_film s JOIN film_category fc ON fc.film_id = s.source_id");
+        jdbcTemplate.update("INSERT INTO film_actor (actor_id, film_id) " +
+                "SELECT fa.actor_id, s.film_id FROM scaled_film s JOIN film_actor fa ON fa.film_id = s.source_id");
+        jdbcTemplate.execute("ANALYZE film, film_category, film_actor");
+    }
+
+    //The order inside the lists is unspecified in both definitions, so each list is compared as sorted items
+    static Map<String, List<String>> normalized(JdbcTemplate jdbcTemplate, String sql) {
+        Map<String, List<String>> rows = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            String list = rs.getString(3);
+            List<String> items = list == null ? List.of() : Arrays.stream(list.split(", ")).sorted().toList();
+            rows.put(rs.getString(1) + "|" + rs.getString(2), items);
+        });
+        return rows;
+    }
+}
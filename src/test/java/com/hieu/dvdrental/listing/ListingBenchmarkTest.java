@@ -0,0 +1,78 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times the string_agg views and their pages against the group_concat definitions they replaced, on the seed
+ * films copied {@value #COPIES} times, and logs the timings. Runs with {@code -Pbenchmark}; ListingViewsTest checks
+ * that both return the same rows.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({TestContainersConfig.class, ListingService.class})
+public class ListingBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(ListingBenchmarkTest.class);
+
+    //The legacy actor_info runs its subquery once per film of every actor, so it is kept small enough to finish in seconds
+    private static final int COPIES = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 3;
+
+    @Autowired
+    private ListingService listingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        LegacyListingViews.create(jdbcTemplate);
+        LegacyListingViews.copyFilms(jdbcTemplate, COPIES);
+    }
+
+    @Test
+    public void stringAggViewsAndPagesAreFaster() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        millis.put("legacy_film_list, all rows", average(() -> count("SELECT * FROM legacy_film_list")));
+        millis.put("film_list, all rows", average(() -> count("SELECT * FROM film_list")));
+        millis.put("legacy_actor_info, all rows", average(() -> count("SELECT * FROM legacy_actor_info")));
+        millis.put("actor_info, all rows", average(() -> count("SELECT * FROM actor_info")));
+        millis.put("legacy_film_list, first page", average(() -> count("SELECT * FROM legacy_film_list ORDER BY fid, category LIMIT " + PAGE_SIZE)));
+        millis.put("/films/list, page", average(() -> listingService.getFilmList(null, PAGE_SIZE).getContent().size()));
+        millis.put("legacy_actor_info, first page", average(() -> count("SELECT * FROM legacy_actor_info ORDER BY actor_id LIMIT " + PAGE_SIZE)));
+        millis.put("/actors/info, page", average(() -> listingService.getActorInfo(null, PAGE_SIZE).getContent().size()));
+        millis.forEach((query, time) -> log.info("{}: {} ms", query, String.format("%.2f", time)));
+
+        assertThat(millis.get("actor_info, all rows")).isLessThan(millis.get("legacy_actor_info, all rows"));
+        assertThat(millis.get("/films/list, page")).isLessThan(millis.get("legacy_film_list, first page"));
+        assertThat(millis.get("/actors/info, page")).isLessThan(millis.get("legacy_actor_info, first page"));
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rowNum).size();
+    }
+
+    private double average(Supplier<Integer> read) {
+        read.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(read.get()).isPositive();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
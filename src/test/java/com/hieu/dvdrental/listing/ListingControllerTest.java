@@ -0,0 +1,66 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.pagination.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ListingController.class)
+@Import(JacksonConfiguration.class)
+public class ListingControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    ListingService listingService;
+
+    @Test
+    public void shouldReturnTheFirstFilmListPage() throws Exception {
+        given(listingService.getFilmList(null, 10)).willReturn(new CursorPage<>(List.of(
+                new FilmListDto(1, "Academy Dinosaur", "A Epic Drama", "Documentary", new BigDecimal("0.99"), 86, "PG", "Penelope Guiness, Christian Gable")),
+                10, true, "next"));
+
+        mockMvc.perform(get("/films/list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].fid").value(1))
+                .andExpect(jsonPath("$.content[0].category").value("Documentary"))
+                .andExpect(jsonPath("$.content[0].price").value(0.99))
+                .andExpect(jsonPath("$.content[0].rating").value("PG"))
+                .andExpect(jsonPath("$.content[0].actors").value("Penelope Guiness, Christian Gable"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    public void shouldPassTheCursorAndPageSize() throws Exception {
+        given(listingService.getActorInfo("abc", 5)).willReturn(new CursorPage<>(List.of(
+                new ActorInfoDto(1, "Penelope", "Guiness", "Animation: Anaconda Confessions")), 5, false, null));
+
+        mockMvc.perform(get("/actors/info").param("after", "abc").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].actorId").value(1))
+                .andExpect(jsonPath("$.content[0].filmInfo").value("Animation: Anaconda Confessions"))
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    public void shouldRejectAnInvalidCursor() throws Exception {
+        given(listingService.getActorInfo("bad", 10)).willThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/actors/info").param("after", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid cursor"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.pagination.CursorCodec;
+import com.hieu.dvdrental.pagination.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ListingServiceTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ListingService listingService;
+
+    private static FilmListDto film(int fid, String category) {
+        return new FilmListDto(fid, "Film " + fid, null, category, new BigDecimal("0.99"), 90, "G", "Penelope Guiness");
+    }
+
+    @Test
+    public void shouldReadOneRowPastThePageAndEncodeTheLastKeys() {
+        given(jdbcTemplate.query(startsWith("SELECT fid"), any(RowMapper.class), eq(3)))
+                .willReturn(List.of(film(1, "Action"), film(2, "Comedy"), film(2, "Drama")));
+
+        CursorPage<FilmListDto> page = listingService.getFilmList(null, 2);
+
+        assertThat(page.getContent()).extracting(FilmListDto::getFid).containsExactly(1, 2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(CursorCodec.decode(page.getNextCursor()).getKeys()).containsExactly(Map.entry("fid", 2), Map.entry("category", "Comedy"));
+    }
+
+    @Test
+    public void shouldContinueAfterTheCursorKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("fid", 2);
+        keys.put("category", "Comedy");
+        String cursor = CursorCodec.encode(ScrollPosition.forward(keys));
+        given(jdbcTemplate.query(contains("(fid, category) > (?, ?)"), any(RowMapper.class), eq(2), eq(2), eq("Comedy"), eq(3)))
+                .willReturn(List.of(film(2, "Drama")));
+
+        CursorPage<FilmListDto> page = listingService.getFilmList(cursor, 2);
+
+        assertThat(page.getContent()).extracting(FilmListDto::getCategory).containsExactly("Drama");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void shouldPageActorInfoByActorId() {
+        String cursor = CursorCodec.encode(ScrollPosition.forward(Map.of("actorId", 10)));
+        given(jdbcTemplate.query(contains("actor_id > ?"), any(RowMapper.class), eq(10), eq(2)))
+                .willReturn(List.of(new ActorInfoDto(11, "Zero", "Cage", null), new ActorInfoDto(12, "Karl", "Berry", null)));
+
+        CursorPage<ActorInfoDto> page = listingService.getActorInfo(cursor, 1);
+
+        assertThat(page.getContent()).extracting(ActorInfoDto::getActorId).containsExactly(11);
+        assertThat(CursorCodec.decode(page.getNextCursor()).getKeys()).containsExactly(Map.entry("actorId", 11));
+    }
+
+    @Test
+    public void shouldRejectACursorOfAnotherListing() {
+        String cursor = CursorCodec.encode(ScrollPosition.forward(Map.of("actorId", 10)));
+
+        assertThatThrownBy(() -> listingService.getFilmList(cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,71 @@
+package com.hieu.dvdrental.listing;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.pagination.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The string_agg views against the group_concat definitions they replaced, on the seed films copied a few times
+ * so actors have several films per category.
+ */
+@DataJpaTest
+@Import({TestContainersConfig.class, ListingService.class})
+public class ListingViewsTest {
+    private static final int COPIES = 3;
+
+    @Autowired
+    private ListingService listingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        LegacyListingViews.create(jdbcTemplate);
+        LegacyListingViews.copyFilms(jdbcTemplate, COPIES);
+    }
+
+    @Test
+    public void viewsMatchTheGroupConcatDefinitions() {
+        assertThat(LegacyListingViews.normalized(jdbcTemplate, "SELECT fid, category, actors FROM film_list"))
+                .isNotEmpty()
+                .isEqualTo(LegacyListingViews.normalized(jdbcTemplate, "SELECT fid, category, actors FROM legacy_film_list"));
+        assertThat(LegacyListingViews.normalized(jdbcTemplate, "SELECT fid, category, actors FROM nicer_but_slower_film_list"))
+                .hasSameSizeAs(LegacyListingViews.normalized(jdbcTemplate, "SELECT fid, category, actors FROM legacy_film_list"));
+        assertThat(LegacyListingViews.normalized(jdbcTemplate, "SELECT actor_id, first_name, film_info FROM actor_info"))
+                .isEqualTo(LegacyListingViews.normalized(jdbcTemplate, "SELECT actor_id, first_name, film_info FROM legacy_actor_info"));
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regprocedure('group_concat(text)') IS NULL", Boolean.class)).isTrue();
+    }
+
+    @Test
+    public void pagesCoverEveryRowOnce() {
+        List<Integer> films = new ArrayList<>();
+        CursorPage<FilmListDto> filmPage = listingService.getFilmList(null, 50);
+        filmPage.getContent().forEach(row -> films.add(row.getFid()));
+        while (filmPage.isHasNext()) {
+            filmPage = listingService.getFilmList(filmPage.getNextCursor(), 50);
+            filmPage.getContent().forEach(row -> films.add(row.getFid()));
+        }
+        List<Integer> actors = new ArrayList<>();
+        CursorPage<ActorInfoDto> actorPage = listingService.getActorInfo(null, 7);
+        actorPage.getContent().forEach(row -> actors.add(row.getActorId()));
+        while (actorPage.isHasNext()) {
+            actorPage = listingService.getActorInfo(actorPage.getNextCursor(), 7);
+            actorPage.getContent().forEach(row -> actors.add(row.getActorId()));
+        }
+
+        assertThat(films).isSorted().isEqualTo(jdbcTemplate.queryForList("SELECT fid FROM film_list ORDER BY fid, category", Integer.class));
+        assertThat(actors).isSorted().doesNotHaveDuplicates()
+                .hasSize(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM actor", Integer.class));
+    }
+}
@@ -0,0 +1,45 @@
+package com.hieu.dvdrental.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HibernateMetricsTest {
+
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final StatisticsImplementor statistics = mock(StatisticsImplementor.class);
+
+    @BeforeEach
+    void setUp() {
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    public void shouldExportCountersWhenStatisticsAreEnabled() {
+        MetricsRegistry registry = new MetricsRegistry();
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getEntityLoadCount()).thenReturn(7L);
+
+        new HibernateMetrics(entityManagerFactory, registry);
+
+        assertThat(registry.scrape()).contains("hibernate_entity_loads_total 7");
+    }
+
+    @Test
+    public void shouldNotExportConstantZerosWhenStatisticsAreDisabled() {
+        MetricsRegistry registry = new MetricsRegistry();
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        new HibernateMetrics(entityManagerFactory, registry);
+
+        assertThat(registry.scrape()).doesNotContain("hibernate_");
+    }
+}
@@ -0,0 +1,32 @@
+package com.hieu.dvdrental.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = MetricsController.class)
+public class MetricsControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    MetricsRegistry metricsRegistry;
+
+    @Test
+    public void shouldReturnPrometheusText() throws Exception {
+        given(metricsRegistry.scrape()).willReturn("# TYPE up gauge\nup 1\n");
+
+        mockMvc.perform(get("/metrics").header("Accept", "application/openmetrics-text;version=1.0.0;q=0.75,text/plain;version=0.0.4;q=0.5,*/*;q=0.1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/plain;version=0.0.4;charset=utf-8"))
+                .andExpect(content().string("# TYPE up gauge\nup 1\n"));
+    }
+}
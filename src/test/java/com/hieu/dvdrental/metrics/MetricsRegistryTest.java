@@ -0,0 +1,63 @@
+package com.hieu.dvdrental.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void shouldRenderCumulativeHistogramBuckets() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("request_seconds", "Request latency", new double[]{0.1, 1}, "uri", "/actors");
+        histogram.observe(0.05);
+        histogram.observe(0.1);
+        histogram.observe(0.5);
+        histogram.observe(3);
+
+        assertThat(registry.scrape()).isEqualTo("""
+                # HELP request_seconds Request latency
+                # TYPE request_seconds histogram
+                request_seconds_bucket{uri="/actors",le="0.1"} 2
+                request_seconds_bucket{uri="/actors",le="1"} 3
+                request_seconds_bucket{uri="/actors",le="+Inf"} 4
+                request_seconds_sum{uri="/actors"} 3.65
+                request_seconds_count{uri="/actors"} 4
+                """);
+    }
+
+    @Test
+    public void shouldRenderCountersAndGaugesSortedByName() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("pool_active", "Active connections", () -> 3);
+        registry.counter("errors_total", "Errors", "type", "say \"hi\"").add(2);
+
+        assertThat(registry.scrape()).isEqualTo("""
+                # HELP errors_total Errors
+                # TYPE errors_total counter
+                errors_total{type="say \\"hi\\""} 2
+                # HELP pool_active Active connections
+                # TYPE pool_active gauge
+                pool_active 3
+                """);
+    }
+
+    @Test
+    public void shouldReuseSeriesWithSameLabels() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        assertThat(registry.counter("calls_total", "Calls", "method", "findAll"))
+                .isSameAs(registry.counter("calls_total", "Calls", "method", "findAll"));
+    }
+
+    @Test
+    public void shouldRejectNameRegisteredWithAnotherType() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("calls_total", "Calls");
+
+        assertThatThrownBy(() -> registry.gauge("calls_total", "Calls", () -> 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Metric calls_total is already registered as a counter");
+    }
+}
@@ -0,0 +1,49 @@
+package com.hieu.dvdrental.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestMetricsFilterTest {
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final RequestStatementCounter statementCounter = new RequestStatementCounter();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(registry, statementCounter);
+
+    @Test
+    public void shouldRecordLatencyAndStatementsByRoutePattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actors/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/actors/{id}");
+            statementCounter.inspect("select * from actor where actor_id=?");
+            statementCounter.inspect("select * from film_actor where actor_id=?");
+        });
+
+        String scrape = registry.scrape();
+        assertThat(scrape).contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/actors/{id}\",status=\"200\"} 1");
+        assertThat(scrape).contains("http_server_request_statements_bucket{method=\"GET\",uri=\"/actors/{id}\",le=\"1\"} 0");
+        assertThat(scrape).contains("http_server_request_statements_bucket{method=\"GET\",uri=\"/actors/{id}\",le=\"2\"} 1");
+        assertThat(scrape).contains("http_server_request_statements_sum{method=\"GET\",uri=\"/actors/{id}\"} 2");
+    }
+
+    @Test
+    public void shouldLabelUnmatchedRequests() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/nope/123"), response, (req, res) -> {});
+
+        assertThat(registry.scrape()).contains("http_server_requests_seconds_count{method=\"GET\",uri=\"NOT_FOUND\",status=\"404\"} 1");
+    }
+
+    @Test
+    public void shouldNotCountStatementsOutsideRequests() {
+        statementCounter.inspect("select 1");
+
+        statementCounter.begin();
+        assertThat(statementCounter.end()).isZero();
+    }
+}
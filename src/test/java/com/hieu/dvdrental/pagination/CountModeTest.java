@@ -0,0 +1,48 @@
+package com.hieu.dvdrental.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.*;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CountModeTest {
+
+    private final Pageable pageable = PageRequest.of(2, 5);
+    private final List<String> content = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void shouldParseCaseInsensitively() {
+        assertThat(CountMode.from("none")).isEqualTo(CountMode.NONE);
+        assertThat(CountMode.from(" Estimate ")).isEqualTo(CountMode.ESTIMATE);
+        assertThat(CountMode.from("EXACT")).isEqualTo(CountMode.EXACT);
+        assertThatThrownBy(() -> CountMode.from("all"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Count must be one of none, estimate or exact");
+    }
+
+    @Test
+    public void shouldNotUnderestimateRowsAlreadySeen() {
+        Slice<String> slice = CountMode.ESTIMATE.fetch(
+                () -> { throw new AssertionError("count query must not run"); },
+                () -> new SliceImpl<>(content, pageable, true),
+                () -> 3L);
+
+        assertThat(((Page<String>) slice).getTotalElements()).isEqualTo(16L);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    public void shouldOnlyRunTheCountQueryOnExact() {
+        Page<String> page = new PageImpl<>(content, pageable, 42);
+
+        assertThat(CountMode.EXACT.<String>fetch(() -> page, () -> null, () -> 0L)).isSameAs(page);
+        assertThat(CountMode.NONE.<String>fetch(
+                () -> { throw new AssertionError("count query must not run"); },
+                () -> new SliceImpl<>(content, pageable, false),
+                () -> { throw new AssertionError("estimate must not run"); })
+        ).isNotInstanceOf(Page.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.hieu.dvdrental.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CursorCodecTest {
+
+    @Test
+    public void shouldRoundTripKeysetPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Sasebo");
+        keys.put("lastUpdate", Instant.parse("2006-02-15T09:45:25Z"));
+        keys.put("id", 463);
+
+        String cursor = CursorCodec.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = CursorCodec.decode(cursor);
+
+        assertThat(cursor).doesNotContain("Sasebo");
+        assertThat(position.isInitial()).isFalse();
+        assertThat(position.getDirection()).isEqualTo(ScrollPosition.Direction.FORWARD);
+        assertThat(position.getKeys()).containsExactlyEntriesOf(keys);
+    }
+
+    @Test
+    public void shouldReturnInitialPositionOnBlankCursor() {
+        assertThat(CursorCodec.decode("").isInitial()).isTrue();
+        assertThat(CursorCodec.decode("   ").isInitial()).isTrue();
+        assertThat(CursorCodec.decode(null).isInitial()).isTrue();
+    }
+
+    @Test
+    public void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> CursorCodec.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -0,0 +1,33 @@
+package com.hieu.dvdrental.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeysetBoundTest {
+
+    @Test
+    public void shouldBoundByTheLeadingAscendingKey() {
+        assertThat(KeysetBound.lowerBound(ScrollPosition.forward(Map.of("name", "Iran", "id", 5)), Sort.by("name"), "name"))
+                .hasValue("Iran");
+    }
+
+    @Test
+    public void shouldNotBoundTheFirstWindow() {
+        assertThat(KeysetBound.lowerBound(ScrollPosition.keyset(), Sort.by("name"), "name")).isEmpty();
+    }
+
+    @Test
+    public void shouldNotBoundOtherOrders() {
+        Map<String, Object> keys = Map.of("name", "Iran", "id", 5);
+
+        assertThat(KeysetBound.lowerBound(ScrollPosition.forward(keys), Sort.by("name").descending(), "name")).isEmpty();
+        assertThat(KeysetBound.lowerBound(ScrollPosition.forward(keys), Sort.by(Sort.Order.asc("name").ignoreCase()), "name")).isEmpty();
+        assertThat(KeysetBound.lowerBound(ScrollPosition.forward(keys), Sort.by("id", "name"), "name")).isEmpty();
+        assertThat(KeysetBound.lowerBound(ScrollPosition.backward(keys), Sort.by("name"), "name")).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.hieu.dvdrental.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PaymentController.class)
+@Import(JacksonConfiguration.class)
+public class PaymentControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    PaymentService paymentService;
+
+    private final PaymentIntakeDto intake = new PaymentIntakeDto(5, 1, 100, new BigDecimal("2.99"));
+    private final Instant paid = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    public void shouldAnswerCreatedOnceCommitted() throws Exception {
+        given(paymentService.postPayment(any(PaymentIntakeDto.class), eq(AckMode.COMMITTED)))
+                .willReturn(CompletableFuture.completedFuture(new PaymentDto(1001, 5, 1, 100, new BigDecimal("2.99"), paid)));
+
+        MvcResult result = mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(intake)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1001))
+                .andExpect(jsonPath("$.amount").value(2.99));
+    }
+
+    @Test
+    public void shouldAnswerAcceptedWhenOnlyQueued() throws Exception {
+        given(paymentService.postPayment(any(PaymentIntakeDto.class), eq(AckMode.ACCEPTED)))
+                .willReturn(CompletableFuture.completedFuture(new PaymentDto(null, 5, 1, 100, new BigDecimal("2.99"), paid)));
+
+        MvcResult result = mockMvc.perform(post("/payments").param("ack", "accepted")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(intake)))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    public void shouldAskClientsToBackOffWhenTheIntakeIsFull() throws Exception {
+        given(paymentService.postPayment(any(PaymentIntakeDto.class), any(AckMode.class)))
+                .willThrow(new PaymentBacklogFullException(10000, Duration.ofSeconds(1)));
+
+        mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(intake)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Too Many Requests"));
+    }
+
+    @Test
+    public void shouldRejectAnUnknownAckMode() throws Exception {
+        mockMvc.perform(post("/payments").param("ack", "eventually")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(intake)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Ack must be one of accepted or committed"));
+        verifyNoInteractions(paymentService);
+    }
+
+    @Test
+    public void shouldRejectAnInvalidAmount() throws Exception {
+        mockMvc.perform(post("/payments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PaymentIntakeDto(5, 1, 100, new BigDecimal("1000.001")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.properties.amount").value("Amount must have at most 3 integer and 2 fraction digits"));
+        verifyNoInteractions(paymentService);
+    }
+}
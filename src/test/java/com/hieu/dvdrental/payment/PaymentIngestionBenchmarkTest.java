@@ -0,0 +1,97 @@
+package com.hieu.dvdrental.payment;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.metrics.MetricsRegistry;
+import com.hieu.dvdrental.report.RevenueCounters;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Posts payments through the write-behind intake at several batch sizes, every client waiting for its commit the
+ * way {@code ack=committed} does. Row counts are asserted and batching must beat one commit per payment; the rates
+ * are logged for comparison. Runs with {@code -Pbenchmark}, add {@code -Dbenchmark.payments=200000} for the full
+ * comparison.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Import(TestContainersConfig.class)
+public class PaymentIngestionBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(PaymentIngestionBenchmarkTest.class);
+    private static final int PAYMENTS = Integer.getInteger("benchmark.payments", 10_000);
+    private static final int CLIENTS = 64;
+    private static final int[] BATCH_SIZES = {1, 10, 50, 200, 1000};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RevenueCounters revenueCounters;
+
+    @Test
+    public void batchingShouldMultiplyCommittedPaymentsPerSecond() throws Exception {
+        Map<String, Object> rental = jdbcTemplate.queryForMap("SELECT rental_id, customer_id, staff_id FROM rental ORDER BY rental_id LIMIT 1");
+        //Benchmark payments share a date no seed payment has, so they can be counted and removed
+        Instant marker = Instant.parse("2031-01-01T00:00:00Z");
+        Timestamp markerDate = Timestamp.from(marker);
+        int perClient = PAYMENTS / CLIENTS;
+
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int batchSize : BATCH_SIZES) {
+            PaymentWriteBehind writeBehind = new PaymentWriteBehind(jdbcTemplate, transactionManager, revenueCounters, new MetricsRegistry(),
+                    PAYMENTS, batchSize, Duration.ofMillis(5), 2);
+            writeBehind.start();
+
+            long begin = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> clients = new ArrayList<>();
+                for (int client = 0; client < CLIENTS; client++) {
+                    clients.add(executor.submit(() -> {
+                        for (int i = 0; i < perClient; i++) {
+                            PaymentDto payment = new PaymentDto(null, (Integer) rental.get("customer_id"), (Integer) rental.get("staff_id"),
+                                    (Integer) rental.get("rental_id"), new BigDecimal("0.99"), marker);
+                            writeBehind.submit(payment).get(30, TimeUnit.SECONDS);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> client : clients) {
+                    client.get();
+                }
+            } finally {
+                writeBehind.stop();
+            }
+            double rate = (perClient * CLIENTS) / ((System.nanoTime() - begin) / 1e9);
+            throughput.put(batchSize, rate);
+            log.info("batch size {}: {} committed payments/s", batchSize, Math.round(rate));
+
+            Integer written = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment WHERE payment_date = ?", Integer.class,
+                    markerDate);
+            assertThat(written).isEqualTo(perClient * CLIENTS);
+            jdbcTemplate.update("DELETE FROM payment WHERE payment_date = ?", markerDate);
+        }
+
+        assertThat(throughput.get(200)).isGreaterThan(throughput.get(1) * 2);
+    }
+}
@@ -0,0 +1,115 @@
+package com.hieu.dvdrental.payment;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.entity.Payment;
+import com.hieu.dvdrental.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestContainersConfig.class, PaymentPartitionMaintainer.class})
+public class PaymentPartitionTest {
+    private static final LocalDateTime APRIL = LocalDateTime.of(2007, 4, 1, 0, 0);
+    private static final LocalDateTime MAY = LocalDateTime.of(2007, 5, 1, 0, 0);
+
+    @Autowired
+    private PaymentPartitionMaintainer maintainer;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void migrationCreatesPartitionsAheadOfTheCurrentMonth() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+
+        assertThat(partitionExists("payment_p" + month.getYear() + "_" + String.format("%02d", month.getMonthValue()))).isTrue();
+        assertThat(maintainer.createPartitions(month, month.plusMonths(3))).isZero();
+    }
+
+    @Test
+    public void createPartitionsMovesRowsOutOfTheDefaultPartition() {
+        //Seed payments are inserted after the migrations, into months without a partition
+        assertThat(count("payment_default")).isEqualTo(44);
+        BigDecimal april = paymentRepository.sumAmountBetween(APRIL, MAY);
+
+        assertThat(maintainer.createPartitions(LocalDate.of(2007, 2, 1), LocalDate.of(2007, 4, 30))).isEqualTo(3);
+
+        assertThat(count("payment_default")).isZero();
+        assertThat(count("payment_p2007_02")).isEqualTo(9);
+        assertThat(count("payment_p2007_03")).isEqualTo(18);
+        assertThat(count("payment_p2007_04")).isEqualTo(17);
+        assertThat(count("payment")).isEqualTo(44);
+        assertThat(paymentRepository.sumAmountBetween(APRIL, MAY)).isEqualByComparingTo(april);
+    }
+
+    @Test
+    public void dateBoundedQueriesOnlyScanTheirMonths() {
+        maintainer.createPartitions(LocalDate.of(2007, 2, 1), LocalDate.of(2007, 4, 30));
+
+        String revenuePlan = explain(PaymentRepository.REVENUE_BETWEEN_SQL, new MapSqlParameterSource()
+                .addValue("from", APRIL)
+                .addValue("to", MAY));
+        String customerPlan = explain(PaymentRepository.CUSTOMER_PAYMENTS_BETWEEN_SQL, new MapSqlParameterSource()
+                .addValue("customerId", 19)
+                .addValue("from", APRIL)
+                .addValue("to", MAY));
+
+        for (String plan : List.of(revenuePlan, customerPlan)) {
+            assertThat(plan).contains("payment_p2007_04");
+            assertThat(plan).doesNotContain("payment_p2007_02", "payment_p2007_03");
+        }
+    }
+
+    @Test
+    public void repositoryQueriesReadAcrossPartitions() {
+        maintainer.createPartitions(LocalDate.of(2007, 2, 1), LocalDate.of(2007, 4, 30));
+
+        List<Payment> payments = paymentRepository.findByCustomerBetween(19, APRIL, MAY);
+
+        assertThat(payments).extracting(Payment::getId).contains(29194);
+        assertThat(paymentRepository.sumAmountBetween(LocalDateTime.of(2007, 1, 1, 0, 0), MAY))
+                .isEqualByComparingTo(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM payment", BigDecimal.class));
+    }
+
+    @Test
+    public void detachBeforeKeepsOldMonthsAsStandaloneTables() {
+        maintainer.createPartitions(LocalDate.of(2007, 2, 1), LocalDate.of(2007, 4, 30));
+
+        List<String> detached = maintainer.detachBefore(LocalDate.of(2007, 4, 1));
+
+        assertThat(detached).containsExactly("payment_p2007_02", "payment_p2007_03");
+        assertThat(count("payment")).isEqualTo(17);
+        assertThat(count("payment_p2007_02")).isEqualTo(9);
+        assertThat(count("payment_p2007_03")).isEqualTo(18);
+        assertThat(maintainer.detachBefore(LocalDate.of(2007, 4, 1))).isEmpty();
+    }
+
+    private boolean partitionExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits WHERE inhparent = 'payment'::regclass AND inhrelid = to_regclass(?))", Boolean.class, name));
+    }
+
+    private long count(String table) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+    private String explain(String sql, MapSqlParameterSource parameters) {
+        return String.join("\n", new NamedParameterJdbcTemplate(jdbcTemplate).queryForList("EXPLAIN " + sql, parameters, String.class));
+    }
+}
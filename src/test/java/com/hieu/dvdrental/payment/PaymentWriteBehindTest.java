@@ -0,0 +1,143 @@
+package com.hieu.dvdrental.payment;
+
+import com.hieu.dvdrental.metrics.MetricsRegistry;
+import com.hieu.dvdrental.report.RevenueCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PaymentWriteBehindTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RevenueCounters revenueCounters = mock(RevenueCounters.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final List<Timestamp> paymentDates = new ArrayList<>();
+    private PaymentWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    public void shouldWriteAFullBatchInOneStatementAndOneCommit() throws Exception {
+        givenDatabase(-1);
+        start(3, Duration.ofSeconds(30), 10, 1);
+
+        List<CompletableFuture<PaymentDto>> results = IntStream.rangeClosed(1, 3).mapToObj(i -> writeBehind.submit(payment(i))).toList();
+
+        assertThat(results.stream().map(this::await).map(PaymentDto::getId)).containsExactly(1001, 1002, 1003);
+        assertThat(batchSizes).containsExactly(3);
+        verify(transactionManager, times(1)).commit(any());
+        verify(revenueCounters).paid(argThat(payments -> payments.size() == 3));
+    }
+
+    @Test
+    public void shouldFlushAPartialBatchAfterTheMaxDelay() {
+        givenDatabase(-1);
+        start(100, Duration.ofMillis(20), 10, 1);
+
+        PaymentDto written = await(writeBehind.submit(payment(1)));
+
+        assertThat(written.getId()).isEqualTo(1001);
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    public void shouldWriteThePaymentDateInTheJvmZoneLikeHibernate() {
+        givenDatabase(-1);
+        start(1, Duration.ofMillis(20), 10, 1);
+        Instant paid = Instant.parse("2025-01-31T23:30:00Z");
+
+        await(writeBehind.submit(new PaymentDto(null, 1, 1, 1, new BigDecimal("2.99"), paid)));
+
+        assertThat(paymentDates).containsExactly(Timestamp.from(paid));
+    }
+
+    @Test
+    public void shouldRefusePaymentsOnceTheQueueIsFull() {
+        start(10, Duration.ofSeconds(30), 2, 0);
+
+        writeBehind.submit(payment(1));
+        writeBehind.submit(payment(2));
+
+        assertThatThrownBy(() -> writeBehind.submit(payment(3)))
+                .isInstanceOf(PaymentBacklogFullException.class)
+                .hasMessageContaining("2 payments");
+    }
+
+    @Test
+    public void shouldOnlyFailThePaymentTheDatabaseRefused() throws Exception {
+        givenDatabase(2);
+        start(3, Duration.ofSeconds(30), 10, 1);
+
+        List<CompletableFuture<PaymentDto>> results = IntStream.rangeClosed(1, 3).mapToObj(i -> writeBehind.submit(payment(i))).toList();
+
+        assertThat(await(results.get(0)).getRentalId()).isEqualTo(1);
+        assertThat(await(results.get(2)).getRentalId()).isEqualTo(3);
+        assertThatThrownBy(() -> results.get(1).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(batchSizes).containsExactly(3, 1, 1, 1);
+    }
+
+    private void start(int batchSize, Duration maxDelay, int capacity, int writers) {
+        writeBehind = new PaymentWriteBehind(jdbcTemplate, transactionManager, revenueCounters, new MetricsRegistry(), capacity, batchSize, maxDelay, writers);
+        writeBehind.start();
+    }
+
+    //Batches holding the payment for badRentalId fail like a foreign key violation would
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void givenDatabase(int badRentalId) {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(List.of(1001));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            Collection<Object> batch = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter setter = invocation.getArgument(3);
+            List<Integer> rentalIds = new ArrayList<>();
+            PreparedStatement ps = mock(PreparedStatement.class);
+            doAnswer(set -> rentalIds.add(set.getArgument(1))).when(ps).setInt(eq(4), anyInt());
+            doAnswer(set -> paymentDates.add(set.getArgument(1))).when(ps).setTimestamp(eq(6), any(Timestamp.class));
+            for (Object pending : batch) {
+                setter.setValues(ps, pending);
+            }
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            if (rentalIds.contains(badRentalId)) {
+                throw new DataIntegrityViolationException("payment_rental_id_fkey");
+            }
+            return new int[0][];
+        });
+    }
+
+    private PaymentDto await(CompletableFuture<PaymentDto> result) {
+        return result.orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+    private static PaymentDto payment(int rentalId) {
+        return new PaymentDto(null, 1, 1, rentalId, new BigDecimal("2.99"), Instant.now());
+    }
+}
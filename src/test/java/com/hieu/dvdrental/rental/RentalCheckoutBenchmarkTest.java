@@ -0,0 +1,116 @@
+package com.hieu.dvdrental.rental;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.exception.ConflictException;
+import com.hieu.dvdrental.inventory.InventoryAvailability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hundreds of clients checking out and returning copies of one film at one store, the opening-time burst for a
+ * new release. Every level must finish without errors and throughput must not collapse as clients are added;
+ * the rates are logged for comparison. Runs with {@code -Pbenchmark}, add
+ * {@code -Dbenchmark.checkout.duration=PT30S} for steadier numbers. RentalCheckoutConcurrencyTest checks that
+ * no copy is rented twice at once.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Import(TestContainersConfig.class)
+public class RentalCheckoutBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(RentalCheckoutBenchmarkTest.class);
+    private static final int FILM_ID = 1;
+    private static final int STORE_ID = 1;
+    private static final int COPIES = 64;
+    private static final int[] CLIENTS = {16, 64, 256, 512};
+    private static final Duration DURATION = Duration.parse(System.getProperty("benchmark.checkout.duration", "PT5S"));
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private InventoryAvailability inventoryAvailability;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Integer> copies;
+
+    @BeforeEach
+    public void setUp() {
+        copies = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            copies.add(jdbcTemplate.queryForObject("INSERT INTO inventory (film_id, store_id) VALUES (?, ?) RETURNING inventory_id",
+                    Integer.class, FILM_ID, STORE_ID));
+        }
+        inventoryAvailability.reconcile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        String ids = "{" + String.join(",", copies.stream().map(String::valueOf).toList()) + "}";
+        jdbcTemplate.update("DELETE FROM rental WHERE inventory_id = ANY(CAST(? AS INTEGER[]))", ids);
+        jdbcTemplate.update("DELETE FROM inventory WHERE inventory_id = ANY(CAST(? AS INTEGER[]))", ids);
+        inventoryAvailability.reconcile();
+    }
+
+    @Test
+    public void checkoutThroughputShouldHoldAsClientsAreAdded() throws Exception {
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int clients : CLIENTS) {
+            LongAdder rented = new LongAdder();
+            LongAdder turnedAway = new LongAdder();
+            long deadline = System.nanoTime() + DURATION.toNanos();
+
+            long begin = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int client = 0; client < clients; client++) {
+                    CheckoutDto checkout = new CheckoutDto(FILM_ID, STORE_ID, client % 50 + 1, STORE_ID);
+                    futures.add(executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            try {
+                                RentalDto rental = rentalService.checkout(checkout);
+                                rented.increment();
+                                rentalService.returnRental(rental.getId());
+                            } catch (ConflictException ex) {
+                                turnedAway.increment();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                //Surfaces any other failure, a unique violation that ran out of retries included
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            throughput.put(clients, rented.sum() / seconds);
+            log.info("{} clients: {} checkouts/s, {} turned away while all {} copies were out",
+                    clients, Math.round(rented.sum() / seconds), turnedAway.sum(), COPIES);
+        }
+
+        double peak = throughput.values().stream().mapToDouble(Double::doubleValue).max().orElseThrow();
+        assertThat(throughput.get(CLIENTS[CLIENTS.length - 1])).isGreaterThan(peak / 2);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hieu.dvdrental.rental;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import com.hieu.dvdrental.exception.ConflictException;
+import com.hieu.dvdrental.inventory.InventoryAvailability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * More clients than copies checking out and returning one film at one store, a fixed number of times each.
+ * No copy may ever be rented twice at once.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Import(TestContainersConfig.class)
+public class RentalCheckoutConcurrencyTest {
+    private static final int FILM_ID = 1;
+    private static final int STORE_ID = 1;
+    private static final int COPIES = 8;
+    private static final int CLIENTS = 64;
+    private static final int CHECKOUTS_PER_CLIENT = 20;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private InventoryAvailability inventoryAvailability;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String copies;
+
+    @BeforeEach
+    public void setUp() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            ids.add(String.valueOf(jdbcTemplate.queryForObject("INSERT INTO inventory (film_id, store_id) VALUES (?, ?) RETURNING inventory_id",
+                    Integer.class, FILM_ID, STORE_ID)));
+        }
+        copies = "{" + String.join(",", ids) + "}";
+        inventoryAvailability.reconcile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM rental WHERE inventory_id = ANY(CAST(? AS INTEGER[]))", copies);
+        jdbcTemplate.update("DELETE FROM inventory WHERE inventory_id = ANY(CAST(? AS INTEGER[]))", copies);
+        inventoryAvailability.reconcile();
+    }
+
+    @Test
+    public void concurrentCheckoutsOfOneFilmShouldNeverDoubleRentACopy() throws Exception {
+        LongAdder rented = new LongAdder();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                CheckoutDto checkout = new CheckoutDto(FILM_ID, STORE_ID, client % 50 + 1, STORE_ID);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < CHECKOUTS_PER_CLIENT; i++) {
+                        try {
+                            RentalDto rental = rentalService.checkout(checkout);
+                            rented.increment();
+                            rentalService.returnRental(rental.getId());
+                        } catch (ConflictException ex) {
+                            //Every copy was out or taken under it, the client tries again
+                        }
+                    }
+                    return null;
+                }));
+            }
+            //Surfaces any other failure, a raw unique violation included
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Integer overlaps = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rental a JOIN rental b " +
+                "ON a.inventory_id = b.inventory_id AND a.rental_id < b.rental_id " +
+                "AND a.rental_date < COALESCE(b.return_date, 'infinity') AND b.rental_date < COALESCE(a.return_date, 'infinity') " +
+                "WHERE a.inventory_id = ANY(CAST(? AS INTEGER[]))", Integer.class, copies);
+        assertThat(rented.sum()).isPositive();
+        assertThat(overlaps).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rental WHERE return_date IS NULL AND inventory_id = ANY(CAST(? AS INTEGER[]))",
+                Integer.class, copies)).isZero();
+    }
+}
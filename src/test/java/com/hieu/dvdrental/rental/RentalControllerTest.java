@@ -0,0 +1,105 @@
+package com.hieu.dvdrental.rental;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.exception.ConflictException;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RentalController.class)
+@Import(JacksonConfiguration.class)
+public class RentalControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    RentalService rentalService;
+
+    private final Instant rented = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    public void shouldCreateARentalOnCheckout() throws Exception {
+        given(rentalService.checkout(any(CheckoutDto.class))).willReturn(new RentalDto(100, 7, 5, 2, rented, null));
+
+        mockMvc.perform(post("/rentals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckoutDto(10, 1, 5, 2))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/rentals/100"))
+                .andExpect(jsonPath("$.id").value(100))
+                .andExpect(jsonPath("$.inventoryId").value(7))
+                .andExpect(jsonPath("$.returnDate").doesNotExist());
+    }
+
+    @Test
+    public void shouldRejectAnIncompleteCheckout() throws Exception {
+        mockMvc.perform(post("/rentals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckoutDto(10, null, 0, 2))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Validation Failed"))
+                .andExpect(jsonPath("$.properties.storeId").value("Store is required"))
+                .andExpect(jsonPath("$.properties.customerId").value("Invalid customer ID"));
+        verifyNoInteractions(rentalService);
+    }
+
+    @Test
+    public void shouldReturnConflictWhenSoldOut() throws Exception {
+        given(rentalService.checkout(any(CheckoutDto.class)))
+                .willThrow(new ConflictException("No copy of film with id 10 is available at store 1"));
+
+        mockMvc.perform(post("/rentals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckoutDto(10, 1, 5, 2))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Conflict"))
+                .andExpect(jsonPath("$.detail").value("No copy of film with id 10 is available at store 1"))
+                .andExpect(jsonPath("$.instance").value("/rentals"));
+    }
+
+    @Test
+    public void shouldReturnARental() throws Exception {
+        Instant returned = rented.plusSeconds(3600);
+        given(rentalService.returnRental(100)).willReturn(new RentalDto(100, 7, 5, 2, rented, returned));
+
+        mockMvc.perform(post("/rentals/100/return"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.returnDate").value(returned.toString()));
+    }
+
+    @Test
+    public void shouldReturnNotFoundForUnknownRental() throws Exception {
+        given(rentalService.getRentalById(404)).willThrow(new EntityNotFoundException("Rental with id 404 not found"));
+
+        mockMvc.perform(get("/rentals/404"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Rental with id 404 not found"));
+    }
+
+    @Test
+    public void shouldRejectInvalidRentalId() throws Exception {
+        mockMvc.perform(post("/rentals/0/return"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(rentalService);
+    }
+}
@@ -0,0 +1,222 @@
+package com.hieu.dvdrental.rental;
+
+import com.hieu.dvdrental.entity.Customer;
+import com.hieu.dvdrental.entity.Inventory;
+import com.hieu.dvdrental.entity.Rental;
+import com.hieu.dvdrental.entity.Staff;
+import com.hieu.dvdrental.exception.ConflictException;
+import com.hieu.dvdrental.inventory.InventoryAvailability;
+import com.hieu.dvdrental.repository.CustomerRepository;
+import com.hieu.dvdrental.repository.InventoryRepository;
+import com.hieu.dvdrental.repository.RentalRepository;
+import com.hieu.dvdrental.repository.StaffRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RentalServiceTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+    @Mock
+    private InventoryRepository inventoryRepository;
+    @Mock
+    private CustomerRepository customerRepository;
+    @Mock
+    private StaffRepository staffRepository;
+    @Mock
+    private InventoryAvailability inventoryAvailability;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RentalService rentalService;
+
+    private final CheckoutDto checkout = new CheckoutDto(10, 1, 5, 2);
+
+    @BeforeEach
+    void setUp() {
+        rentalService = new RentalService(rentalRepository, inventoryRepository, customerRepository, staffRepository,
+                inventoryAvailability, Mappers.getMapper(RentalMapper.class), transactionManager);
+    }
+
+    @Test
+    public void shouldRentACopyTheIndexHasOnTheShelfWithoutLocking() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.of(Map.of(1, new int[]{7})));
+        when(rentalRepository.saveAndFlush(any(Rental.class))).thenAnswer(invocation -> {
+            Rental rental = invocation.getArgument(0);
+            rental.setId(100);
+            return rental;
+        });
+
+        RentalDto rental = rentalService.checkout(checkout);
+
+        assertThat(rental.getId()).isEqualTo(100);
+        assertThat(rental.getInventoryId()).isEqualTo(7);
+        assertThat(rental.getCustomerId()).isEqualTo(5);
+        assertThat(rental.getReturnDate()).isNull();
+        verify(inventoryAvailability).checkedOut(7);
+        verify(rentalRepository, never()).lockAvailableInventoryId(any(), any());
+    }
+
+    @Test
+    public void shouldLockACopyWhenTheIndexHasNoneOnTheShelf() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.of(Map.of()));
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.of(8));
+        when(rentalRepository.saveAndFlush(any(Rental.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(rentalService.checkout(checkout).getInventoryId()).isEqualTo(8);
+    }
+
+    @Test
+    public void shouldLockACopyWhenTheIndexedCopyWasAlreadyTaken() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.of(Map.of(1, new int[]{7})));
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.of(8));
+        when(rentalRepository.saveAndFlush(any(Rental.class)))
+                .thenThrow(violation(RentalService.OPEN_RENTAL_INDEX))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(rentalService.checkout(checkout).getInventoryId()).isEqualTo(8);
+        verify(inventoryAvailability, times(1)).availableByStore(10, 1);
+        verify(inventoryAvailability, never()).checkedOut(7);
+    }
+
+    @Test
+    public void shouldReportNoCopyWhenNoneCanBeLocked() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.empty());
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> rentalService.checkout(checkout))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("No copy of film with id 10 is available at store 1");
+    }
+
+    @Test
+    public void shouldRetryWhenAnotherCheckoutTookTheSameCopy() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.empty());
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.of(7), Optional.of(8));
+        when(rentalRepository.saveAndFlush(any(Rental.class)))
+                .thenThrow(violation(RentalService.OPEN_RENTAL_INDEX))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        RentalDto rental = rentalService.checkout(checkout);
+
+        assertThat(rental.getInventoryId()).isEqualTo(8);
+        verify(inventoryAvailability, never()).checkedOut(7);
+    }
+
+    @Test
+    public void shouldAnswerConflictWhenEveryAttemptLosesItsCopy() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.empty());
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.of(7));
+        when(rentalRepository.saveAndFlush(any(Rental.class))).thenThrow(violation(RentalService.OPEN_RENTAL_INDEX));
+
+        assertThatThrownBy(() -> rentalService.checkout(checkout))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Every copy of film with id 10 tried at store 1 was taken by a concurrent checkout");
+        verify(rentalRepository, times(3)).saveAndFlush(any(Rental.class));
+    }
+
+    @Test
+    public void shouldNotRetryOtherViolations() {
+        givenCustomerAndStaff();
+        when(inventoryAvailability.availableByStore(10, 1)).thenReturn(Optional.empty());
+        when(rentalRepository.lockAvailableInventoryId(10, 1)).thenReturn(Optional.of(7));
+        when(rentalRepository.saveAndFlush(any(Rental.class))).thenThrow(violation("rental_staff_id_fkey"));
+
+        assertThatThrownBy(() -> rentalService.checkout(checkout)).isInstanceOf(DataIntegrityViolationException.class);
+        verify(rentalRepository, times(1)).saveAndFlush(any(Rental.class));
+    }
+
+    @Test
+    public void shouldRejectUnknownCustomers() {
+        when(customerRepository.existsById(5)).thenReturn(false);
+
+        assertThatThrownBy(() -> rentalService.checkout(checkout))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Customer with id 5 not found");
+    }
+
+    @Test
+    public void shouldReturnAnOpenRental() {
+        Rental rental = rental(100, null);
+        when(rentalRepository.findForUpdateById(100)).thenReturn(Optional.of(rental));
+
+        RentalDto returned = rentalService.returnRental(100);
+
+        assertThat(returned.getReturnDate()).isNotNull();
+        verify(inventoryAvailability).checkedIn(7);
+    }
+
+    @Test
+    public void shouldRefuseToReturnTwice() {
+        when(rentalRepository.findForUpdateById(100)).thenReturn(Optional.of(rental(100, Instant.now())));
+
+        assertThatThrownBy(() -> rentalService.returnRental(100)).isInstanceOf(ConflictException.class);
+        verifyNoInteractions(inventoryAvailability);
+    }
+
+    private void givenCustomerAndStaff() {
+        when(customerRepository.existsById(5)).thenReturn(true);
+        when(staffRepository.existsById(2)).thenReturn(true);
+        lenient().when(customerRepository.getReferenceById(5)).thenReturn(customer(5));
+        lenient().when(staffRepository.getReferenceById(2)).thenReturn(staff(2));
+        lenient().when(inventoryRepository.getReferenceById(any())).thenAnswer(invocation -> inventory(invocation.getArgument(0)));
+    }
+
+    private static Rental rental(int id, Instant returnDate) {
+        Rental rental = new Rental();
+        rental.setId(id);
+        rental.setRentalDate(Instant.parse("2025-01-01T10:00:00Z"));
+        rental.setReturnDate(returnDate);
+        rental.setInventory(inventory(7));
+        rental.setCustomer(customer(5));
+        rental.setStaff(staff(2));
+        return rental;
+    }
+
+    private static Inventory inventory(int id) {
+        Inventory inventory = new Inventory();
+        inventory.setId(id);
+        return inventory;
+    }
+
+    private static Customer customer(int id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        return customer;
+    }
+
+    private static Staff staff(int id) {
+        Staff staff = new Staff();
+        staff.setId(id);
+        return staff;
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("violation", new ConstraintViolationException("violation", new SQLException(), constraint));
+    }
+}
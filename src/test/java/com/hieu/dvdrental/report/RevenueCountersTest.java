@@ -0,0 +1,116 @@
+package com.hieu.dvdrental.report;
+
+import com.hieu.dvdrental.payment.PaymentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RevenueCountersTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private RevenueCounters revenueCounters;
+
+    @BeforeEach
+    void setUp() {
+        //Rental 10 is a copy at store 1 of a film in categories 3 and 4, rental 20 a copy at store 2 of a film in category 5
+        givenRows("SELECT r.rental_id", List.of(
+                Map.of("rental_id", 10, "store_id", 1, "category_ids", new Integer[]{3, 4}),
+                Map.of("rental_id", 20, "store_id", 2, "category_ids", new Integer[]{5})));
+        givenRows("WITH totals", List.of(
+                Map.of("dimension", "store", "id", 1, "cents", 10_000L),
+                Map.of("dimension", "category", "id", 3, "cents", 4_000L),
+                Map.of("dimension", "staff", "id", 7, "cents", 10_000L)));
+        revenueCounters = new RevenueCounters(jdbcTemplate);
+        revenueCounters.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void shouldSeedTotalsFromPayments() {
+        RevenueDto totals = revenueCounters.totals();
+
+        assertThat(revenueCounters.isRunning()).isTrue();
+        assertThat(totals.getStores()).containsExactly(Map.entry(1, 10_000L));
+        assertThat(totals.getCategories()).containsExactly(Map.entry(3, 4_000L));
+        assertThat(totals.getStaff()).containsExactly(Map.entry(7, 10_000L));
+    }
+
+    @Test
+    public void shouldCountPaymentsInCentsByStoreEveryCategoryAndStaff() {
+        revenueCounters.paid(List.of(payment(10, 7, "2.99"), payment(20, 8, "0.99"), payment(10, 8, "1.00")));
+
+        RevenueDto totals = revenueCounters.totals();
+        assertThat(totals.getStores()).containsExactly(Map.entry(1, 10_399L), Map.entry(2, 99L));
+        assertThat(totals.getCategories()).containsExactly(Map.entry(3, 4_399L), Map.entry(4, 399L), Map.entry(5, 99L));
+        assertThat(totals.getStaff()).containsExactly(Map.entry(7, 10_299L), Map.entry(8, 199L));
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT r.rental_id"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    public void shouldOnlyCountPaymentsOnceTheirTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        revenueCounters.paid(List.of(payment(20, 7, "5.00")));
+        assertThat(revenueCounters.totals().getStores()).doesNotContainKey(2);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(revenueCounters.totals().getStores()).containsEntry(2, 500L);
+        assertThat(revenueCounters.totals().getStaff()).containsEntry(7, 10_500L);
+    }
+
+    private static PaymentDto payment(int rentalId, int staffId, String amount) {
+        return new PaymentDto(1, 1, staffId, rentalId, new BigDecimal(amount), Instant.parse("2025-01-01T10:00:00Z"));
+    }
+
+    //Feeds the rows to the RowCallbackHandler of queries starting with the prefix, with or without arguments
+    private void givenRows(String prefix, List<Map<String, Object>> rows) {
+        Answer<Object> answer = invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map<String, Object> row : rows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        };
+        doAnswer(answer).when(jdbcTemplate).query(startsWith(prefix), any(RowCallbackHandler.class));
+        doAnswer(answer).when(jdbcTemplate).query(startsWith(prefix), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            switch (column.getValue()) {
+                case Integer value -> when(rs.getInt(column.getKey())).thenReturn(value);
+                case Long value -> when(rs.getLong(column.getKey())).thenReturn(value);
+                case String value -> when(rs.getString(column.getKey())).thenReturn(value);
+                case Integer[] value -> {
+                    Array array = mock(Array.class);
+                    when(array.getArray()).thenReturn(value);
+                    when(rs.getArray(column.getKey())).thenReturn(array);
+                }
+                default -> throw new IllegalArgumentException(column.getKey());
+            }
+        }
+        return rs;
+    }
+}
@@ -0,0 +1,86 @@
+package com.hieu.dvdrental.report;
+
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import com.hieu.dvdrental.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = RevenueStreamController.class)
+@Import({JacksonConfiguration.class, RevenueStream.class, MetricsRegistry.class})
+//Each test starts from a stream that has published nothing yet
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class RevenueStreamControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    RevenueStream revenueStream;
+
+    @MockitoBean
+    RevenueCounters revenueCounters;
+
+    @Test
+    public void shouldSendTheLastPublishedTotalsThenOnlyWhatChanged() throws Exception {
+        given(revenueCounters.totals()).willReturn(new RevenueDto(0, new TreeMap<>(Map.of(1, 1000L, 2, 500L)), Map.of(3, 1500L), Map.of(7, 1500L)));
+        revenueStream.publish();
+
+        MvcResult result = mockMvc.perform(get("/reports/revenue/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        await().untilAsserted(() -> assertThat(result.getResponse().getContentAsString()).isEqualTo(
+                "id:1\nevent:snapshot\ndata:{\"sequence\":1,\"stores\":{\"1\":1000,\"2\":500},\"categories\":{\"3\":1500},\"staff\":{\"7\":1500}}\n\n"));
+
+        given(revenueCounters.totals()).willReturn(new RevenueDto(0, new TreeMap<>(Map.of(1, 1299L, 2, 500L)), Map.of(3, 1799L), new TreeMap<>(Map.of(7, 1500L, 8, 299L))));
+        revenueStream.publish();
+        revenueStream.publish();
+
+        await().untilAsserted(() -> assertThat(result.getResponse().getContentAsString()).endsWith(
+                "id:2\nevent:delta\ndata:{\"sequence\":2,\"stores\":{\"1\":299},\"categories\":{\"3\":299},\"staff\":{\"8\":299}}\n\n"));
+    }
+
+    @Test
+    public void shouldNotSendAnythingWhileRevenueIsUnchanged() throws Exception {
+        given(revenueCounters.totals()).willReturn(new RevenueDto(0, Map.of(4, 100L), Map.of(), Map.of()));
+        revenueStream.publish();
+
+        MvcResult result = mockMvc.perform(get("/reports/revenue/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        await().untilAsserted(() -> assertThat(result.getResponse().getContentAsString()).contains("event:snapshot"));
+        String snapshot = result.getResponse().getContentAsString();
+        revenueStream.publish();
+
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(snapshot);
+    }
+
+    @Test
+    public void shouldCloseTheStreamAfterTheConfiguredTimeout() throws Exception {
+        given(revenueCounters.totals()).willReturn(new RevenueDto(0, Map.of(), Map.of(), Map.of()));
+
+        MvcResult result = mockMvc.perform(get("/reports/revenue/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+}
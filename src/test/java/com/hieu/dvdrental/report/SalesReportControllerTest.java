@@ -0,0 +1,87 @@
+package com.hieu.dvdrental.report;
+
+import com.hieu.dvdrental.config.JacksonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SalesReportController.class)
+@Import(JacksonConfiguration.class)
+public class SalesReportControllerTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    SalesReportService salesReportService;
+
+    private final Instant refreshed = Instant.parse("2025-01-01T10:00:00Z");
+    private final String refreshedHeader = "Wed, 01 Jan 2025 10:00:00 GMT";
+
+    @Test
+    public void shouldReturnSalesByCategoryWithTheRefreshTime() throws Exception {
+        given(salesReportService.getRefreshedAt(SalesReport.BY_CATEGORY)).willReturn(refreshed);
+        given(salesReportService.getSalesByCategory(refreshed)).willReturn(new SalesReportDto<>(refreshed, List.of(
+                new CategorySalesDto(15, "Sports", new BigDecimal("5314.21")),
+                new CategorySalesDto(14, "Sci-Fi", new BigDecimal("4756.98")))));
+
+        mockMvc.perform(get("/reports/sales/by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, refreshedHeader))
+                .andExpect(jsonPath("$.refreshedAt").value("2025-01-01T10:00:00Z"))
+                .andExpect(jsonPath("$.rows.length()").value(2))
+                .andExpect(jsonPath("$.rows[0].categoryId").value(15))
+                .andExpect(jsonPath("$.rows[0].category").value("Sports"))
+                .andExpect(jsonPath("$.rows[0].totalSales").value(5314.21));
+    }
+
+    @Test
+    public void shouldReturnSalesByStoreWithTheRefreshTime() throws Exception {
+        given(salesReportService.getRefreshedAt(SalesReport.BY_STORE)).willReturn(refreshed);
+        given(salesReportService.getSalesByStore(refreshed)).willReturn(new SalesReportDto<>(refreshed, List.of(
+                new StoreSalesDto(2, "Woodridge,Australia", "Jon Stephens", new BigDecimal("33726.77")))));
+
+        mockMvc.perform(get("/reports/sales/by-store"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, refreshedHeader))
+                .andExpect(jsonPath("$.refreshedAt").value("2025-01-01T10:00:00Z"))
+                .andExpect(jsonPath("$.rows[0].storeId").value(2))
+                .andExpect(jsonPath("$.rows[0].store").value("Woodridge,Australia"))
+                .andExpect(jsonPath("$.rows[0].manager").value("Jon Stephens"))
+                .andExpect(jsonPath("$.rows[0].totalSales").value(33726.77));
+    }
+
+    @Test
+    public void shouldAnswerNotModifiedUntilTheNextRefresh() throws Exception {
+        given(salesReportService.getRefreshedAt(SalesReport.BY_STORE)).willReturn(refreshed);
+
+        mockMvc.perform(get("/reports/sales/by-store").header(HttpHeaders.IF_MODIFIED_SINCE, refreshedHeader))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(salesReportService, never()).getSalesByStore(any());
+    }
+
+    @Test
+    public void shouldAnswerAgainOnceRefreshed() throws Exception {
+        given(salesReportService.getRefreshedAt(SalesReport.BY_CATEGORY)).willReturn(refreshed.plusSeconds(300));
+        given(salesReportService.getSalesByCategory(refreshed.plusSeconds(300))).willReturn(new SalesReportDto<>(refreshed.plusSeconds(300), List.of()));
+
+        mockMvc.perform(get("/reports/sales/by-category").header(HttpHeaders.IF_MODIFIED_SINCE, refreshedHeader))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").isEmpty());
+    }
+}
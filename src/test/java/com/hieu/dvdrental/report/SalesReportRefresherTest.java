@@ -0,0 +1,59 @@
+package com.hieu.dvdrental.report;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SalesReportRefresherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SalesReportRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        this.refresher = new SalesReportRefresher(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    public void shouldRefreshConcurrentlyAndStampTheRefreshInOneTransaction() {
+        refresher.refresh(SalesReport.BY_STORE);
+
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY sales_by_store");
+        inOrder.verify(jdbcTemplate).update("UPDATE report_refresh SET refreshed_at = now() WHERE report_name = ?", "sales_by_store");
+        inOrder.verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    public void shouldKeepRefreshingTheOtherReportsWhenOneFails() {
+        doThrow(new QueryTimeoutException("canceling statement due to statement timeout"))
+                .when(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY sales_by_film_category");
+
+        refresher.refreshAll();
+
+        verify(transactionManager).rollback(transactionStatus);
+        verify(jdbcTemplate, never()).update(any(String.class), eq("sales_by_film_category"));
+        verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY sales_by_store");
+        verify(jdbcTemplate).update("UPDATE report_refresh SET refreshed_at = now() WHERE report_name = ?", "sales_by_store");
+        verify(transactionManager).commit(transactionStatus);
+    }
+}
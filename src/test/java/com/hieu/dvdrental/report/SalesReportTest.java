@@ -0,0 +1,75 @@
+package com.hieu.dvdrental.report;
+
+import com.hieu.dvdrental.config.TestContainersConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestContainersConfig.class, SalesReportRefresher.class, SalesReportService.class, RevenueCounters.class})
+public class SalesReportTest {
+    @Autowired
+    private SalesReportRefresher refresher;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private RevenueCounters revenueCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void reportsOnlyChangeWhenRefreshed() {
+        //Seed payments are inserted after the migration materialized the views
+        assertThat(salesReportService.getSalesByStore().getRows()).isEmpty();
+
+        refresher.refreshAll();
+
+        SalesReportDto<StoreSalesDto> byStore = salesReportService.getSalesByStore();
+        SalesReportDto<CategorySalesDto> byCategory = salesReportService.getSalesByCategory();
+        assertThat(byStore.getRows()).isNotEmpty();
+        assertThat(byCategory.getRows()).isNotEmpty();
+        assertThat(byCategory.getRows()).extracting(CategorySalesDto::getTotalSales).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(byStore.getRows().stream().map(StoreSalesDto::getTotalSales).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(jdbcTemplate.queryForObject(
+                        "SELECT SUM(p.amount) FROM payment p JOIN rental r ON r.rental_id = p.rental_id JOIN inventory i ON i.inventory_id = r.inventory_id",
+                        BigDecimal.class));
+
+        jdbcTemplate.update("UPDATE payment SET amount = amount + 1");
+        assertThat(salesReportService.getSalesByStore().getRows()).extracting(StoreSalesDto::getTotalSales)
+                .containsExactlyElementsOf(byStore.getRows().stream().map(StoreSalesDto::getTotalSales).toList());
+    }
+
+    @Test
+    public void refreshMovesTheRefreshTimeForward() {
+        jdbcTemplate.update("UPDATE report_refresh SET refreshed_at = refreshed_at - INTERVAL '1 day'");
+        var before = salesReportService.getSalesByCategory().getRefreshedAt();
+
+        refresher.refresh(SalesReport.BY_CATEGORY);
+
+        assertThat(salesReportService.getSalesByCategory().getRefreshedAt()).isAfter(before);
+        assertThat(salesReportService.getSalesByStore().getRefreshedAt()).isEqualTo(before);
+    }
+
+    @Test
+    public void revenueCountersAreSeededWithTheReportTotals() {
+        refresher.refreshAll();
+
+        RevenueDto totals = revenueCounters.totals();
+        assertThat(totals.getStores()).isEqualTo(salesReportService.getSalesByStore().getRows().stream()
+                .collect(Collectors.toMap(StoreSalesDto::getStoreId, row -> row.getTotalSales().movePointRight(2).longValueExact())));
+        assertThat(totals.getCategories()).isEqualTo(salesReportService.getSalesByCategory().getRows().stream()
+                .collect(Collectors.toMap(CategorySalesDto::getCategoryId, row -> row.getTotalSales().movePointRight(2).longValueExact())));
+        assertThat(totals.getStaff().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT SUM(amount * 100)::BIGINT FROM payment", Long.class));
+    }
+}
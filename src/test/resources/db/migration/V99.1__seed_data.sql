@@ -201,80 +201,80 @@ INSERT INTO public.actor (actor_id, first_name, last_name, last_update) VALUES (
 INSERT INTO public.actor (actor_id, first_name, last_name, last_update) VALUES (19, 'Bob', 'Fawcett', '2013-05-26 14:47:57.620000');
 INSERT INTO public.actor (actor_id, first_name, last_name, last_update) VALUES (20, 'Lucille', 'Tracy', '2013-05-26 14:47:57.620000');
 
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (1, 'Academy Dinosaur', 'A Epic Drama of a Feminist And a Mad Scientist who must Battle a Teacher in The Canadian Rockies', 2006, 1, 6, 0.99, 86, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}', '''academi'':1 ''battl'':15 ''canadian'':20 ''dinosaur'':2 ''drama'':5 ''epic'':4 ''feminist'':8 ''mad'':11 ''must'':14 ''rocki'':21 ''scientist'':12 ''teacher'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (2, 'Ace Goldfinger', 'A Astounding Epistle of a Database Administrator And a Explorer who must Find a Car in Ancient China', 2006, 1, 3, 4.99, 48, 12.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''ace'':1 ''administr'':9 ''ancient'':19 ''astound'':4 ''car'':17 ''china'':20 ''databas'':8 ''epistl'':5 ''explor'':12 ''find'':15 ''goldfing'':2 ''must'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (3, 'Adaptation Holes', 'A Astounding Reflection of a Lumberjack And a Car who must Sink a Lumberjack in A Baloon Factory', 2006, 1, 7, 2.99, 50, 18.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''adapt'':1 ''astound'':4 ''baloon'':19 ''car'':11 ''factori'':20 ''hole'':2 ''lumberjack'':8,16 ''must'':13 ''reflect'':5 ''sink'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (9, 'Alabama Devil', 'A Thoughtful Panorama of a Database Administrator And a Mad Scientist who must Outgun a Mad Scientist in A Jet Boat', 2006, 1, 3, 2.99, 114, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''administr'':9 ''alabama'':1 ''boat'':23 ''databas'':8 ''devil'':2 ''jet'':22 ''mad'':12,18 ''must'':15 ''outgun'':16 ''panorama'':5 ''scientist'':13,19 ''thought'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (16, 'Alley Evolution', 'A Fast-Paced Drama of a Robot And a Composer who must Battle a Astronaut in New Orleans', 2006, 1, 6, 2.99, 180, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}', '''alley'':1 ''astronaut'':18 ''battl'':16 ''compos'':13 ''drama'':7 ''evolut'':2 ''fast'':5 ''fast-pac'':4 ''must'':15 ''new'':20 ''orlean'':21 ''pace'':6 ''robot'':10');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (17, 'Alone Trip', 'A Fast-Paced Character Study of a Composer And a Dog who must Outgun a Boat in An Abandoned Fun House', 2006, 1, 3, 0.99, 82, 14.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''abandon'':22 ''alon'':1 ''boat'':19 ''charact'':7 ''compos'':11 ''dog'':14 ''fast'':5 ''fast-pac'':4 ''fun'':23 ''hous'':24 ''must'':16 ''outgun'':17 ''pace'':6 ''studi'':8 ''trip'':2');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (19, 'Amadeus Holy', 'A Emotional Display of a Pioneer And a Technical Writer who must Battle a Man in A Baloon', 2006, 1, 6, 0.99, 113, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}', '''amadeus'':1 ''baloon'':20 ''battl'':15 ''display'':5 ''emot'':4 ''holi'':2 ''man'':17 ''must'':14 ''pioneer'':8 ''technic'':11 ''writer'':12');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (23, 'Anaconda Confessions', 'A Lacklusture Display of a Dentist And a Dentist who must Fight a Girl in Australia', 2006, 1, 3, 0.99, 92, 9.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''anaconda'':1 ''australia'':18 ''confess'':2 ''dentist'':8,11 ''display'':5 ''fight'':14 ''girl'':16 ''lacklustur'':4 ''must'':13');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (25, 'Angels Life', 'A Thoughtful Display of a Woman And a Astronaut who must Battle a Robot in Berlin', 2006, 1, 3, 2.99, 74, 15.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}', '''angel'':1 ''astronaut'':11 ''battl'':14 ''berlin'':18 ''display'':5 ''life'':2 ''must'':13 ''robot'':16 ''thought'':4 ''woman'':8');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (27, 'Anonymous Human', 'A Amazing Reflection of a Database Administrator And a Astronaut who must Outrace a Database Administrator in A Shark Tank', 2006, 1, 7, 0.99, 179, 12.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}', '''administr'':9,18 ''amaz'':4 ''anonym'':1 ''astronaut'':12 ''databas'':8,17 ''human'':2 ''must'':14 ''outrac'':15 ''reflect'':5 ''shark'':21 ''tank'':22');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (29, 'Antitrust Tomatoes', 'A Fateful Yarn of a Womanizer And a Feminist who must Succumb a Database Administrator in Ancient India', 2006, 1, 5, 2.99, 168, 11.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''administr'':17 ''ancient'':19 ''antitrust'':1 ''databas'':16 ''fate'':4 ''feminist'':11 ''india'':20 ''must'':13 ''succumb'':14 ''tomato'':2 ''woman'':8 ''yarn'':5');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (30, 'Anything Savannah', 'A Epic Story of a Pastry Chef And a Woman who must Chase a Feminist in An Abandoned Fun House', 2006, 1, 4, 2.99, 82, 27.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''abandon'':20 ''anyth'':1 ''chase'':15 ''chef'':9 ''epic'':4 ''feminist'':17 ''fun'':21 ''hous'':22 ''must'':14 ''pastri'':8 ''savannah'':2 ''stori'':5 ''woman'':12');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (31, 'Apache Divine', 'A Awe-Inspiring Reflection of a Pastry Chef And a Teacher who must Overcome a Sumo Wrestler in A U-Boat', 2006, 1, 5, 4.99, 92, 16.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}', '''apach'':1 ''awe'':5 ''awe-inspir'':4 ''boat'':25 ''chef'':11 ''divin'':2 ''inspir'':6 ''must'':16 ''overcom'':17 ''pastri'':10 ''reflect'':7 ''sumo'':19 ''teacher'':14 ''u'':24 ''u-boat'':23 ''wrestler'':20');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (34, 'Arabia Dogma', 'A Touching Epistle of a Madman And a Mad Cow who must Defeat a Student in Nigeria', 2006, 1, 6, 0.99, 62, 29.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''arabia'':1 ''cow'':12 ''defeat'':15 ''dogma'':2 ''epistl'':5 ''mad'':11 ''madman'':8 ''must'':14 ''nigeria'':19 ''student'':17 ''touch'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (35, 'Arachnophobia Rollercoaster', 'A Action-Packed Reflection of a Pastry Chef And a Composer who must Discover a Mad Scientist in The First Manned Space Station', 2006, 1, 4, 2.99, 147, 24.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''action'':5 ''action-pack'':4 ''arachnophobia'':1 ''chef'':11 ''compos'':14 ''discov'':17 ''first'':23 ''mad'':19 ''man'':24 ''must'':16 ''pack'':6 ''pastri'':10 ''reflect'':7 ''rollercoast'':2 ''scientist'':20 ''space'':25 ''station'':26');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (37, 'Arizona Bang', 'A Brilliant Panorama of a Mad Scientist And a Mad Cow who must Meet a Pioneer in A Monastery', 2006, 1, 3, 2.99, 121, 28.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''arizona'':1 ''bang'':2 ''brilliant'':4 ''cow'':13 ''mad'':8,12 ''meet'':16 ''monasteri'':21 ''must'':15 ''panorama'':5 ''pioneer'':18 ''scientist'':9');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (40, 'Army Flintstones', 'A Boring Saga of a Database Administrator And a Womanizer who must Battle a Waitress in Nigeria', 2006, 1, 4, 0.99, 148, 22.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}', '''administr'':9 ''armi'':1 ''battl'':15 ''bore'':4 ''databas'':8 ''flintston'':2 ''must'':14 ''nigeria'':19 ''saga'':5 ''waitress'':17 ''woman'':12');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (42, 'Artist Coldblooded', 'A Stunning Reflection of a Robot And a Moose who must Challenge a Woman in California', 2006, 1, 5, 2.99, 170, 10.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''artist'':1 ''california'':18 ''challeng'':14 ''coldblood'':2 ''moos'':11 ''must'':13 ''reflect'':5 ''robot'':8 ''stun'':4 ''woman'':16');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (44, 'Attacks Hate', 'A Fast-Paced Panorama of a Technical Writer And a Mad Scientist who must Find a Feminist in An Abandoned Mine Shaft', 2006, 1, 5, 4.99, 113, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''abandon'':23 ''attack'':1 ''fast'':5 ''fast-pac'':4 ''feminist'':20 ''find'':18 ''hate'':2 ''mad'':14 ''mine'':24 ''must'':17 ''pace'':6 ''panorama'':7 ''scientist'':15 ''shaft'':25 ''technic'':10 ''writer'':11');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (45, 'Attraction Newton', 'A Astounding Panorama of a Composer And a Frisbee who must Reach a Husband in Ancient Japan', 2006, 1, 5, 4.99, 83, 14.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''ancient'':18 ''astound'':4 ''attract'':1 ''compos'':8 ''frisbe'':11 ''husband'':16 ''japan'':19 ''must'':13 ''newton'':2 ''panorama'':5 ''reach'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (47, 'Baby Hall', 'A Boring Character Study of a A Shark And a Girl who must Outrace a Feminist in An Abandoned Mine Shaft', 2006, 1, 5, 4.99, 153, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries}', '''abandon'':21 ''babi'':1 ''bore'':4 ''charact'':5 ''feminist'':18 ''girl'':13 ''hall'':2 ''mine'':22 ''must'':15 ''outrac'':16 ''shaft'':23 ''shark'':10 ''studi'':6');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (53, 'Bang Kwai', 'A Epic Drama of a Madman And a Cat who must Face a A Shark in An Abandoned Amusement Park', 2006, 1, 5, 2.99, 87, 25.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}', '''abandon'':20 ''amus'':21 ''bang'':1 ''cat'':11 ''drama'':5 ''epic'':4 ''face'':14 ''kwai'':2 ''madman'':8 ''must'':13 ''park'':22 ''shark'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (54, 'Banger Pinocchio', 'A Awe-Inspiring Drama of a Car And a Pastry Chef who must Chase a Crocodile in The First Manned Space Station', 2006, 1, 5, 0.99, 113, 15.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''awe'':5 ''awe-inspir'':4 ''banger'':1 ''car'':10 ''chase'':17 ''chef'':14 ''crocodil'':19 ''drama'':7 ''first'':22 ''inspir'':6 ''man'':23 ''must'':16 ''pastri'':13 ''pinocchio'':2 ''space'':24 ''station'':25');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (56, 'Barefoot Manchurian', 'A Intrepid Story of a Cat And a Student who must Vanquish a Girl in An Abandoned Amusement Park', 2006, 1, 6, 2.99, 129, 15.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}', '''abandon'':19 ''amus'':20 ''barefoot'':1 ''cat'':8 ''girl'':16 ''intrepid'':4 ''manchurian'':2 ''must'':13 ''park'':21 ''stori'':5 ''student'':11 ''vanquish'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (60, 'Beast Hunchback', 'A Awe-Inspiring Epistle of a Student And a Squirrel who must Defeat a Boy in Ancient China', 2006, 1, 3, 4.99, 89, 22.99, 'R', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}', '''ancient'':20 ''awe'':5 ''awe-inspir'':4 ''beast'':1 ''boy'':18 ''china'':21 ''defeat'':16 ''epistl'':7 ''hunchback'':2 ''inspir'':6 ''must'':15 ''squirrel'':13 ''student'':10');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (62, 'Bed Highball', 'A Astounding Panorama of a Lumberjack And a Dog who must Redeem a Woman in An Abandoned Fun House', 2006, 1, 5, 2.99, 106, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''abandon'':19 ''astound'':4 ''bed'':1 ''dog'':11 ''fun'':20 ''highbal'':2 ''hous'':21 ''lumberjack'':8 ''must'':13 ''panorama'':5 ''redeem'':14 ''woman'':16');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (63, 'Bedazzled Married', 'A Astounding Character Study of a Madman And a Robot who must Meet a Mad Scientist in An Abandoned Fun House', 2006, 1, 6, 0.99, 73, 21.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''abandon'':21 ''astound'':4 ''bedazzl'':1 ''charact'':5 ''fun'':22 ''hous'':23 ''mad'':17 ''madman'':9 ''marri'':2 ''meet'':15 ''must'':14 ''robot'':12 ''scientist'':18 ''studi'':6');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (67, 'Berets Agent', 'A Taut Saga of a Crocodile And a Boy who must Overcome a Technical Writer in Ancient China', 2006, 1, 5, 2.99, 77, 24.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Deleted Scenes}', '''agent'':2 ''ancient'':19 ''beret'':1 ''boy'':11 ''china'':20 ''crocodil'':8 ''must'':13 ''overcom'':14 ''saga'':5 ''taut'':4 ''technic'':16 ''writer'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (70, 'Bikini Borrowers', 'A Astounding Drama of a Astronaut And a Cat who must Discover a Woman in The First Manned Space Station', 2006, 1, 7, 4.99, 142, 26.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''astound'':4 ''astronaut'':8 ''bikini'':1 ''borrow'':2 ''cat'':11 ''discov'':14 ''drama'':5 ''first'':19 ''man'':20 ''must'':13 ''space'':21 ''station'':22 ''woman'':16');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (74, 'Birch Antitrust', 'A Fanciful Panorama of a Husband And a Pioneer who must Outgun a Dog in A Baloon', 2006, 1, 4, 4.99, 162, 18.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''antitrust'':2 ''baloon'':19 ''birch'':1 ''dog'':16 ''fanci'':4 ''husband'':8 ''must'':13 ''outgun'':14 ''panorama'':5 ''pioneer'':11');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (79, 'Blade Polish', 'A Thoughtful Character Study of a Frisbee And a Pastry Chef who must Fight a Dentist in The First Manned Space Station', 2006, 1, 5, 0.99, 114, 10.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''blade'':1 ''charact'':5 ''chef'':13 ''dentist'':18 ''fight'':16 ''first'':21 ''frisbe'':9 ''man'':22 ''must'':15 ''pastri'':12 ''polish'':2 ''space'':23 ''station'':24 ''studi'':6 ''thought'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (80, 'Blanket Beverly', 'A Emotional Documentary of a Student And a Girl who must Build a Boat in Nigeria', 2006, 1, 7, 2.99, 148, 21.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}', '''bever'':2 ''blanket'':1 ''boat'':16 ''build'':14 ''documentari'':5 ''emot'':4 ''girl'':11 ''must'':13 ''nigeria'':18 ''student'':8');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (84, 'Boiled Dares', 'A Awe-Inspiring Story of a Waitress And a Dog who must Discover a Dentist in Ancient Japan', 2006, 1, 7, 4.99, 102, 13.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}', '''ancient'':20 ''awe'':5 ''awe-inspir'':4 ''boil'':1 ''dare'':2 ''dentist'':18 ''discov'':16 ''dog'':13 ''inspir'':6 ''japan'':21 ''must'':15 ''stori'':7 ''waitress'':10');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (85, 'Bonnie Holocaust', 'A Fast-Paced Story of a Crocodile And a Robot who must Find a Moose in Ancient Japan', 2006, 1, 4, 0.99, 63, 29.99, 'G', '2013-05-26 14:50:58.951000', '{Deleted Scenes}', '''ancient'':20 ''bonni'':1 ''crocodil'':10 ''fast'':5 ''fast-pac'':4 ''find'':16 ''holocaust'':2 ''japan'':21 ''moos'':18 ''must'':15 ''pace'':6 ''robot'':13 ''stori'':7');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (87, 'Boondock Ballroom', 'A Fateful Panorama of a Crocodile And a Boy who must Defeat a Monkey in The Gulf of Mexico', 2006, 1, 7, 0.99, 76, 14.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''ballroom'':2 ''boondock'':1 ''boy'':11 ''crocodil'':8 ''defeat'':14 ''fate'':4 ''gulf'':19 ''mexico'':21 ''monkey'':16 ''must'':13 ''panorama'':5');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (89, 'Borrowers Bedazzled', 'A Brilliant Epistle of a Teacher And a Sumo Wrestler who must Defeat a Man in An Abandoned Fun House', 2006, 1, 7, 0.99, 63, 22.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}', '''abandon'':20 ''bedazzl'':2 ''borrow'':1 ''brilliant'':4 ''defeat'':15 ''epistl'':5 ''fun'':21 ''hous'':22 ''man'':17 ''must'':14 ''sumo'':11 ''teacher'':8 ''wrestler'':12');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (91, 'Bound Cheaper', 'A Thrilling Panorama of a Database Administrator And a Astronaut who must Challenge a Lumberjack in A Baloon', 2006, 1, 5, 0.99, 98, 17.99, 'PG', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''administr'':9 ''astronaut'':12 ''baloon'':20 ''bound'':1 ''challeng'':15 ''cheaper'':2 ''databas'':8 ''lumberjack'':17 ''must'':14 ''panorama'':5 ''thrill'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (92, 'Bowfinger Gables', 'A Fast-Paced Yarn of a Waitress And a Composer who must Outgun a Dentist in California', 2006, 1, 7, 4.99, 72, 19.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''bowfing'':1 ''california'':20 ''compos'':13 ''dentist'':18 ''fast'':5 ''fast-pac'':4 ''gabl'':2 ''must'':15 ''outgun'':16 ''pace'':6 ''waitress'':10 ''yarn'':7');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (96, 'Breaking Home', 'A Beautiful Display of a Secret Agent And a Monkey who must Battle a Sumo Wrestler in An Abandoned Mine Shaft', 2006, 1, 4, 2.99, 169, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}', '''abandon'':21 ''agent'':9 ''battl'':15 ''beauti'':4 ''break'':1 ''display'':5 ''home'':2 ''mine'':22 ''monkey'':12 ''must'':14 ''secret'':8 ''shaft'':23 ''sumo'':17 ''wrestler'':18');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (101, 'Brotherhood Blanket', 'A Fateful Character Study of a Butler And a Technical Writer who must Sink a Astronaut in Ancient Japan', 2006, 1, 3, 0.99, 73, 26.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''ancient'':20 ''astronaut'':18 ''blanket'':2 ''brotherhood'':1 ''butler'':9 ''charact'':5 ''fate'':4 ''japan'':21 ''must'':15 ''sink'':16 ''studi'':6 ''technic'':12 ''writer'':13');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (105, 'Bull Shawshank', 'A Fanciful Drama of a Moose And a Squirrel who must Conquer a Pioneer in The Canadian Rockies', 2006, 1, 6, 0.99, 125, 21.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes}', '''bull'':1 ''canadian'':19 ''conquer'':14 ''drama'':5 ''fanci'':4 ''moos'':8 ''must'':13 ''pioneer'':16 ''rocki'':20 ''shawshank'':2 ''squirrel'':11');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (106, 'Bulworth Commandments', 'A Amazing Display of a Mad Cow And a Pioneer who must Redeem a Sumo Wrestler in The Outback', 2006, 1, 4, 2.99, 61, 14.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}', '''amaz'':4 ''bulworth'':1 ''command'':2 ''cow'':9 ''display'':5 ''mad'':8 ''must'':14 ''outback'':21 ''pioneer'':12 ''redeem'':15 ''sumo'':17 ''wrestler'':18');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (107, 'Bunch Minds', 'A Emotional Story of a Feminist And a Feminist who must Escape a Pastry Chef in A MySQL Convention', 2006, 1, 4, 2.99, 63, 13.99, 'G', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''bunch'':1 ''chef'':17 ''convent'':21 ''emot'':4 ''escap'':14 ''feminist'':8,11 ''mind'':2 ''must'':13 ''mysql'':20 ''pastri'':16 ''stori'':5');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (108, 'Butch Panther', 'A Lacklusture Yarn of a Feminist And a Database Administrator who must Face a Hunter in New Orleans', 2006, 1, 6, 0.99, 67, 19.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''administr'':12 ''butch'':1 ''databas'':11 ''face'':15 ''feminist'':8 ''hunter'':17 ''lacklustur'':4 ''must'':14 ''new'':19 ''orlean'':20 ''panther'':2 ''yarn'':5');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (110, 'Cabin Flash', 'A Stunning Epistle of a Boat And a Man who must Challenge a A Shark in A Baloon Factory', 2006, 1, 4, 0.99, 53, 25.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''baloon'':20 ''boat'':8 ''cabin'':1 ''challeng'':14 ''epistl'':5 ''factori'':21 ''flash'':2 ''man'':11 ''must'':13 ''shark'':17 ''stun'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (111, 'Caddyshack Jedi', 'A Awe-Inspiring Epistle of a Woman And a Madman who must Fight a Robot in Soviet Georgia', 2006, 1, 3, 0.99, 52, 17.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''awe'':5 ''awe-inspir'':4 ''caddyshack'':1 ''epistl'':7 ''fight'':16 ''georgia'':21 ''inspir'':6 ''jedi'':2 ''madman'':13 ''must'':15 ''robot'':18 ''soviet'':20 ''woman'':10');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (112, 'Calendar Gunfight', 'A Thrilling Drama of a Frisbee And a Lumberjack who must Sink a Man in Nigeria', 2006, 1, 4, 4.99, 120, 22.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}', '''calendar'':1 ''drama'':5 ''frisbe'':8 ''gunfight'':2 ''lumberjack'':11 ''man'':16 ''must'':13 ''nigeria'':18 ''sink'':14 ''thrill'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (115, 'Campus Remember', 'A Astounding Drama of a Crocodile And a Mad Cow who must Build a Robot in A Jet Boat', 2006, 1, 5, 2.99, 167, 27.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''astound'':4 ''boat'':21 ''build'':15 ''campus'':1 ''cow'':12 ''crocodil'':8 ''drama'':5 ''jet'':20 ''mad'':11 ''must'':14 ''rememb'':2 ''robot'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (118, 'Canyon Stock', 'A Thoughtful Reflection of a Waitress And a Feminist who must Escape a Squirrel in A Manhattan Penthouse', 2006, 1, 7, 0.99, 85, 26.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''canyon'':1 ''escap'':14 ''feminist'':11 ''manhattan'':19 ''must'':13 ''penthous'':20 ''reflect'':5 ''squirrel'':16 ''stock'':2 ''thought'':4 ''waitress'':8');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (119, 'Caper Motions', 'A Fateful Saga of a Moose And a Car who must Pursue a Woman in A MySQL Convention', 2006, 1, 6, 0.99, 176, 22.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''caper'':1 ''car'':11 ''convent'':20 ''fate'':4 ''moos'':8 ''motion'':2 ''must'':13 ''mysql'':19 ''pursu'':14 ''saga'':5 ''woman'':16');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (121, 'Carol Texas', 'A Astounding Character Study of a Composer And a Student who must Overcome a Composer in A Monastery', 2006, 1, 4, 2.99, 151, 15.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}', '''astound'':4 ''carol'':1 ''charact'':5 ''compos'':9,17 ''monasteri'':20 ''must'':14 ''overcom'':15 ''student'':12 ''studi'':6 ''texa'':2');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (124, 'Casper Dragonfly', 'A Intrepid Documentary of a Boat And a Crocodile who must Chase a Robot in The Sahara Desert', 2006, 1, 3, 4.99, 163, 16.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers}', '''boat'':8 ''casper'':1 ''chase'':14 ''crocodil'':11 ''desert'':20 ''documentari'':5 ''dragonfli'':2 ''intrepid'':4 ''must'':13 ''robot'':16 ''sahara'':19');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (125, 'Cassidy Wyoming', 'A Intrepid Drama of a Frisbee And a Hunter who must Kill a Secret Agent in New Orleans', 2006, 1, 5, 2.99, 61, 19.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}', '''agent'':17 ''cassidi'':1 ''drama'':5 ''frisbe'':8 ''hunter'':11 ''intrepid'':4 ''kill'':14 ''must'':13 ''new'':19 ''orlean'':20 ''secret'':16 ''wyom'':2');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (127, 'Cat Coneheads', 'A Fast-Paced Panorama of a Girl And a A Shark who must Confront a Boy in Ancient India', 2006, 1, 5, 4.99, 112, 14.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''ancient'':21 ''boy'':19 ''cat'':1 ''conehead'':2 ''confront'':17 ''fast'':5 ''fast-pac'':4 ''girl'':10 ''india'':22 ''must'':16 ''pace'':6 ''panorama'':7 ''shark'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (132, 'Chainsaw Uptown', 'A Beautiful Documentary of a Boy And a Robot who must Discover a Squirrel in Australia', 2006, 1, 6, 0.99, 114, 25.99, 'PG', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}', '''australia'':18 ''beauti'':4 ''boy'':8 ''chainsaw'':1 ''discov'':14 ''documentari'':5 ''must'':13 ''robot'':11 ''squirrel'':16 ''uptown'':2');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (140, 'Cheaper Clyde', 'A Emotional Character Study of a Pioneer And a Girl who must Discover a Dog in Ancient Japan', 2006, 1, 6, 0.99, 87, 23.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}', '''ancient'':19 ''charact'':5 ''cheaper'':1 ''clyde'':2 ''discov'':15 ''dog'':17 ''emot'':4 ''girl'':12 ''japan'':20 ''must'':14 ''pioneer'':9 ''studi'':6');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (144, 'Chinatown Gladiator', 'A Brilliant Panorama of a Technical Writer And a Lumberjack who must Escape a Butler in Ancient India', 2006, 1, 7, 4.99, 61, 24.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''ancient'':19 ''brilliant'':4 ''butler'':17 ''chinatown'':1 ''escap'':15 ''gladiat'':2 ''india'':20 ''lumberjack'':12 ''must'':14 ''panorama'':5 ''technic'':8 ''writer'':9');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (145, 'Chisum Behavior', 'A Epic Documentary of a Sumo Wrestler And a Butler who must Kill a Car in Ancient India', 2006, 1, 5, 4.99, 124, 25.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}', '''ancient'':19 ''behavior'':2 ''butler'':12 ''car'':17 ''chisum'':1 ''documentari'':5 ''epic'':4 ''india'':20 ''kill'':15 ''must'':14 ''sumo'':8 ''wrestler'':9');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (146, 'Chitty Lock', 'A Boring Epistle of a Boat And a Database Administrator who must Kill a Sumo Wrestler in The First Manned Space Station', 2006, 1, 6, 2.99, 107, 24.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries}', '''administr'':12 ''boat'':8 ''bore'':4 ''chitti'':1 ''databas'':11 ''epistl'':5 ''first'':21 ''kill'':15 ''lock'':2 ''man'':22 ''must'':14 ''space'':23 ''station'':24 ''sumo'':17 ''wrestler'':18');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (147, 'Chocolat Harry', 'A Action-Packed Epistle of a Dentist And a Moose who must Meet a Mad Cow in Ancient Japan', 2006, 1, 5, 0.99, 101, 16.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}', '''action'':5 ''action-pack'':4 ''ancient'':21 ''chocolat'':1 ''cow'':19 ''dentist'':10 ''epistl'':7 ''harri'':2 ''japan'':22 ''mad'':18 ''meet'':16 ''moos'':13 ''must'':15 ''pack'':6');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (148, 'Chocolate Duck', 'A Unbelieveable Story of a Mad Scientist And a Technical Writer who must Discover a Composer in Ancient China', 2006, 1, 3, 2.99, 132, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}', '''ancient'':20 ''china'':21 ''chocol'':1 ''compos'':18 ''discov'':16 ''duck'':2 ''mad'':8 ''must'':15 ''scientist'':9 ''stori'':5 ''technic'':12 ''unbeliev'':4 ''writer'':13');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (152, 'Circus Youth', 'A Thoughtful Drama of a Pastry Chef And a Dentist who must Pursue a Girl in A Baloon', 2006, 1, 5, 2.99, 90, 13.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''baloon'':20 ''chef'':9 ''circus'':1 ''dentist'':12 ''drama'':5 ''girl'':17 ''must'':14 ''pastri'':8 ''pursu'':15 ''thought'':4 ''youth'':2');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (154, 'Clash Freddy', 'A Amazing Yarn of a Composer And a Squirrel who must Escape a Astronaut in Australia', 2006, 1, 6, 2.99, 81, 12.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''amaz'':4 ''astronaut'':16 ''australia'':18 ''clash'':1 ''compos'':8 ''escap'':14 ''freddi'':2 ''must'':13 ''squirrel'':11 ''yarn'':5');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (155, 'Cleopatra Devil', 'A Fanciful Documentary of a Crocodile And a Technical Writer who must Fight a A Shark in A Baloon', 2006, 1, 6, 0.99, 150, 26.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''baloon'':21 ''cleopatra'':1 ''crocodil'':8 ''devil'':2 ''documentari'':5 ''fanci'':4 ''fight'':15 ''must'':14 ''shark'':18 ''technic'':11 ''writer'':12');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (158, 'Clones Pinocchio', 'A Amazing Drama of a Car And a Robot who must Pursue a Dentist in New Orleans', 2006, 1, 6, 2.99, 124, 16.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''amaz'':4 ''car'':8 ''clone'':1 ''dentist'':16 ''drama'':5 ''must'':13 ''new'':18 ''orlean'':19 ''pinocchio'':2 ''pursu'':14 ''robot'':11');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (162, 'Clueless Bucket', 'A Taut Tale of a Car And a Pioneer who must Conquer a Sumo Wrestler in An Abandoned Fun House', 2006, 1, 4, 2.99, 95, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}', '''abandon'':20 ''bucket'':2 ''car'':8 ''clueless'':1 ''conquer'':14 ''fun'':21 ''hous'':22 ''must'':13 ''pioneer'':11 ''sumo'':16 ''tale'':5 ''taut'':4 ''wrestler'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (164, 'Coast Rainbow', 'A Astounding Documentary of a Mad Cow And a Pioneer who must Challenge a Butler in The Sahara Desert', 2006, 1, 4, 0.99, 55, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes,Behind the Scenes}', '''astound'':4 ''butler'':17 ''challeng'':15 ''coast'':1 ''cow'':9 ''desert'':21 ''documentari'':5 ''mad'':8 ''must'':14 ''pioneer'':12 ''rainbow'':2 ''sahara'':20');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (165, 'Coldblooded Darling', 'A Brilliant Panorama of a Dentist And a Moose who must Find a Student in The Gulf of Mexico', 2006, 1, 7, 4.99, 70, 27.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}', '''brilliant'':4 ''coldblood'':1 ''darl'':2 ''dentist'':8 ''find'':14 ''gulf'':19 ''mexico'':21 ''moos'':11 ''must'':13 ''panorama'':5 ''student'':16');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (166, 'Color Philadelphia', 'A Thoughtful Panorama of a Car And a Crocodile who must Sink a Monkey in The Sahara Desert', 2006, 1, 6, 2.99, 149, 19.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}', '''car'':8 ''color'':1 ''crocodil'':11 ''desert'':20 ''monkey'':16 ''must'':13 ''panorama'':5 ''philadelphia'':2 ''sahara'':19 ''sink'':14 ''thought'':4');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (170, 'Command Darling', 'A Awe-Inspiring Tale of a Forensic Psychologist And a Woman who must Challenge a Database Administrator in Ancient Japan', 2006, 1, 5, 4.99, 120, 28.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''administr'':20 ''ancient'':22 ''awe'':5 ''awe-inspir'':4 ''challeng'':17 ''command'':1 ''darl'':2 ''databas'':19 ''forens'':10 ''inspir'':6 ''japan'':23 ''must'':16 ''psychologist'':11 ''tale'':7 ''woman'':14');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (171, 'Commandments Express', 'A Fanciful Saga of a Student And a Mad Scientist who must Battle a Hunter in An Abandoned Mine Shaft', 2006, 1, 6, 4.99, 59, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}', '''abandon'':20 ''battl'':15 ''command'':1 ''express'':2 ''fanci'':4 ''hunter'':17 ''mad'':11 ''mine'':21 ''must'':14 ''saga'':5 ''scientist'':12 ''shaft'':22 ''student'':8');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (172, 'Coneheads Smoochy', 'A Touching Story of a Womanizer And a Composer who must Pursue a Husband in Nigeria', 2006, 1, 7, 4.99, 112, 12.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}', '''compos'':11 ''conehead'':1 ''husband'':16 ''must'':13 ''nigeria'':18 ''pursu'':14 ''smoochi'':2 ''stori'':5 ''touch'':4 ''woman'':8');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (173, 'Confessions Maguire', 'A Insightful Story of a Car And a Boy who must Battle a Technical Writer in A Baloon', 2006, 1, 7, 4.99, 65, 25.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Behind the Scenes}', '''baloon'':20 ''battl'':14 ''boy'':11 ''car'':8 ''confess'':1 ''insight'':4 ''maguir'':2 ''must'':13 ''stori'':5 ''technic'':16 ''writer'':17');
-INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features, fulltext) VALUES (177, 'Connecticut Tramp', 'A Unbelieveable Drama of a Crocodile And a Mad Cow who must Reach a Dentist in A Shark Tank', 2006, 1, 4, 4.99, 172, 20.99, 'R', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}', '''connecticut'':1 ''cow'':12 ''crocodil'':8 ''dentist'':17 ''drama'':5 ''mad'':11 ''must'':14 ''reach'':15 ''shark'':20 ''tank'':21 ''tramp'':2 ''unbeliev'':4');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (1, 'Academy Dinosaur', 'A Epic Drama of a Feminist And a Mad Scientist who must Battle a Teacher in The Canadian Rockies', 2006, 1, 6, 0.99, 86, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (2, 'Ace Goldfinger', 'A Astounding Epistle of a Database Administrator And a Explorer who must Find a Car in Ancient China', 2006, 1, 3, 4.99, 48, 12.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (3, 'Adaptation Holes', 'A Astounding Reflection of a Lumberjack And a Car who must Sink a Lumberjack in A Baloon Factory', 2006, 1, 7, 2.99, 50, 18.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (9, 'Alabama Devil', 'A Thoughtful Panorama of a Database Administrator And a Mad Scientist who must Outgun a Mad Scientist in A Jet Boat', 2006, 1, 3, 2.99, 114, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (16, 'Alley Evolution', 'A Fast-Paced Drama of a Robot And a Composer who must Battle a Astronaut in New Orleans', 2006, 1, 6, 2.99, 180, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (17, 'Alone Trip', 'A Fast-Paced Character Study of a Composer And a Dog who must Outgun a Boat in An Abandoned Fun House', 2006, 1, 3, 0.99, 82, 14.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (19, 'Amadeus Holy', 'A Emotional Display of a Pioneer And a Technical Writer who must Battle a Man in A Baloon', 2006, 1, 6, 0.99, 113, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (23, 'Anaconda Confessions', 'A Lacklusture Display of a Dentist And a Dentist who must Fight a Girl in Australia', 2006, 1, 3, 0.99, 92, 9.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (25, 'Angels Life', 'A Thoughtful Display of a Woman And a Astronaut who must Battle a Robot in Berlin', 2006, 1, 3, 2.99, 74, 15.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (27, 'Anonymous Human', 'A Amazing Reflection of a Database Administrator And a Astronaut who must Outrace a Database Administrator in A Shark Tank', 2006, 1, 7, 0.99, 179, 12.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (29, 'Antitrust Tomatoes', 'A Fateful Yarn of a Womanizer And a Feminist who must Succumb a Database Administrator in Ancient India', 2006, 1, 5, 2.99, 168, 11.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (30, 'Anything Savannah', 'A Epic Story of a Pastry Chef And a Woman who must Chase a Feminist in An Abandoned Fun House', 2006, 1, 4, 2.99, 82, 27.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (31, 'Apache Divine', 'A Awe-Inspiring Reflection of a Pastry Chef And a Teacher who must Overcome a Sumo Wrestler in A U-Boat', 2006, 1, 5, 4.99, 92, 16.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (34, 'Arabia Dogma', 'A Touching Epistle of a Madman And a Mad Cow who must Defeat a Student in Nigeria', 2006, 1, 6, 0.99, 62, 29.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (35, 'Arachnophobia Rollercoaster', 'A Action-Packed Reflection of a Pastry Chef And a Composer who must Discover a Mad Scientist in The First Manned Space Station', 2006, 1, 4, 2.99, 147, 24.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (37, 'Arizona Bang', 'A Brilliant Panorama of a Mad Scientist And a Mad Cow who must Meet a Pioneer in A Monastery', 2006, 1, 3, 2.99, 121, 28.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (40, 'Army Flintstones', 'A Boring Saga of a Database Administrator And a Womanizer who must Battle a Waitress in Nigeria', 2006, 1, 4, 0.99, 148, 22.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (42, 'Artist Coldblooded', 'A Stunning Reflection of a Robot And a Moose who must Challenge a Woman in California', 2006, 1, 5, 2.99, 170, 10.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (44, 'Attacks Hate', 'A Fast-Paced Panorama of a Technical Writer And a Mad Scientist who must Find a Feminist in An Abandoned Mine Shaft', 2006, 1, 5, 4.99, 113, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (45, 'Attraction Newton', 'A Astounding Panorama of a Composer And a Frisbee who must Reach a Husband in Ancient Japan', 2006, 1, 5, 4.99, 83, 14.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (47, 'Baby Hall', 'A Boring Character Study of a A Shark And a Girl who must Outrace a Feminist in An Abandoned Mine Shaft', 2006, 1, 5, 4.99, 153, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (53, 'Bang Kwai', 'A Epic Drama of a Madman And a Cat who must Face a A Shark in An Abandoned Amusement Park', 2006, 1, 5, 2.99, 87, 25.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (54, 'Banger Pinocchio', 'A Awe-Inspiring Drama of a Car And a Pastry Chef who must Chase a Crocodile in The First Manned Space Station', 2006, 1, 5, 0.99, 113, 15.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (56, 'Barefoot Manchurian', 'A Intrepid Story of a Cat And a Student who must Vanquish a Girl in An Abandoned Amusement Park', 2006, 1, 6, 2.99, 129, 15.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (60, 'Beast Hunchback', 'A Awe-Inspiring Epistle of a Student And a Squirrel who must Defeat a Boy in Ancient China', 2006, 1, 3, 4.99, 89, 22.99, 'R', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (62, 'Bed Highball', 'A Astounding Panorama of a Lumberjack And a Dog who must Redeem a Woman in An Abandoned Fun House', 2006, 1, 5, 2.99, 106, 23.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (63, 'Bedazzled Married', 'A Astounding Character Study of a Madman And a Robot who must Meet a Mad Scientist in An Abandoned Fun House', 2006, 1, 6, 0.99, 73, 21.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (67, 'Berets Agent', 'A Taut Saga of a Crocodile And a Boy who must Overcome a Technical Writer in Ancient China', 2006, 1, 5, 2.99, 77, 24.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (70, 'Bikini Borrowers', 'A Astounding Drama of a Astronaut And a Cat who must Discover a Woman in The First Manned Space Station', 2006, 1, 7, 4.99, 142, 26.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (74, 'Birch Antitrust', 'A Fanciful Panorama of a Husband And a Pioneer who must Outgun a Dog in A Baloon', 2006, 1, 4, 4.99, 162, 18.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (79, 'Blade Polish', 'A Thoughtful Character Study of a Frisbee And a Pastry Chef who must Fight a Dentist in The First Manned Space Station', 2006, 1, 5, 0.99, 114, 10.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (80, 'Blanket Beverly', 'A Emotional Documentary of a Student And a Girl who must Build a Boat in Nigeria', 2006, 1, 7, 2.99, 148, 21.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (84, 'Boiled Dares', 'A Awe-Inspiring Story of a Waitress And a Dog who must Discover a Dentist in Ancient Japan', 2006, 1, 7, 4.99, 102, 13.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (85, 'Bonnie Holocaust', 'A Fast-Paced Story of a Crocodile And a Robot who must Find a Moose in Ancient Japan', 2006, 1, 4, 0.99, 63, 29.99, 'G', '2013-05-26 14:50:58.951000', '{Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (87, 'Boondock Ballroom', 'A Fateful Panorama of a Crocodile And a Boy who must Defeat a Monkey in The Gulf of Mexico', 2006, 1, 7, 0.99, 76, 14.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (89, 'Borrowers Bedazzled', 'A Brilliant Epistle of a Teacher And a Sumo Wrestler who must Defeat a Man in An Abandoned Fun House', 2006, 1, 7, 0.99, 63, 22.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (91, 'Bound Cheaper', 'A Thrilling Panorama of a Database Administrator And a Astronaut who must Challenge a Lumberjack in A Baloon', 2006, 1, 5, 0.99, 98, 17.99, 'PG', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (92, 'Bowfinger Gables', 'A Fast-Paced Yarn of a Waitress And a Composer who must Outgun a Dentist in California', 2006, 1, 7, 4.99, 72, 19.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (96, 'Breaking Home', 'A Beautiful Display of a Secret Agent And a Monkey who must Battle a Sumo Wrestler in An Abandoned Mine Shaft', 2006, 1, 4, 2.99, 169, 21.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (101, 'Brotherhood Blanket', 'A Fateful Character Study of a Butler And a Technical Writer who must Sink a Astronaut in Ancient Japan', 2006, 1, 3, 0.99, 73, 26.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (105, 'Bull Shawshank', 'A Fanciful Drama of a Moose And a Squirrel who must Conquer a Pioneer in The Canadian Rockies', 2006, 1, 6, 0.99, 125, 21.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (106, 'Bulworth Commandments', 'A Amazing Display of a Mad Cow And a Pioneer who must Redeem a Sumo Wrestler in The Outback', 2006, 1, 4, 2.99, 61, 14.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (107, 'Bunch Minds', 'A Emotional Story of a Feminist And a Feminist who must Escape a Pastry Chef in A MySQL Convention', 2006, 1, 4, 2.99, 63, 13.99, 'G', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (108, 'Butch Panther', 'A Lacklusture Yarn of a Feminist And a Database Administrator who must Face a Hunter in New Orleans', 2006, 1, 6, 0.99, 67, 19.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (110, 'Cabin Flash', 'A Stunning Epistle of a Boat And a Man who must Challenge a A Shark in A Baloon Factory', 2006, 1, 4, 0.99, 53, 25.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (111, 'Caddyshack Jedi', 'A Awe-Inspiring Epistle of a Woman And a Madman who must Fight a Robot in Soviet Georgia', 2006, 1, 3, 0.99, 52, 17.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (112, 'Calendar Gunfight', 'A Thrilling Drama of a Frisbee And a Lumberjack who must Sink a Man in Nigeria', 2006, 1, 4, 4.99, 120, 22.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (115, 'Campus Remember', 'A Astounding Drama of a Crocodile And a Mad Cow who must Build a Robot in A Jet Boat', 2006, 1, 5, 2.99, 167, 27.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (118, 'Canyon Stock', 'A Thoughtful Reflection of a Waitress And a Feminist who must Escape a Squirrel in A Manhattan Penthouse', 2006, 1, 7, 0.99, 85, 26.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (119, 'Caper Motions', 'A Fateful Saga of a Moose And a Car who must Pursue a Woman in A MySQL Convention', 2006, 1, 6, 0.99, 176, 22.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (121, 'Carol Texas', 'A Astounding Character Study of a Composer And a Student who must Overcome a Composer in A Monastery', 2006, 1, 4, 2.99, 151, 15.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (124, 'Casper Dragonfly', 'A Intrepid Documentary of a Boat And a Crocodile who must Chase a Robot in The Sahara Desert', 2006, 1, 3, 4.99, 163, 16.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (125, 'Cassidy Wyoming', 'A Intrepid Drama of a Frisbee And a Hunter who must Kill a Secret Agent in New Orleans', 2006, 1, 5, 2.99, 61, 19.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (127, 'Cat Coneheads', 'A Fast-Paced Panorama of a Girl And a A Shark who must Confront a Boy in Ancient India', 2006, 1, 5, 4.99, 112, 14.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (132, 'Chainsaw Uptown', 'A Beautiful Documentary of a Boy And a Robot who must Discover a Squirrel in Australia', 2006, 1, 6, 0.99, 114, 25.99, 'PG', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (140, 'Cheaper Clyde', 'A Emotional Character Study of a Pioneer And a Girl who must Discover a Dog in Ancient Japan', 2006, 1, 6, 0.99, 87, 23.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (144, 'Chinatown Gladiator', 'A Brilliant Panorama of a Technical Writer And a Lumberjack who must Escape a Butler in Ancient India', 2006, 1, 7, 4.99, 61, 24.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (145, 'Chisum Behavior', 'A Epic Documentary of a Sumo Wrestler And a Butler who must Kill a Car in Ancient India', 2006, 1, 5, 4.99, 124, 25.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (146, 'Chitty Lock', 'A Boring Epistle of a Boat And a Database Administrator who must Kill a Sumo Wrestler in The First Manned Space Station', 2006, 1, 6, 2.99, 107, 24.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (147, 'Chocolat Harry', 'A Action-Packed Epistle of a Dentist And a Moose who must Meet a Mad Cow in Ancient Japan', 2006, 1, 5, 0.99, 101, 16.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (148, 'Chocolate Duck', 'A Unbelieveable Story of a Mad Scientist And a Technical Writer who must Discover a Composer in Ancient China', 2006, 1, 3, 2.99, 132, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (152, 'Circus Youth', 'A Thoughtful Drama of a Pastry Chef And a Dentist who must Pursue a Girl in A Baloon', 2006, 1, 5, 2.99, 90, 13.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (154, 'Clash Freddy', 'A Amazing Yarn of a Composer And a Squirrel who must Escape a Astronaut in Australia', 2006, 1, 6, 2.99, 81, 12.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (155, 'Cleopatra Devil', 'A Fanciful Documentary of a Crocodile And a Technical Writer who must Fight a A Shark in A Baloon', 2006, 1, 6, 0.99, 150, 26.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (158, 'Clones Pinocchio', 'A Amazing Drama of a Car And a Robot who must Pursue a Dentist in New Orleans', 2006, 1, 6, 2.99, 124, 16.99, 'R', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (162, 'Clueless Bucket', 'A Taut Tale of a Car And a Pioneer who must Conquer a Sumo Wrestler in An Abandoned Fun House', 2006, 1, 4, 2.99, 95, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (164, 'Coast Rainbow', 'A Astounding Documentary of a Mad Cow And a Pioneer who must Challenge a Butler in The Sahara Desert', 2006, 1, 4, 0.99, 55, 20.99, 'PG', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (165, 'Coldblooded Darling', 'A Brilliant Panorama of a Dentist And a Moose who must Find a Student in The Gulf of Mexico', 2006, 1, 7, 4.99, 70, 27.99, 'G', '2013-05-26 14:50:58.951000', '{Trailers,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (166, 'Color Philadelphia', 'A Thoughtful Panorama of a Car And a Crocodile who must Sink a Monkey in The Sahara Desert', 2006, 1, 6, 2.99, 149, 19.99, 'G', '2013-05-26 14:50:58.951000', '{Commentaries,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (170, 'Command Darling', 'A Awe-Inspiring Tale of a Forensic Psychologist And a Woman who must Challenge a Database Administrator in Ancient Japan', 2006, 1, 5, 4.99, 120, 28.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (171, 'Commandments Express', 'A Fanciful Saga of a Student And a Mad Scientist who must Battle a Hunter in An Abandoned Mine Shaft', 2006, 1, 6, 4.99, 59, 13.99, 'R', '2013-05-26 14:50:58.951000', '{Trailers,Commentaries,Deleted Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (172, 'Coneheads Smoochy', 'A Touching Story of a Womanizer And a Composer who must Pursue a Husband in Nigeria', 2006, 1, 7, 4.99, 112, 12.99, 'NC_17', '2013-05-26 14:50:58.951000', '{Deleted Scenes,Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (173, 'Confessions Maguire', 'A Insightful Story of a Car And a Boy who must Battle a Technical Writer in A Baloon', 2006, 1, 7, 4.99, 65, 25.99, 'PG_13', '2013-05-26 14:50:58.951000', '{Behind the Scenes}');
+INSERT INTO public.film (film_id, title, description, release_year, language_id, rental_duration, rental_rate, length, replacement_cost, rating, last_update, special_features) VALUES (177, 'Connecticut Tramp', 'A Unbelieveable Drama of a Crocodile And a Mad Cow who must Reach a Dentist in A Shark Tank', 2006, 1, 4, 4.99, 172, 20.99, 'R', '2013-05-26 14:50:58.951000', '{Commentaries,Deleted Scenes}');
 
 INSERT INTO public.film_actor (actor_id, film_id, last_update) VALUES (1, 1, '2006-02-15 10:05:03.000000');
 INSERT INTO public.film_actor (actor_id, film_id, last_update) VALUES (20, 1, '2006-02-15 10:05:03.000000');